@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Measures time to first response and resident memory of one way of starting the service.
+#
+# Usage: scripts/startup-benchmark.sh <label> <command> [args...]
+#   scripts/startup-benchmark.sh jar    java -jar target/holiday-detail-service-0.0.1-SNAPSHOT.jar
+#   scripts/startup-benchmark.sh cds    java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar
+#   scripts/startup-benchmark.sh native target/holiday-detail-service
+#
+# The command is started in the background and URL (default /actuator/health) is polled until it answers
+# 200. The elapsed time and the RSS of the process at that moment are printed, then the process is stopped.
+set -u
+
+URL=${URL:-http://localhost:8080/actuator/health}
+label=$1
+shift
+
+start=$(date +%s%N)
+"$@" > "/tmp/startup-${label}.log" 2>&1 &
+pid=$!
+until curl -sf -o /dev/null "$URL"; do
+  if ! kill -0 "$pid" 2> /dev/null; then
+    echo "${label}: exited before answering, see /tmp/startup-${label}.log" >&2
+    exit 1
+  fi
+  sleep 0.02
+done
+end=$(date +%s%N)
+rss_kib=$(awk '/^VmRSS/ {print $2}' "/proc/${pid}/status")
+
+echo "${label}: first response after $(( (end - start) / 1000000 )) ms, RSS $(( rss_kib / 1024 )) MiB"
+kill "$pid"
+wait "$pid" 2> /dev/null
+exit 0
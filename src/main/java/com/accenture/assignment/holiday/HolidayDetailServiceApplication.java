@@ -1,13 +1,18 @@
 package com.accenture.assignment.holiday;
 
+import com.accenture.assignment.holiday.config.HolidayRuntimeHints;
+import com.accenture.assignment.holiday.resilience.UpstreamLatencyTracker;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
@@ -15,9 +20,11 @@ import org.springframework.web.client.RestTemplate;
  * Main Spring Boot application class for the Holiday Detail Service.
  * <p>
  * This class configures and starts the Spring Boot application.
- * It also provides a {@link RestTemplate} bean with custom HTTP client settings.
+ * It also provides a {@link RestTemplate} bean with custom HTTP client settings and adaptive response timeouts,
+ * and imports the {@link HolidayRuntimeHints} used when the service is compiled ahead of time.
  */
 @SpringBootApplication
+@ImportRuntimeHints(HolidayRuntimeHints.class)
 public class HolidayDetailServiceApplication {
 
 	@Value("${holiday.http.connect-timeout:45}")
@@ -40,12 +47,18 @@ public class HolidayDetailServiceApplication {
 			* <p>
  			* The underlying HTTP client is set up with connection and response timeouts
  			* based on application properties. This ensures that REST calls made using this
-			* {@code RestTemplate} will respect the specified timeout values.
+			* {@code RestTemplate} will respect the specified timeout values. The response timeout
+			* of each call is tightened to the one derived from observed latency by the
+			* {@link UpstreamLatencyTracker}, which is also registered as interceptor to record it.
+			* Every exchange is observed, so it shows up as a client span in traces.
 			*
+			* @param latencyTracker tracker of upstream latency providing the adaptive response timeout
+			* @param observationRegistry registry the exchanges are observed with
 			* @return a {@link RestTemplate} instance with custom timeout configuration
  */
 	@Bean
-	public RestTemplate restTemplate() {
+	public RestTemplate restTemplate(UpstreamLatencyTracker latencyTracker,
+									 ObservationRegistry observationRegistry) {
 		RequestConfig config = RequestConfig.custom()
 				.setConnectTimeout(Timeout.ofSeconds(connectTimeout))
 				.setResponseTimeout(Timeout.ofSeconds(responseTimeout))
@@ -55,6 +68,16 @@ public class HolidayDetailServiceApplication {
 				.setDefaultRequestConfig(config)
 				.build();
 		HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
-		return new RestTemplate(factory);
+		factory.setHttpContextFactory((method, uri) -> {
+			HttpClientContext context = HttpClientContext.create();
+			context.setRequestConfig(RequestConfig.copy(config)
+					.setResponseTimeout(Timeout.ofMilliseconds(latencyTracker.responseTimeoutMillis()))
+					.build());
+			return context;
+		});
+		RestTemplate restTemplate = new RestTemplate(factory);
+		restTemplate.getInterceptors().add(latencyTracker);
+		restTemplate.setObservationRegistry(observationRegistry);
+		return restTemplate;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,323 @@
+package com.accenture.assignment.holiday.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Two-level cache of upstream data: an in-process level one in front of a {@link SharedCache} shared by all
+ * replicas.
+ * <p>
+ * A value younger than the time to live is served from level one, then from the shared level. Otherwise it
+ * is loaded once per key across the cluster: concurrent callers on a replica share one load, and replicas
+ * take the key's shared lock before loading. A replica that finds the lock taken waits for the loaded value
+ * to appear in the shared level instead of calling upstream itself, and loads on its own only if the value
+ * does not appear within the lock lease. A time to live of zero loads on every call, so the caches only
+ * serve as fallback, but concurrent loads are still shared.
+ * </p>
+ * <p>
+ * Loaded values are kept in the shared level for the stale retention, so any replica can fall back to them
+ * with {@link #getStale} when upstream fails. Evicting a key removes it from the shared level and broadcasts
+ * the eviction, and every replica drops it from level one. When the shared level is unreachable, the cache
+ * keeps working on level one alone.
+ * </p>
+ * <p>
+ * Metrics: counter {@code holiday.cache.gets} tagged by result ({@code l1}, {@code l2}, {@code joined},
+ * {@code awaited} or {@code loaded}), counter {@code holiday.cache.shared.errors} and gauge
+ * {@code holiday.cache.l1.size}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class HolidayCache {
+
+    private final SharedCache sharedCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final long lockLeaseMillis;
+    private final long pollMillis;
+    private final LongSupplier clock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Entry> local = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HolidayCache(SharedCache sharedCache, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Value("${holiday.cache.ttlSeconds:21600}") long ttlSeconds,
+                        @Value("${holiday.cache.staleSeconds:604800}") long staleSeconds,
+                        @Value("${holiday.cache.shared.lockLeaseMillis:5000}") long lockLeaseMillis,
+                        @Value("${holiday.cache.shared.pollMillis:25}") long pollMillis) {
+        this(sharedCache, objectMapper, meterRegistry, ttlSeconds * 1000, staleSeconds * 1000, lockLeaseMillis,
+                pollMillis, System::currentTimeMillis);
+    }
+
+    HolidayCache(SharedCache sharedCache, ObjectMapper objectMapper, MeterRegistry meterRegistry, long ttlMillis,
+                 long staleMillis, long lockLeaseMillis, long pollMillis, LongSupplier clock) {
+        this.sharedCache = sharedCache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMillis;
+        this.staleMillis = Math.max(staleMillis, ttlMillis);
+        this.lockLeaseMillis = lockLeaseMillis;
+        this.pollMillis = pollMillis;
+        this.clock = clock;
+        Gauge.builder("holiday.cache.l1.size", local, Map::size).register(meterRegistry);
+        try {
+            sharedCache.subscribe(this::onMessage);
+        } catch (RuntimeException e) {
+            sharedError("subscribe", e);
+        }
+    }
+
+    /**
+     * Returns the cached value of a key, loading it when no fresh value is cached.
+     *
+     * @param key    the cache key, e.g. {@code holidays:NL:2025}
+     * @param type   the type of the value, used to read it from the shared level
+     * @param loader loads the value from upstream; its exceptions are passed on to the caller
+     * @return the value, or {@code null} if the loader returned {@code null} (which is not cached)
+     */
+    public <T> T get(String key, TypeReference<T> type, Supplier<T> loader) {
+        return get(key, type, loader, result -> {
+        });
+    }
+
+    /**
+     * Returns the cached value of a key like {@link #get(String, TypeReference, Supplier)} and reports how it
+     * was found.
+     *
+     * @param result receives the {@code holiday.cache.gets} result of this call: {@code l1}, {@code l2},
+     *               {@code joined}, {@code awaited} or, before the loader is called, {@code loaded}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, TypeReference<T> type, Supplier<T> loader, Consumer<String> result) {
+        long now = clock.getAsLong();
+        Entry cached = local.get(key);
+        if (cached != null && isFresh(cached, now)) {
+            count("l1", result);
+            return (T) cached.value();
+        }
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            count("joined", result);
+            try {
+                Entry entry = running.join();
+                return entry == null ? null : (T) entry.value();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Entry entry = loadShared(key, type, loader, now, result);
+            if (entry != null) {
+                local.put(key, entry);
+            }
+            load.complete(entry);
+            return entry == null ? null : (T) entry.value();
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Returns the cached value of a key regardless of its age, for when upstream cannot be reached.
+     *
+     * @return the value from level one or, failing that, the shared level; {@code null} if neither has one
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(String key, TypeReference<T> type) {
+        Entry cached = local.get(key);
+        if (cached == null) {
+            cached = readShared(key, type);
+        }
+        return cached == null ? null : (T) cached.value();
+    }
+
+    /**
+     * Tells a caller that keeps the values it loaded whether to load a key again.
+     * <p>
+     * A value is due once it has outlived the time to live, or when level one no longer holds it, e.g.
+     * after an eviction. With a time to live of zero a value held in level one is never due, so such a
+     * caller does not reach upstream on every call.
+     * </p>
+     *
+     * @return {@code true} if the key should be loaded again
+     */
+    public boolean needsRefresh(String key) {
+        Entry cached = local.get(key);
+        return cached == null || (ttlMillis > 0 && !isFresh(cached, clock.getAsLong()));
+    }
+
+    /**
+     * Removes a key from every level on every replica, so the next call loads it again.
+     */
+    public void evict(String key) {
+        local.remove(key);
+        try {
+            sharedCache.delete(key);
+            sharedCache.publish(nodeId + ' ' + key);
+        } catch (RuntimeException e) {
+            sharedError("evict", e);
+        }
+    }
+
+    /**
+     * @return the number of keys in level one
+     */
+    public int size() {
+        return local.size();
+    }
+
+    private Entry loadShared(String key, TypeReference<?> type, Supplier<?> loader, long now,
+                             Consumer<String> result) {
+        Entry shared = readShared(key, type);
+        if (shared != null && isFresh(shared, now)) {
+            count("l2", result);
+            return shared;
+        }
+        boolean locked = tryLock(key);
+        if (!locked) {
+            Entry awaited = awaitShared(key, type, now);
+            if (awaited != null) {
+                count("awaited", result);
+                return awaited;
+            }
+        }
+        try {
+            result.accept("loaded");
+            Object value = loader.get();
+            count("loaded");
+            if (value == null) {
+                return null;
+            }
+            Entry entry = new Entry(value, clock.getAsLong());
+            writeShared(key, entry);
+            return entry;
+        } finally {
+            if (locked) {
+                unlock(key);
+            }
+        }
+    }
+
+    /**
+     * Polls the shared level until a value loaded since {@code since} (or still fresh) shows up, or the
+     * lock lease runs out.
+     */
+    private Entry awaitShared(String key, TypeReference<?> type, long since) {
+        long deadline = clock.getAsLong() + lockLeaseMillis;
+        while (clock.getAsLong() < deadline) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Entry shared = readShared(key, type);
+            if (shared != null && shared.loadedAt() >= since - ttlMillis) {
+                return shared;
+            }
+        }
+        return null;
+    }
+
+    private boolean isFresh(Entry entry, long now) {
+        return now - entry.loadedAt() < ttlMillis;
+    }
+
+    private Entry readShared(String key, TypeReference<?> type) {
+        try {
+            byte[] bytes = sharedCache.get(key);
+            if (bytes == null || bytes.length < Long.BYTES) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long loadedAt = buffer.getLong();
+            Object value = objectMapper.readValue(bytes, Long.BYTES, bytes.length - Long.BYTES,
+                    objectMapper.constructType(type));
+            return new Entry(value, loadedAt);
+        } catch (IOException | RuntimeException e) {
+            sharedError("get", e);
+            return null;
+        }
+    }
+
+    private void writeShared(String key, Entry entry) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entry.value());
+            byte[] bytes = ByteBuffer.allocate(Long.BYTES + json.length).putLong(entry.loadedAt()).put(json).array();
+            sharedCache.put(key, bytes, staleMillis);
+            sharedCache.publish(nodeId + ' ' + key);
+        } catch (IOException | RuntimeException e) {
+            sharedError("put", e);
+        }
+    }
+
+    private boolean tryLock(String key) {
+        try {
+            return sharedCache.tryLock(key, nodeId, lockLeaseMillis);
+        } catch (RuntimeException e) {
+            sharedError("lock", e);
+            return true;
+        }
+    }
+
+    private void unlock(String key) {
+        try {
+            sharedCache.unlock(key, nodeId);
+        } catch (RuntimeException e) {
+            sharedError("unlock", e);
+        }
+    }
+
+    /**
+     * Drops a key from level one when another replica loaded or evicted it.
+     */
+    private void onMessage(String message) {
+        int separator = message.indexOf(' ');
+        if (separator > 0 && !message.startsWith(nodeId)) {
+            local.remove(message.substring(separator + 1));
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("holiday.cache.gets", "result", result).increment();
+    }
+
+    private void count(String result, Consumer<String> reported) {
+        count(result);
+        reported.accept(result);
+    }
+
+    private void sharedError(String operation, Exception e) {
+        meterRegistry.counter("holiday.cache.shared.errors", "operation", operation).increment();
+        log.debug("Shared cache {} failed: {}", operation, e.getMessage());
+    }
+
+    private record Entry(Object value, long loadedAt) {
+    }
+}
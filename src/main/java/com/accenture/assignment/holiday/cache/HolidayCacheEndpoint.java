@@ -0,0 +1,37 @@
+package com.accenture.assignment.holiday.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Admin view of the {@link HolidayCache} at {@code /actuator/holidaycache}.
+ * <p>
+ * Reading shows the number of keys cached on this replica; {@code DELETE /actuator/holidaycache/{key}}
+ * evicts a key, such as {@code holidays:NL:2025} or {@code countries}, on every replica.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Endpoint(id = "holidaycache")
+@RequiredArgsConstructor
+public class HolidayCacheEndpoint {
+
+    private final HolidayCache holidayCache;
+
+    @ReadOperation
+    public Map<String, Integer> cache() {
+        return Map.of("localEntries", holidayCache.size());
+    }
+
+    @DeleteOperation
+    public void evict(@Selector String key) {
+        holidayCache.evict(key);
+    }
+}
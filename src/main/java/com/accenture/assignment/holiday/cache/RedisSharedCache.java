@@ -0,0 +1,156 @@
+package com.accenture.assignment.holiday.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * {@link SharedCache} stored in a Redis-compatible server.
+ * <p>
+ * Values are plain keys with a millisecond expiry ({@code SET ... PX}); locks are keys set with
+ * {@code NX PX} holding the owner's token; invalidations go over a pub/sub channel. Commands run on a small
+ * pool of connections; a connection that fails is closed and a new one is opened for the next command. The
+ * subscription runs on its own daemon thread and reconnects after failures.
+ * </p>
+ * <p>
+ * Unlocking reads the lock before deleting it, so a lock whose lease expired in between can be deleted while
+ * another replica holds it. That replica's load then merely overlaps with one more load of the same key.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Slf4j
+public class RedisSharedCache implements SharedCache, AutoCloseable {
+
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final String host;
+    private final int port;
+    private final int timeoutMillis;
+    private final String keyPrefix;
+    private final String channel;
+    private final BlockingQueue<RespConnection> idle;
+    private volatile boolean closed;
+    private volatile RespConnection subscription;
+
+    public RedisSharedCache(String host, int port, int timeoutMillis, int poolSize, String keyPrefix) {
+        this.host = host;
+        this.port = port;
+        this.timeoutMillis = timeoutMillis;
+        this.keyPrefix = keyPrefix;
+        this.channel = keyPrefix + "invalidations";
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return (byte[]) execute("GET", keyPrefix + key);
+    }
+
+    @Override
+    public void put(String key, byte[] value, long ttlMillis) {
+        execute("SET", keyPrefix + key, value, "PX", Long.toString(Math.max(1, ttlMillis)));
+    }
+
+    @Override
+    public void delete(String key) {
+        execute("DEL", keyPrefix + key);
+    }
+
+    @Override
+    public boolean tryLock(String key, String owner, long leaseMillis) {
+        return "OK".equals(execute("SET", lockKey(key), owner, "NX", "PX", Long.toString(leaseMillis)));
+    }
+
+    @Override
+    public void unlock(String key, String owner) {
+        byte[] holder = (byte[]) execute("GET", lockKey(key));
+        if (holder != null && Arrays.equals(holder, owner.getBytes(StandardCharsets.UTF_8))) {
+            execute("DEL", lockKey(key));
+        }
+    }
+
+    @Override
+    public void publish(String message) {
+        execute("PUBLISH", channel, message);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        Thread thread = new Thread(() -> listen(listener), "holiday-cache-invalidations");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private String lockKey(String key) {
+        return keyPrefix + "lock:" + key;
+    }
+
+    private Object execute(Object... command) {
+        RespConnection connection = idle.poll();
+        try {
+            if (connection == null) {
+                connection = new RespConnection(host, port, timeoutMillis);
+            }
+            Object reply = connection.command(command);
+            if (closed || !idle.offer(connection)) {
+                connection.close();
+            }
+            return reply;
+        } catch (IOException e) {
+            if (connection != null) {
+                connection.close();
+            }
+            throw new UncheckedIOException("Shared cache command " + command[0] + " failed.", e);
+        }
+    }
+
+    private void listen(Consumer<String> listener) {
+        while (!closed) {
+            try (RespConnection connection = new RespConnection(host, port, timeoutMillis)) {
+                subscription = connection;
+                connection.command("SUBSCRIBE", channel);
+                connection.setTimeout(0);
+                while (!closed) {
+                    if (connection.read() instanceof List<?> message && message.size() == 3
+                            && message.get(2) instanceof byte[] payload) {
+                        listener.accept(new String(payload, StandardCharsets.UTF_8));
+                    }
+                }
+            } catch (SocketTimeoutException e) {
+                log.debug("Shared cache subscription timed out, reconnecting.");
+            } catch (IOException | RuntimeException e) {
+                if (closed) {
+                    return;
+                }
+                log.warn("Shared cache subscription lost: {}", e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        RespConnection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+        if (subscription != null) {
+            subscription.close();
+        }
+    }
+}
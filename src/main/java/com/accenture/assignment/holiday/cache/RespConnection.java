@@ -0,0 +1,148 @@
+package com.accenture.assignment.holiday.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection speaking the Redis serialization protocol (RESP2).
+ * <p>
+ * Commands are sent as arrays of bulk strings. Replies are returned as {@link String} (simple strings),
+ * {@link Long} (integers), {@code byte[]} (bulk strings, {@code null} when absent) and {@link List}
+ * (arrays); error replies are thrown as {@link RespException}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+final class RespConnection implements Closeable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    RespConnection(String host, int port, int timeoutMillis) throws IOException {
+        socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.setSoTimeout(timeoutMillis);
+        socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+        in = new BufferedInputStream(socket.getInputStream());
+        out = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    /**
+     * Sends a command and reads its reply.
+     *
+     * @param arguments the command and its arguments, each a {@link String} or {@code byte[]}
+     */
+    Object command(Object... arguments) throws IOException {
+        send(arguments);
+        return read();
+    }
+
+    void send(Object... arguments) throws IOException {
+        writeHeader('*', arguments.length);
+        for (Object argument : arguments) {
+            byte[] bytes = argument instanceof byte[] raw ? raw : argument.toString().getBytes(StandardCharsets.UTF_8);
+            writeHeader('$', bytes.length);
+            out.write(bytes);
+            out.write(CRLF);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads the next reply, blocking up to the socket timeout.
+     */
+    Object read() throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            throw new EOFException("Connection closed by the server.");
+        }
+        String line = readLine();
+        return switch (type) {
+            case '+' -> line;
+            case '-' -> throw new RespException(line);
+            case ':' -> Long.parseLong(line);
+            case '$' -> readBulk(Integer.parseInt(line));
+            case '*' -> readArray(Integer.parseInt(line));
+            default -> throw new IOException("Unexpected reply type '" + (char) type + "'.");
+        };
+    }
+
+    void setTimeout(int timeoutMillis) throws IOException {
+        socket.setSoTimeout(timeoutMillis);
+    }
+
+    private byte[] readBulk(int length) throws IOException {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length || in.read() != '\r' || in.read() != '\n') {
+            throw new EOFException("Truncated bulk reply.");
+        }
+        return bytes;
+    }
+
+    private List<Object> readArray(int length) throws IOException {
+        if (length < 0) {
+            return null;
+        }
+        List<Object> elements = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            elements.add(read());
+        }
+        return elements;
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) {
+                throw new EOFException("Connection closed by the server.");
+            }
+            line.append((char) c);
+        }
+        if (in.read() != '\n') {
+            throw new IOException("Malformed reply line.");
+        }
+        return line.toString();
+    }
+
+    private void writeHeader(char type, int length) throws IOException {
+        out.write(type);
+        out.write(Integer.toString(length).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+
+    /**
+     * Error reply of the server.
+     */
+    static final class RespException extends IOException {
+
+        RespException(String message) {
+            super(message);
+        }
+    }
+}
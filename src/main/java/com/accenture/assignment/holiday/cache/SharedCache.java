@@ -0,0 +1,87 @@
+package com.accenture.assignment.holiday.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Second-level cache shared by all replicas of the service.
+ * <p>
+ * Besides storing values, the shared cache provides the two things replicas need to cooperate: a lease
+ * lock, so only one replica loads a key at a time, and a broadcast channel for invalidations. Implementations
+ * may throw unchecked exceptions when the shared store is unreachable; {@link HolidayCache} then falls back to
+ * behaving like a single replica.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public interface SharedCache {
+
+    /**
+     * A shared cache that stores nothing, for running a single replica.
+     */
+    SharedCache NONE = new SharedCache() {
+        @Override
+        public byte[] get(String key) {
+            return null;
+        }
+
+        @Override
+        public void put(String key, byte[] value, long ttlMillis) {
+        }
+
+        @Override
+        public void delete(String key) {
+        }
+
+        @Override
+        public boolean tryLock(String key, String owner, long leaseMillis) {
+            return true;
+        }
+
+        @Override
+        public void unlock(String key, String owner) {
+        }
+
+        @Override
+        public void publish(String message) {
+        }
+
+        @Override
+        public void subscribe(Consumer<String> listener) {
+        }
+    };
+
+    /**
+     * @return the stored value, or {@code null} if there is none
+     */
+    byte[] get(String key);
+
+    /**
+     * Stores a value that expires after the given time.
+     */
+    void put(String key, byte[] value, long ttlMillis);
+
+    void delete(String key);
+
+    /**
+     * Takes the lock of a key unless another owner holds it. The lock expires after the lease, so a replica
+     * that dies while holding it blocks the others for at most that long.
+     *
+     * @return {@code true} if the lock was taken
+     */
+    boolean tryLock(String key, String owner, long leaseMillis);
+
+    /**
+     * Releases the lock of a key if the owner still holds it.
+     */
+    void unlock(String key, String owner);
+
+    /**
+     * Broadcasts a message to the subscribers of every replica, including this one.
+     */
+    void publish(String message);
+
+    /**
+     * Registers the listener for broadcast messages.
+     */
+    void subscribe(Consumer<String> listener);
+}
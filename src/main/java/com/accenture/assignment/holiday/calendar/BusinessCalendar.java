@@ -0,0 +1,187 @@
+package com.accenture.assignment.holiday.calendar;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Immutable, precompiled working-day calendar of a single country over a contiguous range of years.
+ * <p>
+ * Every calendar day of the range is one bit in a bitmap; the bit is set when the day is neither a
+ * Saturday, a Sunday nor a public holiday. A prefix-sum array keeps the number of working days that
+ * precede each 64-day word, so counting working days (rank) is O(1) and finding the n-th working day
+ * (select) is a binary search over the prefix sums, O(log n). Query methods work on epoch days and
+ * do not allocate.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class BusinessCalendar {
+
+    /**
+     * Returned by the query methods when the answer lies outside the compiled range of years.
+     */
+    public static final long OUT_OF_RANGE = Long.MIN_VALUE;
+
+    private final String countryCode;
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstEpochDay;
+    private final int length;
+    private final long[] workingDays;
+    private final int[] workingDaysBefore;
+
+    private BusinessCalendar(String countryCode, int firstYear, int lastYear, long firstEpochDay, int length,
+                             long[] workingDays, int[] workingDaysBefore) {
+        this.countryCode = countryCode;
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.firstEpochDay = firstEpochDay;
+        this.length = length;
+        this.workingDays = workingDays;
+        this.workingDaysBefore = workingDaysBefore;
+    }
+
+    /**
+     * Compiles the calendar of a country for the years {@code firstYear} to {@code lastYear} (both inclusive).
+     *
+     * @param countryCode the country code the calendar belongs to
+     * @param firstYear   the first year covered by the calendar
+     * @param lastYear    the last year covered by the calendar
+     * @param holidays    the public holidays of the country; dates outside the range are ignored
+     * @return the compiled calendar
+     */
+    public static BusinessCalendar compile(String countryCode, int firstYear, int lastYear,
+                                           Collection<LocalDate> holidays) {
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("lastYear must not be before firstYear.");
+        }
+        long firstEpochDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        int length = (int) (LocalDate.of(lastYear + 1, 1, 1).toEpochDay() - firstEpochDay);
+        long[] workingDays = new long[(length + 63) >>> 6];
+
+        for (int i = 0; i < length; i++) {
+            // 1970-01-01 (epoch day 0) was a Thursday, so Monday maps to 0 and Saturday/Sunday to 5/6
+            int dayOfWeek = (int) Math.floorMod(firstEpochDay + i + 3, 7L);
+            if (dayOfWeek < 5) {
+                workingDays[i >>> 6] |= 1L << (i & 63);
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            long i = holiday.toEpochDay() - firstEpochDay;
+            if (i >= 0 && i < length) {
+                workingDays[(int) (i >>> 6)] &= ~(1L << (i & 63));
+            }
+        }
+
+        int[] workingDaysBefore = new int[workingDays.length + 1];
+        for (int w = 0; w < workingDays.length; w++) {
+            workingDaysBefore[w + 1] = workingDaysBefore[w] + Long.bitCount(workingDays[w]);
+        }
+        return new BusinessCalendar(countryCode, firstYear, lastYear, firstEpochDay, length,
+                workingDays, workingDaysBefore);
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * @return {@code true} if every year from {@code fromYear} to {@code toYear} is compiled into this calendar
+     */
+    public boolean covers(int fromYear, int toYear) {
+        return fromYear >= firstYear && toYear <= lastYear;
+    }
+
+    /**
+     * @param epochDay the day to check
+     * @return {@code true} if the day is a working day; days outside the range are never working days
+     */
+    public boolean isBusinessDay(long epochDay) {
+        long i = epochDay - firstEpochDay;
+        return i >= 0 && i < length && (workingDays[(int) (i >>> 6)] & (1L << (i & 63))) != 0;
+    }
+
+    /**
+     * Counts the working days from {@code fromEpochDay} (inclusive) to {@code toEpochDay} (exclusive).
+     * The count is negative when {@code toEpochDay} lies before {@code fromEpochDay}.
+     *
+     * @return the number of working days, or {@link #OUT_OF_RANGE} if either bound lies outside the calendar
+     */
+    public long countBusinessDays(long fromEpochDay, long toEpochDay) {
+        long from = fromEpochDay - firstEpochDay;
+        long to = toEpochDay - firstEpochDay;
+        if (from < 0 || from > length || to < 0 || to > length) {
+            return OUT_OF_RANGE;
+        }
+        return workingDaysBefore((int) to) - workingDaysBefore((int) from);
+    }
+
+    /**
+     * Moves {@code days} working days away from {@code epochDay}. The start day itself is never counted;
+     * a value of zero returns the start day when it is a working day and the next working day otherwise.
+     *
+     * @return the resulting epoch day, or {@link #OUT_OF_RANGE} if it lies outside the calendar
+     */
+    public long addBusinessDays(long epochDay, int days) {
+        long i = epochDay - firstEpochDay;
+        if (i < 0 || i >= length) {
+            return OUT_OF_RANGE;
+        }
+        int before = workingDaysBefore((int) i);
+        int self = isBusinessDay(epochDay) ? 1 : 0;
+        long rank;
+        if (days > 0) {
+            rank = (long) before + self + days;
+        } else if (days < 0) {
+            rank = (long) before + days + 1;
+        } else {
+            rank = before + 1L;
+        }
+        return select(rank);
+    }
+
+    /**
+     * @return the first working day strictly after {@code epochDay}, or {@link #OUT_OF_RANGE}
+     */
+    public long nextBusinessDay(long epochDay) {
+        return addBusinessDays(epochDay, 1);
+    }
+
+    private int workingDaysBefore(int i) {
+        int word = i >>> 6;
+        int bit = i & 63;
+        if (bit == 0) {
+            return workingDaysBefore[word];
+        }
+        return workingDaysBefore[word] + Long.bitCount(workingDays[word] & ((1L << bit) - 1));
+    }
+
+    private long select(long rank) {
+        if (rank < 1 || rank > workingDaysBefore[workingDays.length]) {
+            return OUT_OF_RANGE;
+        }
+        int low = 0;
+        int high = workingDays.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (workingDaysBefore[mid] < rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        long word = workingDays[low];
+        for (long remaining = rank - workingDaysBefore[low]; remaining > 1; remaining--) {
+            word &= word - 1;
+        }
+        return firstEpochDay + ((long) low << 6) + Long.numberOfTrailingZeros(word);
+    }
+}
@@ -0,0 +1,39 @@
+package com.accenture.assignment.holiday.calendar;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether the service knows which countries it can answer for.
+ * <p>
+ * The indicator is part of the readiness group only: an instance serving the bundled or snapshotted
+ * country list is ready, and one whose registry is still empty is out of service, but neither is ever
+ * restarted for it, because liveness does not depend on the external API. The details show where the
+ * countries came from and why the last load from upstream failed, if it did.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@RequiredArgsConstructor
+public class CountriesHealthIndicator implements HealthIndicator {
+
+    private final CountryRegistry countryRegistry;
+
+    private final CountryListLoader countryListLoader;
+
+    @Override
+    public Health health() {
+        Health.Builder health = countryRegistry.isEmpty() ? Health.outOfService() : Health.up();
+        health.withDetail("source", countryListLoader.getSource())
+                .withDetail("countries", countryRegistry.getCountryCodes().size())
+                .withDetail("failedAttempts", countryListLoader.getFailedAttempts());
+        String lastError = countryListLoader.getLastError();
+        if (lastError != null) {
+            health.withDetail("lastError", lastError);
+        }
+        return health.build();
+    }
+}
@@ -0,0 +1,215 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fills the {@link CountryRegistry} without making context startup wait for the external API.
+ * <p>
+ * {@link #start} first seeds the registry from local data: the snapshot file written after the last
+ * successful load, if one is configured and readable, otherwise the country list bundled with the service
+ * ({@code available-countries.json}). It then loads the list from upstream on a background thread and
+ * returns at once. A failed load is retried with exponential backoff, starting at
+ * {@code nager.api.retry.delay} and capped at {@code holiday.countries.maxRetryDelayMillis}, until one
+ * succeeds; the loaded list replaces the seed and is written to the snapshot file. Where the current
+ * list came from is reported by {@link CountriesHealthIndicator}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class CountryListLoader {
+
+    static final String BUNDLED_RESOURCE = "available-countries.json";
+    private static final TypeReference<List<AvailableCountry>> COUNTRIES_TYPE = new TypeReference<>() {};
+
+    /**
+     * Where the countries in the registry were loaded from.
+     */
+    public enum Source { NONE, BUNDLED, SNAPSHOT, UPSTREAM }
+
+    private final CountryRegistry countryRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean loadOnStartup;
+    private final long retryDelayMillis;
+    private final long maxRetryDelayMillis;
+    private final Path snapshotFile;
+    private final ScheduledExecutorService executor;
+
+    private volatile Source source = Source.NONE;
+    private volatile int failedAttempts;
+    private volatile String lastError;
+
+    @Autowired
+    public CountryListLoader(CountryRegistry countryRegistry, ObjectMapper objectMapper,
+                             @Value("${holiday.countries.loadOnStartup:true}") boolean loadOnStartup,
+                             @Value("${nager.api.retry.delay:2000}") long retryDelayMillis,
+                             @Value("${holiday.countries.maxRetryDelayMillis:300000}") long maxRetryDelayMillis,
+                             @Value("${holiday.countries.snapshotFile:}") String snapshotFile) {
+        this.countryRegistry = countryRegistry;
+        this.objectMapper = objectMapper;
+        this.loadOnStartup = loadOnStartup;
+        this.retryDelayMillis = Math.max(1, retryDelayMillis);
+        this.maxRetryDelayMillis = Math.max(this.retryDelayMillis, maxRetryDelayMillis);
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "country-list-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Seeds the registry from local data and starts loading the country list from upstream in the background.
+     *
+     * @param upstream loads the available countries from the external API; it may throw, and an empty
+     *                 result counts as a failure
+     */
+    public void start(Supplier<Map<String, String>> upstream) {
+        seed();
+        if (loadOnStartup) {
+            executor.execute(() -> load(upstream, retryDelayMillis));
+        }
+    }
+
+    /**
+     * Fills an empty registry from the snapshot file or, failing that, from the bundled country list.
+     */
+    void seed() {
+        if (!countryRegistry.isEmpty()) {
+            return;
+        }
+        Map<String, String> countries = readSnapshot();
+        Source seededFrom = Source.SNAPSHOT;
+        if (countries.isEmpty()) {
+            countries = readBundled();
+            seededFrom = Source.BUNDLED;
+        }
+        if (!countries.isEmpty()) {
+            countryRegistry.update(countries);
+            source = seededFrom;
+            log.info("Seeded {} available countries from the {} list", countries.size(),
+                    seededFrom.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void load(Supplier<Map<String, String>> upstream, long delayMillis) {
+        try {
+            Map<String, String> countries = upstream.get();
+            if (countries == null || countries.isEmpty()) {
+                throw new IllegalStateException("The external API returned no countries.");
+            }
+            countryRegistry.update(countries);
+            writeSnapshot(countries);
+            source = Source.UPSTREAM;
+            lastError = null;
+            log.info("Loaded {} available countries from the external API", countries.size());
+            executor.shutdown();
+        } catch (RuntimeException e) {
+            failedAttempts++;
+            lastError = e.toString();
+            if (executor.isShutdown()) {
+                return;
+            }
+            log.warn("Loading available countries failed (attempt {}), retrying in {} ms: {}",
+                    failedAttempts, delayMillis, e.toString());
+            executor.schedule(() -> load(upstream, Math.min(delayMillis * 2, maxRetryDelayMillis)),
+                    delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Map<String, String> readSnapshot() {
+        if (snapshotFile == null || !Files.isReadable(snapshotFile)) {
+            return Map.of();
+        }
+        try (InputStream in = Files.newInputStream(snapshotFile)) {
+            return toMap(objectMapper.readValue(in, COUNTRIES_TYPE));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable country snapshot {}: {}", snapshotFile, e.toString());
+            return Map.of();
+        }
+    }
+
+    private Map<String, String> readBundled() {
+        try (InputStream in = CountryListLoader.class.getClassLoader().getResourceAsStream(BUNDLED_RESOURCE)) {
+            return in == null ? Map.of() : toMap(objectMapper.readValue(in, COUNTRIES_TYPE));
+        } catch (IOException e) {
+            log.warn("Could not read the bundled country list: {}", e.toString());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Replaces the snapshot file atomically, so a crash while writing never leaves a truncated snapshot.
+     */
+    private void writeSnapshot(Map<String, String> countries) {
+        if (snapshotFile == null) {
+            return;
+        }
+        List<AvailableCountry> list = countries.entrySet().stream()
+                .map(country -> new AvailableCountry(country.getKey(), country.getValue()))
+                .toList();
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), list);
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write the country snapshot {}: {}", snapshotFile, e.toString());
+        }
+    }
+
+    private static Map<String, String> toMap(List<AvailableCountry> countries) {
+        Map<String, String> map = new LinkedHashMap<>();
+        if (countries != null) {
+            for (AvailableCountry country : countries) {
+                if (country != null && country.countryCode() != null && country.name() != null) {
+                    map.put(country.countryCode(), country.name());
+                }
+            }
+        }
+        return map;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    /**
+     * @return the error of the last failed load, or {@code null} if the last load succeeded or none failed yet
+     */
+    public String getLastError() {
+        return lastError;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,250 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the countries the external API provides holidays for.
+ * <p>
+ * Every two-letter code owns a fixed slot ({@code (first - 'A') * 26 + (second - 'A')}) in a 26×26 table
+ * holding the country's name, or {@code null} for codes that are not available. Looking up a code is
+ * case-insensitive, tolerates surrounding whitespace and allocates nothing: the canonical upper-case
+ * code is taken from a table of all 676 codes built once. {@link #update} builds a new table and swaps
+ * it in atomically, so readers always see either the old or the new set of countries. The registry is
+ * shared, so requests can be validated before they reach the service.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public final class CountryRegistry {
+
+    public static final int SLOTS = 26 * 26;
+    public static final String MALFORMED = "Not a two-letter country code.";
+    public static final String UNSUPPORTED = "Country is not supported.";
+
+    private static final String[] CODES = new String[SLOTS];
+    private static final int EXAMPLE_COUNT = 10;
+
+    static {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            CODES[slot] = new String(new char[]{(char) ('A' + slot / 26), (char) ('A' + slot % 26)});
+        }
+    }
+
+    private volatile Snapshot snapshot = Snapshot.of(Map.of());
+
+    /**
+     * Replaces the available countries.
+     *
+     * @param countries the available countries, keyed by two-letter code; malformed codes are ignored
+     */
+    public void update(Map<String, String> countries) {
+        snapshot = Snapshot.of(countries);
+    }
+
+    /**
+     * Resolves a code to its canonical upper-case form.
+     *
+     * @param code a country code in any case, possibly surrounded by whitespace
+     * @return the canonical code, or {@code null} if the country is not available
+     */
+    public String resolve(CharSequence code) {
+        int slot = slot(code);
+        return slot >= 0 && snapshot.names[slot] != null ? CODES[slot] : null;
+    }
+
+    /**
+     * Checks a region of a character sequence, such as one entry of a comma-separated list, without
+     * copying it.
+     *
+     * @return {@code true} if the characters from {@code start} (inclusive) to {@code end} (exclusive)
+     * name an available country
+     */
+    public boolean contains(CharSequence codes, int start, int end) {
+        int slot = slot(codes, start, end);
+        return slot >= 0 && snapshot.names[slot] != null;
+    }
+
+    /**
+     * Like {@link #contains(CharSequence, int, int)}, but also accepts a subdivision code such as
+     * {@code DE-BY}: an available country, a hyphen and one to three letters or digits.
+     */
+    public boolean containsRegion(CharSequence codes, int start, int end) {
+        while (end > start && Character.isWhitespace(codes.charAt(end - 1))) {
+            end--;
+        }
+        int hyphen = start;
+        while (hyphen < end && codes.charAt(hyphen) != '-') {
+            hyphen++;
+        }
+        if (hyphen == end) {
+            return contains(codes, start, end);
+        }
+        if (hyphen == start || end - hyphen < 2 || end - hyphen > 4 || Character.isWhitespace(codes.charAt(hyphen - 1))) {
+            return false;
+        }
+        for (int i = hyphen + 1; i < end; i++) {
+            if (!Character.isLetterOrDigit(codes.charAt(i)) || codes.charAt(i) > 'z') {
+                return false;
+            }
+        }
+        return contains(codes, start, hyphen);
+    }
+
+    /**
+     * @return {@code true} if the country is available
+     */
+    public boolean contains(CharSequence code) {
+        return resolve(code) != null;
+    }
+
+    /**
+     * @return the name of the country, or {@code null} if it is not available
+     */
+    public String getName(CharSequence code) {
+        int slot = slot(code);
+        return slot >= 0 ? snapshot.names[slot] : null;
+    }
+
+    /**
+     * Validates a set of codes and reports every invalid one.
+     *
+     * @param codes the codes to validate
+     * @return one {@link CountryValidationError} per invalid code, in input order; empty if all are valid
+     */
+    public List<CountryValidationError> validate(Collection<String> codes) {
+        List<CountryValidationError> errors = null;
+        for (String code : codes) {
+            String reason = slot(code) < 0 ? MALFORMED : contains(code) ? null : UNSUPPORTED;
+            if (reason != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(new CountryValidationError(code, reason));
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    /**
+     * Validates country and subdivision codes: the subdivision part must be well-formed and the country
+     * available.
+     *
+     * @return one {@link CountryValidationError} per invalid code, naming the code as given
+     */
+    public List<CountryValidationError> validateRegions(Collection<String> codes) {
+        List<CountryValidationError> errors = null;
+        for (String code : codes) {
+            String reason;
+            if (!SubdivisionIndex.isWellFormed(code)) {
+                reason = SubdivisionIndex.MALFORMED;
+            } else {
+                String country = SubdivisionIndex.country(code);
+                reason = slot(country) < 0 ? MALFORMED : contains(country) ? null : UNSUPPORTED;
+            }
+            if (reason != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(new CountryValidationError(code, reason));
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    /**
+     * @return the available country codes in alphabetical order
+     */
+    public List<String> getCountryCodes() {
+        return snapshot.codes;
+    }
+
+    /**
+     * @return the available countries keyed by code, in alphabetical order
+     */
+    public Map<String, String> getCountries() {
+        return snapshot.countries;
+    }
+
+    /**
+     * @return a few available codes to show in error messages
+     */
+    public List<String> getExamples() {
+        return snapshot.codes.subList(0, Math.min(EXAMPLE_COUNT, snapshot.codes.size()));
+    }
+
+    public boolean isEmpty() {
+        return snapshot.codes.isEmpty();
+    }
+
+    /**
+     * Maps a code to its slot, ignoring case and surrounding whitespace.
+     *
+     * @return the slot in {@code [0, 676)}, or {@code -1} if the input is not two ASCII letters
+     */
+    public static int slot(CharSequence code) {
+        return code == null ? -1 : slot(code, 0, code.length());
+    }
+
+    /**
+     * Maps a region of a character sequence to its slot, ignoring case and surrounding whitespace.
+     *
+     * @return the slot in {@code [0, 676)}, or {@code -1} if the region is not two ASCII letters
+     */
+    public static int slot(CharSequence code, int start, int end) {
+        while (start < end && Character.isWhitespace(code.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(code.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != 2) {
+            return -1;
+        }
+        int first = letter(code.charAt(start));
+        int second = letter(code.charAt(start + 1));
+        return first < 0 || second < 0 ? -1 : first * 26 + second;
+    }
+
+    /**
+     * @return the canonical code of a slot
+     */
+    public static String code(int slot) {
+        return CODES[slot];
+    }
+
+    private static int letter(char c) {
+        int index = (c | 0x20) - 'a';
+        return index >= 0 && index < 26 ? index : -1;
+    }
+
+    private record Snapshot(String[] names, List<String> codes, Map<String, String> countries) {
+
+        static Snapshot of(Map<String, String> countries) {
+            String[] names = new String[SLOTS];
+            for (Map.Entry<String, String> country : countries.entrySet()) {
+                int slot = slot(country.getKey());
+                if (slot >= 0) {
+                    names[slot] = country.getValue();
+                }
+            }
+            List<String> codes = new ArrayList<>();
+            Map<String, String> byCode = new LinkedHashMap<>();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (names[slot] != null) {
+                    codes.add(CODES[slot]);
+                    byCode.put(CODES[slot], names[slot]);
+                }
+            }
+            return new Snapshot(names, List.copyOf(codes), Collections.unmodifiableMap(byCode));
+        }
+    }
+}
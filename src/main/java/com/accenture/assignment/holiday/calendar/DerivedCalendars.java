@@ -0,0 +1,127 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.accenture.assignment.holiday.storage.HeapHolidayStore;
+import com.accenture.assignment.holiday.storage.HolidayStore;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The holidays of one calendar namespace and the structures derived from them.
+ * <p>
+ * Holds the holidays per country-year together with the {@link HolidayDateIndex}, the
+ * {@link HolidayCountAggregates}, the {@link SubdivisionIndex}, {@link HolidayTimeline} and
+ * {@link LongWeekends} of each country-year and the compiled {@link BusinessCalendar}s built from them. The
+ * public calendar is one namespace; every tenant with company holidays has its own, holding the public holidays
+ * merged with the tenant's closures. {@link #update} keeps the derived structures in step with the holidays
+ * of a country-year.
+ * </p>
+ * <p>
+ * The holidays themselves are kept in a {@link HolidayStore}, on the heap unless another store is given.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class DerivedCalendars {
+
+    private final HolidayStore holidays;
+    private final Map<String, BusinessCalendar> businessCalendars = new ConcurrentHashMap<>();
+    private final HolidayDateIndex dateIndex = new HolidayDateIndex();
+    private final HolidayCountAggregates countAggregates = new HolidayCountAggregates();
+    private final Map<String, SubdivisionIndex> subdivisionIndexes = new ConcurrentHashMap<>();
+    private final Map<String, HolidayTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<String, LongWeekends> longWeekends = new ConcurrentHashMap<>();
+
+    public DerivedCalendars() {
+        this(new HeapHolidayStore());
+    }
+
+    public DerivedCalendars(HolidayStore holidays) {
+        this.holidays = holidays;
+    }
+
+    /**
+     * @return the holidays of the country-year, or {@code null} if they have not been stored
+     */
+    public List<PublicHoliday> getHolidays(String countryCode, int year) {
+        return holidays.get(countryCode, year);
+    }
+
+    /**
+     * Stores the holidays of a country-year and brings the derived structures up to date.
+     * <p>
+     * The date index and the count aggregates are rewritten for this country-year only, unless the store
+     * kept the list it already held; a compiled business calendar of the country is dropped when the
+     * holidays differ from what it was compiled from.
+     * </p>
+     *
+     * @return the holidays as stored, which {@link #getHolidays} returns from now on
+     */
+    public List<PublicHoliday> update(String countryCode, int year, List<PublicHoliday> holidays) {
+        List<PublicHoliday> previous = this.holidays.get(countryCode, year);
+        List<PublicHoliday> stored = this.holidays.put(countryCode, year, holidays);
+        if (stored == previous) {
+            return stored;
+        }
+        if (previous != null && !previous.equals(stored)) {
+            businessCalendars.remove(countryCode);
+        }
+        List<LocalDate> dates = stored.stream().map(h -> LocalDate.parse(h.date())).toList();
+        dateIndex.update(countryCode, year, dates);
+        countAggregates.update(countryCode, year, dates);
+        SubdivisionIndex subdivisionIndex = SubdivisionIndex.build(year, stored);
+        subdivisionIndexes.put(countryCode + "-" + year, subdivisionIndex);
+        longWeekends.put(countryCode + "-" + year,
+                LongWeekends.find(year, subdivisionIndex.days(null, SubdivisionIndex.PUBLIC_TYPE)));
+        timelines.put(countryCode + "-" + year, HolidayTimeline.build(year, stored));
+        return stored;
+    }
+
+    /**
+     * @return the compiled business calendar of the country, or {@code null} if none has been compiled
+     */
+    public BusinessCalendar getBusinessCalendar(String countryCode) {
+        return businessCalendars.get(countryCode);
+    }
+
+    public void putBusinessCalendar(BusinessCalendar calendar) {
+        businessCalendars.put(calendar.getCountryCode(), calendar);
+    }
+
+    /**
+     * @return the subdivision index of the country-year, or {@code null} if its holidays have not been stored
+     */
+    public SubdivisionIndex getSubdivisionIndex(String countryCode, int year) {
+        return subdivisionIndexes.get(countryCode + "-" + year);
+    }
+
+    /**
+     * @return the holidays of the country-year in date order, or {@code null} if they have not been stored
+     */
+    public HolidayTimeline getTimeline(String countryCode, int year) {
+        return timelines.get(countryCode + "-" + year);
+    }
+
+    /**
+     * @return the long weekends and bridge days of the country-year with its public holidays as days off, or
+     * {@code null} if its holidays have not been stored
+     */
+    public LongWeekends getLongWeekends(String countryCode, int year) {
+        return longWeekends.get(countryCode + "-" + year);
+    }
+
+    public HolidayDateIndex getDateIndex() {
+        return dateIndex;
+    }
+
+    public HolidayCountAggregates getCountAggregates() {
+        return countAggregates;
+    }
+
+    public HolidayStore getStore() {
+        return holidays;
+    }
+}
@@ -0,0 +1,114 @@
+package com.accenture.assignment.holiday.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialized per-year holiday counts of every loaded country, kept ranked by non-weekend count.
+ * <p>
+ * Each year is an immutable table holding the counts sorted in ranking order together with a
+ * lookup by country. Loading a country-year replaces the table copy-on-write with the country's
+ * entry re-inserted at its ranked position, so readers never sort and a top-k query only copies
+ * the first k entries.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class HolidayCountAggregates {
+
+    /**
+     * Holiday counts of one country in one year.
+     *
+     * @param countryCode     the country code
+     * @param nonWeekendCount holidays falling on Monday to Friday
+     * @param weekendCount    holidays falling on Saturday or Sunday
+     */
+    public record Counts(String countryCode, int nonWeekendCount, int weekendCount) {
+
+        public int totalCount() {
+            return nonWeekendCount + weekendCount;
+        }
+    }
+
+    /**
+     * Ranking order: most non-weekend holidays first, then most holidays overall, then country code.
+     */
+    public static final Comparator<Counts> RANKING = Comparator.comparingInt(Counts::nonWeekendCount).reversed()
+            .thenComparing(Comparator.comparingInt(Counts::totalCount).reversed())
+            .thenComparing(Counts::countryCode);
+
+    private record YearTable(Counts[] ranked, Map<String, Counts> byCountry) {
+    }
+
+    private static final YearTable EMPTY = new YearTable(new Counts[0], Map.of());
+
+    private final Map<Integer, YearTable> years = new ConcurrentHashMap<>();
+
+    /**
+     * Recounts the holidays of a country for a year and moves it to its new rank.
+     *
+     * @param countryCode the country code
+     * @param year        the year the holidays belong to
+     * @param holidays    the holiday dates, one per holiday
+     * @return the new counts of the country
+     */
+    public Counts update(String countryCode, int year, Collection<LocalDate> holidays) {
+        int weekend = 0;
+        for (LocalDate holiday : holidays) {
+            if (holiday.getDayOfWeek() == DayOfWeek.SATURDAY || holiday.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                weekend++;
+            }
+        }
+        Counts counts = new Counts(countryCode, holidays.size() - weekend, weekend);
+        years.compute(year, (y, current) -> with(current == null ? EMPTY : current, counts));
+        return counts;
+    }
+
+    /**
+     * @return the counts of the country for the year, or {@code null} if the country-year is not loaded
+     */
+    public Counts get(int year, String countryCode) {
+        return years.getOrDefault(year, EMPTY).byCountry().get(countryCode);
+    }
+
+    /**
+     * Returns the loaded countries of a year in ranking order.
+     *
+     * @param year  the year
+     * @param limit the maximum number of entries to return; {@code null} returns the full ranking
+     * @return the top {@code limit} counts
+     */
+    public List<Counts> getRanking(int year, Integer limit) {
+        Counts[] ranked = years.getOrDefault(year, EMPTY).ranked();
+        int size = limit == null ? ranked.length : Math.min(Math.max(limit, 0), ranked.length);
+        return List.of(Arrays.copyOf(ranked, size));
+    }
+
+    private static YearTable with(YearTable table, Counts counts) {
+        Counts previous = table.byCountry().get(counts.countryCode());
+        Counts[] ranked = table.ranked();
+        Counts[] remaining = ranked;
+        if (previous != null) {
+            int at = Arrays.binarySearch(ranked, previous, RANKING);
+            remaining = new Counts[ranked.length - 1];
+            System.arraycopy(ranked, 0, remaining, 0, at);
+            System.arraycopy(ranked, at + 1, remaining, at, ranked.length - at - 1);
+        }
+        int insertAt = -Arrays.binarySearch(remaining, counts, RANKING) - 1;
+        Counts[] updated = new Counts[remaining.length + 1];
+        System.arraycopy(remaining, 0, updated, 0, insertAt);
+        updated[insertAt] = counts;
+        System.arraycopy(remaining, insertAt, updated, insertAt + 1, remaining.length - insertAt);
+
+        Map<String, Counts> byCountry = new HashMap<>(table.byCountry());
+        byCountry.put(counts.countryCode(), counts);
+        return new YearTable(updated, Map.copyOf(byCountry));
+    }
+}
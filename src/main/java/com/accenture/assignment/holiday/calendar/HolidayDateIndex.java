@@ -0,0 +1,107 @@
+package com.accenture.assignment.holiday.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from calendar day to the set of countries observing a public holiday on that day.
+ * <p>
+ * Every two-letter country code owns a fixed slot ({@code (first - 'A') * 26 + (second - 'A')}), so the
+ * countries of a day form a 676-bit set. Each year is one flat {@code long[]} holding one bit set per
+ * day plus a trailing bit set of the countries whose holidays have been loaded for that year. Lookups
+ * are O(1). Updates replace the year array copy-on-write, so readers always see a consistent snapshot
+ * and a refresh of one country-year only rewrites that country's bits.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class HolidayDateIndex {
+
+    private static final int COUNTRY_SLOTS = CountryRegistry.SLOTS;
+    private static final int WORDS_PER_DAY = (COUNTRY_SLOTS + 63) >>> 6;
+    private static final int LOADED_ROW = 366;
+
+    private final Map<Integer, long[]> years = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the holidays of a country for a year.
+     *
+     * @param countryCode the two-letter country code
+     * @param year        the year the holidays belong to
+     * @param holidays    the holiday dates; dates outside {@code year} are ignored
+     */
+    public void update(String countryCode, int year, Collection<LocalDate> holidays) {
+        int slot = slot(countryCode);
+        int word = slot >>> 6;
+        long bit = 1L << (slot & 63);
+        years.compute(year, (y, current) -> {
+            long[] days = current == null ? new long[(LOADED_ROW + 1) * WORDS_PER_DAY] : current.clone();
+            for (int i = word; i < LOADED_ROW * WORDS_PER_DAY; i += WORDS_PER_DAY) {
+                days[i] &= ~bit;
+            }
+            for (LocalDate holiday : holidays) {
+                if (holiday.getYear() == year) {
+                    days[(holiday.getDayOfYear() - 1) * WORDS_PER_DAY + word] |= bit;
+                }
+            }
+            days[LOADED_ROW * WORDS_PER_DAY + word] |= bit;
+            return days;
+        });
+    }
+
+    /**
+     * @return {@code true} if the holidays of the country have been indexed for the year
+     */
+    public boolean isLoaded(String countryCode, int year) {
+        long[] days = years.get(year);
+        if (days == null) {
+            return false;
+        }
+        int slot = slot(countryCode);
+        return (days[LOADED_ROW * WORDS_PER_DAY + (slot >>> 6)] & (1L << (slot & 63))) != 0;
+    }
+
+    /**
+     * @return {@code true} if the country observes a holiday on the date
+     */
+    public boolean isHoliday(String countryCode, LocalDate date) {
+        long[] days = years.get(date.getYear());
+        if (days == null) {
+            return false;
+        }
+        int slot = slot(countryCode);
+        return (days[(date.getDayOfYear() - 1) * WORDS_PER_DAY + (slot >>> 6)] & (1L << (slot & 63))) != 0;
+    }
+
+    /**
+     * @return the codes of the countries observing a holiday on the date, in alphabetical order
+     */
+    public List<String> getCountries(LocalDate date) {
+        long[] days = years.get(date.getYear());
+        if (days == null) {
+            return List.of();
+        }
+        int offset = (date.getDayOfYear() - 1) * WORDS_PER_DAY;
+        List<String> countries = new ArrayList<>();
+        for (int w = 0; w < WORDS_PER_DAY; w++) {
+            long word = days[offset + w];
+            while (word != 0) {
+                countries.add(CountryRegistry.code((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return countries;
+    }
+
+    private static int slot(String countryCode) {
+        int slot = CountryRegistry.slot(countryCode);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Invalid country code: '" + countryCode + "'.");
+        }
+        return slot;
+    }
+}
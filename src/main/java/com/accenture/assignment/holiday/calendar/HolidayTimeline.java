@@ -0,0 +1,93 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The holidays of one country-year in date order, precomputed when the holidays are loaded.
+ * <p>
+ * Holds the epoch days of the holidays sorted ascending, each packed with the position of its holiday in
+ * the stored list, so finding where a day falls among the holidays is a binary search and reading the
+ * holidays around it touches only those. The stored list itself is neither copied nor reordered; holidays
+ * are read from it, and decoded if it is encoded, as they are asked for. Holidays on the same day keep the
+ * order of the list. Holidays outside the year or without a valid date are left out, so the timelines of
+ * consecutive years never overlap.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class HolidayTimeline {
+
+    private final List<PublicHoliday> holidays;
+    private final long[] entries;
+
+    private HolidayTimeline(List<PublicHoliday> holidays, long[] entries) {
+        this.holidays = holidays;
+        this.entries = entries;
+    }
+
+    /**
+     * Sorts the holidays of a country-year by date.
+     */
+    public static HolidayTimeline build(int year, List<PublicHoliday> holidays) {
+        long[] entries = new long[holidays.size()];
+        int size = 0;
+        for (int i = 0; i < holidays.size(); i++) {
+            LocalDate date;
+            try {
+                date = LocalDate.parse(holidays.get(i).date());
+            } catch (DateTimeParseException | NullPointerException e) {
+                continue;
+            }
+            if (date.getYear() == year) {
+                entries[size++] = date.toEpochDay() << 32 | i;
+            }
+        }
+        long[] sorted = Arrays.copyOf(entries, size);
+        Arrays.sort(sorted);
+        return new HolidayTimeline(holidays, sorted);
+    }
+
+    /**
+     * @return the number of holidays in the timeline
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return the position of the first holiday after the day, or {@link #size()} if there is none
+     */
+    public int after(LocalDate day) {
+        long key = (day.toEpochDay() + 1) << 32;
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the date of the holiday at a position
+     */
+    public LocalDate date(int position) {
+        return LocalDate.ofEpochDay(entries[position] >> 32);
+    }
+
+    /**
+     * @return the holiday at a position
+     */
+    public PublicHoliday holiday(int position) {
+        return holidays.get((int) entries[position]);
+    }
+}
@@ -0,0 +1,195 @@
+package com.accenture.assignment.holiday.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The long weekends and bridge days of one country-year, found with word-wise operations on bit sets of days.
+ * <p>
+ * A long weekend is a run of at least three consecutive days off, weekends and holidays, that includes a
+ * holiday from Monday to Friday. A bridge day is a working day between two days off: taking it off joins
+ * them into one longer run, as a Friday after a Thursday holiday does. The days off are one bit per day,
+ * shifted by one day either way and masked against themselves, so the first and last days of every run
+ * and all bridge days fall out of a few ANDs, ORs and shifts per 64 days; only the runs themselves are
+ * visited one by one.
+ * </p>
+ * <p>
+ * The bit sets reach a week into the years around, with their weekends but without their holidays, so a
+ * run across New Year is found whole when it starts or ends on a weekend. Holidays outside the year are not
+ * known here.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class LongWeekends {
+
+    /**
+     * Consecutive days off, both ends inclusive.
+     */
+    public record Span(LocalDate start, LocalDate end) {
+
+        public int days() {
+            return (int) (end.toEpochDay() - start.toEpochDay()) + 1;
+        }
+    }
+
+    /**
+     * A working day between days off and the run of days off it joins when taken off.
+     */
+    public record BridgeDay(LocalDate date, Span span) {
+    }
+
+    private static final int MIN_DAYS = 3;
+    private static final int PADDING = 7;
+    private static final int WORDS = (PADDING + 366 + PADDING + 63) >>> 6;
+
+    private final int year;
+    private final List<Span> longWeekends;
+    private final List<BridgeDay> bridgeDays;
+
+    private LongWeekends(int year, List<Span> longWeekends, List<BridgeDay> bridgeDays) {
+        this.year = year;
+        this.longWeekends = longWeekends;
+        this.bridgeDays = bridgeDays;
+    }
+
+    /**
+     * Finds the long weekends and bridge days of a year.
+     *
+     * @param holidays the holiday days as a 366-bit set, bit 0 being the first of January, as returned by
+     *                 {@link SubdivisionIndex#days}
+     */
+    public static LongWeekends find(int year, long[] holidays) {
+        LocalDate first = LocalDate.of(year, 1, 1).minusDays(PADDING);
+        int length = Year.of(year).length();
+        long[] weekends = weekends(first, PADDING + length + PADDING);
+        long[] holiday = shift(holidays, PADDING);
+        long[] off = new long[WORDS];
+        long[] workdayHolidays = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            off[i] = weekends[i] | holiday[i];
+            workdayHolidays[i] = holiday[i] & ~weekends[i];
+        }
+        long[] before = shift(off, 1);
+        long[] after = shift(off, -1);
+        long[] starts = new long[WORDS];
+        long[] ends = new long[WORDS];
+        long[] bridges = new long[WORDS];
+        long[] inYear = range(PADDING, PADDING + length);
+        for (int i = 0; i < WORDS; i++) {
+            starts[i] = off[i] & ~before[i];
+            ends[i] = off[i] & ~after[i];
+            bridges[i] = ~off[i] & before[i] & after[i] & inYear[i];
+        }
+
+        List<Span> longWeekends = new ArrayList<>();
+        for (int start = nextSetBit(starts, 0); start >= 0; start = nextSetBit(starts, start + 1)) {
+            int end = nextSetBit(ends, start);
+            int holidayDay = nextSetBit(workdayHolidays, start);
+            if (end - start + 1 >= MIN_DAYS && holidayDay >= 0 && holidayDay <= end) {
+                longWeekends.add(span(first, start, end));
+            }
+        }
+        List<BridgeDay> bridgeDays = new ArrayList<>();
+        for (int day = nextSetBit(bridges, 0); day >= 0; day = nextSetBit(bridges, day + 1)) {
+            bridgeDays.add(new BridgeDay(first.plusDays(day),
+                    span(first, previousSetBit(starts, day - 1), nextSetBit(ends, day + 1))));
+        }
+        return new LongWeekends(year, List.copyOf(longWeekends), List.copyOf(bridgeDays));
+    }
+
+    /**
+     * @return the long weekends in date order
+     */
+    public List<Span> getLongWeekends() {
+        return longWeekends;
+    }
+
+    /**
+     * @return the bridge days in date order
+     */
+    public List<BridgeDay> getBridgeDays() {
+        return bridgeDays;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    private static Span span(LocalDate first, int start, int end) {
+        return new Span(first.plusDays(start), first.plusDays(end));
+    }
+
+    private static long[] weekends(LocalDate first, int days) {
+        long[] weekends = new long[WORDS];
+        int saturday = (DayOfWeek.SATURDAY.getValue() - first.getDayOfWeek().getValue() + 7) % 7;
+        for (int day = saturday - 7; day < days; day += 7) {
+            set(weekends, day, days);
+            set(weekends, day + 1, days);
+        }
+        return weekends;
+    }
+
+    private static long[] range(int from, int to) {
+        long[] days = new long[WORDS];
+        for (int day = from; day < to; day++) {
+            set(days, day, to);
+        }
+        return days;
+    }
+
+    private static void set(long[] bits, int day, int days) {
+        if (day >= 0 && day < days) {
+            bits[day >>> 6] |= 1L << (day & 63);
+        }
+    }
+
+    /**
+     * @return the bits moved up by {@code by} positions, or down for a negative {@code by}, at most 63 either way
+     */
+    private static long[] shift(long[] bits, int by) {
+        long[] shifted = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            if (by >= 0) {
+                long word = i < bits.length ? bits[i] << by : 0;
+                long carry = by > 0 && i > 0 && i - 1 < bits.length ? bits[i - 1] >>> (64 - by) : 0;
+                shifted[i] = word | carry;
+            } else {
+                long word = i < bits.length ? bits[i] >>> -by : 0;
+                long carry = i + 1 < bits.length ? bits[i + 1] << (64 + by) : 0;
+                shifted[i] = word | carry;
+            }
+        }
+        return shifted;
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        int i = from >>> 6;
+        if (i >= WORDS) {
+            return -1;
+        }
+        long word = bits[i] & (-1L << (from & 63));
+        while (word == 0) {
+            if (++i == WORDS) {
+                return -1;
+            }
+            word = bits[i];
+        }
+        return (i << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int previousSetBit(long[] bits, int from) {
+        int i = from >>> 6;
+        long word = bits[i] & (-1L >>> (63 - (from & 63)));
+        while (word == 0) {
+            word = bits[--i];
+        }
+        return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+    }
+}
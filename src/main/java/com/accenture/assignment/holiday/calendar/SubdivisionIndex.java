@@ -0,0 +1,297 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Holiday days of one country-year per subdivision and holiday type, as bit sets precomputed when the
+ * holidays are loaded.
+ * <p>
+ * A holiday is nationwide unless it is marked not {@code global}; a regional holiday applies to the
+ * subdivisions listed in its {@code counties} (ISO 3166-2 codes such as {@code DE-BY}). A holiday without
+ * types counts as {@code Public}. For each of the whole country, the nationwide holidays and every
+ * subdivision, the index holds one 366-bit set of days per holiday type plus one for any type, so a query
+ * for a subdivision and a set of types is a few word-wise ORs and ANDs, whatever the number of holidays.
+ * </p>
+ * <p>
+ * Days are counted once however many holidays fall on them. Holidays outside the year are ignored.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class SubdivisionIndex {
+
+    /**
+     * The holiday types of the date.nager.at API, in the order of their bits in a type mask.
+     */
+    public static final List<String> TYPES = List.of("Public", "Bank", "School", "Authorities", "Optional",
+            "Observance");
+
+    /**
+     * Type mask selecting holidays of any type, including types not in {@link #TYPES}.
+     */
+    public static final int ANY_TYPE = -1;
+
+    /**
+     * Type mask selecting public holidays, and holidays without a type.
+     */
+    public static final int PUBLIC_TYPE = 1;
+
+    public static final String MALFORMED = "Not a country code or a subdivision code such as DE-BY.";
+
+    private static final int WORDS = (366 + 63) >>> 6;
+    private static final int ANY_ROW = TYPES.size();
+    private static final Pattern SUBDIVISION = Pattern.compile("^[A-Za-z]{2}-[A-Za-z0-9]{1,3}$");
+
+    private final int year;
+    private final long[] weekdays;
+    private final long[][] country;
+    private final long[][] nationwide;
+    private final Map<String, long[][]> subdivisions;
+
+    private SubdivisionIndex(int year, long[][] country, long[][] nationwide, Map<String, long[][]> subdivisions) {
+        this.year = year;
+        this.weekdays = weekdays(year);
+        this.country = country;
+        this.nationwide = nationwide;
+        this.subdivisions = subdivisions;
+    }
+
+    /**
+     * Indexes the holidays of a country-year.
+     */
+    public static SubdivisionIndex build(int year, List<PublicHoliday> holidays) {
+        long[][] country = new long[ANY_ROW + 1][WORDS];
+        long[][] nationwide = new long[ANY_ROW + 1][WORDS];
+        Map<String, long[][]> subdivisions = new HashMap<>();
+        for (PublicHoliday holiday : holidays) {
+            int day = dayOfYear(holiday, year);
+            if (day < 0) {
+                continue;
+            }
+            int mask = typeMask(holiday.types());
+            set(country, mask, day);
+            if (isNationwide(holiday)) {
+                set(nationwide, mask, day);
+            } else if (holiday.counties() != null) {
+                for (String county : holiday.counties()) {
+                    if (county != null) {
+                        set(subdivisions.computeIfAbsent(county.trim().toUpperCase(Locale.ROOT),
+                                code -> new long[ANY_ROW + 1][WORDS]), mask, day);
+                    }
+                }
+            }
+        }
+        return new SubdivisionIndex(year, country, nationwide, Map.copyOf(subdivisions));
+    }
+
+    /**
+     * Returns the holiday days of the country or one of its subdivisions.
+     *
+     * @param subdivision the upper-case subdivision code, or {@code null} for every holiday of the country
+     * @param types       the type mask from {@link #parseTypes}
+     * @return a new 366-bit set of days of the year, bit 0 being the first of January
+     */
+    public long[] days(String subdivision, int types) {
+        long[] days = new long[WORDS];
+        if (subdivision == null) {
+            or(days, country, types);
+        } else {
+            or(days, nationwide, types);
+            long[][] regional = subdivisions.get(subdivision);
+            if (regional != null) {
+                or(days, regional, types);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * @return the number of days from Monday to Friday among the holiday days of the country or subdivision
+     */
+    public int nonWeekendCount(String subdivision, int types) {
+        long[] days = days(subdivision, types);
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(days[i] & weekdays[i]);
+        }
+        return count;
+    }
+
+    /**
+     * @return whether a holiday is among those of the country or subdivision with one of the types
+     */
+    public static boolean applies(PublicHoliday holiday, String subdivision, int types) {
+        if ((typeMask(holiday.types()) & types) == 0) {
+            return false;
+        }
+        if (subdivision == null || isNationwide(holiday)) {
+            return true;
+        }
+        return holiday.counties() != null && holiday.counties().stream()
+                .anyMatch(county -> county != null && county.trim().equalsIgnoreCase(subdivision));
+    }
+
+    /**
+     * @return the subdivisions with regional holidays in this country-year, in alphabetical order
+     */
+    public Set<String> getSubdivisions() {
+        return Collections.unmodifiableSet(new TreeSet<>(subdivisions.keySet()));
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return whether the day of the year, counted from zero, is set in the bit set
+     */
+    public static boolean contains(long[] days, int dayOfYear) {
+        return (days[dayOfYear >>> 6] & (1L << (dayOfYear & 63))) != 0;
+    }
+
+    /**
+     * @return the day of the year of the holiday counted from zero, or {@code -1} if it lies outside the year
+     * or has no valid date
+     */
+    public static int dayOfYear(PublicHoliday holiday, int year) {
+        try {
+            LocalDate date = LocalDate.parse(holiday.date());
+            return date.getYear() == year ? date.getDayOfYear() - 1 : -1;
+        } catch (DateTimeParseException | NullPointerException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of holiday types, ignoring case.
+     *
+     * @param types the types, e.g. {@code "Public,Bank"}, or {@code null} or blank for any type
+     * @return the type mask
+     * @throws IllegalArgumentException if a type is not one of {@link #TYPES}
+     */
+    public static int parseTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return ANY_TYPE;
+        }
+        int mask = 0;
+        for (String type : types.split(",")) {
+            int bit = indexOf(type.trim());
+            if (bit < 0) {
+                throw new IllegalArgumentException("Invalid holiday type: '" + type.trim()
+                        + "'. Expected any of " + TYPES + ".");
+            }
+            mask |= 1 << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * @return {@code false} if the code has a subdivision part that is not one to three letters or digits
+     */
+    public static boolean isWellFormed(String code) {
+        return code == null || code.indexOf('-') < 0 || SUBDIVISION.matcher(code.trim()).matches();
+    }
+
+    /**
+     * Splits a country or subdivision code such as {@code de-by} into its upper-case subdivision code.
+     *
+     * @return the subdivision code, or {@code null} for a plain country code
+     * @throws IllegalArgumentException if the code has a malformed subdivision part
+     */
+    public static String subdivision(String code) {
+        if (code == null || code.indexOf('-') < 0) {
+            return null;
+        }
+        String trimmed = code.trim();
+        if (!SUBDIVISION.matcher(trimmed).matches()) {
+            throw new IllegalArgumentException("Invalid subdivision code: '" + code
+                    + "'. Expected a country code, a hyphen and up to three letters or digits, e.g. DE-BY.");
+        }
+        return trimmed.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the country part of a country or subdivision code
+     */
+    public static String country(String code) {
+        int hyphen = code == null ? -1 : code.indexOf('-');
+        return hyphen < 0 ? code : code.substring(0, hyphen).trim();
+    }
+
+    private static boolean isNationwide(PublicHoliday holiday) {
+        return !Boolean.FALSE.equals(holiday.global());
+    }
+
+    private static int typeMask(List<String> types) {
+        if (types == null || types.isEmpty()) {
+            return PUBLIC_TYPE | 1 << ANY_ROW;
+        }
+        int mask = 1 << ANY_ROW;
+        for (String type : types) {
+            int bit = indexOf(type);
+            if (bit >= 0) {
+                mask |= 1 << bit;
+            }
+        }
+        return mask;
+    }
+
+    private static int indexOf(String type) {
+        for (int i = 0; i < TYPES.size(); i++) {
+            if (TYPES.get(i).equalsIgnoreCase(type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void set(long[][] rows, int mask, int day) {
+        for (int row = 0; row <= ANY_ROW; row++) {
+            if ((mask & 1 << row) != 0) {
+                rows[row][day >>> 6] |= 1L << (day & 63);
+            }
+        }
+    }
+
+    private static void or(long[] days, long[][] rows, int types) {
+        if (types == ANY_TYPE) {
+            orRow(days, rows[ANY_ROW]);
+            return;
+        }
+        for (int row = 0; row < ANY_ROW; row++) {
+            if ((types & 1 << row) != 0) {
+                orRow(days, rows[row]);
+            }
+        }
+    }
+
+    private static void orRow(long[] days, long[] row) {
+        for (int i = 0; i < WORDS; i++) {
+            days[i] |= row[i];
+        }
+    }
+
+    private static long[] weekdays(int year) {
+        long[] weekdays = new long[WORDS];
+        LocalDate first = LocalDate.of(year, 1, 1);
+        for (int day = 0; day < first.lengthOfYear(); day++) {
+            DayOfWeek dayOfWeek = first.plusDays(day).getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                weekdays[day >>> 6] |= 1L << (day & 63);
+            }
+        }
+        return weekdays;
+    }
+}
@@ -0,0 +1,123 @@
+package com.accenture.assignment.holiday.compression;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.util.Native;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP content encodings the service can compress responses with, in order of preference.
+ * <p>
+ * Brotli and zstd rely on native libraries and are only offered when these load on the current
+ * platform; gzip is always available. Since compressed payloads are cached and reused, each encoding
+ * runs at a higher level than typical on-the-fly compression.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public enum ContentEncoding {
+
+    BROTLI("br") {
+        @Override
+        boolean probe() {
+            return Brotli4jLoader.isAvailable();
+        }
+
+        @Override
+        public byte[] compress(byte[] body) {
+            try {
+                return Encoder.compress(body, new Encoder.Parameters().setQuality(9));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    },
+
+    ZSTD("zstd") {
+        @Override
+        boolean probe() {
+            try {
+                Native.load();
+                return true;
+            } catch (LinkageError e) {
+                return false;
+            }
+        }
+
+        @Override
+        public byte[] compress(byte[] body) {
+            return Zstd.compress(body, 9);
+        }
+    },
+
+    GZIP("gzip") {
+        @Override
+        boolean probe() {
+            return true;
+        }
+
+        @Override
+        public byte[] compress(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    };
+
+    private final String token;
+    private volatile Boolean available;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * @return the token used in the {@code Accept-Encoding} and {@code Content-Encoding} headers
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * @return whether the encoding can be used on this platform
+     */
+    public boolean isAvailable() {
+        if (available == null) {
+            available = probe();
+        }
+        return available;
+    }
+
+    /**
+     * @return the encodings available on this platform, in order of preference
+     */
+    public static List<ContentEncoding> available() {
+        return Arrays.stream(values()).filter(ContentEncoding::isAvailable).toList();
+    }
+
+    abstract boolean probe();
+
+    /**
+     * Compresses a complete response body.
+     *
+     * @param body the uncompressed body
+     * @return the compressed body
+     */
+    public abstract byte[] compress(byte[] body);
+}
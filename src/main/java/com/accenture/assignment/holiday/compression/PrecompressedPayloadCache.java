@@ -0,0 +1,177 @@
+package com.accenture.assignment.holiday.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses response bodies once and serves repeated identical bodies from the compressed copy.
+ * <p>
+ * Payloads are kept per response key (request URI, query and content type) and encoding in a bounded
+ * LRU map. A cached payload is only reused when the new body is byte-for-byte identical to the one it
+ * was compressed from, so refreshed data is never served stale; comparing two arrays costs a fraction
+ * of compressing one. Bodies smaller than the minimum size, and bodies that do not shrink, are sent as
+ * they are.
+ * </p>
+ * <p>
+ * Metrics: counter {@code holiday.compression.responses} tagged by encoding and result ({@code hit} or
+ * {@code miss}), timer {@code holiday.compression.time} with the CPU time spent compressing, and counter
+ * {@code holiday.compression.cpu.saved} with the CPU seconds cache hits did not have to spend.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class PrecompressedPayloadCache {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final int minSizeBytes;
+    private final List<ContentEncoding> encodings;
+    private final Map<String, Payload> payloads;
+    private final MeterRegistry meterRegistry;
+    private final Timer compressionTime;
+    private final Counter cpuSaved;
+
+    @Autowired
+    public PrecompressedPayloadCache(@Value("${holiday.compression.minSizeBytes:1024}") int minSizeBytes,
+                                     @Value("${holiday.compression.cacheEntries:256}") int cacheEntries,
+                                     MeterRegistry meterRegistry) {
+        this(minSizeBytes, cacheEntries, ContentEncoding.available(), meterRegistry);
+    }
+
+    PrecompressedPayloadCache(int minSizeBytes, int cacheEntries, List<ContentEncoding> encodings,
+                              MeterRegistry meterRegistry) {
+        this.minSizeBytes = minSizeBytes;
+        this.encodings = List.copyOf(encodings);
+        this.payloads = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Payload> eldest) {
+                return size() > cacheEntries;
+            }
+        };
+        this.meterRegistry = meterRegistry;
+        this.compressionTime = Timer.builder("holiday.compression.time").register(meterRegistry);
+        this.cpuSaved = Counter.builder("holiday.compression.cpu.saved").baseUnit("seconds").register(meterRegistry);
+    }
+
+    /**
+     * Picks the encoding for a request: the available encoding with the highest quality value in the
+     * {@code Accept-Encoding} header, preferring the order of {@link ContentEncoding} on ties.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header, may be {@code null}
+     * @return the encoding to use, or empty if the client accepts none of the available encodings
+     */
+    public Optional<ContentEncoding> negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Optional.empty();
+        }
+        ContentEncoding best = null;
+        double bestQuality = 0;
+        for (ContentEncoding encoding : encodings) {
+            double quality = quality(acceptEncoding, encoding.getToken());
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * @param length the length of a response body
+     * @return whether the body is large enough to be worth compressing
+     */
+    public boolean isCompressible(int length) {
+        return length >= minSizeBytes;
+    }
+
+    /**
+     * Returns the compressed body, compressing it only if no identical body was compressed before.
+     *
+     * @param key      identifies the response the body belongs to
+     * @param encoding the encoding to compress with
+     * @param body     the uncompressed body
+     * @return the compressed body, or {@code null} if it should be sent uncompressed
+     */
+    public byte[] compress(String key, ContentEncoding encoding, byte[] body) {
+        if (!isCompressible(body.length)) {
+            return null;
+        }
+        String payloadKey = encoding.getToken() + ' ' + key;
+        Payload cached;
+        synchronized (payloads) {
+            cached = payloads.get(payloadKey);
+        }
+        if (cached != null && Arrays.equals(cached.source(), body)) {
+            count(encoding, "hit");
+            cpuSaved.increment(cached.cpuNanos() / 1e9);
+            return cached.compressed();
+        }
+        count(encoding, "miss");
+        long started = cpuTime();
+        byte[] compressed = encoding.compress(body);
+        long cpuNanos = cpuTime() - started;
+        compressionTime.record(cpuNanos, TimeUnit.NANOSECONDS);
+        Payload payload = new Payload(body, compressed.length < body.length ? compressed : null, cpuNanos);
+        synchronized (payloads) {
+            payloads.put(payloadKey, payload);
+        }
+        return payload.compressed();
+    }
+
+    private void count(ContentEncoding encoding, String result) {
+        meterRegistry.counter("holiday.compression.responses", "encoding", encoding.getToken(), "result", result)
+                .increment();
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Parses the quality value of a coding from an {@code Accept-Encoding} header; a {@code *} entry
+     * applies to codings not listed explicitly.
+     */
+    static double quality(String acceptEncoding, String token) {
+        double wildcard = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] coding = part.split(";");
+            String name = coding[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < coding.length; i++) {
+                String parameter = coding[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(token)) {
+                return quality;
+            }
+            if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+
+    private record Payload(byte[] source, byte[] compressed, long cpuNanos) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.accenture.assignment.holiday.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Compresses successful holiday responses with the best encoding the client accepts.
+ * <p>
+ * The response is buffered, and once the controller has written it the body is handed to the
+ * {@link PrecompressedPayloadCache}, which returns an already compressed copy when the same body was
+ * sent before. Error responses, bodies below the minimum size and responses that already carry a
+ * {@code Content-Encoding} are sent unchanged.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class PrecompressedResponseFilter extends OncePerRequestFilter {
+
+    private final PrecompressedPayloadCache payloadCache;
+    private final boolean enabled;
+
+    public PrecompressedResponseFilter(PrecompressedPayloadCache payloadCache,
+                                       @Value("${holiday.compression.enabled:true}") boolean enabled) {
+        this.payloadCache = payloadCache;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        Optional<ContentEncoding> encoding = payloadCache.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        byte[] body = wrapper.getContentAsByteArray();
+        byte[] compressed = wrapper.getStatus() == HttpServletResponse.SC_OK
+                && !wrapper.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                ? payloadCache.compress(key(request, wrapper.getContentType()), encoding.get(), body)
+                : null;
+        if (compressed == null) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.get().getToken());
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+        response.flushBuffer();
+    }
+
+    private static String key(HttpServletRequest request, String contentType) {
+        String query = request.getQueryString();
+        return request.getRequestURI() + (query == null ? "" : "?" + query) + ' ' + contentType;
+    }
+}
@@ -0,0 +1,40 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.cache.HolidayCache;
+import com.accenture.assignment.holiday.cache.RedisSharedCache;
+import com.accenture.assignment.holiday.cache.SharedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the shared level of the {@link HolidayCache}.
+ * <p>
+ * {@code holiday.cache.shared.type} selects {@code none} (the default, each replica caches on its own) or
+ * {@code redis}, which shares cached data, load locks and invalidations through a Redis-compatible server.
+ *
+ * @author vinodbhatia83
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * Creates the shared cache selected by configuration.
+     *
+     * @return the shared cache, or {@link SharedCache#NONE}
+     */
+    @Bean
+    public SharedCache sharedCache(@Value("${holiday.cache.shared.type:none}") String type,
+                                   @Value("${holiday.cache.shared.host:localhost}") String host,
+                                   @Value("${holiday.cache.shared.port:6379}") int port,
+                                   @Value("${holiday.cache.shared.timeoutMillis:200}") int timeoutMillis,
+                                   @Value("${holiday.cache.shared.poolSize:8}") int poolSize,
+                                   @Value("${holiday.cache.shared.keyPrefix:holiday:}") String keyPrefix) {
+        return switch (type) {
+            case "none" -> SharedCache.NONE;
+            case "redis" -> new RedisSharedCache(host, port, timeoutMillis, poolSize, keyPrefix);
+            default -> throw new IllegalArgumentException("Unknown shared cache type '" + type
+                    + "'. Expected none or redis.");
+        };
+    }
+}
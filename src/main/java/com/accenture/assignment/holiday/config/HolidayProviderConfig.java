@@ -0,0 +1,67 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.provider.CompositeHolidayProvider;
+import com.accenture.assignment.holiday.provider.HolidayProvider;
+import com.accenture.assignment.holiday.provider.LocalHolidayProvider;
+import com.accenture.assignment.holiday.provider.NagerHolidayProvider;
+import com.accenture.assignment.holiday.resilience.HedgedRequestExecutor;
+import com.accenture.assignment.holiday.resilience.UpstreamLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the {@link HolidayProvider} the service reads holiday data from.
+ * <p>
+ * {@code holiday.provider.sources} lists the sources in order of priority: {@code nager} (the default, the
+ * date.nager.at API) and {@code local}, the holiday files in {@code holiday.provider.local.directory}.
+ * With {@code local} alone the service runs without any network access; with {@code local,nager} the API
+ * only serves what the files lack.
+ *
+ * @author vinodbhatia83
+ */
+@Configuration
+public class HolidayProviderConfig {
+
+    /**
+     * Creates the providers selected by configuration, asked in the configured order.
+     *
+     * @return a {@link CompositeHolidayProvider} over the configured sources
+     */
+    @Bean
+    public HolidayProvider holidayProvider(@Value("${holiday.provider.sources:nager}") List<String> sources,
+                                           @Value("${holiday.provider.local.directory:}") String directory,
+                                           @Value("${nager.api.baseUrl:" + NagerHolidayProvider.DEFAULT_BASE_URL + "}") String baseUrl,
+                                           RestTemplate restTemplate,
+                                           UpstreamLimiter upstreamLimiter,
+                                           HedgedRequestExecutor hedgedRequestExecutor,
+                                           ObservationRegistry observationRegistry,
+                                           ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry) {
+        List<HolidayProvider> providers = new ArrayList<>();
+        for (String source : sources) {
+            providers.add(switch (source.trim()) {
+                case "nager" -> new NagerHolidayProvider(baseUrl, restTemplate, upstreamLimiter,
+                        hedgedRequestExecutor, observationRegistry);
+                case "local" -> {
+                    if (directory.isBlank()) {
+                        throw new IllegalArgumentException(
+                                "holiday.provider.local.directory is required for the local holiday provider.");
+                    }
+                    yield new LocalHolidayProvider(Path.of(directory), objectMapper);
+                }
+                default -> throw new IllegalArgumentException("Unknown holiday provider '" + source
+                        + "'. Expected nager or local.");
+            });
+        }
+        return new CompositeHolidayProvider(providers, meterRegistry);
+    }
+}
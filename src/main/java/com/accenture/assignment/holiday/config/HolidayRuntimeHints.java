@@ -0,0 +1,57 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.accenture.assignment.holiday.model.BridgeDay;
+import com.accenture.assignment.holiday.model.BusinessDay;
+import com.accenture.assignment.holiday.model.BusinessDayCount;
+import com.accenture.assignment.holiday.model.ClientUsage;
+import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CompanyHolidayOverlay;
+import com.accenture.assignment.holiday.model.CompanyHolidayRow;
+import com.accenture.assignment.holiday.model.CompanyHolidayUpload;
+import com.accenture.assignment.holiday.model.CountriesOnHoliday;
+import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.CountryHolidayTotals;
+import com.accenture.assignment.holiday.model.CountryLongWeekends;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import com.accenture.assignment.holiday.model.LongWeekend;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
+import com.accenture.assignment.holiday.model.ProblemDetail;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for running the service ahead-of-time compiled, in particular as a GraalVM native image.
+ * <p>
+ * Spring AOT derives hints for controller signatures, but not for types Jackson binds elsewhere: the
+ * {@link PublicHoliday} and {@link AvailableCountry} records read from date.nager.at through
+ * {@code ParameterizedTypeReference}, the values of the shared cache and the error bodies written outside
+ * controllers. The generated API models are registered as well, so every format the service negotiates
+ * (JSON, CBOR, Smile) can bind them. The OpenAPI document served to Swagger UI and the bundled country list are
+ * registered as resources.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public class HolidayRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] BOUND_TYPES = {
+            PublicHoliday.class, AvailableCountry.class, ProblemDetail.class, CountryValidationError.class,
+            ClientUsage.class, Holiday.class, CountryHolidayCount.class, CountryHolidayTotals.class,
+            CommonHoliday.class, CountriesOnHoliday.class, BusinessDay.class, BusinessDayCount.class,
+            CompanyHolidayRow.class, CompanyHolidayOverlay.class, CompanyHolidayUpload.class,
+            HolidayStorageFootprint.class, LongWeekendReport.class, CountryLongWeekends.class, LongWeekend.class,
+            BridgeDay.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), BOUND_TYPES);
+        hints.resources().registerPattern("static/api.yml");
+        hints.resources().registerPattern("available-countries.json");
+    }
+}
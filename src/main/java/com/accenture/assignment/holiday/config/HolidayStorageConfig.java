@@ -0,0 +1,46 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.calendar.DerivedCalendars;
+import com.accenture.assignment.holiday.storage.HeapHolidayStore;
+import com.accenture.assignment.holiday.storage.HolidayStore;
+import com.accenture.assignment.holiday.storage.OffHeapHolidayStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the storage of the public holidays.
+ * <p>
+ * {@code holiday.storage.type} selects {@code heap} (the default, the holiday lists as loaded) or
+ * {@code offheap}, which keeps them dictionary-encoded in direct memory in chunks of
+ * {@code holiday.storage.chunkKb}, for deployments holding the holidays of many countries and years.
+ *
+ * @author vinodbhatia83
+ */
+@Configuration
+public class HolidayStorageConfig {
+
+    /**
+     * Creates the holiday store selected by configuration.
+     *
+     * @return the store of the public holidays
+     */
+    @Bean
+    public HolidayStore holidayStore(@Value("${holiday.storage.type:heap}") String type,
+                                     @Value("${holiday.storage.chunkKb:256}") int chunkKb) {
+        return switch (type) {
+            case "heap" -> new HeapHolidayStore();
+            case "offheap" -> new OffHeapHolidayStore(chunkKb * 1024);
+            default -> throw new IllegalArgumentException("Unknown holiday storage type '" + type
+                    + "'. Expected heap or offheap.");
+        };
+    }
+
+    /**
+     * @return the public calendars, holding their holidays in the configured store
+     */
+    @Bean
+    public DerivedCalendars publicCalendars(HolidayStore holidayStore) {
+        return new DerivedCalendars(holidayStore);
+    }
+}
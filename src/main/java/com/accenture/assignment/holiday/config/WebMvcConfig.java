@@ -0,0 +1,86 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.compression.PrecompressedResponseFilter;
+import com.accenture.assignment.holiday.controller.CountryValidationInterceptor;
+import com.accenture.assignment.holiday.quota.ClientQuotaInterceptor;
+import com.accenture.assignment.holiday.resilience.AdmissionControlInterceptor;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration of the Holiday Detail Service.
+ * <p>
+ * Registers the {@link CountryValidationInterceptor}, the {@link ClientQuotaInterceptor} and the
+ * {@link AdmissionControlInterceptor} in front of the holiday endpoints, so invalid, over-quota and
+ * overloaded requests are rejected before any work is done for them. Company-holiday requests pass the quota
+ * and admission checks as well; each costs one unit. Invalid requests are rejected first
+ * and are not charged to a quota; neither they nor over-quota requests take an admission slot. Also registers
+ * the CBOR and Smile message converters used when a client asks for {@code application/cbor} or
+ * {@code application/x-jackson-smile}. Both are built from the application's Jackson configuration, so they encode the same fields and date formats
+ * as JSON. JSON stays the default when a client does not ask for a binary format. Holiday responses
+ * are compressed by the {@link PrecompressedResponseFilter}.
+ *
+ * @author vinodbhatia83
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CountryValidationInterceptor countryValidationInterceptor;
+    private final ClientQuotaInterceptor clientQuotaInterceptor;
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(countryValidationInterceptor).addPathPatterns("/api/v1/holidays/**");
+        registry.addInterceptor(clientQuotaInterceptor)
+                .addPathPatterns("/api/v1/holidays/**", "/api/v1/company-holidays/**");
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/v1/holidays/**", "/api/v1/company-holidays/**");
+    }
+
+    /**
+     * Registers the {@link PrecompressedResponseFilter} for the holiday endpoints only.
+     *
+     * @param filter the filter compressing holiday responses
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<PrecompressedResponseFilter> precompressedResponseFilterRegistration(
+            PrecompressedResponseFilter filter) {
+        FilterRegistrationBean<PrecompressedResponseFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/holidays/*");
+        return registration;
+    }
+
+    /**
+     * Creates the converter for {@code application/cbor}.
+     *
+     * @param builder the application's {@link Jackson2ObjectMapperBuilder}
+     * @return a CBOR converter sharing the JSON mapper settings
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the converter for {@code application/x-jackson-smile}.
+     *
+     * @param builder the application's {@link Jackson2ObjectMapperBuilder}
+     * @return a Smile converter sharing the JSON mapper settings
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.accenture.assignment.holiday.controller;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.handler.PrebuiltErrorResponses;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rejects requests with invalid country codes before they reach admission control and the service.
+ * <p>
+ * The {@code country}, {@code country1}, {@code country2} and {@code countries} parameters are checked
+ * against the {@link CountryRegistry} in place, without splitting or copying them. The latter three also
+ * accept subdivision codes such as {@code DE-BY}. A valid request
+ * passes without any allocation besides its {@code holiday.validate} observation. An invalid one is answered directly with 400 and a pre-serialized
+ * {@link com.accenture.assignment.holiday.model.ProblemDetail} body from {@link PrebuiltErrorResponses},
+ * so a flood of bad input neither throws exceptions nor occupies admission slots. While the registry
+ * is still empty, requests are passed on and validated by the service.
+ * </p>
+ * <p>
+ * Metrics: counter {@code holiday.validation.rejected}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class CountryValidationInterceptor implements HandlerInterceptor {
+
+    private static final String COUNTRY_PARAMETER = "country";
+    private static final String[] REGION_PARAMETERS = {"country1", "country2"};
+    private static final String COUNTRY_LIST_PARAMETER = "countries";
+
+    private final CountryRegistry countryRegistry;
+    private final PrebuiltErrorResponses errorResponses;
+    private final Counter rejected;
+    private final ObservationRegistry observationRegistry;
+
+    public CountryValidationInterceptor(CountryRegistry countryRegistry, PrebuiltErrorResponses errorResponses,
+                                        MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.countryRegistry = countryRegistry;
+        this.errorResponses = errorResponses;
+        this.rejected = meterRegistry.counter("holiday.validation.rejected");
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        Observation validation = Observation.start("holiday.validate", observationRegistry);
+        try {
+            if (countryRegistry.isEmpty() || isValid(request)) {
+                return true;
+            }
+            validation.lowCardinalityKeyValue("outcome", "rejected");
+            reject(request, response);
+            return false;
+        } finally {
+            validation.stop();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String country = request.getParameter(COUNTRY_PARAMETER);
+        List<CountryValidationError> errors = new ArrayList<>(
+                countryRegistry.validate(country == null ? List.of() : List.of(country)));
+        errors.addAll(countryRegistry.validateRegions(regions(request)));
+        byte[] body = errorResponses.invalidCountry(request.getRequestURI(), errors, countryRegistry.getExamples());
+        rejected.increment();
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean isValid(HttpServletRequest request) {
+        String country = request.getParameter(COUNTRY_PARAMETER);
+        if (country != null && !countryRegistry.contains(country)) {
+            return false;
+        }
+        for (String parameter : REGION_PARAMETERS) {
+            String code = request.getParameter(parameter);
+            if (code != null && !countryRegistry.containsRegion(code, 0, code.length())) {
+                return false;
+            }
+        }
+        String codes = request.getParameter(COUNTRY_LIST_PARAMETER);
+        if (codes == null) {
+            return true;
+        }
+        int start = 0;
+        for (int end = 0; end <= codes.length(); end++) {
+            if (end == codes.length() || codes.charAt(end) == ',') {
+                if (!countryRegistry.containsRegion(codes, start, end)) {
+                    return false;
+                }
+                start = end + 1;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> regions(HttpServletRequest request) {
+        List<String> codes = new ArrayList<>();
+        for (String parameter : REGION_PARAMETERS) {
+            String code = request.getParameter(parameter);
+            if (code != null) {
+                codes.add(code);
+            }
+        }
+        String list = request.getParameter(COUNTRY_LIST_PARAMETER);
+        if (list != null) {
+            for (String code : list.split(",", -1)) {
+                codes.add(code.trim());
+            }
+        }
+        return codes;
+    }
+}
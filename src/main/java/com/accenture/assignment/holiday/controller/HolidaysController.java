@@ -1,63 +1,220 @@
 package com.accenture.assignment.holiday.controller;
 
 import com.accenture.assignment.holiday.api.HolidayApi;
+import com.accenture.assignment.holiday.model.BusinessDay;
+import com.accenture.assignment.holiday.model.BusinessDayCount;
 import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CountriesOnHoliday;
 import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.CountryHolidayTotals;
 import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
 import com.accenture.assignment.holiday.service.HolidayInsightService;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * REST controller for handling holiday-related API requests.
- * Implements {@link HolidayApi} to provide endpoints for retrieving recent holidays,
- * non-weekend holiday counts, and common holidays between countries.
+ * Implements {@link HolidayApi} to provide endpoints for retrieving recent and upcoming holidays,
+ * non-weekend holiday counts, common holidays between countries, business-day calculations,
+ * the countries on holiday per date, and long weekends and bridge days.
+ * <p>
+ * Endpoints that fan out to the external API run through the {@link RequestCoalescer}, so concurrent
+ * identical requests share one computation.
+ * </p>
+ * <p>
+ * Each handler method is observed as {@code holiday.controller}; the time the server request span
+ * spends after it ends is serialization and compression of the response.
+ * </p>
  */
 @RestController
+@Observed(name = "holiday.controller")
 @RequiredArgsConstructor
 public class HolidaysController implements HolidayApi {
 
     private final HolidayInsightService service;
 
+    private final RequestCoalescer coalescer;
+
     /**
      * Retrieves the most recent holidays for the specified country.
      *
      * @param country the country code (e.g., "US", "IN")
-     * @return a list of recent {@link Holiday} objects
+     * @param count the number of holidays to return
+     * @param tenant the tenant whose company holidays are included, or {@code null}
+     * @return a list of recent {@link Holiday} objects, latest first
      */
     @Override
-    public ResponseEntity<List<Holiday>> getRecentHolidays(String country) {
-        return ResponseEntity.ok(service.getRecentHolidays(country));
+    public ResponseEntity<List<Holiday>> getRecentHolidays(String country, Integer count, String tenant) {
+        return ResponseEntity.ok(coalescer.execute("recent",
+                RequestCoalescer.withTenant(String.valueOf(country).trim().toUpperCase(Locale.ROOT) + "|" + count, tenant),
+                () -> service.getRecentHolidays(country, count, tenant)));
+    }
+
+    /**
+     * Retrieves the next holidays for the specified country.
+     *
+     * @param country the country code (e.g., "US", "IN")
+     * @param count the number of holidays to return
+     * @param tenant the tenant whose company holidays are included, or {@code null}
+     * @return a list of upcoming {@link Holiday} objects, earliest first
+     */
+    @Override
+    public ResponseEntity<List<Holiday>> getUpcomingHolidays(String country, Integer count, String tenant) {
+        return ResponseEntity.ok(coalescer.execute("upcoming",
+                RequestCoalescer.withTenant(String.valueOf(country).trim().toUpperCase(Locale.ROOT) + "|" + count, tenant),
+                () -> service.getUpcomingHolidays(country, count, tenant)));
     }
 
     /**
      * Retrieves the count of non-weekend holidays for the given year and countries.
      *
      * @param year the year to filter holidays
-     * @param countries comma-separated list of country codes
+     * @param countries comma-separated list of country or subdivision codes
+     * @param types comma-separated list of holiday types to count, or {@code null} for all
+     * @param tenant the tenant whose company holidays are included, or {@code null}
      * @return a list of {@link CountryHolidayCount} objects
      */
     @Override
     public ResponseEntity<List<CountryHolidayCount>> getNonWeekendHolidayCounts(
             Integer year,
-            String countries) {
-        return ResponseEntity.ok(service.getNonWeekendHolidayCounts(year, countries));
+            String countries,
+            String types,
+            String tenant) {
+        return ResponseEntity.ok(coalescer.execute("non-weekend-count",
+                RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                        year + "|" + RequestCoalescer.normalizeList(countries), types), tenant),
+                () -> service.getNonWeekendHolidayCounts(year, countries, types, tenant)));
+    }
+
+    /**
+     * Retrieves all available countries ranked by non-weekend holiday count for the given year.
+     *
+     * @param year the year to rank
+     * @param limit the number of top entries to return, or {@code null} for all countries
+     * @param tenant the tenant whose company holidays are included, or {@code null}
+     * @return a list of {@link CountryHolidayTotals} objects in ranking order
+     */
+    @Override
+    public ResponseEntity<List<CountryHolidayTotals>> getHolidayCountRanking(Integer year, Integer limit, String tenant) {
+        return ResponseEntity.ok(coalescer.execute("non-weekend-count-ranking",
+                RequestCoalescer.withTenant(year + "|" + limit, tenant),
+                () -> service.getHolidayCountRanking(year, limit, tenant)));
     }
 
     /**
      * Retrieves the list of common holidays between two countries for a given year.
      *
      * @param year the year to filter holidays
-     * @param country1 the first country code
-     * @param country2 the second country code
+     * @param country1 the first country or subdivision code
+     * @param country2 the second country or subdivision code
+     * @param types comma-separated list of holiday types to compare, or {@code null} for all
+     * @param tenant the tenant whose company holidays are included, or {@code null}
      * @return a list of {@link CommonHoliday} objects
      */
     @Override
-    public ResponseEntity<List<CommonHoliday>> getCommonHolidays(Integer year, String country1, String country2) {
-        return ResponseEntity.ok(service.getCommonHolidays(year, country1, country2));
+    public ResponseEntity<List<CommonHoliday>> getCommonHolidays(Integer year, String country1, String country2,
+                                                                  String types, String tenant) {
+        return ResponseEntity.ok(coalescer.execute("common", RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                year + "|" + String.valueOf(country1).trim().toUpperCase(Locale.ROOT)
+                        + "|" + String.valueOf(country2).trim().toUpperCase(Locale.ROOT),
+                types), tenant),
+                () -> service.getCommonHolidays(year, country1, country2, types, tenant)));
+    }
+
+    /**
+     * Moves a number of business days away from a date in the specified country.
+     *
+     * @param country the country code
+     * @param date the start date
+     * @param days the number of business days to move, negative to move backwards
+     * @param tenant the tenant whose company holidays are skipped as well, or {@code null}
+     * @return the resulting {@link BusinessDay}
+     */
+    @Override
+    public ResponseEntity<BusinessDay> addBusinessDays(String country, LocalDate date, Integer days, String tenant) {
+        return ResponseEntity.ok(service.addBusinessDays(country, date, days, tenant));
+    }
+
+    /**
+     * Counts the business days between two dates in the specified country.
+     *
+     * @param country the country code
+     * @param from the first date (inclusive)
+     * @param to the last date (exclusive)
+     * @param tenant the tenant whose company holidays are skipped as well, or {@code null}
+     * @return a {@link BusinessDayCount}
+     */
+    @Override
+    public ResponseEntity<BusinessDayCount> countBusinessDays(String country, LocalDate from, LocalDate to, String tenant) {
+        return ResponseEntity.ok(service.countBusinessDays(country, from, to, tenant));
+    }
+
+    /**
+     * Retrieves the first business day after the given date in the specified country.
+     *
+     * @param country the country code
+     * @param date the date to start from
+     * @param tenant the tenant whose company holidays are skipped as well, or {@code null}
+     * @return the next {@link BusinessDay}
+     */
+    @Override
+    public ResponseEntity<BusinessDay> getNextBusinessDay(String country, LocalDate date, String tenant) {
+        return ResponseEntity.ok(service.getNextBusinessDay(country, date, tenant));
+    }
+
+    /**
+     * Retrieves the countries observing a public holiday on the given date.
+     *
+     * @param date the date to look up
+     * @param tenant the tenant whose company holidays count as well, or {@code null}
+     * @return the {@link CountriesOnHoliday} for the date
+     */
+    @Override
+    public ResponseEntity<CountriesOnHoliday> getCountriesOnHoliday(LocalDate date, String tenant) {
+        return ResponseEntity.ok(coalescer.execute("countries-off",
+                RequestCoalescer.withTenant(String.valueOf(date), tenant),
+                () -> service.getCountriesOnHoliday(date, tenant)));
+    }
+
+    /**
+     * Retrieves the countries on holiday for each date of a range.
+     *
+     * @param from the first date (inclusive)
+     * @param to the last date (inclusive)
+     * @param tenant the tenant whose company holidays count as well, or {@code null}
+     * @return a list of {@link CountriesOnHoliday}, one per date with at least one holiday
+     */
+    @Override
+    public ResponseEntity<List<CountriesOnHoliday>> getCountriesOnHolidayInRange(LocalDate from, LocalDate to,
+                                                                                        String tenant) {
+        return ResponseEntity.ok(coalescer.execute("countries-off-range",
+                RequestCoalescer.withTenant(from + "|" + to, tenant),
+                () -> service.getCountriesOnHolidayInRange(from, to, tenant)));
+    }
+
+    /**
+     * Retrieves the long weekends and bridge days of countries for a given year.
+     *
+     * @param year the year to search
+     * @param countries comma-separated list of country or subdivision codes, or {@code null} for all countries
+     * @param types comma-separated list of holiday types that are days off, or {@code null} for public holidays
+     * @param tenant the tenant whose company holidays count as well, or {@code null}
+     * @return the {@link LongWeekendReport} per country and, for two or more countries, the shared days off
+     */
+    @Override
+    public ResponseEntity<LongWeekendReport> getLongWeekends(Integer year, String countries, String types, String tenant) {
+        return ResponseEntity.ok(coalescer.execute("long-weekends",
+                RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                        year + "|" + String.valueOf(countries).trim().toUpperCase(Locale.ROOT), types), tenant),
+                () -> service.getLongWeekends(year, countries, types, tenant)));
     }
-}
\ No newline at end of file
+}
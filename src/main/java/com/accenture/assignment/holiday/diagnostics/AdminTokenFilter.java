@@ -0,0 +1,94 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Requires the admin token on the diagnostics endpoints under {@code /actuator/jfr}, on the client usage
+ * under {@code /actuator/quotas} and on the writes to company holidays under {@code /api/v1/company-holidays}
+ * and to the cache under {@code /actuator/holidaycache}.
+ * <p>
+ * Requests must carry {@code Authorization: Bearer <holiday.diagnostics.token>}; the token is compared
+ * in constant time. Without a token configured the {@link JfrEndpoint} is not created at all, client usage
+ * cannot be read, and company holidays cannot be changed nor cache keys evicted. Reading a tenant's overlay or the cache size needs no
+ * token. Requests with a missing or wrong token get 401 and are counted in
+ * {@code holiday.diagnostics.unauthorized}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private static final String COMPANY_HOLIDAYS_PATH = "/api/v1/company-holidays";
+
+    private final byte[] token;
+    private final String jfrPath;
+    private final String quotasPath;
+    private final String cachePath;
+    private final Counter unauthorized;
+
+    public AdminTokenFilter(@Value("${holiday.diagnostics.token:}") String token,
+                            @Value("${management.endpoints.web.base-path:/actuator}") String basePath,
+                            MeterRegistry meterRegistry) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.jfrPath = basePath + "/jfr";
+        this.quotasPath = basePath + "/quotas";
+        this.cachePath = basePath + "/holidaycache";
+        this.unauthorized = meterRegistry.counter("holiday.diagnostics.unauthorized");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(isUnder(path, jfrPath) || isUnder(path, quotasPath) || !isRead(request.getMethod())
+                && (isUnder(path, cachePath) || isUnder(path, COMPANY_HOLIDAYS_PATH)));
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix + '/');
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isAuthorized(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        unauthorized.increment();
+        log.warn("Rejected unauthorized admin request {} {} from {}",
+                request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.sendError(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private boolean isAuthorized(String authorization) {
+        if (token.length == 0 || authorization == null || !authorization.startsWith(BEARER)) {
+            return false;
+        }
+        byte[] presented = authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(token, presented);
+    }
+}
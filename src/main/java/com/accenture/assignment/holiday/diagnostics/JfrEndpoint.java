@@ -0,0 +1,95 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import com.accenture.assignment.holiday.model.JfrRecordingInfo;
+import com.accenture.assignment.holiday.model.JfrSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * On-demand JDK Flight Recorder profiling at {@code /actuator/jfr}, guarded by the {@link AdminTokenFilter}.
+ * <p>
+ * {@code POST /actuator/jfr} starts a recording of {@code seconds} (default 30) through the
+ * {@link JfrRecorder} and answers 409 while another one is running. {@code GET /actuator/jfr} lists the
+ * recordings, {@code GET /actuator/jfr/{id}} streams a finished one as a {@code .jfr} file for JDK Mission
+ * Control, {@code GET /actuator/jfr/{id}/summary} ranks its hot methods and allocation sites, and
+ * {@code DELETE /actuator/jfr/{id}} stops and discards it. Reading a recording that is still running
+ * answers 409. The endpoint only exists in the servlet variant, when {@code holiday.diagnostics.token}
+ * is set and when the actuator shares the application port, where the filter runs.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty("holiday.diagnostics.token")
+@ConditionalOnManagementPort(ManagementPortType.SAME)
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private static final int DEFAULT_SECONDS = 30;
+    private static final String SUMMARY = "summary";
+
+    private final JfrRecorder recorder;
+
+    @WriteOperation
+    public WebEndpointResponse<JfrRecordingInfo> start(@Nullable Integer seconds) {
+        int duration = seconds == null ? DEFAULT_SECONDS : seconds;
+        if (duration < 1) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        try {
+            return new WebEndpointResponse<>(recorder.start(Duration.ofSeconds(duration)));
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(409);
+        }
+    }
+
+    @ReadOperation
+    public List<JfrRecordingInfo> recordings() {
+        return recorder.list();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> recording(@Selector long id) {
+        return whenFinished(id, recorder.file(id).map(FileSystemResource::new));
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<JfrSummary> summary(@Selector long id, @Selector String view) {
+        if (!SUMMARY.equals(view)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return whenFinished(id, recorder.summarize(id));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> delete(@Selector long id) {
+        return new WebEndpointResponse<>(recorder.delete(id)
+                ? WebEndpointResponse.STATUS_NO_CONTENT : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private <T> WebEndpointResponse<T> whenFinished(long id, Optional<T> body) {
+        if (body.isPresent()) {
+            return new WebEndpointResponse<>(body.get());
+        }
+        return new WebEndpointResponse<>(recorder.get(id).isPresent() ? 409 : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+}
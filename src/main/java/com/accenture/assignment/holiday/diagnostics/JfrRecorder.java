@@ -0,0 +1,352 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import com.accenture.assignment.holiday.model.JfrRecordingInfo;
+import com.accenture.assignment.holiday.model.JfrSummary;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs time-boxed JDK Flight Recorder sessions inside the service and summarizes them.
+ * <p>
+ * A recording starts from the JDK's {@code profile} settings, tuned for profiling under load: execution
+ * samples every {@code holiday.diagnostics.jfr.executionPeriod}, allocation samples throttled to
+ * {@code holiday.diagnostics.jfr.allocationThrottle}, and old-object sampling (which walks the heap) off.
+ * It is stopped after its duration, at most {@code holiday.diagnostics.jfr.maxSeconds}, and written to a
+ * temporary file; it only counts as finished once that file is complete. Only one recording runs at a time, and the last
+ * {@code holiday.diagnostics.jfr.retained} finished recordings are kept; older files are deleted.
+ * </p>
+ * <p>
+ * {@link #summarize} reads a finished recording and ranks methods by execution samples and by sampled
+ * allocation bytes, both by the top frame and by the first frame in {@code holiday.diagnostics.applicationPackage},
+ * so time spent in library code is attributed to the application method that called it.
+ * </p>
+ * <p>
+ * Like the {@link JfrEndpoint}, the recorder only exists when {@code holiday.diagnostics.token} is set.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@ConditionalOnProperty("holiday.diagnostics.token")
+@Slf4j
+public class JfrRecorder {
+
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private final long maxSeconds;
+    private final long maxSizeBytes;
+    private final int retained;
+    private final int topMethods;
+    private final String applicationPackage;
+    private final Map<String, String> settings;
+    private final Map<Long, Entry> recordings = new LinkedHashMap<>();
+    private final ScheduledExecutorService stopper;
+    private Path directory;
+
+    @Autowired
+    public JfrRecorder(@Value("${holiday.diagnostics.jfr.maxSeconds:300}") long maxSeconds,
+                       @Value("${holiday.diagnostics.jfr.maxSizeMb:100}") long maxSizeMb,
+                       @Value("${holiday.diagnostics.jfr.retained:3}") int retained,
+                       @Value("${holiday.diagnostics.jfr.topMethods:20}") int topMethods,
+                       @Value("${holiday.diagnostics.jfr.executionPeriod:10 ms}") String executionPeriod,
+                       @Value("${holiday.diagnostics.jfr.allocationThrottle:300/s}") String allocationThrottle,
+                       @Value("${holiday.diagnostics.applicationPackage:com.accenture.assignment.holiday}")
+                       String applicationPackage) {
+        this.maxSeconds = maxSeconds;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.retained = Math.max(1, retained);
+        this.topMethods = topMethods;
+        this.applicationPackage = applicationPackage + '.';
+        this.settings = settings(executionPeriod, allocationThrottle);
+        this.stopper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jfr-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Map<String, String> settings(String executionPeriod, String allocationThrottle) {
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration("profile").getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("The JDK's JFR profile settings could not be read.", e);
+        }
+        settings.put(EXECUTION_SAMPLE + "#enabled", "true");
+        settings.put(EXECUTION_SAMPLE + "#period", executionPeriod);
+        settings.put(ALLOCATION_SAMPLE + "#enabled", "true");
+        settings.put(ALLOCATION_SAMPLE + "#throttle", allocationThrottle);
+        settings.put("jdk.OldObjectSample#enabled", "false");
+        return Map.copyOf(settings);
+    }
+
+    /**
+     * Starts a recording.
+     *
+     * @param duration how long to record; capped at the configured maximum
+     * @return the new recording
+     * @throws IllegalStateException if a recording is already running
+     */
+    public synchronized JfrRecordingInfo start(Duration duration) {
+        Optional<Entry> running = recordings.values().stream()
+                .filter(entry -> !entry.finished)
+                .findFirst();
+        if (running.isPresent()) {
+            throw new IllegalStateException("Recording " + running.get().recording.getId() + " is still running.");
+        }
+        Duration capped = duration.compareTo(Duration.ofSeconds(maxSeconds)) > 0 ? Duration.ofSeconds(maxSeconds) : duration;
+        Recording recording = new Recording(settings);
+        Entry entry;
+        try {
+            Path file = directory().resolve("holiday-" + recording.getId() + ".jfr");
+            recording.setName("holiday-" + recording.getId());
+            recording.setMaxSize(maxSizeBytes);
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.start();
+            entry = new Entry(recording, file, capped);
+            recordings.put(recording.getId(), entry);
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+        stopper.schedule(() -> stop(entry), capped.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Started JFR recording {} for {} s", recording.getId(), capped.toSeconds());
+        evictFinished();
+        return info(recordings.get(recording.getId()));
+    }
+
+    /**
+     * Stops a recording; unlike a recording's own duration, {@link Recording#stop()} returns only after the
+     * destination file has been written.
+     */
+    private void stop(Entry entry) {
+        try {
+            entry.recording.stop();
+        } catch (IllegalStateException e) {
+            // deleted while running
+            return;
+        }
+        synchronized (this) {
+            entry.finished = true;
+        }
+        log.info("Finished JFR recording {}", entry.recording.getId());
+    }
+
+    /**
+     * @return all retained recordings, oldest first
+     */
+    public synchronized List<JfrRecordingInfo> list() {
+        return recordings.values().stream().map(JfrRecorder::info).toList();
+    }
+
+    /**
+     * @return the recording, or empty if it is unknown
+     */
+    public synchronized Optional<JfrRecordingInfo> get(long id) {
+        return Optional.ofNullable(recordings.get(id)).map(JfrRecorder::info);
+    }
+
+    /**
+     * @return the file of a finished recording, or empty if the recording is unknown or still running
+     */
+    public synchronized Optional<Path> file(long id) {
+        Entry entry = recordings.get(id);
+        return entry == null || !entry.finished ? Optional.empty() : Optional.of(entry.file);
+    }
+
+    /**
+     * Ranks the hot methods and allocation sites of a finished recording.
+     *
+     * @return the summary, or empty if the recording is unknown or still running
+     */
+    public Optional<JfrSummary> summarize(long id) {
+        Entry entry;
+        synchronized (this) {
+            entry = recordings.get(id);
+            if (entry == null || !entry.finished) {
+                return Optional.empty();
+            }
+            if (entry.summary != null) {
+                return Optional.of(entry.summary);
+            }
+        }
+        JfrSummary summary = summarize(id, entry.file);
+        synchronized (this) {
+            entry.summary = summary;
+        }
+        return Optional.of(summary);
+    }
+
+    JfrSummary summarize(long id, Path file) {
+        Map<String, Long> hot = new HashMap<>();
+        Map<String, Long> hotApplication = new HashMap<>();
+        Map<String, Long> allocations = new HashMap<>();
+        Map<String, Long> applicationAllocations = new HashMap<>();
+        long samples = 0;
+        long allocatedBytes = 0;
+        try (RecordingFile events = new RecordingFile(file)) {
+            while (events.hasMoreEvents()) {
+                RecordedEvent event = events.readEvent();
+                String type = event.getEventType().getName();
+                if (type.equals(EXECUTION_SAMPLE)) {
+                    samples++;
+                    count(event.getStackTrace(), 1, hot, hotApplication);
+                } else if (type.equals(ALLOCATION_SAMPLE)) {
+                    long weight = event.getLong("weight");
+                    allocatedBytes += weight;
+                    count(event.getStackTrace(), weight, allocations, applicationAllocations);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new JfrSummary(id, samples, allocatedBytes,
+                top(hot, samples), top(hotApplication, samples),
+                top(allocations, allocatedBytes), top(applicationAllocations, allocatedBytes));
+    }
+
+    private void count(RecordedStackTrace stackTrace, long weight, Map<String, Long> byTopFrame,
+                       Map<String, Long> byApplicationFrame) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        byTopFrame.merge(name(frames.get(0)), weight, Long::sum);
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(applicationPackage)) {
+                byApplicationFrame.merge(name(frame), weight, Long::sum);
+                return;
+            }
+        }
+    }
+
+    private List<JfrSummary.Hotspot> top(Map<String, Long> values, long total) {
+        return values.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(topMethods)
+                .map(entry -> new JfrSummary.Hotspot(entry.getKey(), entry.getValue(),
+                        Math.round(entry.getValue() * 1000.0 / Math.max(1, total)) / 10.0))
+                .toList();
+    }
+
+    private static String name(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + '.' + frame.getMethod().getName();
+    }
+
+    /**
+     * Stops a recording if it is running and deletes it.
+     *
+     * @return {@code false} if the recording is unknown
+     */
+    public synchronized boolean delete(long id) {
+        Entry entry = recordings.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        close(entry);
+        return true;
+    }
+
+    private void evictFinished() {
+        List<Long> finished = new ArrayList<>();
+        for (Entry entry : recordings.values()) {
+            if (entry.finished) {
+                finished.add(entry.recording.getId());
+            }
+        }
+        Iterator<Long> oldest = finished.iterator();
+        for (int excess = finished.size() - retained; excess > 0 && oldest.hasNext(); excess--) {
+            close(recordings.remove(oldest.next()));
+        }
+    }
+
+    private static void close(Entry entry) {
+        entry.recording.close();
+        try {
+            Files.deleteIfExists(entry.file);
+        } catch (IOException e) {
+            log.warn("Could not delete JFR recording {}: {}", entry.file, e.toString());
+        }
+    }
+
+    private static JfrRecordingInfo info(Entry entry) {
+        Recording recording = entry.recording;
+        long size = 0;
+        if (entry.finished) {
+            try {
+                size = Files.size(entry.file);
+            } catch (IOException e) {
+                size = 0;
+            }
+        }
+        return new JfrRecordingInfo(recording.getId(), entry.finished ? "FINISHED" : "RUNNING",
+                recording.getStartTime(), entry.duration.toSeconds(), size);
+    }
+
+    private Path directory() throws IOException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("holiday-jfr");
+        }
+        return directory;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        stopper.shutdownNow();
+        recordings.values().forEach(JfrRecorder::close);
+        recordings.clear();
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                log.warn("Could not delete {}: {}", directory, e.toString());
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final Recording recording;
+        private final Path file;
+        private final Duration duration;
+        private boolean finished;
+        private JfrSummary summary;
+
+        private Entry(Recording recording, Path file, Duration duration) {
+            this.recording = recording;
+            this.file = file;
+            this.duration = duration;
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.accenture.assignment.holiday.exception;
 
+import com.accenture.assignment.holiday.model.CountryValidationError;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
 /** Exception thrown when an invalid country is provided in a request.
  * <p>
- * Used to indicate validation errors related to country input.
+ * Used to indicate validation errors related to country input. When specific codes are at fault,
+ * they are listed in {@link #getErrors()} so clients can tell which input to fix. Invalid input is an
+ * expected outcome rather than a bug, so the exception does not capture a stack trace.
  */
-public class InvalidCountryException extends RuntimeException {
+public class InvalidCountryException extends IllegalArgumentException {
+
+    private final List<CountryValidationError> errors;
 
     /**
      * Constructs a new {@code InvalidCountryException} with the specified detail message.
@@ -12,6 +21,39 @@ public class InvalidCountryException extends RuntimeException {
      * @param message the detail message explaining the reason for the exception
      */
     public InvalidCountryException(String message) {
+        this(message, List.of());
+    }
+
+    /**
+     * Constructs a new {@code InvalidCountryException} listing the invalid country codes.
+     *
+     * @param message the detail message explaining the reason for the exception
+     * @param errors  one entry per invalid country code
+     */
+    public InvalidCountryException(String message, List<CountryValidationError> errors) {
         super(message);
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * Creates the exception for a set of invalid country codes.
+     *
+     * @param errors   one entry per invalid country code
+     * @param examples valid codes to suggest in the message
+     * @return the exception, listing every invalid code in its message
+     */
+    public static InvalidCountryException forCountries(List<CountryValidationError> errors, List<String> examples) {
+        String codes = errors.stream().map(error -> "'" + error.country() + "'").collect(Collectors.joining(", "));
+        return new InvalidCountryException("Invalid country code: " + codes
+                + ". Please provide a valid country code. Here are some examples: " + examples, errors);
+    }
+
+    public List<CountryValidationError> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
     }
-}
\ No newline at end of file
+}
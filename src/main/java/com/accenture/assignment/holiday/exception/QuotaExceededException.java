@@ -0,0 +1,32 @@
+package com.accenture.assignment.holiday.exception;
+
+/**
+ * Exception thrown when a client has used up its quota for the current window.
+ * <p>
+ * Carries the number of seconds after which enough of the client's usage has expired to retry. A client
+ * over its quota is rejected on every request until then, so the exception does not capture a stack trace.
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new {@code QuotaExceededException} with the specified detail message.
+     *
+     * @param message           the detail message explaining the reason for the exception
+     * @param retryAfterSeconds the number of seconds after which the request may be retried
+     */
+    public QuotaExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,32 @@
+package com.accenture.assignment.holiday.exception;
+
+/**
+ * Exception thrown when a request is shed by admission control because the service is overloaded.
+ * <p>
+ * Carries the number of seconds after which the client may retry. Shedding happens most when the service
+ * is busiest, so the exception does not capture a stack trace.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new {@code ServiceOverloadedException} with the specified detail message.
+     *
+     * @param message           the detail message explaining the reason for the exception
+     * @param retryAfterSeconds the number of seconds after which the request may be retried
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
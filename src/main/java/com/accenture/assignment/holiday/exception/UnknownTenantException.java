@@ -0,0 +1,24 @@
+package com.accenture.assignment.holiday.exception;
+
+/**
+ * Exception thrown when a request names a tenant that has no company holidays.
+ * <p>
+ * A tenant exists once company holidays have been uploaded for it. Asking for an unknown tenant is an
+ * expected outcome rather than a bug, so the exception does not capture a stack trace.
+ */
+public class UnknownTenantException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code UnknownTenantException} for the given tenant.
+     *
+     * @param tenant the tenant that was asked for
+     */
+    public UnknownTenantException(String tenant) {
+        super("No company holidays have been uploaded for tenant '" + tenant + "'.");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,21 @@
+package com.accenture.assignment.holiday.exception;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Exception thrown when a call to the external API is rejected locally by the rate limiter or bulkhead.
+ * <p>
+ * It extends {@link RestClientException} so that callers fall back to cached data exactly as they do
+ * for a failed upstream call.
+ */
+public class UpstreamRejectedException extends RestClientException {
+
+    /**
+     * Constructs a new {@code UpstreamRejectedException} with the specified detail message.
+     *
+     * @param message the detail message explaining why the call was rejected
+     */
+    public UpstreamRejectedException(String message) {
+        super(message);
+    }
+}
@@ -2,14 +2,19 @@ package com.accenture.assignment.holiday.exception.handler;
 
 import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
 import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.QuotaExceededException;
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
 import com.accenture.assignment.holiday.model.ProblemDetail;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hc.client5.http.ConnectTimeoutException;
 import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,8 +22,6 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.stream.Collectors;
 
 /**
@@ -74,17 +77,44 @@ public class ApplicationExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ProblemDetail> handleUnsupportedMediaType(
+            HttpMediaTypeNotSupportedException ex,
+            HttpServletRequest request) {
+        log.warn("HttpMediaTypeNotSupportedException at {}: {}", request.getRequestURI(), ex.getMessage());
+        ProblemDetail response = createProblemDetail(
+                HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "Unsupported Media Type",
+                "Content type '" + ex.getContentType() + "' is not supported. Use one of " + ex.getSupportedMediaTypes(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(response);
+    }
+
     @ExceptionHandler(InvalidCountryException.class)
     public ResponseEntity<ProblemDetail> handleInvalidCountry(InvalidCountryException ex, HttpServletRequest request) {
-        ProblemDetail response = createProblemDetail(
+        ProblemDetail response = new ProblemDetail(
+                CoarseClock.now(),
                 HttpStatus.BAD_REQUEST.value(),
                 "Invalid Country",
                 ex.getMessage(),
-                request.getRequestURI()
+                request.getRequestURI(),
+                ex.getErrors()
         );
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(UnknownTenantException.class)
+    public ResponseEntity<ProblemDetail> handleUnknownTenant(UnknownTenantException ex, HttpServletRequest request) {
+        ProblemDetail response = createProblemDetail(
+                HttpStatus.NOT_FOUND.value(),
+                "Unknown Tenant",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     @ExceptionHandler(ExternalApiUnavailableException.class)
     public ResponseEntity<ProblemDetail> handleExternalApiUnavailableException(
             ExternalApiUnavailableException ex, HttpServletRequest request) {
@@ -98,6 +128,36 @@ public class ApplicationExceptionHandler {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ProblemDetail> handleServiceOverloadedException(
+            ServiceOverloadedException ex, HttpServletRequest request) {
+        log.warn("ServiceOverloadedException at {}: {}", request.getRequestURI(), ex.getMessage());
+        ProblemDetail response = createProblemDetail(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ProblemDetail> handleQuotaExceededException(
+            QuotaExceededException ex, HttpServletRequest request) {
+        log.debug("QuotaExceededException at {}: {}", request.getRequestURI(), ex.getMessage());
+        ProblemDetail response = createProblemDetail(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     @ExceptionHandler(RestClientException.class)
     public ResponseEntity<ProblemDetail> handleRestClientException(RestClientException ex, HttpServletRequest request) {
         log.error("RestClientException at {}: {}", request.getRequestURI(), ex.getMessage(), ex);
@@ -202,7 +262,7 @@ public class ApplicationExceptionHandler {
 
     private ProblemDetail createProblemDetail(int status, String error, String message, String path) {
         return new ProblemDetail(
-                LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                CoarseClock.now(),
                 status,
                 error,
                 message,
@@ -0,0 +1,42 @@
+package com.accenture.assignment.holiday.exception.handler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Second-resolution clock for error response timestamps.
+ * <p>
+ * Formatting a {@link LocalDateTime} for every rejected request is measurable when invalid requests
+ * arrive in floods. The formatted timestamp is therefore cached and only recomputed when the
+ * wall-clock second changes; within a second every caller gets the same string.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class CoarseClock {
+
+    private static volatile Tick tick = new Tick(-1, "");
+
+    private CoarseClock() {
+    }
+
+    /**
+     * @return the current local time formatted as ISO-8601 with second precision
+     */
+    public static String now() {
+        long second = System.currentTimeMillis() / 1000;
+        Tick current = tick;
+        if (current.second() != second) {
+            current = new Tick(second, LocalDateTime.ofEpochSecond(second, 0,
+                    ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(second)))
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            tick = current;
+        }
+        return current.text();
+    }
+
+    private record Tick(long second, String text) {
+    }
+}
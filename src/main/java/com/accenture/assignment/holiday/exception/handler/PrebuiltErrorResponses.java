@@ -0,0 +1,102 @@
+package com.accenture.assignment.holiday.exception.handler;
+
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.model.ProblemDetail;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-serialized JSON bodies for requests rejected before they reach a controller.
+ * <p>
+ * A {@link ProblemDetail} body starts with its timestamp, so everything after the timestamp is
+ * serialized once per distinct rejection (path and invalid codes) and kept in a bounded LRU map. An
+ * entry is rebuilt when the suggested example codes change.
+ * Writing a rejection then only concatenates the fixed prefix, the {@link CoarseClock} timestamp and
+ * the cached remainder; no exception, message formatting or JSON serialization is involved.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class PrebuiltErrorResponses {
+
+    private static final byte[] PREFIX = "{\"timestamp\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final int CACHE_ENTRIES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Remainder> remainders = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Remainder> eldest) {
+            return size() > CACHE_ENTRIES;
+        }
+    };
+
+    public PrebuiltErrorResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the body rejecting a request with invalid country codes.
+     *
+     * @param path     the request path
+     * @param errors   one entry per invalid country code
+     * @param examples valid codes to suggest in the message
+     * @return a {@link ProblemDetail} JSON body with status 400
+     */
+    public byte[] invalidCountry(String path, List<CountryValidationError> errors, List<String> examples) {
+        StringBuilder key = new StringBuilder(path);
+        for (CountryValidationError error : errors) {
+            key.append('|').append(error.country());
+        }
+        Remainder remainder;
+        synchronized (remainders) {
+            remainder = remainders.get(key.toString());
+        }
+        if (remainder == null || !remainder.examples().equals(examples)) {
+            String message = InvalidCountryException.forCountries(errors, examples).getMessage();
+            remainder = new Remainder(List.copyOf(examples), serialize(new ProblemDetail("",
+                    HttpStatus.BAD_REQUEST.value(), "Invalid Country", message, path, errors)));
+            synchronized (remainders) {
+                remainders.put(key.toString(), remainder);
+            }
+        }
+        return body(remainder.json());
+    }
+
+    private byte[] serialize(ProblemDetail template) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(template);
+            if (!Arrays.equals(json, 0, PREFIX.length, PREFIX, 0, PREFIX.length)) {
+                throw new IllegalStateException("Error responses must start with the timestamp.");
+            }
+            byte[] remainder = new byte[json.length - PREFIX.length];
+            System.arraycopy(json, PREFIX.length, remainder, 0, remainder.length);
+            return remainder;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize error response.", e);
+        }
+    }
+
+    private static byte[] body(byte[] remainder) {
+        String timestamp = CoarseClock.now();
+        byte[] body = new byte[PREFIX.length + timestamp.length() + remainder.length];
+        System.arraycopy(PREFIX, 0, body, 0, PREFIX.length);
+        for (int i = 0; i < timestamp.length(); i++) {
+            body[PREFIX.length + i] = (byte) timestamp.charAt(i);
+        }
+        System.arraycopy(remainder, 0, body, PREFIX.length + timestamp.length(), remainder.length);
+        return body;
+    }
+
+    private record Remainder(List<String> examples, byte[] json) {
+    }
+}
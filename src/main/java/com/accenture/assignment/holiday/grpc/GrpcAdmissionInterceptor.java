@@ -0,0 +1,268 @@
+package com.accenture.assignment.holiday.grpc;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.QuotaExceededException;
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRequest;
+import com.accenture.assignment.holiday.grpc.proto.RecentHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.UpcomingHolidaysRequest;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.quota.ClientQuotaTracker;
+import com.accenture.assignment.holiday.resilience.AdaptiveConcurrencyLimiter;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Country validation, client quotas and admission control in front of the gRPC service.
+ * <p>
+ * Applies to every call of {@link HolidayInsightGrpcService} what the REST interceptors apply to the holiday
+ * endpoints, in the same order. Country codes are checked against the {@link CountryRegistry}, and an invalid
+ * call is answered with {@code INVALID_ARGUMENT} without being charged. The client, named by the metadata entry
+ * of the quota client header or else by its remote address, is then charged one unit per country-year the call
+ * may load; a client over its quota gets {@code RESOURCE_EXHAUSTED}. Finally the call asks the
+ * {@link AdaptiveConcurrencyLimiter} for admission at one unit per country and is shed with
+ * {@code RESOURCE_EXHAUSTED} when the limit is reached. Both rejections carry a {@code retry-after} trailer
+ * in seconds. When the call closes, its latency and outcome feed back into the limit.
+ * </p>
+ * <p>
+ * The requests are weighed from their messages, so the checks run when the request message arrives. The
+ * health and reflection services are not intercepted.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class GrpcAdmissionInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> RETRY_AFTER = Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Set<Status.Code> FAILURES = EnumSet.of(Status.Code.UNKNOWN, Status.Code.INTERNAL,
+            Status.Code.UNAVAILABLE, Status.Code.RESOURCE_EXHAUSTED, Status.Code.DATA_LOSS);
+    private static final int MAX_YEARS = 100;
+
+    private final CountryRegistry countryRegistry;
+    private final ClientQuotaTracker tracker;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    private final boolean quotaEnabled;
+    private final Metadata.Key<String> clientKey;
+    private final boolean admissionEnabled;
+    private final int heavyCostThreshold;
+    private final long retryAfterSeconds;
+
+    public GrpcAdmissionInterceptor(CountryRegistry countryRegistry,
+                                    ClientQuotaTracker tracker,
+                                    AdaptiveConcurrencyLimiter limiter,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${holiday.quota.enabled:true}") boolean quotaEnabled,
+                                    @Value("${holiday.quota.clientHeader:X-Api-Key}") String clientHeader,
+                                    @Value("${holiday.admission.enabled:true}") boolean admissionEnabled,
+                                    @Value("${holiday.admission.heavyCostThreshold:4}") int heavyCostThreshold,
+                                    @Value("${holiday.admission.retryAfterSeconds:1}") long retryAfterSeconds) {
+        this.countryRegistry = countryRegistry;
+        this.tracker = tracker;
+        this.limiter = limiter;
+        this.meterRegistry = meterRegistry;
+        this.quotaEnabled = quotaEnabled;
+        this.clientKey = Metadata.Key.of(clientHeader, Metadata.ASCII_STRING_MARSHALLER);
+        this.admissionEnabled = admissionEnabled;
+        this.heavyCostThreshold = heavyCostThreshold;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        AdmittedCall<ReqT, RespT> admittedCall = new AdmittedCall<>(call);
+        String client = client(call, headers);
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(
+                next.startCall(admittedCall, headers)) {
+
+            private boolean rejected;
+
+            @Override
+            public void onMessage(ReqT message) {
+                try {
+                    admit(message, client, admittedCall);
+                } catch (RuntimeException e) {
+                    rejected = true;
+                    admittedCall.close(HolidayInsightGrpcService.toStatus(e), trailers(e));
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                admittedCall.release(false);
+                super.onCancel();
+            }
+        };
+    }
+
+    private void admit(Object request, String client, AdmittedCall<?, ?> call) {
+        validate(request);
+        int countries = countries(request);
+        if (quotaEnabled) {
+            long retryAfter = tracker.tryConsume(client, countries * years(request));
+            if (retryAfter > 0) {
+                throw new QuotaExceededException(
+                        "Quota exceeded. Please retry in " + retryAfter + " second(s).", retryAfter);
+            }
+        }
+        if (admissionEnabled) {
+            boolean heavy = countries >= heavyCostThreshold;
+            int admitted = limiter.tryAcquire(countries, heavy);
+            if (admitted == 0) {
+                meterRegistry.counter("holiday.admission.rejected", "class", heavy ? "heavy" : "light").increment();
+                throw new ServiceOverloadedException(
+                        "The service is busy. Please retry in " + retryAfterSeconds + " second(s).", retryAfterSeconds);
+            }
+            call.admit(admitted);
+        }
+    }
+
+    private void validate(Object request) {
+        if (countryRegistry.isEmpty()) {
+            return;
+        }
+        List<CountryValidationError> errors;
+        if (request instanceof RecentHolidaysRequest recent) {
+            errors = countryRegistry.validate(List.of(recent.getCountry()));
+        } else if (request instanceof UpcomingHolidaysRequest upcoming) {
+            errors = countryRegistry.validate(List.of(upcoming.getCountry()));
+        } else if (request instanceof NonWeekendCountsRequest counts) {
+            errors = countryRegistry.validateRegions(counts.getCountriesList());
+        } else if (request instanceof NonWeekendCountsRangeRequest counts) {
+            errors = countryRegistry.validateRegions(counts.getCountriesList());
+        } else if (request instanceof CommonHolidaysRequest common) {
+            errors = countryRegistry.validateRegions(List.of(common.getCountry1(), common.getCountry2()));
+        } else if (request instanceof CommonHolidaysRangeRequest common) {
+            errors = countryRegistry.validateRegions(List.of(common.getCountry1(), common.getCountry2()));
+        } else {
+            errors = List.of();
+        }
+        if (!errors.isEmpty()) {
+            throw InvalidCountryException.forCountries(errors, countryRegistry.getExamples());
+        }
+    }
+
+    /**
+     * @return the countries a request asks for
+     */
+    static int countries(Object request) {
+        if (request instanceof NonWeekendCountsRequest counts) {
+            return Math.max(1, counts.getCountriesCount());
+        }
+        if (request instanceof NonWeekendCountsRangeRequest counts) {
+            return Math.max(1, counts.getCountriesCount());
+        }
+        if (request instanceof CommonHolidaysRequest || request instanceof CommonHolidaysRangeRequest) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * @return the calendar years a request may load per country
+     */
+    static int years(Object request) {
+        if (request instanceof RecentHolidaysRequest) {
+            return HolidayInsightService.LOOK_BACK_YEARS;
+        }
+        if (request instanceof UpcomingHolidaysRequest) {
+            return HolidayInsightService.LOOK_AHEAD_YEARS;
+        }
+        if (request instanceof NonWeekendCountsRangeRequest counts) {
+            return years(counts.getFromYear(), counts.getToYear());
+        }
+        if (request instanceof CommonHolidaysRangeRequest common) {
+            return years(common.getFromYear(), common.getToYear());
+        }
+        return 1;
+    }
+
+    private static int years(int fromYear, int toYear) {
+        return toYear < fromYear ? 1 : (int) Math.min(MAX_YEARS, (long) toYear - fromYear + 1);
+    }
+
+    String client(ServerCall<?, ?> call, Metadata headers) {
+        String client = headers.get(clientKey);
+        if (client != null && !client.isBlank()) {
+            return client;
+        }
+        SocketAddress address = call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR);
+        if (address instanceof InetSocketAddress inet && inet.getAddress() != null) {
+            return inet.getAddress().getHostAddress();
+        }
+        return String.valueOf(address);
+    }
+
+    private static Metadata trailers(RuntimeException e) {
+        Metadata trailers = new Metadata();
+        if (e instanceof QuotaExceededException quota) {
+            trailers.put(RETRY_AFTER, Long.toString(quota.getRetryAfterSeconds()));
+        } else if (e instanceof ServiceOverloadedException overloaded) {
+            trailers.put(RETRY_AFTER, Long.toString(overloaded.getRetryAfterSeconds()));
+        }
+        return trailers;
+    }
+
+    /**
+     * A call holding admission, released once when it closes or is cancelled.
+     */
+    private final class AdmittedCall<ReqT, RespT> extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+
+        private final AtomicInteger cost = new AtomicInteger();
+        private volatile long startedAt;
+
+        AdmittedCall(ServerCall<ReqT, RespT> call) {
+            super(call);
+        }
+
+        void admit(int admitted) {
+            startedAt = System.nanoTime();
+            cost.set(admitted);
+        }
+
+        void release(boolean failed) {
+            int admitted = cost.getAndSet(0);
+            if (admitted > 0) {
+                limiter.release(admitted, (System.nanoTime() - startedAt) / 1_000_000, failed);
+            }
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            release(FAILURES.contains(status.getCode()));
+            super.close(status, trailers);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.accenture.assignment.holiday.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.grpc.protobuf.services.ProtoReflectionServiceV1;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server next to the REST API.
+ * <p>
+ * The server is started with the application context and serves the {@link HolidayInsightGrpcService},
+ * behind the {@link GrpcAdmissionInterceptor}, together with the standard health and reflection services,
+ * so tools such as {@code grpcurl} work without the proto file. On shutdown it stops accepting calls and gives running calls a grace period.
+ * Set {@code grpc.server.port} to {@code 0} for a random port and {@code grpc.server.enabled} to
+ * {@code false} to run without gRPC.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final HolidayInsightGrpcService holidayInsightGrpcService;
+    private final GrpcAdmissionInterceptor admissionInterceptor;
+    private final boolean enabled;
+    private final int port;
+    private final long shutdownGraceSeconds;
+
+    private volatile Server server;
+
+    public GrpcServerLifecycle(HolidayInsightGrpcService holidayInsightGrpcService,
+                               GrpcAdmissionInterceptor admissionInterceptor,
+                               @Value("${grpc.server.enabled:true}") boolean enabled,
+                               @Value("${grpc.server.port:9090}") int port,
+                               @Value("${grpc.server.shutdownGraceSeconds:10}") long shutdownGraceSeconds) {
+        this.holidayInsightGrpcService = holidayInsightGrpcService;
+        this.admissionInterceptor = admissionInterceptor;
+        this.enabled = enabled;
+        this.port = port;
+        this.shutdownGraceSeconds = shutdownGraceSeconds;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        HealthStatusManager health = new HealthStatusManager();
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .addService(ServerInterceptors.intercept(holidayInsightGrpcService, admissionInterceptor))
+                    .addService(health.getHealthService())
+                    .addService(ProtoReflectionServiceV1.newInstance())
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server on port " + port + ".", e);
+        }
+        log.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return the port the server listens on, or {@code -1} if it is not running
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+}
@@ -0,0 +1,250 @@
+package com.accenture.assignment.holiday.grpc;
+
+import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.QuotaExceededException;
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.grpc.proto.CommonHoliday;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidayList;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.CountryHolidayCount;
+import com.accenture.assignment.holiday.grpc.proto.CountryHolidayCountList;
+import com.accenture.assignment.holiday.grpc.proto.Holiday;
+import com.accenture.assignment.holiday.grpc.proto.HolidayInsightGrpc;
+import com.accenture.assignment.holiday.grpc.proto.HolidayList;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRequest;
+import com.accenture.assignment.holiday.grpc.proto.RecentHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.UpcomingHolidaysRequest;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * gRPC implementation of the {@code holiday.v1.HolidayInsight} service.
+ * <p>
+ * Every call is answered by the same {@link HolidayInsightService} as the REST API and runs through the
+ * {@link RequestCoalescer} under the same keys as {@code HolidaysController}, so REST and gRPC callers share
+ * cached data and in-flight computations. The streaming RPCs send one message per year as soon as it is
+ * computed and stop when the client cancels. An empty {@code tenant} in a request means the public calendar,
+ * a zero {@code count} the default number of holidays.
+ * </p>
+ * <p>
+ * Exceptions are mapped to gRPC status codes: invalid input to {@code INVALID_ARGUMENT}, an unknown tenant to
+ * {@code NOT_FOUND}, an unavailable
+ * external API to {@code UNAVAILABLE}, shed load and exceeded quotas to {@code RESOURCE_EXHAUSTED}, failed upstream calls to
+ * {@code UNAVAILABLE} and anything else to {@code INTERNAL}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HolidayInsightGrpcService extends HolidayInsightGrpc.HolidayInsightImplBase {
+
+    private static final Pattern COUNTRY_CODE = Pattern.compile("^[A-Za-z]{2}$");
+    private static final Pattern REGION_CODE = Pattern.compile("^[A-Za-z]{2}(-[A-Za-z0-9]{1,3})?$");
+    private static final int MAX_STREAMED_YEARS = 20;
+
+    private final HolidayInsightService service;
+
+    private final RequestCoalescer coalescer;
+
+    @Override
+    public void getRecentHolidays(RecentHolidaysRequest request, StreamObserver<HolidayList> responseObserver) {
+        unary(responseObserver, () -> {
+            String country = validCountry(request.getCountry());
+            Integer count = count(request.getCount());
+            String tenant = tenant(request.getTenant());
+            return holidayList(coalescer.execute("recent",
+                    RequestCoalescer.withTenant(country.trim().toUpperCase(Locale.ROOT) + "|" + count, tenant),
+                    () -> service.getRecentHolidays(country, count, tenant)));
+        });
+    }
+
+    @Override
+    public void getUpcomingHolidays(UpcomingHolidaysRequest request, StreamObserver<HolidayList> responseObserver) {
+        unary(responseObserver, () -> {
+            String country = validCountry(request.getCountry());
+            Integer count = count(request.getCount());
+            String tenant = tenant(request.getTenant());
+            return holidayList(coalescer.execute("upcoming",
+                    RequestCoalescer.withTenant(country.trim().toUpperCase(Locale.ROOT) + "|" + count, tenant),
+                    () -> service.getUpcomingHolidays(country, count, tenant)));
+        });
+    }
+
+    private static HolidayList holidayList(List<com.accenture.assignment.holiday.model.Holiday> holidays) {
+        HolidayList.Builder reply = HolidayList.newBuilder();
+        holidays.forEach(h -> reply.addHolidays(Holiday.newBuilder()
+                .setDate(h.getDate().toString())
+                .setName(h.getName())));
+        return reply.build();
+    }
+
+    @Override
+    public void getNonWeekendHolidayCounts(NonWeekendCountsRequest request,
+                                           StreamObserver<CountryHolidayCountList> responseObserver) {
+        unary(responseObserver, () -> nonWeekendCounts(request.getYear(), countries(request.getCountriesList()),
+                types(request.getTypesList()), tenant(request.getTenant())));
+    }
+
+    @Override
+    public void streamNonWeekendHolidayCounts(NonWeekendCountsRangeRequest request,
+                                              StreamObserver<CountryHolidayCountList> responseObserver) {
+        String countries = String.join(",", request.getCountriesList());
+        String types = types(request.getTypesList());
+        String tenant = tenant(request.getTenant());
+        stream(responseObserver, request.getFromYear(), request.getToYear(),
+                () -> countries(request.getCountriesList()),
+                year -> nonWeekendCounts(year, countries, types, tenant));
+    }
+
+    @Override
+    public void getCommonHolidays(CommonHolidaysRequest request, StreamObserver<CommonHolidayList> responseObserver) {
+        unary(responseObserver, () -> commonHolidays(request.getYear(), validRegion(request.getCountry1()),
+                validRegion(request.getCountry2()), types(request.getTypesList()), tenant(request.getTenant())));
+    }
+
+    @Override
+    public void streamCommonHolidays(CommonHolidaysRangeRequest request,
+                                     StreamObserver<CommonHolidayList> responseObserver) {
+        String types = types(request.getTypesList());
+        String tenant = tenant(request.getTenant());
+        stream(responseObserver, request.getFromYear(), request.getToYear(),
+                () -> {
+                    validRegion(request.getCountry1());
+                    validRegion(request.getCountry2());
+                },
+                year -> commonHolidays(year, request.getCountry1(), request.getCountry2(), types, tenant));
+    }
+
+    private CountryHolidayCountList nonWeekendCounts(int year, String countries, String types, String tenant) {
+        List<com.accenture.assignment.holiday.model.CountryHolidayCount> counts = coalescer.execute(
+                "non-weekend-count", RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                        year + "|" + RequestCoalescer.normalizeList(countries), types), tenant),
+                () -> service.getNonWeekendHolidayCounts(year, countries, types, tenant));
+        CountryHolidayCountList.Builder reply = CountryHolidayCountList.newBuilder().setYear(year);
+        counts.forEach(c -> reply.addCounts(CountryHolidayCount.newBuilder()
+                .setCountry(c.getCountry())
+                .setCount(c.getCount())));
+        return reply.build();
+    }
+
+    private CommonHolidayList commonHolidays(int year, String country1, String country2, String types,
+                                             String tenant) {
+        List<com.accenture.assignment.holiday.model.CommonHoliday> holidays = coalescer.execute("common",
+                RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                        year + "|" + country1.trim().toUpperCase(Locale.ROOT)
+                                + "|" + country2.trim().toUpperCase(Locale.ROOT), types), tenant),
+                () -> service.getCommonHolidays(year, country1, country2, types, tenant));
+        CommonHolidayList.Builder reply = CommonHolidayList.newBuilder().setYear(year);
+        holidays.forEach(h -> reply.addHolidays(CommonHoliday.newBuilder()
+                .setDate(h.getDate().toString())
+                .setLocalName1(h.getLocalNameCountry1())
+                .setLocalName2(h.getLocalNameCountry2())));
+        return reply.build();
+    }
+
+    private static String validCountry(String country) {
+        if (!COUNTRY_CODE.matcher(country).matches()) {
+            throw new IllegalArgumentException("Invalid country code: '" + country + "'. Expected two letters.");
+        }
+        return country;
+    }
+
+    private static String validRegion(String region) {
+        if (!REGION_CODE.matcher(region).matches()) {
+            throw new IllegalArgumentException("Invalid country code: '" + region
+                    + "'. Expected two letters, optionally followed by a subdivision such as 'DE-BY'.");
+        }
+        return region;
+    }
+
+    private static Integer count(int count) {
+        return count == 0 ? null : count;
+    }
+
+    private static String types(List<String> types) {
+        return types.isEmpty() ? null : String.join(",", types);
+    }
+
+    private static String tenant(String tenant) {
+        return tenant.isEmpty() ? null : tenant;
+    }
+
+    private static String countries(List<String> countries) {
+        if (countries.isEmpty()) {
+            throw new IllegalArgumentException("At least one country code is required.");
+        }
+        countries.forEach(HolidayInsightGrpcService::validRegion);
+        return String.join(",", countries);
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T reply;
+        try {
+            reply = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(reply);
+        responseObserver.onCompleted();
+    }
+
+    private static <T> void stream(StreamObserver<T> responseObserver, int fromYear, int toYear,
+                                   Runnable validation, IntFunction<T> query) {
+        ServerCallStreamObserver<T> observer = (ServerCallStreamObserver<T>) responseObserver;
+        try {
+            if (toYear < fromYear) {
+                throw new IllegalArgumentException("'from_year' must not be after 'to_year'.");
+            }
+            if (toYear - fromYear + 1 > MAX_STREAMED_YEARS) {
+                throw new IllegalArgumentException("A stream may span at most " + MAX_STREAMED_YEARS + " years.");
+            }
+            validation.run();
+            for (int year = fromYear; year <= toYear && !observer.isCancelled(); year++) {
+                observer.onNext(query.apply(year));
+            }
+        } catch (RuntimeException e) {
+            observer.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        if (!observer.isCancelled()) {
+            observer.onCompleted();
+        }
+    }
+
+    static Status toStatus(RuntimeException e) {
+        if (e instanceof InvalidCountryException || e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        if (e instanceof UnknownTenantException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof ServiceOverloadedException || e instanceof QuotaExceededException) {
+            return Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage());
+        }
+        if (e instanceof ExternalApiUnavailableException || e instanceof RestClientException) {
+            return Status.UNAVAILABLE.withDescription(e.getMessage());
+        }
+        log.error("Unhandled exception in gRPC call: {}", e.getMessage(), e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred. Please contact support.");
+    }
+}
@@ -0,0 +1,10 @@
+package com.accenture.assignment.holiday.model;
+
+public record ClientUsage(
+        String client,
+        long limit,
+        long used,
+        long remaining,
+        long acceptedUnits,
+        long rejectedRequests
+) {}
@@ -0,0 +1,10 @@
+package com.accenture.assignment.holiday.model;
+
+import java.util.List;
+
+public record CompanyHolidayOverlay(
+        String tenant,
+        long rows,
+        List<String> countries,
+        List<Integer> years
+) {}
@@ -0,0 +1,7 @@
+package com.accenture.assignment.holiday.model;
+
+public record CompanyHolidayRow(
+        String country,
+        String date,
+        String name
+) {}
@@ -0,0 +1,11 @@
+package com.accenture.assignment.holiday.model;
+
+import java.util.List;
+
+public record CompanyHolidayUpload(
+        String tenant,
+        long accepted,
+        long rejected,
+        List<String> errors,
+        CompanyHolidayOverlay overlay
+) {}
@@ -0,0 +1,6 @@
+package com.accenture.assignment.holiday.model;
+
+public record CountryValidationError(
+        String country,
+        String reason
+) {}
@@ -0,0 +1,11 @@
+package com.accenture.assignment.holiday.model;
+
+public record HolidayStorageFootprint(
+        String type,
+        int countryYears,
+        long holidays,
+        int distinctNames,
+        long heapBytes,
+        long offHeapBytes,
+        long encodedBytes
+) {}
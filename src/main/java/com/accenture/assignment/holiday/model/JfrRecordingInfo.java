@@ -0,0 +1,11 @@
+package com.accenture.assignment.holiday.model;
+
+import java.time.Instant;
+
+public record JfrRecordingInfo(
+        long id,
+        String state,
+        Instant startedAt,
+        long durationSeconds,
+        long sizeBytes
+) {}
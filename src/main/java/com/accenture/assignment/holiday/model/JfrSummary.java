@@ -0,0 +1,23 @@
+package com.accenture.assignment.holiday.model;
+
+import java.util.List;
+
+public record JfrSummary(
+        long id,
+        long executionSamples,
+        long sampledAllocationBytes,
+        List<Hotspot> hotMethods,
+        List<Hotspot> hotApplicationMethods,
+        List<Hotspot> allocationSites,
+        List<Hotspot> applicationAllocationSites
+) {
+
+    /**
+     * A method with its share of execution samples or of sampled allocation bytes.
+     */
+    public record Hotspot(
+            String method,
+            long value,
+            double percent
+    ) {}
+}
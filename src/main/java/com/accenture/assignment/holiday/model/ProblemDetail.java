@@ -1,9 +1,20 @@
 package com.accenture.assignment.holiday.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
 public record ProblemDetail(
         String timestamp,
         int status,
         String error,
         String message,
-        String path
-) {}
+        String path,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<CountryValidationError> errors
+) {
+
+    public ProblemDetail(String timestamp, int status, String error, String message, String path) {
+        this(timestamp, status, error, message, path, List.of());
+    }
+}
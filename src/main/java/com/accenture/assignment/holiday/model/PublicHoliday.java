@@ -1,14 +1,20 @@
 package com.accenture.assignment.holiday.model;
 
-import lombok.Builder;
-
-import java.util.Set;
+import java.util.List;
 
 
 public record PublicHoliday (
 
         String date,
         String localName,
-        String name
+        String name,
+        Boolean global,
+        List<String> counties,
+        List<String> types
+
+){
 
-){}
\ No newline at end of file
+    public PublicHoliday(String date, String localName, String name) {
+        this(date, localName, name, null, null, null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.model.CompanyHolidayOverlay;
+import com.accenture.assignment.holiday.model.CompanyHolidayUpload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Bulk upload of company holidays per tenant.
+ * <p>
+ * {@code PUT /api/v1/company-holidays/{tenant}} replaces the tenant's company holidays and {@code POST}
+ * adds to them; the body is CSV ({@code text/csv}) or JSON ({@code application/json},
+ * {@code application/x-ndjson}) and is read as a stream, so uploads of millions of rows are never held as
+ * a whole. {@code GET} describes the tenant's overlay and {@code DELETE} removes it. Once uploaded, the
+ * holiday endpoints answer with {@code tenant} for the merged calendar. The controller reads the raw
+ * servlet request body and is therefore part of the servlet variant only.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@RestController
+@RequestMapping("/api/v1/company-holidays")
+@RequiredArgsConstructor
+public class CompanyHolidayController {
+
+    private final CompanyHolidayStore store;
+
+    @PutMapping(path = "/{tenant}", consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    public ResponseEntity<CompanyHolidayUpload> replace(@PathVariable String tenant,
+                                                        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body) {
+        return ResponseEntity.ok(store.ingest(tenant, body, contentType, true));
+    }
+
+    @PostMapping(path = "/{tenant}", consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    public ResponseEntity<CompanyHolidayUpload> add(@PathVariable String tenant,
+                                                    @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    InputStream body) {
+        return ResponseEntity.ok(store.ingest(tenant, body, contentType, false));
+    }
+
+    @GetMapping("/{tenant}")
+    public ResponseEntity<CompanyHolidayOverlay> get(@PathVariable String tenant) {
+        return ResponseEntity.ok(store.get(tenant).orElseThrow(() -> new UnknownTenantException(tenant)));
+    }
+
+    @DeleteMapping("/{tenant}")
+    public ResponseEntity<Void> delete(@PathVariable String tenant) {
+        if (!store.delete(tenant)) {
+            throw new UnknownTenantException(tenant);
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
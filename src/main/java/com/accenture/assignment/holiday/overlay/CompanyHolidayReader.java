@@ -0,0 +1,230 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.model.CompanyHolidayRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Streams company holiday rows from CSV or JSON into a {@link CompanyHolidays.Builder}.
+ * <p>
+ * Rows are parsed one at a time and never held as a whole, so an upload of millions of rows only costs
+ * the compact arrays of the builder. CSV needs a header naming the columns {@code country}, {@code date}
+ * and optionally {@code name}, in any order; fields may be quoted, with {@code ""} for a quote inside a
+ * quoted field. JSON may be one array of {@link CompanyHolidayRow} objects or one object per line.
+ * Rows with an unknown country, a date that is not {@code yyyy-MM-dd} or an overlong or multi-line name are counted as
+ * rejected and the first {@value #MAX_ERRORS} of them are described; malformed input as a whole is
+ * rejected with an {@link IllegalArgumentException}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+final class CompanyHolidayReader {
+
+    static final int MAX_ERRORS = 20;
+    static final int MAX_NAME_LENGTH = 200;
+    static final String DEFAULT_NAME = "Company holiday";
+
+    /**
+     * Upload formats, chosen by content type.
+     */
+    enum Format {
+        CSV, JSON;
+
+        /**
+         * @throws IllegalArgumentException if the content type is neither CSV nor JSON
+         */
+        static Format of(String contentType) {
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/json") || type.startsWith("application/x-ndjson")) {
+                return JSON;
+            }
+            throw new IllegalArgumentException("Unsupported content type '" + contentType
+                    + "'. Upload text/csv, application/json or application/x-ndjson.");
+        }
+    }
+
+    private final CompanyHolidays.Builder builder;
+    private final UnaryOperator<String> countries;
+    private final long maxRows;
+    private final List<String> errors = new ArrayList<>();
+    private long accepted;
+    private long rejected;
+
+    /**
+     * @param builder   receives the accepted rows
+     * @param countries resolves a country code to its canonical form, or to {@code null} if it is not supported
+     * @param maxRows   the number of accepted rows after which the upload is refused
+     */
+    CompanyHolidayReader(CompanyHolidays.Builder builder, UnaryOperator<String> countries, long maxRows) {
+        this.builder = builder;
+        this.countries = countries;
+        this.maxRows = maxRows;
+    }
+
+    void read(InputStream in, Format format, ObjectMapper objectMapper) {
+        try {
+            if (format == Format.CSV) {
+                readCsv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            } else {
+                readJson(in, objectMapper.readerFor(CompanyHolidayRow.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readCsv(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header, 1).stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList();
+        int country = columns.indexOf("country");
+        int date = columns.indexOf("date");
+        int name = columns.indexOf("name");
+        if (country < 0 || date < 0) {
+            throw new IllegalArgumentException("The CSV header must name the columns 'country' and 'date'.");
+        }
+        int required = Math.max(country, date) + 1;
+        long line = 1;
+        String row;
+        while ((row = reader.readLine()) != null) {
+            line++;
+            if (row.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitCsv(row, line);
+            if (fields.size() < required) {
+                reject("line " + line, "expected at least " + required + " fields");
+                continue;
+            }
+            accept("line " + line, fields.get(country), fields.get(date),
+                    name >= 0 && name < fields.size() ? fields.get(name) : null);
+        }
+    }
+
+    /**
+     * Splits one CSV line into trimmed fields.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed on the same line
+     */
+    static List<String> splitCsv(String line, long lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field on line " + lineNumber + ".");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private void readJson(InputStream in, ObjectReader reader) throws IOException {
+        long row = 0;
+        try (MappingIterator<CompanyHolidayRow> rows = reader.readValues(in)) {
+            while (rows.hasNextValue()) {
+                CompanyHolidayRow value = rows.nextValue();
+                row++;
+                if (value == null) {
+                    reject("row " + row, "expected an object");
+                    continue;
+                }
+                accept("row " + row, value.country(), value.date(), value.name());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON after row " + row + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void accept(String where, String country, String date, String name) {
+        String countryCode = country == null ? null : countries.apply(country.trim());
+        if (countryCode == null) {
+            reject(where, "unsupported country '" + country + "'");
+            return;
+        }
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date == null ? "" : date.trim());
+        } catch (DateTimeParseException e) {
+            reject(where, "invalid date '" + date + "'");
+            return;
+        }
+        if (day.getYear() < 1 || day.getYear() > CompanyHolidays.MAX_YEAR) {
+            reject(where, "invalid date '" + date + "'");
+            return;
+        }
+        String closure = name == null || name.isBlank() ? DEFAULT_NAME : name.trim();
+        if (closure.length() > MAX_NAME_LENGTH) {
+            reject(where, "name longer than " + MAX_NAME_LENGTH + " characters");
+            return;
+        }
+        if (closure.indexOf('\n') >= 0 || closure.indexOf('\r') >= 0) {
+            reject(where, "line break in name");
+            return;
+        }
+        if (accepted == maxRows) {
+            throw new IllegalArgumentException("An upload may hold at most " + maxRows + " rows.");
+        }
+        builder.add(countryCode, day, closure);
+        accepted++;
+    }
+
+    private void reject(String where, String reason) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(where + ": " + reason);
+        }
+    }
+
+    long getAccepted() {
+        return accepted;
+    }
+
+    long getRejected() {
+        return rejected;
+    }
+
+    List<String> getErrors() {
+        return List.copyOf(errors);
+    }
+}
@@ -0,0 +1,230 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.model.CompanyHolidayOverlay;
+import com.accenture.assignment.holiday.model.CompanyHolidayUpload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Per-tenant company holidays, uploaded in bulk and laid over the public calendar.
+ * <p>
+ * Each tenant is a namespace holding its {@link CompanyHolidays} and the {@link TenantCalendar} merged from
+ * them. An upload is streamed through the {@link CompanyHolidayReader} into a new overlay, which either
+ * replaces the tenant's overlay or is combined with it; the swap is atomic, so readers see the old or the
+ * new overlay, never a partial one, and the tenant's merged calendar starts afresh. At most
+ * {@code holiday.overlay.maxTenants} tenants and {@code holiday.overlay.maxRowsPerTenant} rows per tenant
+ * are held.
+ * </p>
+ * <p>
+ * With {@code holiday.overlay.directory} set, every overlay is also written there as
+ * {@code <tenant>.csv} and read back on startup; otherwise overlays live in memory only. Rows are counted
+ * in {@code holiday.overlay.rows}, tagged {@code accepted} or {@code rejected}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class CompanyHolidayStore {
+
+    private static final Pattern TENANT = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.-]{0,63}");
+    private static final String FILE_SUFFIX = ".csv";
+
+    private final CountryRegistry countryRegistry;
+    private final ObjectMapper objectMapper;
+    private final int maxTenants;
+    private final long maxRowsPerTenant;
+    private final Path directory;
+    private final Counter acceptedRows;
+    private final Counter rejectedRows;
+    private final Map<String, TenantCalendar> tenants = new ConcurrentHashMap<>();
+
+    public CompanyHolidayStore(CountryRegistry countryRegistry, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${holiday.overlay.maxTenants:1000}") int maxTenants,
+                               @Value("${holiday.overlay.maxRowsPerTenant:10000000}") long maxRowsPerTenant,
+                               @Value("${holiday.overlay.directory:}") String directory) {
+        this.countryRegistry = countryRegistry;
+        this.objectMapper = objectMapper;
+        this.maxTenants = maxTenants;
+        this.maxRowsPerTenant = maxRowsPerTenant;
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        this.acceptedRows = meterRegistry.counter("holiday.overlay.rows", "result", "accepted");
+        this.rejectedRows = meterRegistry.counter("holiday.overlay.rows", "result", "rejected");
+    }
+
+    /**
+     * Reads the overlays written to the directory by earlier runs.
+     */
+    @PostConstruct
+    void load() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String tenant = name.substring(0, name.length() - FILE_SUFFIX.length());
+                if (!TENANT.matcher(tenant).matches()) {
+                    continue;
+                }
+                CompanyHolidays.Builder builder = CompanyHolidays.builder();
+                try (InputStream in = Files.newInputStream(file)) {
+                    new CompanyHolidayReader(builder, CompanyHolidayStore::wellFormed, maxRowsPerTenant)
+                            .read(in, CompanyHolidayReader.Format.CSV, objectMapper);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Ignoring unreadable company holidays {}: {}", file, e.toString());
+                    continue;
+                }
+                tenants.put(tenant, new TenantCalendar(builder.build()));
+            }
+        } catch (IOException e) {
+            log.warn("Could not read company holidays from {}: {}", directory, e.toString());
+        }
+        log.info("Loaded company holidays of {} tenants from {}", tenants.size(), directory);
+    }
+
+    /**
+     * Uploads company holidays for a tenant.
+     *
+     * @param tenant      the tenant
+     * @param body        the rows, streamed
+     * @param contentType {@code text/csv}, {@code application/json} or {@code application/x-ndjson}
+     * @param replace     {@code true} to replace the tenant's holidays, {@code false} to add to them
+     * @return the rows accepted and rejected, and the tenant's overlay afterwards
+     * @throws IllegalArgumentException if the tenant name, the content type or the input as a whole is
+     *                                  invalid, or a limit would be exceeded; the overlay is then unchanged
+     */
+    public CompanyHolidayUpload ingest(String tenant, InputStream body, String contentType, boolean replace) {
+        validTenant(tenant);
+        CompanyHolidayReader.Format format = CompanyHolidayReader.Format.of(contentType);
+        if (!tenants.containsKey(tenant) && tenants.size() >= maxTenants) {
+            throw new IllegalArgumentException("At most " + maxTenants + " tenants can hold company holidays.");
+        }
+        CompanyHolidays.Builder builder = CompanyHolidays.builder();
+        CompanyHolidayReader reader = new CompanyHolidayReader(builder, countryRegistry::resolve, maxRowsPerTenant);
+        reader.read(body, format, objectMapper);
+        CompanyHolidays uploaded = builder.build();
+
+        TenantCalendar updated = tenants.compute(tenant, (name, current) -> {
+            CompanyHolidays overlay = replace || current == null ? uploaded : current.getOverlay().plus(uploaded);
+            if (overlay.getRows() > maxRowsPerTenant) {
+                throw new IllegalArgumentException("A tenant may hold at most " + maxRowsPerTenant + " rows.");
+            }
+            return new TenantCalendar(overlay);
+        });
+        acceptedRows.increment(reader.getAccepted());
+        rejectedRows.increment(reader.getRejected());
+        write(tenant);
+        log.info("{} {} company holidays for tenant {} ({} rejected, {} held)", replace ? "Replaced with" : "Added",
+                reader.getAccepted(), tenant, reader.getRejected(), updated.getOverlay().getRows());
+        return new CompanyHolidayUpload(tenant, reader.getAccepted(), reader.getRejected(), reader.getErrors(),
+                describe(tenant, updated.getOverlay()));
+    }
+
+    /**
+     * @return the overlay of the tenant, or empty if the tenant has no company holidays
+     */
+    public Optional<CompanyHolidayOverlay> get(String tenant) {
+        TenantCalendar calendar = tenants.get(tenant);
+        return calendar == null ? Optional.empty() : Optional.of(describe(tenant, calendar.getOverlay()));
+    }
+
+    /**
+     * Removes all company holidays of a tenant.
+     *
+     * @return {@code false} if the tenant had none
+     */
+    public boolean delete(String tenant) {
+        if (tenants.remove(tenant) == null) {
+            return false;
+        }
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(directory.resolve(tenant + FILE_SUFFIX));
+            } catch (IOException e) {
+                log.warn("Could not delete the company holidays of tenant {}: {}", tenant, e.toString());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the merged calendar of a tenant.
+     *
+     * @throws UnknownTenantException if the tenant has no company holidays
+     */
+    public TenantCalendar getCalendar(String tenant) {
+        TenantCalendar calendar = tenant == null ? null : tenants.get(tenant);
+        if (calendar == null) {
+            throw new UnknownTenantException(tenant);
+        }
+        return calendar;
+    }
+
+    private static void validTenant(String tenant) {
+        if (tenant == null || !TENANT.matcher(tenant).matches()) {
+            throw new IllegalArgumentException("Invalid tenant '" + tenant
+                    + "'. Use 1 to 64 letters, digits, '.', '_' or '-', starting with a letter or digit.");
+        }
+    }
+
+    private static String wellFormed(String countryCode) {
+        return CountryRegistry.slot(countryCode) < 0 ? null : countryCode.toUpperCase(Locale.ROOT);
+    }
+
+    private static CompanyHolidayOverlay describe(String tenant, CompanyHolidays overlay) {
+        return new CompanyHolidayOverlay(tenant, overlay.getRows(), overlay.getCountries(), overlay.getYears());
+    }
+
+    /**
+     * Replaces the tenant's file with its current overlay. The file is replaced atomically, so a crash while
+     * writing never leaves a truncated overlay, and writes are serialized, so the last upload is written last.
+     */
+    private synchronized void write(String tenant) {
+        TenantCalendar calendar = tenants.get(tenant);
+        if (directory == null || calendar == null) {
+            return;
+        }
+        CompanyHolidays overlay = calendar.getOverlay();
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, tenant, ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                out.write("country,date,name\n");
+                overlay.forEach((countryCode, date, name) -> {
+                    try {
+                        out.write(countryCode + ',' + date + ",\"" + name.replace("\"", "\"\"") + "\"\n");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            Files.move(temp, directory.resolve(tenant + FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not write the company holidays of tenant {}: {}", tenant, e.toString());
+        }
+    }
+}
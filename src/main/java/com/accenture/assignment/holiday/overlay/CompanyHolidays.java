@@ -0,0 +1,239 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The company closure days of one tenant, grouped per country-year.
+ * <p>
+ * Each country-year holds its closures as a sorted array of epoch days and a parallel array of names, so
+ * millions of rows cost a few bytes each; names repeated across rows are stored once. Instances are
+ * immutable: an upload builds a new instance, and {@link #plus} combines two.
+ * {@link #merge} lays the closures of a country-year over its public holidays.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class CompanyHolidays {
+
+    static final int MAX_YEAR = 9999;
+
+    private final Map<Integer, Days> byCountryYear;
+    private final long rows;
+
+    private record Days(int[] epochDays, String[] names) {
+    }
+
+    private CompanyHolidays(Map<Integer, Days> byCountryYear) {
+        this.byCountryYear = byCountryYear;
+        this.rows = byCountryYear.values().stream().mapToLong(days -> days.epochDays().length).sum();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the public holidays of a country-year with the closures of this tenant added.
+     * <p>
+     * Closures on a date that already is a public holiday are left out, so every date is counted once.
+     * The result is sorted by date. Without closures for the country-year, {@code holidays} is returned
+     * as it is.
+     * </p>
+     */
+    public List<PublicHoliday> merge(String countryCode, int year, List<PublicHoliday> holidays) {
+        Days days = byCountryYear.get(key(CountryRegistry.slot(countryCode), year));
+        if (days == null) {
+            return holidays;
+        }
+        List<PublicHoliday> merged = new ArrayList<>(holidays.size() + days.epochDays().length);
+        merged.addAll(holidays);
+        int[] publicDays = holidays.stream().mapToInt(h -> (int) LocalDate.parse(h.date()).toEpochDay())
+                .sorted().toArray();
+        for (int i = 0; i < days.epochDays().length; i++) {
+            if (Arrays.binarySearch(publicDays, days.epochDays()[i]) < 0) {
+                String name = days.names()[i];
+                merged.add(new PublicHoliday(LocalDate.ofEpochDay(days.epochDays()[i]).toString(), name, name));
+            }
+        }
+        merged.sort(Comparator.comparing(PublicHoliday::date));
+        return List.copyOf(merged);
+    }
+
+    /**
+     * @return whether the tenant has closures in the country-year
+     */
+    public boolean contains(String countryCode, int year) {
+        return byCountryYear.containsKey(key(CountryRegistry.slot(countryCode), year));
+    }
+
+    /**
+     * Combines this overlay with a newer one; where both have a closure on the same day, the newer name wins.
+     */
+    public CompanyHolidays plus(CompanyHolidays newer) {
+        Map<Integer, Days> combined = new HashMap<>(byCountryYear);
+        newer.byCountryYear.forEach((key, days) -> combined.merge(key, days, CompanyHolidays::union));
+        return new CompanyHolidays(Map.copyOf(combined));
+    }
+
+    private static Days union(Days older, Days newer) {
+        int[] epochDays = new int[older.epochDays().length + newer.epochDays().length];
+        String[] names = new String[epochDays.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < older.epochDays().length || j < newer.epochDays().length) {
+            int a = i < older.epochDays().length ? older.epochDays()[i] : Integer.MAX_VALUE;
+            int b = j < newer.epochDays().length ? newer.epochDays()[j] : Integer.MAX_VALUE;
+            if (a < b) {
+                epochDays[size] = a;
+                names[size++] = older.names()[i++];
+            } else {
+                epochDays[size] = b;
+                names[size++] = newer.names()[j++];
+                if (a == b) {
+                    i++;
+                }
+            }
+        }
+        return new Days(Arrays.copyOf(epochDays, size), Arrays.copyOf(names, size));
+    }
+
+    /**
+     * @return the number of closure days over all countries and years
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the country codes with closures, in alphabetical order
+     */
+    public List<String> getCountries() {
+        TreeSet<String> countries = new TreeSet<>();
+        byCountryYear.keySet().forEach(key -> countries.add(CountryRegistry.code(key >>> 16)));
+        return List.copyOf(countries);
+    }
+
+    /**
+     * @return the years with closures, in ascending order
+     */
+    public List<Integer> getYears() {
+        TreeSet<Integer> years = new TreeSet<>();
+        byCountryYear.keySet().forEach(key -> years.add(key & 0xFFFF));
+        return List.copyOf(years);
+    }
+
+    /**
+     * Passes every closure to the consumer, ordered by country and date.
+     */
+    public void forEach(ClosureConsumer consumer) {
+        new TreeMap<>(byCountryYear).forEach((key, days) -> {
+            String countryCode = CountryRegistry.code(key >>> 16);
+            for (int i = 0; i < days.epochDays().length; i++) {
+                consumer.accept(countryCode, LocalDate.ofEpochDay(days.epochDays()[i]), days.names()[i]);
+            }
+        });
+    }
+
+    private static int key(int slot, int year) {
+        return slot << 16 | year;
+    }
+
+    /**
+     * Receives closures from {@link #forEach}.
+     */
+    @FunctionalInterface
+    public interface ClosureConsumer {
+
+        void accept(String countryCode, LocalDate date, String name);
+    }
+
+    /**
+     * Collects closures row by row; a later row for the same country and day replaces an earlier one.
+     */
+    public static final class Builder {
+
+        private final Map<Integer, Rows> byCountryYear = new HashMap<>();
+        private final Map<String, String> names = new HashMap<>();
+        private long rows;
+
+        private static final class Rows {
+
+            private int[] epochDays = new int[8];
+            private String[] names = new String[8];
+            private int size;
+        }
+
+        private Builder() {
+        }
+
+        /**
+         * @param countryCode a valid upper-case two-letter country code
+         * @param date        the closure day, in a year from 1 to {@value #MAX_YEAR}
+         * @param name        the name of the closure
+         */
+        public Builder add(String countryCode, LocalDate date, String name) {
+            int slot = CountryRegistry.slot(countryCode);
+            if (slot < 0 || date.getYear() < 1 || date.getYear() > MAX_YEAR) {
+                throw new IllegalArgumentException("Invalid closure: " + countryCode + " " + date);
+            }
+            Rows country = byCountryYear.computeIfAbsent(key(slot, date.getYear()), key -> new Rows());
+            if (country.size == country.epochDays.length) {
+                country.epochDays = Arrays.copyOf(country.epochDays, country.size * 2);
+                country.names = Arrays.copyOf(country.names, country.size * 2);
+            }
+            country.epochDays[country.size] = (int) date.toEpochDay();
+            country.names[country.size++] = names.computeIfAbsent(name, n -> n);
+            rows++;
+            return this;
+        }
+
+        /**
+         * @return the number of rows added so far, duplicates included
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        public CompanyHolidays build() {
+            Map<Integer, Days> days = new HashMap<>();
+            byCountryYear.forEach((key, country) -> days.put(key, sort(country)));
+            return new CompanyHolidays(Map.copyOf(days));
+        }
+
+        /**
+         * Sorts the rows of a country-year by day, keeping the last row added for each day. Day and row
+         * number are packed into one {@code long}, so sorting needs no boxing.
+         */
+        private static Days sort(Rows country) {
+            long[] packed = new long[country.size];
+            for (int i = 0; i < country.size; i++) {
+                packed[i] = (long) country.epochDays[i] << 32 | i;
+            }
+            Arrays.sort(packed);
+            int[] epochDays = new int[country.size];
+            String[] names = new String[country.size];
+            int size = 0;
+            for (int i = 0; i < packed.length; i++) {
+                int day = (int) (packed[i] >> 32);
+                if (i + 1 < packed.length && (int) (packed[i + 1] >> 32) == day) {
+                    continue;
+                }
+                epochDays[size] = day;
+                names[size++] = country.names[(int) packed[i]];
+            }
+            return new Days(Arrays.copyOf(epochDays, size), Arrays.copyOf(names, size));
+        }
+    }
+}
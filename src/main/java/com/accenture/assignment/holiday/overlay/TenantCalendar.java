@@ -0,0 +1,61 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.calendar.DerivedCalendars;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The merged calendar of one tenant: its {@link CompanyHolidays} laid over the public holidays.
+ * <p>
+ * Each country-year is merged once, when it is first asked for, and stored in the tenant's own
+ * {@link DerivedCalendars}, so its date index, count aggregates and business calendars hold the merged
+ * days. The public holidays a country-year was merged from are remembered by identity; when the public
+ * calendar is refreshed the country-year is merged again. A new upload replaces the whole instance.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public final class TenantCalendar {
+
+    private final CompanyHolidays overlay;
+    private final DerivedCalendars calendars = new DerivedCalendars();
+    private final Map<String, Merged> merged = new ConcurrentHashMap<>();
+
+    private record Merged(List<PublicHoliday> from, List<PublicHoliday> holidays) {
+    }
+
+    TenantCalendar(CompanyHolidays overlay) {
+        this.overlay = overlay;
+    }
+
+    /**
+     * @return the public holidays of the country-year with the tenant's closures added
+     */
+    public List<PublicHoliday> merge(String countryCode, int year, List<PublicHoliday> holidays) {
+        String key = countryCode + "-" + year;
+        Merged current = merged.get(key);
+        if (current != null && current.from() == holidays) {
+            return current.holidays();
+        }
+        synchronized (this) {
+            current = merged.get(key);
+            if (current == null || current.from() != holidays) {
+                current = new Merged(holidays, overlay.merge(countryCode, year, holidays));
+                calendars.update(countryCode, year, current.holidays());
+                merged.put(key, current);
+            }
+            return current.holidays();
+        }
+    }
+
+    CompanyHolidays getOverlay() {
+        return overlay;
+    }
+
+    public DerivedCalendars getCalendars() {
+        return calendars;
+    }
+}
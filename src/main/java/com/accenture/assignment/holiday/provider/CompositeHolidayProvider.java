@@ -0,0 +1,105 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Asks several providers in order of priority.
+ * <p>
+ * Holidays come from the first provider that has data for the country-year; a provider that holds none
+ * or fails is passed over for the next one. Only when every provider failed is the first failure thrown,
+ * with the others attached as suppressed exceptions, so callers still see the
+ * {@link com.accenture.assignment.holiday.exception.UpstreamRejectedException} or
+ * {@link org.springframework.web.client.RestClientException} they fall back on. The available countries
+ * are the union of all country lists, the names of higher-priority providers winning; a failing provider
+ * fails the whole list, so an outage never shrinks it.
+ * </p>
+ * <p>
+ * Lookups are counted in {@code holiday.provider.requests}, tagged with the provider and
+ * {@code hit}, {@code miss} or {@code error}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Slf4j
+public class CompositeHolidayProvider implements HolidayProvider {
+
+    private static final String REQUESTS = "holiday.provider.requests";
+
+    private final List<HolidayProvider> providers;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param providers the providers, highest priority first
+     */
+    public CompositeHolidayProvider(List<HolidayProvider> providers, MeterRegistry meterRegistry) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("At least one holiday provider is required.");
+        }
+        this.providers = List.copyOf(providers);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return providers.stream().map(HolidayProvider::getName).collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Map<String, String> getAvailableCountries() {
+        Map<String, String> countries = null;
+        for (HolidayProvider provider : providers) {
+            Map<String, String> provided = provider.getAvailableCountries();
+            if (provided != null) {
+                if (countries == null) {
+                    countries = new TreeMap<>();
+                }
+                provided.forEach(countries::putIfAbsent);
+            }
+        }
+        return countries;
+    }
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        RuntimeException failure = null;
+        for (HolidayProvider provider : providers) {
+            List<PublicHoliday> holidays;
+            try {
+                holidays = provider.getPublicHolidays(year, countryCode);
+            } catch (RuntimeException e) {
+                count(provider, "error");
+                log.debug("Provider {} failed for {}-{}: {}", provider.getName(), countryCode, year, e.toString());
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                continue;
+            }
+            if (holidays != null) {
+                count(provider, "hit");
+                return holidays;
+            }
+            count(provider, "miss");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return null;
+    }
+
+    List<HolidayProvider> getProviders() {
+        return providers;
+    }
+
+    private void count(HolidayProvider provider, String result) {
+        meterRegistry.counter(REQUESTS, "provider", provider.getName(), "result", result).increment();
+    }
+}
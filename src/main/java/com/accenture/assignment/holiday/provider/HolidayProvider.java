@@ -0,0 +1,38 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Source of public holiday data.
+ * <p>
+ * The service asks its provider for the available countries and for the public holidays of one
+ * country-year, and keeps what it gets in the {@link com.accenture.assignment.holiday.cache.HolidayCache}.
+ * A provider answers {@code null} for data it does not hold, so that a {@link CompositeHolidayProvider} can
+ * ask the next one, and throws an unchecked exception when its source fails.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public interface HolidayProvider {
+
+    /**
+     * @return the name of the provider, used in logs and metrics
+     */
+    String getName();
+
+    /**
+     * @return the available countries by upper-case country code, or {@code null} if the provider holds no
+     * country list
+     */
+    Map<String, String> getAvailableCountries();
+
+    /**
+     * @param year        the year
+     * @param countryCode the upper-case country code
+     * @return the public holidays of the country-year, or {@code null} if the provider has no data for it
+     */
+    List<PublicHoliday> getPublicHolidays(int year, String countryCode);
+}
@@ -0,0 +1,279 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Serves holiday data from files in a local directory, for deployments without access to the external API
+ * or with more traffic than it should see.
+ * <p>
+ * Every {@code .json} and {@code .ics} file below the directory holds holidays of the country its name
+ * starts with, e.g. {@code NL.json}, {@code NL-2025.ics} or {@code 2025/NL.json}, for any number of years.
+ * JSON files hold an array in the format of the date.nager.at {@code PublicHolidays} response; iCalendar
+ * files hold one {@code VEVENT} per holiday with an all-day {@code DTSTART}, an optional exclusive
+ * {@code DTEND} for holidays of several days and the name as {@code SUMMARY}; recurrence rules are not
+ * expanded. An optional {@code countries.json} in the format of the {@code AvailableCountries} response
+ * names the countries; countries without it are named after their locale.
+ * </p>
+ * <p>
+ * The files are read once, through memory-mapped buffers, when the provider is created, and their holidays
+ * are held as immutable lists, so lookups are plain map reads. A country-year between the first and the
+ * last year of a country's files is answered, with an empty list if it has no holidays; other years are
+ * left to the next provider. Unreadable files and entries are logged and skipped.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Slf4j
+public class LocalHolidayProvider implements HolidayProvider {
+
+    static final String COUNTRIES_FILE = "countries.json";
+
+    private static final DateTimeFormatter ICAL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_EVENT_DAYS = 31;
+
+    private final Map<String, String> countries;
+    private final Map<String, List<PublicHoliday>> holidays;
+    private final Map<String, int[]> years;
+
+    /**
+     * Reads all holiday files below the directory.
+     *
+     * @throws UncheckedIOException if the directory cannot be listed
+     */
+    public LocalHolidayProvider(Path directory, ObjectMapper objectMapper) {
+        ObjectReader reader = objectMapper.reader().without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        Map<String, List<PublicHoliday>> byCountry = new TreeMap<>();
+        Map<String, String> names = new TreeMap<>();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read holiday files from " + directory, e);
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            try {
+                if (name.equalsIgnoreCase(COUNTRIES_FILE)) {
+                    List<AvailableCountry> listed = readJson(file, reader, new TypeReference<>() {});
+                    listed.forEach(country -> names.put(country.countryCode().toUpperCase(Locale.ROOT), country.name()));
+                    continue;
+                }
+                String lower = name.toLowerCase(Locale.ROOT);
+                if (!lower.endsWith(".json") && !lower.endsWith(".ics")) {
+                    continue;
+                }
+                String countryCode = countryCode(name);
+                if (countryCode == null) {
+                    log.warn("Ignoring {}: the file name does not start with a country code", file);
+                    continue;
+                }
+                List<PublicHoliday> read = lower.endsWith(".json")
+                        ? readJson(file, reader, new TypeReference<List<PublicHoliday>>() {})
+                        : readIcal(map(file));
+                byCountry.computeIfAbsent(countryCode, code -> new ArrayList<>()).addAll(read);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignoring unreadable holiday file {}: {}", file, e.toString());
+            }
+        }
+        this.holidays = new HashMap<>();
+        this.years = new HashMap<>();
+        byCountry.forEach(this::index);
+        byCountry.keySet().forEach(code -> names.computeIfAbsent(code,
+                c -> new Locale("", c).getDisplayCountry(Locale.ENGLISH)));
+        this.countries = Map.copyOf(names);
+        log.info("Loaded {} holidays of {} countries from {}",
+                holidays.values().stream().mapToInt(List::size).sum(), byCountry.size(), directory);
+    }
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public Map<String, String> getAvailableCountries() {
+        return countries.isEmpty() ? null : countries;
+    }
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        List<PublicHoliday> found = holidays.get(key(countryCode, year));
+        if (found != null) {
+            return found;
+        }
+        int[] range = years.get(countryCode);
+        return range != null && year >= range[0] && year <= range[1] ? List.of() : null;
+    }
+
+    /**
+     * Groups the holidays of a country by year, sorted by date and without duplicates, and records the
+     * years the country's files cover.
+     */
+    private void index(String countryCode, List<PublicHoliday> all) {
+        Map<Integer, List<PublicHoliday>> byYear = new TreeMap<>();
+        for (PublicHoliday holiday : all) {
+            LocalDate date;
+            try {
+                date = LocalDate.parse(holiday.date());
+            } catch (DateTimeParseException | NullPointerException e) {
+                log.warn("Ignoring holiday of {} with invalid date '{}'", countryCode, holiday.date());
+                continue;
+            }
+            byYear.computeIfAbsent(date.getYear(), year -> new ArrayList<>()).add(holiday);
+        }
+        if (byYear.isEmpty()) {
+            return;
+        }
+        byYear.forEach((year, list) -> holidays.put(key(countryCode, year), list.stream()
+                .distinct()
+                .sorted(Comparator.comparing(PublicHoliday::date))
+                .toList()));
+        List<Integer> covered = List.copyOf(byYear.keySet());
+        years.put(countryCode, new int[]{covered.get(0), covered.get(covered.size() - 1)});
+    }
+
+    /**
+     * @return the upper-case country code the file name starts with, or {@code null} if it starts with none
+     */
+    static String countryCode(String fileName) {
+        int end = 0;
+        while (end < fileName.length() && Character.isLetter(fileName.charAt(end))) {
+            end++;
+        }
+        return end == 2 && CountryRegistry.slot(fileName, 0, 2) >= 0 ? fileName.substring(0, 2).toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static <T> T readJson(Path file, ObjectReader reader, TypeReference<T> type) throws IOException {
+        try (InputStream in = new ByteBufferBackedInputStream(map(file))) {
+            return reader.forType(type).readValue(in);
+        }
+    }
+
+    /**
+     * Reads the holidays of an iCalendar file: one holiday per day of each all-day event.
+     */
+    static List<PublicHoliday> readIcal(ByteBuffer content) {
+        List<PublicHoliday> result = new ArrayList<>();
+        LocalDate start = null;
+        LocalDate end = null;
+        String summary = null;
+        boolean inEvent = false;
+        for (String line : unfold(StandardCharsets.UTF_8.decode(content).toString())) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String property = line.substring(0, colon);
+            int semicolon = property.indexOf(';');
+            String name = (semicolon < 0 ? property : property.substring(0, semicolon)).toUpperCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (name.equals("BEGIN") && value.equalsIgnoreCase("VEVENT")) {
+                inEvent = true;
+                start = null;
+                end = null;
+                summary = null;
+            } else if (inEvent && name.equals("DTSTART")) {
+                start = icalDate(value);
+            } else if (inEvent && name.equals("DTEND")) {
+                end = icalDate(value);
+            } else if (inEvent && name.equals("SUMMARY")) {
+                summary = unescape(value);
+            } else if (name.equals("END") && value.equalsIgnoreCase("VEVENT") && inEvent) {
+                inEvent = false;
+                if (start == null || summary == null) {
+                    continue;
+                }
+                LocalDate last = end == null || !end.isAfter(start) ? start : end.minusDays(1);
+                if (last.isAfter(start.plusDays(MAX_EVENT_DAYS))) {
+                    last = start.plusDays(MAX_EVENT_DAYS);
+                }
+                for (LocalDate day = start; !day.isAfter(last); day = day.plusDays(1)) {
+                    result.add(new PublicHoliday(day.toString(), summary, summary));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits iCalendar content into lines, joining continuation lines that start with a space or tab.
+     */
+    private static List<String> unfold(String content) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder current = null;
+        for (String line : content.split("\r?\n")) {
+            if (current != null && !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+                current.append(line, 1, line.length());
+                continue;
+            }
+            if (current != null) {
+                lines.add(current.toString());
+            }
+            current = new StringBuilder(line);
+        }
+        if (current != null) {
+            lines.add(current.toString());
+        }
+        return lines;
+    }
+
+    private static LocalDate icalDate(String value) {
+        try {
+            return value.length() < 8 ? null : LocalDate.parse(value.substring(0, 8), ICAL_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String unescape(String value) {
+        return value.replace("\\n", " ").replace("\\N", " ").replace("\\,", ",").replace("\\;", ";")
+                .replace("\\\\", "\\");
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static String key(String countryCode, int year) {
+        return countryCode + "-" + year;
+    }
+
+    /**
+     * @return the countries with holiday files and the years they cover, for logging and tests
+     */
+    Map<String, String> getCoveredYears() {
+        return years.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                entry -> entry.getValue()[0] + "-" + entry.getValue()[1], (a, b) -> a, TreeMap::new));
+    }
+}
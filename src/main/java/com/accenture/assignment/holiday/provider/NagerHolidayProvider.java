@@ -0,0 +1,86 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.accenture.assignment.holiday.resilience.HedgedRequestExecutor;
+import com.accenture.assignment.holiday.resilience.UpstreamLimiter;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Reads holiday data from the date.nager.at API.
+ * <p>
+ * Every call passes through the {@link UpstreamLimiter}, which rejects calls it cannot admit with an
+ * {@link com.accenture.assignment.holiday.exception.UpstreamRejectedException}, and slow calls can be hedged
+ * by the {@link HedgedRequestExecutor}. Each attempt to load holidays is a {@code holiday.upstream.call}
+ * span tagged with its attempt number, a child of the observation current when the provider is asked.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public class NagerHolidayProvider implements HolidayProvider {
+
+    public static final String DEFAULT_BASE_URL = "https://date.nager.at/api/v3";
+
+    static final String AVAILABLE_COUNTRIES_URI = "/AvailableCountries";
+
+    static final String PUBLIC_HOLIDAYS_URI = "/PublicHolidays/{year}/{country}";
+
+    private final String baseUrl;
+    private final RestTemplate restTemplate;
+    private final UpstreamLimiter upstreamLimiter;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final ObservationRegistry observationRegistry;
+
+    public NagerHolidayProvider(String baseUrl, RestTemplate restTemplate, UpstreamLimiter upstreamLimiter,
+                                HedgedRequestExecutor hedgedRequestExecutor, ObservationRegistry observationRegistry) {
+        this.baseUrl = baseUrl;
+        this.restTemplate = restTemplate;
+        this.upstreamLimiter = upstreamLimiter;
+        this.hedgedRequestExecutor = hedgedRequestExecutor;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return "nager";
+    }
+
+    @Override
+    public Map<String, String> getAvailableCountries() {
+        List<AvailableCountry> countries = hedgedRequestExecutor.execute(() -> upstreamLimiter.call(
+                () -> restTemplate.exchange(
+                        baseUrl + AVAILABLE_COUNTRIES_URI,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<List<AvailableCountry>>() {}
+                ).getBody()));
+        return countries == null ? null : countries.stream()
+                .collect(Collectors.toMap(AvailableCountry::countryCode, AvailableCountry::name));
+    }
+
+    @Override
+    public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+        Observation parent = observationRegistry.getCurrentObservation();
+        AtomicInteger attempts = new AtomicInteger();
+        return hedgedRequestExecutor.execute(() -> Observation
+                .createNotStarted("holiday.upstream.call", observationRegistry)
+                .parentObservation(parent)
+                .highCardinalityKeyValue("attempt", String.valueOf(attempts.incrementAndGet()))
+                .observe(() -> upstreamLimiter.call(() -> restTemplate.exchange(
+                        baseUrl + PUBLIC_HOLIDAYS_URI,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<List<PublicHoliday>>() {},
+                        year, countryCode
+                ).getBody())));
+    }
+}
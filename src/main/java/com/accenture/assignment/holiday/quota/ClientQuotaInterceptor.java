@@ -0,0 +1,155 @@
+package com.accenture.assignment.holiday.quota;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.QuotaExceededException;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Enforces per-client quotas on the holiday endpoints.
+ * <p>
+ * A client is identified by the configured header, usually an API key, and by its remote address when the
+ * header is missing. Each request is charged one unit per country-year it may load: the number of countries
+ * (every available country for endpoints that load all of them) times the number of calendar years. The years
+ * are those between the {@code from} and {@code to} dates, the years recent and upcoming holidays look
+ * through, or the years a business-day calendar is compiled for. A client over its quota is rejected with a
+ * {@link QuotaExceededException} (429 with {@code Retry-After}) before admission control, so one client's
+ * batch job cannot take the admission slots of the others.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class ClientQuotaInterceptor implements HandlerInterceptor {
+
+    private static final int MAX_YEARS = 100;
+
+    private final ClientQuotaTracker tracker;
+    private final CountryRegistry countryRegistry;
+    private final boolean enabled;
+    private final String clientHeader;
+
+    public ClientQuotaInterceptor(ClientQuotaTracker tracker,
+                                  CountryRegistry countryRegistry,
+                                  @Value("${holiday.quota.enabled:true}") boolean enabled,
+                                  @Value("${holiday.quota.clientHeader:X-Api-Key}") String clientHeader) {
+        this.tracker = tracker;
+        this.countryRegistry = countryRegistry;
+        this.enabled = enabled;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        long retryAfterSeconds = tracker.tryConsume(client(request), cost(request));
+        if (retryAfterSeconds > 0) {
+            throw new QuotaExceededException(
+                    "Quota exceeded. Please retry in " + retryAfterSeconds + " second(s).", retryAfterSeconds);
+        }
+        return true;
+    }
+
+    String client(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    /**
+     * Weighs a request by the country-years it may load.
+     */
+    int cost(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        int countries = 1;
+        if (path.endsWith("/non-weekend-count")
+                || path.endsWith("/long-weekends") && request.getParameter("countries") != null) {
+            countries = count(request.getParameter("countries"));
+        } else if (path.endsWith("/ranking") || path.contains("/countries-off") || path.endsWith("/long-weekends")) {
+            countries = Math.max(1, countryRegistry.getCountryCodes().size());
+        } else if (path.endsWith("/common")) {
+            countries = 2;
+        }
+        return countries * years(request);
+    }
+
+    private static int years(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.endsWith("/recent")) {
+            return HolidayInsightService.LOOK_BACK_YEARS;
+        }
+        if (path.endsWith("/upcoming")) {
+            return HolidayInsightService.LOOK_AHEAD_YEARS;
+        }
+        if (path.endsWith("/business-days/add")) {
+            return businessDaysYears(request.getParameter("days"));
+        }
+        if (path.endsWith("/business-days/next")) {
+            return businessDaysYears("1");
+        }
+        return years(request.getParameter("from"), request.getParameter("to"));
+    }
+
+    /**
+     * @return the calendar years compiled to move the given number of business days, the start year included,
+     * or {@code 1} if the number is missing or malformed
+     */
+    static int businessDaysYears(String days) {
+        if (days == null) {
+            return 1;
+        }
+        long moved;
+        try {
+            moved = Math.abs(Long.parseLong(days.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+        return (int) Math.min(HolidayInsightService.MAX_BUSINESS_CALENDAR_YEARS,
+                moved / HolidayInsightService.MIN_BUSINESS_DAYS_PER_YEAR + 2);
+    }
+
+    private static int count(String countries) {
+        if (countries == null) {
+            return 1;
+        }
+        int count = 1;
+        for (int i = 0; i < countries.length(); i++) {
+            if (countries.charAt(i) == ',') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the calendar years spanned by two ISO dates, or {@code 1} if either is missing or malformed
+     */
+    static int years(String from, String to) {
+        int first = year(from);
+        int last = year(to);
+        if (first < 0 || last < first) {
+            return 1;
+        }
+        return Math.min(MAX_YEARS, last - first + 1);
+    }
+
+    private static int year(String date) {
+        if (date == null || date.length() < 4) {
+            return -1;
+        }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = date.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            year = year * 10 + (c - '0');
+        }
+        return year;
+    }
+}
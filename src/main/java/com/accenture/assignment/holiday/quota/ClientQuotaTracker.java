@@ -0,0 +1,230 @@
+package com.accenture.assignment.holiday.quota;
+
+import com.accenture.assignment.holiday.model.ClientUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client quotas over a sliding window.
+ * <p>
+ * Every client has a budget of units per window: its configured limit, or the default limit. Each client
+ * is tracked by a {@link SlidingWindowCounter}, so charging a request is a few array reads and one
+ * compare-and-set, without locks. The check and the charge are not one atomic step, so concurrent requests
+ * of the same client can overshoot its limit by at most the units they carry. Clients beyond the maximum
+ * number tracked share one budget, which keeps memory bounded when clients are identified by address.
+ * Clients without a configured limit are dropped once their window is empty, so the slots go to the clients
+ * active now: a caller sending a new ID with every request gets at most the maximum number of budgets at
+ * once, and clients arriving after the busy ones have gone get budgets of their own again.
+ * </p>
+ * <p>
+ * Client IDs are usually API keys, so they are never reported as given: usage and metrics name a client by
+ * its masked ID, {@code sha256:} followed by the start of the ID's hash.
+ * </p>
+ * <p>
+ * Metrics: counters {@code holiday.quota.units} (units charged) and {@code holiday.quota.rejected} (requests
+ * rejected), and gauge {@code holiday.quota.usage} (units used in the current window), all tagged by masked
+ * client ID. Clients without a configured limit are tagged {@code other} to keep the number of series bounded.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class ClientQuotaTracker {
+
+    static final String OTHER = "other";
+    private static final int BUCKETS = 10;
+
+    private final long windowMillis;
+    private final long defaultLimit;
+    private final int maxClients;
+    private final Map<String, Long> clientLimits;
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+    private final Client overflow;
+    private final AtomicLong lastSweep;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ClientQuotaTracker(@Value("${holiday.quota.windowSeconds:60}") long windowSeconds,
+                              @Value("${holiday.quota.defaultLimit:20000}") long defaultLimit,
+                              @Value("${holiday.quota.clientLimits:}") String clientLimits,
+                              @Value("${holiday.quota.maxClients:1000}") int maxClients,
+                              MeterRegistry meterRegistry) {
+        this(windowSeconds * 1000, defaultLimit, parseLimits(clientLimits), maxClients, meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    ClientQuotaTracker(long windowMillis, long defaultLimit, Map<String, Long> clientLimits, int maxClients,
+                       MeterRegistry meterRegistry, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.defaultLimit = defaultLimit;
+        this.maxClients = maxClients;
+        this.clientLimits = Map.copyOf(clientLimits);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.overflow = new Client(OTHER, defaultLimit, OTHER);
+        this.lastSweep = new AtomicLong(clock.getAsLong() - windowMillis);
+        clientLimits.keySet().forEach(this::client);
+    }
+
+    /**
+     * Charges a request to the client's quota if it fits.
+     *
+     * @param clientId the client making the request
+     * @param units    the cost of the request
+     * @return {@code 0} if the request was charged, otherwise the seconds until the client may retry
+     */
+    public long tryConsume(String clientId, int units) {
+        Client client = client(clientId);
+        long now = clock.getAsLong();
+        if (client.window.sum(now) + units > client.limit) {
+            client.rejected.increment();
+            client.rejectedCounter.increment();
+            return Math.max(1, (client.window.millisUntilExpiry(now) + 999) / 1000);
+        }
+        client.window.add(now, units);
+        client.accepted.add(units);
+        client.unitsCounter.increment(units);
+        return 0;
+    }
+
+    /**
+     * @return the usage of every tracked client, highest usage first
+     */
+    public List<ClientUsage> getUsage() {
+        List<ClientUsage> usage = new ArrayList<>();
+        clients.values().forEach(client -> usage.add(usage(client)));
+        if (overflow.accepted.sum() > 0 || overflow.rejected.sum() > 0) {
+            usage.add(usage(overflow));
+        }
+        usage.sort(Comparator.comparingLong(ClientUsage::used).reversed().thenComparing(ClientUsage::client));
+        return usage;
+    }
+
+    /**
+     * @param clientId the client ID, or its masked form as reported by {@link #getUsage()}
+     * @return the usage of one client, or {@code null} if it has not been seen
+     */
+    public ClientUsage getUsage(String clientId) {
+        Client client = OTHER.equals(clientId) ? overflow : clients.get(clientId);
+        if (client == null) {
+            client = clients.values().stream()
+                    .filter(candidate -> candidate.masked.equals(clientId))
+                    .findFirst()
+                    .orElse(null);
+        }
+        return client == null ? null : usage(client);
+    }
+
+    private ClientUsage usage(Client client) {
+        long used = client.window.sum(clock.getAsLong());
+        return new ClientUsage(client.masked, client.limit, used, Math.max(0, client.limit - used),
+                client.accepted.sum(), client.rejected.sum());
+    }
+
+    /**
+     * @return {@code sha256:} and the first 12 hex digits of the SHA-256 hash of the ID, or {@code other} for
+     * the shared budget
+     */
+    static String mask(String clientId) {
+        if (OTHER.equals(clientId)) {
+            return OTHER;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(clientId.getBytes(StandardCharsets.UTF_8));
+            return "sha256:" + HexFormat.of().formatHex(hash, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Client client(String clientId) {
+        Client client = clients.get(clientId);
+        if (client != null) {
+            return client;
+        }
+        Long limit = clientLimits.get(clientId);
+        if (limit == null && clients.size() >= maxClients && !dropIdleClients()) {
+            return overflow;
+        }
+        return clients.computeIfAbsent(clientId, id ->
+                new Client(id, limit == null ? defaultLimit : limit, limit == null ? OTHER : id));
+    }
+
+    /**
+     * Drops the clients without a configured limit that have used nothing in the current window, at most once
+     * per bucket of the window so a full table is not scanned on every request.
+     *
+     * @return {@code true} if there is room for another client
+     */
+    private boolean dropIdleClients() {
+        long now = clock.getAsLong();
+        long last = lastSweep.get();
+        if (now - last >= windowMillis / BUCKETS && lastSweep.compareAndSet(last, now)) {
+            clients.values().removeIf(client -> !clientLimits.containsKey(client.id) && client.window.sum(now) == 0);
+        }
+        return clients.size() < maxClients;
+    }
+
+    /**
+     * Parses limits written as {@code client:limit} pairs separated by commas.
+     */
+    static Map<String, Long> parseLimits(String clientLimits) {
+        Map<String, Long> limits = new LinkedHashMap<>();
+        if (clientLimits == null || clientLimits.isBlank()) {
+            return limits;
+        }
+        for (String entry : clientLimits.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid client limit '" + entry.trim()
+                        + "'. Expected client:limit.");
+            }
+            limits.put(entry.substring(0, separator).trim(), Long.parseLong(entry.substring(separator + 1).trim()));
+        }
+        return limits;
+    }
+
+    private final class Client {
+
+        private final String id;
+        private final String masked;
+        private final long limit;
+        private final SlidingWindowCounter window = new SlidingWindowCounter(windowMillis, BUCKETS);
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final Counter unitsCounter;
+        private final Counter rejectedCounter;
+
+        Client(String id, long limit, String tag) {
+            this.id = id;
+            this.masked = mask(id);
+            this.limit = limit;
+            this.unitsCounter = meterRegistry.counter("holiday.quota.units", "client", mask(tag));
+            this.rejectedCounter = meterRegistry.counter("holiday.quota.rejected", "client", mask(tag));
+            if (!OTHER.equals(tag)) {
+                Gauge.builder("holiday.quota.usage", this, client -> client.window.sum(clock.getAsLong()))
+                        .tag("client", masked)
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
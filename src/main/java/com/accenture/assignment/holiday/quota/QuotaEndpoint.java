@@ -0,0 +1,37 @@
+package com.accenture.assignment.holiday.quota;
+
+import com.accenture.assignment.holiday.model.ClientUsage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Admin view of client quotas at {@code /actuator/quotas}.
+ * <p>
+ * Lists every tracked client with its limit, the units used in the current window and its totals, highest
+ * usage first; {@code /actuator/quotas/{client}} shows a single client.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Endpoint(id = "quotas")
+@RequiredArgsConstructor
+public class QuotaEndpoint {
+
+    private final ClientQuotaTracker tracker;
+
+    @ReadOperation
+    public List<ClientUsage> quotas() {
+        return tracker.getUsage();
+    }
+
+    @ReadOperation
+    public ClientUsage quota(@Selector String client) {
+        return tracker.getUsage(client);
+    }
+}
@@ -0,0 +1,81 @@
+package com.accenture.assignment.holiday.quota;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counter of the units consumed in a sliding time window.
+ * <p>
+ * The window is split into a fixed number of buckets. Each bucket is a single {@code long} holding the
+ * bucket's epoch (the current time divided by the bucket length) in its upper 24 bits and the count in its
+ * lower 40 bits, so recycling an expired bucket and adding to it is one compare-and-set. Reading the window
+ * sums the buckets whose epoch is still inside it. The window slides by one bucket at a time.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long EPOCH_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
+    private final AtomicLongArray buckets;
+    private final long bucketMillis;
+
+    SlidingWindowCounter(long windowMillis, int bucketCount) {
+        this.buckets = new AtomicLongArray(bucketCount);
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+    }
+
+    /**
+     * Adds units to the bucket of the current time.
+     */
+    void add(long nowMillis, long units) {
+        long epoch = nowMillis / bucketMillis;
+        int index = (int) (epoch % buckets.length());
+        long tag = epoch & EPOCH_MASK;
+        while (true) {
+            long bucket = buckets.get(index);
+            long count = (bucket >>> COUNT_BITS) == tag ? bucket & COUNT_MASK : 0;
+            long updated = (tag << COUNT_BITS) | Math.min(count + units, COUNT_MASK);
+            if (buckets.compareAndSet(index, bucket, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the units consumed in the window ending at the current time
+     */
+    long sum(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        long sum = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+            if (isLive(bucket, epoch)) {
+                sum += bucket & COUNT_MASK;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return the milliseconds until the oldest units in the window expire, or {@code 0} if it is empty
+     */
+    long millisUntilExpiry(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        long oldest = -1;
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+            if ((bucket & COUNT_MASK) > 0 && isLive(bucket, epoch)) {
+                long age = (epoch - (bucket >>> COUNT_BITS)) & EPOCH_MASK;
+                oldest = Math.max(oldest, age);
+            }
+        }
+        return oldest < 0 ? 0 : (epoch - oldest + buckets.length()) * bucketMillis - nowMillis;
+    }
+
+    private boolean isLive(long bucket, long epoch) {
+        return ((epoch - (bucket >>> COUNT_BITS)) & EPOCH_MASK) < buckets.length();
+    }
+}
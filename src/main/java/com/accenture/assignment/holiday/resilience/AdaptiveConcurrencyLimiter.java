@@ -0,0 +1,92 @@
+package com.accenture.assignment.holiday.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cost-weighted concurrency limit for incoming requests, adapted with AIMD.
+ * <p>
+ * Every admitted request adds its cost to the in-flight total, and a request is only admitted while the
+ * total stays within the limit. Expensive requests may only fill a share of the limit, which keeps room
+ * for cheap ones under pressure. The limit grows additively (by {@code 1/limit} per fast, successful
+ * request, i.e. roughly one per limit's worth of requests) and shrinks multiplicatively whenever a request
+ * fails or takes longer than the latency target. A request is always admitted when nothing is in flight.
+ * </p>
+ * <p>
+ * Metrics: gauges {@code holiday.admission.limit} and {@code holiday.admission.inflight}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyTargetMillis;
+    private final double backoffRatio;
+    private final double heavyShare;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(@Value("${holiday.admission.initialLimit:64}") int initialLimit,
+                                      @Value("${holiday.admission.minLimit:8}") int minLimit,
+                                      @Value("${holiday.admission.maxLimit:512}") int maxLimit,
+                                      @Value("${holiday.admission.latencyTargetMillis:2000}") long latencyTargetMillis,
+                                      @Value("${holiday.admission.backoffRatio:0.9}") double backoffRatio,
+                                      @Value("${holiday.admission.heavyShare:0.5}") double heavyShare,
+                                      MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetMillis = latencyTargetMillis;
+        this.backoffRatio = backoffRatio;
+        this.heavyShare = heavyShare;
+        this.limit = initialLimit;
+        Gauge.builder("holiday.admission.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("holiday.admission.inflight", this, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @param cost  the cost of the request; capped at the minimum limit so every request can be admitted
+     * @param heavy whether the request belongs to the expensive class limited to a share of the limit
+     * @return the cost that was admitted and must be passed to {@link #release}, or {@code 0} if rejected
+     */
+    public synchronized int tryAcquire(int cost, boolean heavy) {
+        int admitted = (int) Math.max(1, Math.min(cost, minLimit));
+        double ceiling = heavy ? limit * heavyShare : limit;
+        if (inFlight > 0 && inFlight + admitted > ceiling) {
+            return 0;
+        }
+        inFlight += admitted;
+        return admitted;
+    }
+
+    /**
+     * Releases an admitted request and adapts the limit to how it went.
+     *
+     * @param cost          the cost returned by {@link #tryAcquire}
+     * @param latencyMillis how long the request took
+     * @param failed        whether the request failed on the server side
+     */
+    public synchronized void release(int cost, long latencyMillis, boolean failed) {
+        inFlight -= cost;
+        if (failed || latencyMillis > latencyTargetMillis) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
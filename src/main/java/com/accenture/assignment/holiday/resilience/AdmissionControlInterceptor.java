@@ -0,0 +1,100 @@
+package com.accenture.assignment.holiday.resilience;
+
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admission control in front of the holiday endpoints.
+ * <p>
+ * Prices each request by how much upstream work it can cause, asks the {@link AdaptiveConcurrencyLimiter}
+ * for admission and sheds the request with a {@link ServiceOverloadedException} (503 with
+ * {@code Retry-After}) before it reaches the controller when the limit is reached. On completion the
+ * request's latency and outcome feed back into the limit.
+ * </p>
+ * <p>
+ * Metrics: counter {@code holiday.admission.rejected} tagged by cost class ({@code light} or {@code heavy}).
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED_COST = AdmissionControlInterceptor.class.getName() + ".cost";
+    private static final String STARTED_AT = AdmissionControlInterceptor.class.getName() + ".startedAt";
+    private static final int ALL_COUNTRIES_COST = 8;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int heavyCostThreshold;
+    private final long retryAfterSeconds;
+
+    public AdmissionControlInterceptor(AdaptiveConcurrencyLimiter limiter,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${holiday.admission.enabled:true}") boolean enabled,
+                                       @Value("${holiday.admission.heavyCostThreshold:4}") int heavyCostThreshold,
+                                       @Value("${holiday.admission.retryAfterSeconds:1}") long retryAfterSeconds) {
+        this.limiter = limiter;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.heavyCostThreshold = heavyCostThreshold;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        int cost = cost(request);
+        boolean heavy = cost >= heavyCostThreshold;
+        int admitted = limiter.tryAcquire(cost, heavy);
+        if (admitted == 0) {
+            meterRegistry.counter("holiday.admission.rejected", "class", heavy ? "heavy" : "light").increment();
+            throw new ServiceOverloadedException(
+                    "The service is busy. Please retry in " + retryAfterSeconds + " second(s).", retryAfterSeconds);
+        }
+        request.setAttribute(ADMITTED_COST, admitted);
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ADMITTED_COST) instanceof Integer admitted
+                && request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            long latencyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            limiter.release(admitted, latencyMillis, ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    /**
+     * Estimates the upstream work of a request: one unit per country-year it may fetch, and a fixed
+     * high cost for endpoints that load every available country.
+     */
+    int cost(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.endsWith("/non-weekend-count")) {
+            String countries = request.getParameter("countries");
+            return countries == null ? 1 : countries.split(",").length;
+        }
+        if (path.endsWith("/long-weekends")) {
+            String countries = request.getParameter("countries");
+            return countries == null ? ALL_COUNTRIES_COST : countries.split(",").length;
+        }
+        if (path.endsWith("/ranking") || path.contains("/countries-off")) {
+            return ALL_COUNTRIES_COST;
+        }
+        if (path.endsWith("/common")) {
+            return 2;
+        }
+        return 1;
+    }
+}
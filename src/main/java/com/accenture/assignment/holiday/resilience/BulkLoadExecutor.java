@@ -0,0 +1,70 @@
+package com.accenture.assignment.holiday.resilience;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs the per-item loads of a bulk request, such as the holidays of every available country, on a small
+ * fixed pool shared by all requests.
+ * <p>
+ * The pool bounds how many of these loads reach the external API at once across the whole instance, on top
+ * of the {@link UpstreamLimiter} every upstream call passes. Its size should let the waiting loads get a
+ * rate-limiter token within the limiter's wait budget, i.e. stay at or below
+ * {@code permitsPerSecond * maxWaitMillis / 1000}, so a cold bulk load is paced rather than rejected. With a
+ * parallelism of one the items are loaded one after the other on the caller's thread.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class BulkLoadExecutor {
+
+    private final ExecutorService executor;
+
+    public BulkLoadExecutor(@Value("${holiday.bulkLoad.parallelism:4}") int parallelism) {
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = parallelism <= 1 ? null : Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-load-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the task for every item and waits until all of them have finished.
+     *
+     * @param items the items to load
+     * @param task  loads one item; it should handle the failures of a single item itself
+     * @throws RuntimeException the first exception a task threw, once every task has finished
+     */
+    public <T> void forEach(Collection<T> items, Consumer<T> task) {
+        if (executor == null || items.size() < 2) {
+            items.forEach(task);
+            return;
+        }
+        CompletableFuture<?>[] loads = items.stream()
+                .map(item -> CompletableFuture.runAsync(() -> task.accept(item), executor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(loads).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.accenture.assignment.holiday.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs upstream calls with optional hedging.
+ * <p>
+ * When hedging is enabled, the call is started on a worker thread. If it has not completed after the
+ * observed p95 latency (but at least {@code minDelayMillis}), an identical second call is started and
+ * whichever succeeds first wins; the result of the other is discarded. A hedge is only sent once enough latency
+ * samples exist, and a failing attempt only fails the call once the other attempt has failed too.
+ * When hedging is disabled the call runs directly on the caller's thread.
+ * </p>
+ * <p>
+ * Metrics: counters {@code holiday.upstream.hedge.sent} and {@code holiday.upstream.hedge.won}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class HedgedRequestExecutor {
+
+    private final boolean enabled;
+    private final long minDelayMillis;
+    private final UpstreamLatencyTracker latencyTracker;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final ExecutorService executor;
+
+    public HedgedRequestExecutor(@Value("${nager.api.hedging.enabled:false}") boolean enabled,
+                                 @Value("${nager.api.hedging.minDelayMillis:50}") long minDelayMillis,
+                                 UpstreamLatencyTracker latencyTracker,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minDelayMillis = minDelayMillis;
+        this.latencyTracker = latencyTracker;
+        this.hedgesSent = meterRegistry.counter("holiday.upstream.hedge.sent");
+        this.hedgesWon = meterRegistry.counter("holiday.upstream.hedge.won");
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-hedge-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Executes the upstream call, hedging it if it is slower than usual.
+     *
+     * @param call the upstream call; it must be safe to run twice concurrently
+     * @return the result of the first successful attempt
+     */
+    public <T> T execute(Supplier<T> call) {
+        long p95 = latencyTracker.percentileMillis(0.95);
+        if (!enabled || p95 < 0) {
+            return call.get();
+        }
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(call, executor);
+        try {
+            return primary.get(Math.max(p95, minDelayMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return hedge(primary, call);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            primary.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the external API.", e);
+        }
+    }
+
+    private <T> T hedge(CompletableFuture<T> primary, Supplier<T> call) {
+        hedgesSent.increment();
+        CompletableFuture<T> secondary = CompletableFuture.supplyAsync(call, executor);
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> complete(winner, result, error, decided, failures, null));
+        secondary.whenComplete((result, error) -> complete(winner, result, error, decided, failures, hedgesWon));
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the external API.", e);
+        } finally {
+            primary.cancel(true);
+            secondary.cancel(true);
+        }
+    }
+
+    private static <T> void complete(CompletableFuture<T> winner, T result, Throwable error,
+                                     AtomicBoolean decided, AtomicInteger failures, Counter wins) {
+        if (error == null) {
+            if (decided.compareAndSet(false, true)) {
+                if (wins != null) {
+                    wins.increment();
+                }
+                winner.complete(result);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error e) {
+            throw e;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,146 @@
+package com.accenture.assignment.holiday.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical requests into a single computation.
+ * <p>
+ * Calls are keyed by operation name and normalized query parameters. The first caller for a key runs
+ * the computation; callers arriving while it is in flight wait for and share its result (or its
+ * exception). When a window is configured, a successful result stays shareable for that many
+ * milliseconds after completion, which also absorbs bursts that arrive just after one another.
+ * </p>
+ * <p>
+ * Counters {@code holiday.coalescer.calls} and {@code holiday.coalescer.collapsed}, tagged by
+ * operation, report how many calls arrived and how many were served from a shared computation.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class RequestCoalescer {
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(@Value("${holiday.coalescing.enabled:true}") boolean enabled,
+                            @Value("${holiday.coalescing.window-millis:0}") long windowMillis,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs the computation, or joins an identical one that is already in flight.
+     *
+     * @param operation   the operation name, used as metric tag and key prefix
+     * @param key         the normalized query parameters
+     * @param computation the computation to run when no identical call is in flight
+     * @return the (possibly shared) result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> computation) {
+        if (!enabled) {
+            return computation.get();
+        }
+        counter("holiday.coalescer.calls", operation).increment();
+        String coalescingKey = operation + '|' + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(coalescingKey, mine);
+        if (existing != null) {
+            counter("holiday.coalescer.collapsed", operation).increment();
+            return (T) join(existing);
+        }
+        try {
+            T result = computation.get();
+            mine.complete(result);
+            release(coalescingKey, mine, windowMillis);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            release(coalescingKey, mine, 0);
+            throw e;
+        }
+    }
+
+    /**
+     * Builds a key from list-valued parameters so that order and duplicates do not matter.
+     *
+     * @param values a comma-separated list, e.g. {@code "US, CA,US"}
+     * @return the trimmed, de-duplicated and sorted values joined by commas
+     */
+    public static String normalizeList(String values) {
+        if (values == null) {
+            return "null";
+        }
+        return String.join(",", new TreeSet<>(Arrays.stream(values.split(","))
+                .map(String::trim)
+                .toList()));
+    }
+
+    /**
+     * Scopes a key to a tenant, so requests for different company calendars are never shared.
+     *
+     * @param key    the key of the request parameters
+     * @param tenant the tenant, or {@code null} for the public calendar
+     * @return the key itself for the public calendar, otherwise the key suffixed with the tenant
+     */
+    public static String withTenant(String key, String tenant) {
+        return tenant == null ? key : key + "@" + tenant;
+    }
+
+    /**
+     * Scopes a key to a list of holiday types, ignoring their order, duplicates and case.
+     *
+     * @param key   the key of the other request parameters
+     * @param types a comma-separated list of holiday types, or {@code null} for all types
+     * @return the key itself for all types, otherwise the key suffixed with the normalized types
+     */
+    public static String withTypes(String key, String types) {
+        return types == null || types.isBlank() ? key : key + "#" + normalizeList(types.toUpperCase(Locale.ROOT));
+    }
+
+    private void release(String key, CompletableFuture<Object> future, long delayMillis) {
+        if (delayMillis <= 0) {
+            inFlight.remove(key, future);
+        } else {
+            CompletableFuture.runAsync(() -> inFlight.remove(key, future),
+                    CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
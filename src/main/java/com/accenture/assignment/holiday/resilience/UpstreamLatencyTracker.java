@@ -0,0 +1,129 @@
+package com.accenture.assignment.holiday.resilience;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Observes the latency of calls to the external API and derives adaptive timeouts and hedge delays from it.
+ * <p>
+ * Registered as an interceptor on the {@code RestTemplate}, it records the duration of every exchange
+ * (failed ones included, so timeouts push the estimate up) into a fixed-size ring buffer. Percentiles
+ * are recomputed from the buffer at most once per second. Until enough samples exist, the configured
+ * static response timeout is used.
+ * </p>
+ * <p>
+ * Metrics: gauges {@code holiday.upstream.latency} tagged by quantile and {@code holiday.upstream.timeout}
+ * with the response timeout currently applied, both in milliseconds.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class UpstreamLatencyTracker implements ClientHttpRequestInterceptor {
+
+    private static final int WINDOW = 512;
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean adaptive;
+    private final long minTimeoutMillis;
+    private final long maxTimeoutMillis;
+    private final double multiplier;
+    private final int minSamples;
+
+    private final long[] samples = new long[WINDOW];
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long[] sorted = new long[0];
+    private volatile long sortedAtNanos = System.nanoTime() - REFRESH_NANOS;
+
+    public UpstreamLatencyTracker(@Value("${nager.api.timeout.adaptive:true}") boolean adaptive,
+                                  @Value("${nager.api.timeout.minMillis:250}") long minTimeoutMillis,
+                                  @Value("${holiday.http.response-timeout:30}") int maxTimeoutSeconds,
+                                  @Value("${nager.api.timeout.multiplier:3}") double multiplier,
+                                  @Value("${nager.api.timeout.minSamples:20}") int minSamples,
+                                  MeterRegistry meterRegistry) {
+        this.adaptive = adaptive;
+        this.minTimeoutMillis = minTimeoutMillis;
+        this.maxTimeoutMillis = TimeUnit.SECONDS.toMillis(maxTimeoutSeconds);
+        this.multiplier = multiplier;
+        this.minSamples = minSamples;
+        for (double quantile : new double[]{0.5, 0.95, 0.99}) {
+            Gauge.builder("holiday.upstream.latency", this, t -> t.percentileMillis(quantile))
+                    .tag("quantile", String.valueOf(quantile))
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("holiday.upstream.timeout", this, UpstreamLatencyTracker::responseTimeoutMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Adds one latency sample.
+     *
+     * @param millis the duration of an upstream call in milliseconds
+     */
+    public void record(long millis) {
+        samples[(int) (recorded.getAndIncrement() % WINDOW)] = millis;
+    }
+
+    /**
+     * @param quantile the quantile, e.g. {@code 0.95}
+     * @return the observed latency at that quantile in milliseconds, or {@code -1} if too few samples exist
+     */
+    public long percentileMillis(double quantile) {
+        long[] snapshot = snapshot();
+        if (snapshot.length < minSamples) {
+            return -1;
+        }
+        int index = (int) Math.ceil(quantile * snapshot.length) - 1;
+        return snapshot[Math.min(Math.max(index, 0), snapshot.length - 1)];
+    }
+
+    /**
+     * The response timeout to apply to the next upstream call: the p99 latency times the multiplier,
+     * kept between the configured minimum and the static response timeout.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long responseTimeoutMillis() {
+        long p99 = adaptive ? percentileMillis(0.99) : -1;
+        if (p99 < 0) {
+            return maxTimeoutMillis;
+        }
+        return Math.min(maxTimeoutMillis, Math.max(minTimeoutMillis, (long) Math.ceil(p99 * multiplier)));
+    }
+
+    private long[] snapshot() {
+        long now = System.nanoTime();
+        if (now - sortedAtNanos >= REFRESH_NANOS) {
+            int size = (int) Math.min(recorded.get(), WINDOW);
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            sorted = copy;
+            sortedAtNanos = now;
+        }
+        return sorted;
+    }
+}
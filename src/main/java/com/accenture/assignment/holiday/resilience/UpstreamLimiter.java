@@ -0,0 +1,127 @@
+package com.accenture.assignment.holiday.resilience;
+
+import com.accenture.assignment.holiday.exception.UpstreamRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Token-bucket rate limiter plus concurrency bulkhead guarding every call to the external API.
+ * <p>
+ * A call first reserves a token (waiting for the bucket to refill if needed) and then a bulkhead
+ * permit. Both waits share one budget of {@code maxWaitMillis}; a call that cannot be admitted
+ * within it is rejected with an {@link UpstreamRejectedException} instead of queueing, so the
+ * caller can fall back to cached data straight away.
+ * </p>
+ * <p>
+ * Metrics: gauges {@code holiday.upstream.limiter.tokens} and {@code holiday.upstream.bulkhead.available},
+ * counter {@code holiday.upstream.rejected} tagged by reason, and timer {@code holiday.upstream.wait}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class UpstreamLimiter {
+
+    private final double burst;
+    private final double nanosPerToken;
+    private final long maxWaitNanos;
+    private final Semaphore bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public UpstreamLimiter(@Value("${nager.api.limiter.permitsPerSecond:10}") double permitsPerSecond,
+                           @Value("${nager.api.limiter.burst:20}") int burst,
+                           @Value("${nager.api.limiter.maxConcurrentCalls:8}") int maxConcurrentCalls,
+                           @Value("${nager.api.limiter.maxWaitMillis:500}") long maxWaitMillis,
+                           MeterRegistry meterRegistry) {
+        this.burst = burst;
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.bulkhead = new Semaphore(maxConcurrentCalls, true);
+        this.meterRegistry = meterRegistry;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.waitTimer = meterRegistry.timer("holiday.upstream.wait");
+        Gauge.builder("holiday.upstream.limiter.tokens", this, UpstreamLimiter::availableTokens)
+                .register(meterRegistry);
+        Gauge.builder("holiday.upstream.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs an upstream call once it is admitted by both the rate limiter and the bulkhead.
+     *
+     * @param upstreamCall the call to the external API
+     * @return the result of the call
+     * @throws UpstreamRejectedException if the call could not be admitted within the wait budget
+     */
+    public <T> T call(Supplier<T> upstreamCall) {
+        long start = System.nanoTime();
+        long delay = reserveToken(start);
+        if (delay < 0) {
+            throw reject("rate");
+        }
+        try {
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            long remaining = maxWaitNanos - (System.nanoTime() - start);
+            if (!bulkhead.tryAcquire(Math.max(remaining, 0), TimeUnit.NANOSECONDS)) {
+                throw reject("bulkhead");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted");
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        try {
+            return upstreamCall.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Takes a token, possibly ahead of time.
+     *
+     * @return the nanoseconds to wait before the token becomes valid, or {@code -1} if that exceeds the budget
+     */
+    private synchronized long reserveToken(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long wait = (long) Math.ceil((1 - tokens) * nanosPerToken);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return wait;
+    }
+
+    private synchronized double availableTokens() {
+        refill(System.nanoTime());
+        return tokens;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / nanosPerToken);
+        lastRefillNanos = now;
+    }
+
+    private UpstreamRejectedException reject(String reason) {
+        meterRegistry.counter("holiday.upstream.rejected", "reason", reason).increment();
+        return new UpstreamRejectedException("Call to the external API was rejected locally (" + reason + ").");
+    }
+}
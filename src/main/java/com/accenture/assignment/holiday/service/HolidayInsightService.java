@@ -2,6 +2,7 @@ package com.accenture.assignment.holiday.service;
 
 import com.accenture.assignment.holiday.model.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import jakarta.validation.constraints.NotBlank;
@@ -12,29 +13,136 @@ import jakarta.validation.constraints.NotNull;
  * <p>
  * Provides methods to:
  * <ul>
- *   <li>Fetch recent holidays for a given country</li>
+ *   <li>Fetch the recent or upcoming holidays of a given country</li>
  *   <li>Count non-weekend holidays for multiple countries in a specific year</li>
+ *   <li>Rank all countries by their non-weekend holiday count in a specific year</li>
  *   <li>Find holidays common to two countries in a given year</li>
+ *   <li>Answer business-day questions (add, count, next) for a country</li>
+ *   <li>List the countries observing a holiday on a date or over a date range</li>
+ *   <li>Find the long weekends and bridge days of countries in a year, and those they share</li>
  * </ul>
  * <p>
- * Uses constants for API endpoint URIs and base URL.
+ * Every query takes an optional tenant. With a tenant, the tenant's company holidays are merged into the
+ * public holidays; without one, and in the overloads that omit it, only public holidays are used.
+ * </p>
+ * <p>
+ * Non-weekend counts and common holidays also accept subdivision codes such as {@code DE-BY} in place of
+ * country codes, covering the nationwide holidays and those of the subdivision, and an optional
+ * comma-separated list of holiday types to count; the overloads without types count every type. Long
+ * weekends take the same codes and types, but without types only public holidays are days off.
+ * </p>
+ * <p>
+ * Recent and upcoming holidays take the number of holidays to return, from 1 to {@link #MAX_HOLIDAYS_COUNT};
+ * {@code null} and the overloads without it return {@link #DEFAULT_HOLIDAYS_COUNT}. They look at most
+ * {@link #LOOK_BACK_YEARS} or {@link #LOOK_AHEAD_YEARS} calendar years, starting with the current one.
+ * Business-day queries cover at most {@link #MAX_BUSINESS_CALENDAR_YEARS} years, and adding business days
+ * assumes at least {@link #MIN_BUSINESS_DAYS_PER_YEAR} of them per year.
  * </p>
  *
  * @author vinodbhatia83
  */
 public interface HolidayInsightService {
 
-    String AVAILABLE_COUNTRIES_URI = "/AvailableCountries";
+    int DEFAULT_HOLIDAYS_COUNT = 3;
+
+    int MAX_HOLIDAYS_COUNT = 50;
+
+    int LOOK_BACK_YEARS = 10;
+
+    int LOOK_AHEAD_YEARS = 5;
+
+    int MAX_BUSINESS_CALENDAR_YEARS = 20;
+
+    int MIN_BUSINESS_DAYS_PER_YEAR = 200;
+
+    default List<Holiday> getRecentHolidays(@NotBlank String country) {
+        return getRecentHolidays(country, null);
+    }
+
+    default List<Holiday> getRecentHolidays(@NotBlank String country, String tenant) {
+        return getRecentHolidays(country, null, tenant);
+    }
+
+    List<Holiday> getRecentHolidays(@NotBlank String country, Integer count, String tenant);
+
+    default List<Holiday> getUpcomingHolidays(@NotBlank String country) {
+        return getUpcomingHolidays(country, null, null);
+    }
+
+    List<Holiday> getUpcomingHolidays(@NotBlank String country, Integer count, String tenant);
+
+    default List<CountryHolidayCount> getNonWeekendHolidayCounts(@NotNull Integer year, @NotBlank String countries) {
+        return getNonWeekendHolidayCounts(year, countries, null);
+    }
 
-    String PUBLIC_HOLIDAYS_URI = "/PublicHolidays/{year}/{country}";
+    default List<CountryHolidayCount> getNonWeekendHolidayCounts(@NotNull Integer year, @NotBlank String countries,
+                                                                 String tenant) {
+        return getNonWeekendHolidayCounts(year, countries, null, tenant);
+    }
 
-    String BASE_API_URL = "https://date.nager.at/api/v3";
+    List<CountryHolidayCount> getNonWeekendHolidayCounts(@NotNull Integer year, @NotBlank String countries,
+                                                         String types, String tenant);
 
-    List<Holiday> getRecentHolidays(@NotBlank String country);
+    default List<CountryHolidayTotals> getHolidayCountRanking(@NotNull Integer year, Integer limit) {
+        return getHolidayCountRanking(year, limit, null);
+    }
 
-    List<CountryHolidayCount> getNonWeekendHolidayCounts(@NotNull Integer year, @NotBlank
-    String countries);
+    List<CountryHolidayTotals> getHolidayCountRanking(@NotNull Integer year, Integer limit, String tenant);
+
+    default List<CommonHoliday> getCommonHolidays(@NotNull Integer year, @NotBlank String country1,
+                                                  @NotBlank String country2) {
+        return getCommonHolidays(year, country1, country2, null);
+    }
+
+    default List<CommonHoliday> getCommonHolidays(@NotNull Integer year, @NotBlank String country1,
+                                                  @NotBlank String country2, String tenant) {
+        return getCommonHolidays(year, country1, country2, null, tenant);
+    }
 
     List<CommonHoliday> getCommonHolidays(@NotNull Integer year, @NotBlank String country1,
-                                          @NotBlank String country2);
-}
\ No newline at end of file
+                                          @NotBlank String country2, String types, String tenant);
+
+    default BusinessDay addBusinessDays(@NotBlank String country, @NotNull LocalDate date, @NotNull Integer days) {
+        return addBusinessDays(country, date, days, null);
+    }
+
+    BusinessDay addBusinessDays(@NotBlank String country, @NotNull LocalDate date, @NotNull Integer days,
+                                String tenant);
+
+    default BusinessDayCount countBusinessDays(@NotBlank String country, @NotNull LocalDate from,
+                                               @NotNull LocalDate to) {
+        return countBusinessDays(country, from, to, null);
+    }
+
+    BusinessDayCount countBusinessDays(@NotBlank String country, @NotNull LocalDate from, @NotNull LocalDate to,
+                                       String tenant);
+
+    default BusinessDay getNextBusinessDay(@NotBlank String country, @NotNull LocalDate date) {
+        return getNextBusinessDay(country, date, null);
+    }
+
+    BusinessDay getNextBusinessDay(@NotBlank String country, @NotNull LocalDate date, String tenant);
+
+    default CountriesOnHoliday getCountriesOnHoliday(@NotNull LocalDate date) {
+        return getCountriesOnHoliday(date, null);
+    }
+
+    CountriesOnHoliday getCountriesOnHoliday(@NotNull LocalDate date, String tenant);
+
+    default List<CountriesOnHoliday> getCountriesOnHolidayInRange(@NotNull LocalDate from, @NotNull LocalDate to) {
+        return getCountriesOnHolidayInRange(from, to, null);
+    }
+
+    List<CountriesOnHoliday> getCountriesOnHolidayInRange(@NotNull LocalDate from, @NotNull LocalDate to,
+                                                          String tenant);
+
+    default LongWeekendReport getLongWeekends(@NotNull Integer year, String countries) {
+        return getLongWeekends(year, countries, null);
+    }
+
+    default LongWeekendReport getLongWeekends(@NotNull Integer year, String countries, String tenant) {
+        return getLongWeekends(year, countries, null, tenant);
+    }
+
+    LongWeekendReport getLongWeekends(@NotNull Integer year, String countries, String types, String tenant);
+}
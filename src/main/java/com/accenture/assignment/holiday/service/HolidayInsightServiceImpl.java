@@ -1,56 +1,98 @@
 package com.accenture.assignment.holiday.service;
 
+import com.accenture.assignment.holiday.cache.HolidayCache;
+import com.accenture.assignment.holiday.calendar.BusinessCalendar;
+import com.accenture.assignment.holiday.calendar.CountryListLoader;
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.calendar.DerivedCalendars;
+import com.accenture.assignment.holiday.calendar.HolidayCountAggregates;
+import com.accenture.assignment.holiday.calendar.HolidayDateIndex;
+import com.accenture.assignment.holiday.calendar.HolidayTimeline;
+import com.accenture.assignment.holiday.calendar.LongWeekends;
+import com.accenture.assignment.holiday.calendar.SubdivisionIndex;
 import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
 import com.accenture.assignment.holiday.exception.InvalidCountryException;
-import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.accenture.assignment.holiday.exception.UpstreamRejectedException;
+import com.accenture.assignment.holiday.model.BridgeDay;
+import com.accenture.assignment.holiday.model.BusinessDay;
+import com.accenture.assignment.holiday.model.BusinessDayCount;
 import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CountriesOnHoliday;
 import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.CountryHolidayTotals;
+import com.accenture.assignment.holiday.model.CountryLongWeekends;
+import com.accenture.assignment.holiday.model.CountryValidationError;
 import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.LongWeekend;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
 import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.accenture.assignment.holiday.overlay.CompanyHolidayStore;
+import com.accenture.assignment.holiday.overlay.TenantCalendar;
+import com.accenture.assignment.holiday.provider.HolidayProvider;
+import com.accenture.assignment.holiday.resilience.BulkLoadExecutor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Objects;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service implementation for providing insights into public holidays across countries.
  * <p>
- * This class interacts with an external API to fetch holiday data, caches results,
- * and offers various methods to analyze and compare holidays. It includes retry and
- * fallback mechanisms for improved resilience against API failures.
+ * This class reads holiday data from a {@link HolidayProvider}, caches results,
+ * and offers various methods to analyze and compare holidays. Failed provider calls are not retried here;
+ * slow calls are hedged by the provider, and calls rejected by the
+ * {@link com.accenture.assignment.holiday.resilience.UpstreamLimiter} fall back to cached data.
+ * Provider data goes through the {@link HolidayCache}, so replicas sharing its second level load each
+ * country-year only once.
+ * </p>
+ * <p>
+ * Every public method is observed as {@code holiday.service}. Within it, each country-year lookup is a
+ * {@code holiday.fetch} span tagged with country, year and cache outcome ({@code hit}, {@code miss},
+ * {@code joined} or {@code fallback}), each upstream attempt of the external API a {@code holiday.upstream.call} span tagged
+ * with its attempt number, and counting non-weekend holidays a {@code holiday.aggregate} span.
+ * </p>
+ * <p>
+ * Every query can be asked for a tenant. The public holidays of each country-year are then merged with the
+ * tenant's company holidays by the {@link CompanyHolidayStore}, once per country-year, and the query runs on
+ * the tenant's own {@link DerivedCalendars} instead of the public ones.
  * </p>
  *
  * <ul>
- *   <li>Fetches available countries and their codes from the external API.</li>
- *   <li>Retrieves public holidays for a given year and country, with caching and retry support.</li>
- *   <li>Provides recent holidays for a country.</li>
+ *   <li>Fetches available countries and their codes from the external API into a {@link CountryRegistry},
+ *   in the background and seeded from local data by the {@link CountryListLoader}.</li>
+ *   <li>Retrieves public holidays for a given year and country, with caching and a cached fallback.</li>
+ *   <li>Provides the recent and upcoming holidays of a country from per-year {@link HolidayTimeline}s.</li>
  *   <li>Counts non-weekend holidays for multiple countries.</li>
  *   <li>Finds common holidays between two countries.</li>
+ *   <li>Answers business-day queries from precompiled per-country {@link BusinessCalendar}s.</li>
+ *   <li>Lists the countries on holiday per date from an inverted {@link HolidayDateIndex}.</li>
+ *   <li>Ranks countries by holiday counts materialized in {@link HolidayCountAggregates}.</li>
+ *   <li>Finds long weekends and bridge days, per country and shared, from precomputed {@link LongWeekends}.</li>
  * </ul>
  *
  * <p>
  * Exceptions:
  * <ul>
  *   <li>{@link com.accenture.assignment.holiday.exception.ExternalApiUnavailableException} - Thrown when the external API is unavailable and no cached data exists.</li>
- *   <li>{@link com.accenture.assignment.holiday.exception.InvalidCountryException} - Thrown when invalid country codes are provided.</li>
+ *   <li>{@link com.accenture.assignment.holiday.exception.InvalidCountryException} - Thrown when invalid country codes are provided,
+ *   listing every invalid code.</li>
  * </ul>
  * </p>
  *
@@ -58,200 +100,372 @@ import java.util.stream.Collectors;
  *
  */
 @Service
+@Observed(name = "holiday.service")
 @RequiredArgsConstructor
 @Slf4j
 public class HolidayInsightServiceImpl implements HolidayInsightService {
 
-    private final RestTemplate restTemplate;
+    private final HolidayProvider holidayProvider;
 
-    private Map<String, String> availableCountries;
-    private final Map<String, List<PublicHoliday>> holidaysCache = new HashMap<>();
-    private static final int LOOK_BACK_YEARS = 10;
-    private static final int RECENT_HOLIDAYS_COUNT = 3;
+    private final CountryRegistry countryRegistry;
 
-   /**
-            * Initializes the available countries cache after bean construction.
-            * <p>
-            * This method is called automatically by Spring after dependency injection is complete.
-            * It fetches the list of available countries from the external API and stores them in memory.
-            * </p>
-            */
+    private final HolidayCache holidayCache;
+
+    private final CountryListLoader countryListLoader;
+
+    private final ObservationRegistry observationRegistry;
+
+    private final CompanyHolidayStore companyHolidayStore;
+
+    private final DerivedCalendars publicCalendars;
+
+    private final BulkLoadExecutor bulkLoadExecutor;
+    private static final String COUNTRIES_KEY = "countries";
+    private static final TypeReference<Map<String, String>> COUNTRIES_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<PublicHoliday>> HOLIDAYS_TYPE = new TypeReference<>() {};
+    private static final int MAX_COUNTRIES_OFF_RANGE_DAYS = 366;
+
+    /**
+     * Starts filling the country registry after bean construction.
+     * <p>
+     * The registry is seeded from local data and the list is loaded from the external API in the
+     * background by the {@link CountryListLoader}, so context startup does not wait for the API and
+     * survives it being down.
+     * </p>
+     */
     @PostConstruct
-     void init() {
-        availableCountries = fetchAvailableCountries();
-    }
-
-    @Retryable(
-            value = RestClientException.class,
-            maxAttemptsExpression = "${nager.api.retry.maxAttempts:3}",
-            backoff = @org.springframework.retry.annotation.Backoff(delayExpression = "${nager.api.retry.delay:2000}")
-    )
-    private Map<String, String> fetchAvailableCountries() {
-        String url = BASE_API_URL + AVAILABLE_COUNTRIES_URI;
-        List<AvailableCountry> countries = restTemplate.exchange(
-                url,
-                org.springframework.http.HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<AvailableCountry>>() {}
-        ).getBody();
-        if (countries == null) return Collections.emptyMap();
-        Map<String, String> result = countries.stream()
-                .collect(Collectors.toMap(AvailableCountry::countryCode, AvailableCountry::name));
-        availableCountries = result; // update cache
-        return result;
+    void start() {
+        countryListLoader.start(this::loadAvailableCountries);
     }
 
-    @Recover
-    private Map<String, String> fetchAvailableCountriesFallback(RestClientException e) {
-        if (availableCountries != null && !availableCountries.isEmpty()) {
-            return availableCountries;
-        }
-        log.warn("Failed to fetch available countries from external API, and no cached data is present.");
-        throw new ExternalApiUnavailableException("Due to a temporary issue, we are unable to retrieve data from the external API. Please try again later.");
+    private Map<String, String> loadAvailableCountries() {
+        Map<String, String> result = holidayCache.get(COUNTRIES_KEY, COUNTRIES_TYPE,
+                holidayProvider::getAvailableCountries);
+        return result == null ? Collections.emptyMap() : result;
     }
 
-    @Retryable(
-            value = RestClientException.class,
-            maxAttemptsExpression = "${nager.api.retry.maxAttempts:3}",
-            backoff = @org.springframework.retry.annotation.Backoff(delayExpression = "${nager.api.retry.delay:2000}")
-    )
     private List<PublicHoliday> getHolidays(int year, String country) {
-        String countryCode = country.toUpperCase();
-        if (!availableCountries.containsKey(countryCode)) {
-            throw new IllegalArgumentException(
-                    "Invalid country code: '" + country + "'. Please provide a valid country code. Here are some examples: " +
-                            availableCountries.keySet().stream().limit(10).toList()
-            );
+        String countryCode = resolveCountry(country);
+        Observation fetch = Observation.createNotStarted("holiday.fetch", observationRegistry)
+                .highCardinalityKeyValue("country", countryCode)
+                .highCardinalityKeyValue("year", String.valueOf(year));
+        return fetch.observe(() -> fetchHolidays(fetch, year, countryCode));
+    }
+
+    private List<PublicHoliday> fetchHolidays(Observation fetch, int year, String countryCode) {
+        List<PublicHoliday> holidays;
+        try {
+            holidays = holidayCache.get(holidaysKey(countryCode, year), HOLIDAYS_TYPE, () -> {
+                List<PublicHoliday> loaded = holidayProvider.getPublicHolidays(year, countryCode);
+                return loaded == null ? null : publicCalendars.update(countryCode, year, loaded);
+            }, result -> fetch.lowCardinalityKeyValue("cache", cacheOutcome(result)));
+        } catch (UpstreamRejectedException e) {
+            log.warn("Serving cached holidays for {}-{}: {}", countryCode, year, e.getMessage());
+            fetch.lowCardinalityKeyValue("cache", "fallback");
+            return getHolidaysFallback(e, year, countryCode);
         }
-        String url = BASE_API_URL + PUBLIC_HOLIDAYS_URI;
-        List<PublicHoliday> holidays = restTemplate.exchange(
-                url,
-                org.springframework.http.HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<PublicHoliday>>() {},
-                year, countryCode
-        ).getBody();
-        if (holidays != null) {
-            holidaysCache.put(countryCode + "-" + year, holidays); // update cache
+        if (holidays != null && publicCalendars.getHolidays(countryCode, year) != holidays) {
+            holidays = publicCalendars.update(countryCode, year, holidays);
         }
         return holidays;
     }
 
-    @Recover
+    /**
+     * @return the {@code holiday.fetch} cache tag for a {@link HolidayCache} result: {@code miss} when this call
+     * loaded the value, {@code joined} when it waited for a load in progress, otherwise {@code hit}
+     */
+    private static String cacheOutcome(String result) {
+        return switch (result) {
+            case "loaded" -> "miss";
+            case "joined" -> "joined";
+            default -> "hit";
+        };
+    }
+
+    /**
+     * Looks up the merged calendar of a tenant once per query, so the whole query sees the same upload.
+     *
+     * @return the tenant's calendar, or {@code null} without a tenant
+     * @throws com.accenture.assignment.holiday.exception.UnknownTenantException if the tenant has no
+     *                                                                           company holidays
+     */
+    private TenantCalendar tenantCalendar(String tenant) {
+        return tenant == null ? null : companyHolidayStore.getCalendar(tenant);
+    }
+
+    /**
+     * Returns the holidays of a country-year for a tenant: the public holidays merged with the tenant's
+     * company holidays, or the public holidays alone without a tenant.
+     */
+    private List<PublicHoliday> getHolidays(int year, String country, TenantCalendar tenant) {
+        List<PublicHoliday> holidays = getHolidays(year, country);
+        if (tenant == null || holidays == null) {
+            return holidays;
+        }
+        return tenant.merge(countryRegistry.resolve(country), year, holidays);
+    }
+
+    private DerivedCalendars calendars(TenantCalendar tenant) {
+        return tenant == null ? publicCalendars : tenant.getCalendars();
+    }
+
+    private static String holidaysKey(String countryCode, int year) {
+        return "holidays:" + countryCode + ":" + year;
+    }
+
+    /**
+     * Resolves a country code against the {@link CountryRegistry}.
+     *
+     * @return the canonical upper-case code
+     * @throws InvalidCountryException if the country is not available
+     */
+    private String resolveCountry(String country) {
+        String countryCode = countryRegistry.resolve(country);
+        if (countryCode == null) {
+            throw invalidCountries(countryRegistry.validate(Collections.singletonList(country)));
+        }
+        return countryCode;
+    }
+
+    /**
+     * @return the canonical country code, or the upper-case subdivision code such as {@code DE-BY}
+     */
+    private String resolveRegion(String code) {
+        String subdivision = SubdivisionIndex.subdivision(code);
+        return subdivision != null ? subdivision : countryRegistry.resolve(code);
+    }
+
+    private InvalidCountryException invalidCountries(List<CountryValidationError> errors) {
+        return InvalidCountryException.forCountries(errors, countryRegistry.getExamples());
+    }
+
     private List<PublicHoliday> getHolidaysFallback(RestClientException e, int year, String country) {
-        String countryCode = country.toUpperCase();
-        List<PublicHoliday> cached = holidaysCache.get(countryCode + "-" + year);
+        String countryCode = resolveCountry(country);
+        List<PublicHoliday> cached = publicCalendars.getHolidays(countryCode, year);
         if (cached != null && !cached.isEmpty()) {
             return cached;
         }
+        List<PublicHoliday> shared = holidayCache.getStale(holidaysKey(countryCode, year), HOLIDAYS_TYPE);
+        if (shared != null && !shared.isEmpty()) {
+            return publicCalendars.update(countryCode, year, shared);
+        }
         throw new ExternalApiUnavailableException("Due to a temporary issue, we are unable to retrieve data from the external API. Please try again later.");
     }
 
-    private List<PublicHoliday> filterPastHolidays(List<PublicHoliday> holidays, LocalDate now) {
-        return holidays.stream()
-                .filter(h -> !LocalDate.parse(h.date()).isAfter(now))
-                .sorted(Comparator.comparing(PublicHoliday::date).reversed())
-                .toList();
-    }
     /**
-     * Retrieves the most recent public holidays for the specified country.
+     * Retrieves the most recent holidays of a country: those up to and including today, latest first.
      * <p>
-     * Looks back up to a fixed number of years to find the most recent holidays
-     * that have already occurred (not in the future), and returns a limited number
-     * of them as {@link Holiday} objects.
+     * Walks back from today through the {@link HolidayTimeline}s of the current and earlier years, looking
+     * back at most a fixed number of years. A binary search finds today in the current year's timeline;
+     * from there, and then from the end of each earlier year, holidays are taken in order until enough are
+     * found. The timelines of consecutive years do not overlap, so merging them is a matter of reading one
+     * after the other: a request reads O(log n + count) holidays and loads no more years than it needs.
      * </p>
      *
      * @param country the country code (e.g., "US", "IN") for which to fetch recent holidays
-     * @return a list of the most recent {@link Holiday} objects, up to a fixed count
+     * @param count   the number of holidays to return, or {@code null} for {@link #DEFAULT_HOLIDAYS_COUNT}
+     * @param tenant  the tenant whose company holidays count as well, or {@code null}
+     * @return up to {@code count} of the most recent {@link Holiday} objects, latest first
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_HOLIDAYS_COUNT}
      */
     @Override
-    public List<Holiday> getRecentHolidays(String country) {
-        LocalDate now = LocalDate.now();
-        int year = now.getYear();
-        List<PublicHoliday> allPastHolidays = new ArrayList<>();
-        int earliestYearToCheck = year - LOOK_BACK_YEARS;
-
-        while (allPastHolidays.size() < RECENT_HOLIDAYS_COUNT && year > earliestYearToCheck) {
-            List<PublicHoliday> holidays = getHolidays(year, country);
-            if (holidays != null) {
-                allPastHolidays.addAll(filterPastHolidays(holidays, now));
+    public List<Holiday> getRecentHolidays(String country, Integer count, String tenant) {
+        return nearestHolidays(country, count, tenant, false);
+    }
+
+    /**
+     * Retrieves the next holidays of a country: those after today, earliest first.
+     * <p>
+     * The counterpart of {@link #getRecentHolidays(String, Integer, String)}, walking forward from today
+     * through the current and later years.
+     * </p>
+     *
+     * @param country the country code
+     * @param count   the number of holidays to return, or {@code null} for {@link #DEFAULT_HOLIDAYS_COUNT}
+     * @param tenant  the tenant whose company holidays count as well, or {@code null}
+     * @return up to {@code count} upcoming {@link Holiday} objects, earliest first
+     * @throws IllegalArgumentException if the count is not between 1 and {@link #MAX_HOLIDAYS_COUNT}
+     */
+    @Override
+    public List<Holiday> getUpcomingHolidays(String country, Integer count, String tenant) {
+        return nearestHolidays(country, count, tenant, true);
+    }
+
+    private List<Holiday> nearestHolidays(String country, Integer count, String tenant, boolean upcoming) {
+        int limit = holidaysCount(count);
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+        String countryCode = resolveCountry(country);
+        LocalDate today = LocalDate.now();
+        List<Holiday> result = new ArrayList<>(limit);
+        int years = upcoming ? LOOK_AHEAD_YEARS : LOOK_BACK_YEARS;
+        for (int i = 0; i < years && result.size() < limit; i++) {
+            int year = upcoming ? today.getYear() + i : today.getYear() - i;
+            List<PublicHoliday> holidays = getHolidays(year, countryCode, tenantCalendar);
+            if (holidays == null) {
+                continue;
+            }
+            HolidayTimeline timeline = calendars(tenantCalendar).getTimeline(countryCode, year);
+            if (timeline == null) {
+                timeline = HolidayTimeline.build(year, holidays);
+            }
+            if (upcoming) {
+                for (int position = i == 0 ? timeline.after(today) : 0;
+                     position < timeline.size() && result.size() < limit; position++) {
+                    result.add(new Holiday(timeline.date(position), timeline.holiday(position).name()));
+                }
+            } else {
+                for (int position = (i == 0 ? timeline.after(today) : timeline.size()) - 1;
+                     position >= 0 && result.size() < limit; position--) {
+                    result.add(new Holiday(timeline.date(position), timeline.holiday(position).name()));
+                }
             }
-            year--;
         }
+        return result;
+    }
 
-        return allPastHolidays.stream()
-                .limit(RECENT_HOLIDAYS_COUNT)
-                .map(h -> new Holiday(LocalDate.parse(h.date()), h.name()))
-                .toList();
+    private static int holidaysCount(Integer count) {
+        if (count == null) {
+            return DEFAULT_HOLIDAYS_COUNT;
+        }
+        if (count < 1 || count > MAX_HOLIDAYS_COUNT) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_HOLIDAYS_COUNT + ".");
+        }
+        return count;
     }
+
 /**
             * Calculates the number of non-weekend public holidays for each specified country in a given year.
  * <p>
- * For each country code provided, fetches the list of holidays and counts those
- * that do not fall on a Saturday or Sunday. Results are sorted in descending order by count.
+ * All country codes are validated first, and every invalid code is reported at once.
+ * For each country code provided, fetches the list of holidays and reads the number of those
+ * that do not fall on a Saturday or Sunday from the count aggregates, which are maintained as
+ * holidays are loaded. Results are sorted in descending order by count, and by country code among equal counts,
+ * so the order does not depend on the order the countries were given in.
             * </p>
+ * <p>
+ * A subdivision code such as {@code DE-BY} counts the nationwide holidays and those of the subdivision, and
+ * a list of types counts only holidays of those types. Both are read from the {@link SubdivisionIndex} of
+ * the country-year and count days rather than holidays, so two holidays on one day count once.
+ * </p>
             *
             * @param year the year for which to count holidays
- * @param countries a comma-separated list of country codes (e.g., "US,IN,GB")
- * @return a list of {@link CountryHolidayCount} objects, one per country, sorted by count descending
+ * @param countries a comma-separated list of country or subdivision codes (e.g., "US,IN,DE-BY")
+ * @param types a comma-separated list of holiday types to count (e.g., "Public,Bank"), or {@code null} for all
+ * @param tenant the tenant whose company holidays count as well, or {@code null}
+ * @return a list of {@link CountryHolidayCount} objects, one per country, sorted by count descending and then
+ * by country code
+ * @throws InvalidCountryException if any of the country codes is malformed or not supported
+ * @throws IllegalArgumentException if a holiday type is unknown
  */
     @Override
-    public List<CountryHolidayCount> getNonWeekendHolidayCounts(Integer year, String countries) {
+    public List<CountryHolidayCount> getNonWeekendHolidayCounts(Integer year, String countries, String types,
+                                                                String tenant) {
+        int typeMask = SubdivisionIndex.parseTypes(types);
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+
+        List<String> loaded = loadRegions(year, countries, tenantCalendar);
 
-        Set<String> countrySet = Arrays.stream(countries.split(","))
+        DerivedCalendars calendars = calendars(tenantCalendar);
+        return Observation.createNotStarted("holiday.aggregate", observationRegistry)
+                .highCardinalityKeyValue("countries", String.valueOf(loaded.size()))
+                .observe(() -> loaded.stream()
+                        .map(region -> new CountryHolidayCount(region,
+                                nonWeekendCount(calendars, year, region, typeMask)))
+                        .sorted(Comparator.comparing(CountryHolidayCount::getCount).reversed()
+                                .thenComparing(CountryHolidayCount::getCountry))
+                        .toList());
+    }
+
+    /**
+     * Validates and resolves a list of country and subdivision codes and loads the holidays of their countries,
+     * skipping those that cannot be loaded.
+     *
+     * @return the distinct resolved codes in the order given, without those skipped
+     * @throws InvalidCountryException if any of the codes is malformed or not supported
+     */
+    private List<String> loadRegions(int year, String countries, TenantCalendar tenantCalendar) {
+        List<String> requested = Arrays.stream(countries.split(","))
                 .map(String::trim)
-                .collect(Collectors.toSet());
+                .toList();
+        List<CountryValidationError> errors = countryRegistry.validateRegions(requested);
+        if (!errors.isEmpty()) {
+            throw invalidCountries(errors);
+        }
+        Set<String> regionSet = requested.stream()
+                .map(this::resolveRegion)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        return countrySet.stream()
-                .map(country -> {
+        return regionSet.stream()
+                .filter(region -> {
+                    String countryCode = SubdivisionIndex.country(region);
                     try {
-                        List<PublicHoliday> holidays = getHolidays(year, country);
-                        if (holidays == null) return null;
-                        long count = holidays.stream()
-                                .map(h -> LocalDate.parse(h.date()))
-                                .filter(d -> d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY)
-                                .count();
-                        return new CountryHolidayCount(country.toUpperCase(), (int) count);
-                    } catch (Exception ignored) {
-                        return null;
+                        return getHolidays(year, countryCode, tenantCalendar) != null;
+                    } catch (RestClientException | ExternalApiUnavailableException e) {
+                        log.warn("Skipping {} for {}: {}", countryCode, year, e.getMessage());
+                        return false;
                     }
                 })
-                .filter(Objects::nonNull)
-                .sorted(Comparator.comparing(CountryHolidayCount::getCount).reversed())
                 .toList();
     }
+
+    private int nonWeekendCount(DerivedCalendars calendars, int year, String region, int typeMask) {
+        String subdivision = SubdivisionIndex.subdivision(region);
+        if (subdivision == null && typeMask == SubdivisionIndex.ANY_TYPE) {
+            return calendars.getCountAggregates().get(year, region).nonWeekendCount();
+        }
+        return calendars.getSubdivisionIndex(SubdivisionIndex.country(region), year).nonWeekendCount(subdivision, typeMask);
+    }
+
     /**
             * Finds holidays that are common between two countries for a given year.
  * <p>
  * Compares public holidays for both countries and returns a list of holidays
  * that occur on the same date in both countries, including their local names.
+ * The common days are the intersection of the days in the {@link SubdivisionIndex} of both countries, so
+ * subdivision codes such as {@code DE-BY} and holiday types narrow the comparison at no extra cost.
             * </p>
             *
             * @param year      the year for which to compare holidays
- * @param country1  the first country code
- * @param country2  the second country code
+ * @param country1  the first country or subdivision code
+ * @param country2  the second country or subdivision code
+ * @param types     a comma-separated list of holiday types to compare, or {@code null} for all
+ * @param tenant    the tenant whose company holidays count as well, or {@code null}
  * @return a list of {@link CommonHoliday} objects representing holidays shared by both countries
- * @throws InvalidCountryException if both country codes are the same
+ * @throws InvalidCountryException if both country codes are the same, or either of them is invalid
+ * @throws IllegalArgumentException if a holiday type is unknown
  */
     @Override
-    public List<CommonHoliday> getCommonHolidays(Integer year, String country1, String country2) {
-        if (country1 != null && country1.equalsIgnoreCase(country2)) {
+    public List<CommonHoliday> getCommonHolidays(Integer year, String country1, String country2, String types,
+                                                 String tenant) {
+        if (country1 != null && country1.trim().equalsIgnoreCase(country2 == null ? null : country2.trim())) {
             throw new InvalidCountryException("country1 and country2 must be different.");
         }
-        List<PublicHoliday> holidays1 = getHolidays(year, country1);
-        List<PublicHoliday> holidays2 = getHolidays(year, country2);
+        int typeMask = SubdivisionIndex.parseTypes(types);
+        List<CountryValidationError> errors = countryRegistry.validateRegions(Arrays.asList(country1, country2));
+        if (!errors.isEmpty()) {
+            throw invalidCountries(errors);
+        }
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+        String region1 = resolveRegion(country1);
+        String region2 = resolveRegion(country2);
+        List<PublicHoliday> holidays1 = getHolidays(year, SubdivisionIndex.country(region1), tenantCalendar);
+        List<PublicHoliday> holidays2 = getHolidays(year, SubdivisionIndex.country(region2), tenantCalendar);
 
         if (holidays1 == null || holidays2 == null) return Collections.emptyList();
-        Map<String, List<String>> map1 = holidays1.stream()
-                .collect(Collectors.groupingBy(
-                        PublicHoliday::date,
-                        Collectors.mapping(PublicHoliday::localName, Collectors.toList())
-                ));
-        Map<String, List<String>> map2 = holidays2.stream()
-                .collect(Collectors.groupingBy(
-                        PublicHoliday::date,
-                        Collectors.mapping(PublicHoliday::localName, Collectors.toList())
-                ));
+        DerivedCalendars calendars = calendars(tenantCalendar);
+        String subdivision1 = SubdivisionIndex.subdivision(region1);
+        String subdivision2 = SubdivisionIndex.subdivision(region2);
+        long[] common = subdivisionIndex(calendars, year, region1, holidays1).days(subdivision1, typeMask);
+        long[] days2 = subdivisionIndex(calendars, year, region2, holidays2).days(subdivision2, typeMask);
+        boolean any = false;
+        for (int i = 0; i < common.length; i++) {
+            common[i] &= days2[i];
+            any |= common[i] != 0;
+        }
+        if (!any) return Collections.emptyList();
+
+        Map<String, List<String>> map1 = commonNames(holidays1, year, subdivision1, typeMask, common);
+        Map<String, List<String>> map2 = commonNames(holidays2, year, subdivision2, typeMask, common);
 
         return map1.keySet().stream()
                 .filter(map2::containsKey)
@@ -263,4 +477,290 @@ public class HolidayInsightServiceImpl implements HolidayInsightService {
                 ))
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the local names of the holidays on the common days, by date
+     */
+    private static Map<String, List<String>> commonNames(List<PublicHoliday> holidays, int year, String subdivision,
+                                                         int typeMask, long[] common) {
+        return holidays.stream()
+                .filter(h -> {
+                    int day = SubdivisionIndex.dayOfYear(h, year);
+                    return day >= 0 && SubdivisionIndex.contains(common, day)
+                            && SubdivisionIndex.applies(h, subdivision, typeMask);
+                })
+                .collect(Collectors.groupingBy(
+                        PublicHoliday::date,
+                        Collectors.mapping(PublicHoliday::localName, Collectors.toList())
+                ));
+    }
+
+    private static SubdivisionIndex subdivisionIndex(DerivedCalendars calendars, int year, String region,
+                                                     List<PublicHoliday> holidays) {
+        SubdivisionIndex index = calendars.getSubdivisionIndex(SubdivisionIndex.country(region), year);
+        return index != null ? index : SubdivisionIndex.build(year, holidays);
+    }
+
+    /**
+     * Moves a number of business days away from a date in the given country.
+     * <p>
+     * Weekends and the country's public holidays are skipped. The calendar is compiled once for the
+     * years the query needs and reused by later queries.
+     * </p>
+     *
+     * @param country the country code
+     * @param date    the start date, never counted itself
+     * @param days    the number of business days to move; negative values move backwards and zero
+     *                rolls a non-business day forward to the next business day
+     * @param tenant  the tenant whose company holidays are skipped as well, or {@code null}
+     * @return the resulting {@link BusinessDay}
+     */
+    @Override
+    public BusinessDay addBusinessDays(String country, LocalDate date, Integer days, String tenant) {
+        int spanYears = Math.abs(days) / MIN_BUSINESS_DAYS_PER_YEAR + 1;
+        int fromYear = days < 0 ? date.getYear() - spanYears : date.getYear();
+        int toYear = days < 0 ? date.getYear() : date.getYear() + spanYears;
+        BusinessCalendar calendar = getBusinessCalendar(country, fromYear, toYear, tenantCalendar(tenant));
+        long result = calendar.addBusinessDays(date.toEpochDay(), days);
+        if (result == BusinessCalendar.OUT_OF_RANGE) {
+            throw new IllegalArgumentException("The resulting date lies outside the supported range of years.");
+        }
+        return new BusinessDay(calendar.getCountryCode(), LocalDate.ofEpochDay(result));
+    }
+
+    /**
+     * Counts the business days from {@code from} (inclusive) to {@code to} (exclusive) in the given country.
+     *
+     * @param country the country code
+     * @param from    the first date of the range
+     * @param to      the date after the last date of the range
+     * @param tenant  the tenant whose company holidays are skipped as well, or {@code null}
+     * @return a {@link BusinessDayCount}; the count is negative when {@code to} lies before {@code from}
+     */
+    @Override
+    public BusinessDayCount countBusinessDays(String country, LocalDate from, LocalDate to, String tenant) {
+        LocalDate first = from.isBefore(to) ? from : to;
+        LocalDate last = from.isBefore(to) ? to : from;
+        BusinessCalendar calendar = getBusinessCalendar(country, first.getYear(),
+                Math.max(first.getYear(), last.minusDays(1).getYear()), tenantCalendar(tenant));
+        long count = calendar.countBusinessDays(from.toEpochDay(), to.toEpochDay());
+        return new BusinessDayCount(calendar.getCountryCode(), from, to, (int) count);
+    }
+
+    /**
+     * Finds the first business day strictly after the given date in the given country.
+     *
+     * @param country the country code
+     * @param date    the date to start from
+     * @param tenant  the tenant whose company holidays are skipped as well, or {@code null}
+     * @return the next {@link BusinessDay}
+     */
+    @Override
+    public BusinessDay getNextBusinessDay(String country, LocalDate date, String tenant) {
+        return addBusinessDays(country, date, 1, tenant);
+    }
+
+    private BusinessCalendar getBusinessCalendar(String country, int fromYear, int toYear, TenantCalendar tenant) {
+        String countryCode = resolveCountry(country);
+        if (toYear - fromYear + 1 > MAX_BUSINESS_CALENDAR_YEARS) {
+            throw new IllegalArgumentException(
+                    "Business-day queries may span at most " + MAX_BUSINESS_CALENDAR_YEARS + " years.");
+        }
+        DerivedCalendars calendars = calendars(tenant);
+        BusinessCalendar calendar = calendars.getBusinessCalendar(countryCode);
+        if (calendar != null && calendar.covers(fromYear, toYear)) {
+            return calendar;
+        }
+        int firstYear = fromYear;
+        int lastYear = toYear;
+        if (calendar != null && Math.max(toYear, calendar.getLastYear()) - Math.min(fromYear, calendar.getFirstYear())
+                < MAX_BUSINESS_CALENDAR_YEARS) {
+            firstYear = Math.min(fromYear, calendar.getFirstYear());
+            lastYear = Math.max(toYear, calendar.getLastYear());
+        }
+        List<LocalDate> holidayDates = new ArrayList<>();
+        for (int year = firstYear; year <= lastYear; year++) {
+            List<PublicHoliday> holidays = getHolidays(year, countryCode, tenant);
+            if (holidays != null) {
+                holidays.forEach(h -> holidayDates.add(LocalDate.parse(h.date())));
+            }
+        }
+        calendar = BusinessCalendar.compile(countryCode, firstYear, lastYear, holidayDates);
+        calendars.putBusinessCalendar(calendar);
+        return calendar;
+    }
+
+    /**
+     * Lists the countries that observe a public holiday on the given date.
+     * <p>
+     * The holidays of every available country are indexed once per year; afterwards each lookup is
+     * a single read from the {@link HolidayDateIndex}.
+     * </p>
+     *
+     * @param date   the date to look up
+     * @param tenant the tenant whose company holidays count as well, or {@code null}
+     * @return the {@link CountriesOnHoliday} for the date
+     */
+    @Override
+    public CountriesOnHoliday getCountriesOnHoliday(LocalDate date, String tenant) {
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+        loadAllCountries(date.getYear(), tenantCalendar);
+        return new CountriesOnHoliday(date, calendars(tenantCalendar).getDateIndex().getCountries(date));
+    }
+
+    /**
+     * Lists the countries on holiday for every date from {@code from} to {@code to} (both inclusive).
+     *
+     * @param from the first date of the range
+     * @param to     the last date of the range
+     * @param tenant the tenant whose company holidays count as well, or {@code null}
+     * @return one {@link CountriesOnHoliday} per date on which at least one country observes a holiday
+     * @throws IllegalArgumentException if the range is reversed or longer than 366 days
+     */
+    @Override
+    public List<CountriesOnHoliday> getCountriesOnHolidayInRange(LocalDate from, LocalDate to, String tenant) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_COUNTRIES_OFF_RANGE_DAYS) {
+            throw new IllegalArgumentException(
+                    "The date range may span at most " + MAX_COUNTRIES_OFF_RANGE_DAYS + " days.");
+        }
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            loadAllCountries(year, tenantCalendar);
+        }
+        HolidayDateIndex dateIndex = calendars(tenantCalendar).getDateIndex();
+        List<CountriesOnHoliday> result = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            List<String> countries = dateIndex.getCountries(date);
+            if (!countries.isEmpty()) {
+                result.add(new CountriesOnHoliday(date, countries));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ranks all available countries by their number of non-weekend holidays in a year.
+     * <p>
+     * Every available country is loaded once per year; the ranking is then read straight from the
+     * pre-sorted {@link HolidayCountAggregates} without recounting or sorting.
+     * </p>
+     *
+     * @param year   the year to rank
+     * @param limit  the number of top entries to return, or {@code null} for the full ranking
+     * @param tenant the tenant whose company holidays count as well, or {@code null}
+     * @return the ranked {@link CountryHolidayTotals}
+     */
+    @Override
+    public List<CountryHolidayTotals> getHolidayCountRanking(Integer year, Integer limit, String tenant) {
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+        loadAllCountries(year, tenantCalendar);
+        return calendars(tenantCalendar).getCountAggregates().getRanking(year, limit).stream()
+                .map(c -> new CountryHolidayTotals(c.countryCode(), c.nonWeekendCount(), c.weekendCount(), c.totalCount()))
+                .toList();
+    }
+
+    /**
+     * Finds the long weekends and bridge days of countries in a year.
+     * <p>
+     * The {@link LongWeekends} of a country-year, with its public holidays as days off, are found with
+     * word-wise operations on bit sets of its days when its holidays are loaded and kept with them, so a
+     * country costs one lookup here; a subdivision code such as {@code DE-BY} or other holiday types are
+     * searched per request from the {@link SubdivisionIndex}. Without a list, the countries are loaded
+     * concurrently by the {@link BulkLoadExecutor} and read in parallel. For a list of two or more codes, the holiday days of all of them are intersected and the
+     * days off they share are searched the same way, for long weekends the whole group can take together.
+     * </p>
+     *
+     * @param year      the year to search
+     * @param countries a comma-separated list of country or subdivision codes (e.g., "NL,BE,DE-BY"), or
+     *                  {@code null} for every available country; a blank list is invalid
+     * @param types     a comma-separated list of holiday types that are days off (e.g., "Public,Bank"), or
+     *                  {@code null} for public holidays only
+     * @param tenant    the tenant whose company holidays count as well, or {@code null}
+     * @return the {@link LongWeekendReport} of the countries whose holidays could be loaded, in the order given
+     * or alphabetically for every available country
+     * @throws InvalidCountryException if any of the country codes is malformed or not supported
+     * @throws IllegalArgumentException if a holiday type is not supported
+     */
+    @Override
+    public LongWeekendReport getLongWeekends(Integer year, String countries, String types, String tenant) {
+        int typeMask = types == null || types.isBlank()
+                ? SubdivisionIndex.PUBLIC_TYPE : SubdivisionIndex.parseTypes(types);
+        TenantCalendar tenantCalendar = tenantCalendar(tenant);
+        boolean all = countries == null;
+        List<String> regions;
+        if (all) {
+            loadAllCountries(year, tenantCalendar);
+            regions = countryRegistry.getCountryCodes();
+        } else {
+            regions = loadRegions(year, countries, tenantCalendar);
+        }
+        DerivedCalendars calendars = calendars(tenantCalendar);
+        List<String> loaded = regions.stream()
+                .filter(region -> calendars.getSubdivisionIndex(SubdivisionIndex.country(region), year) != null)
+                .toList();
+
+        LongWeekendReport report = new LongWeekendReport(year, loaded.parallelStream()
+                .map(region -> countryLongWeekends(region, longWeekends(calendars, year, region, typeMask)))
+                .toList());
+        if (!all && loaded.size() > 1) {
+            long[] common = regionDays(calendars, year, loaded.get(0), typeMask);
+            for (String region : loaded.subList(1, loaded.size())) {
+                long[] days = regionDays(calendars, year, region, typeMask);
+                for (int i = 0; i < common.length; i++) {
+                    common[i] &= days[i];
+                }
+            }
+            report.setCommon(countryLongWeekends(String.join(",", loaded), LongWeekends.find(year, common)));
+        }
+        return report;
+    }
+
+    private static LongWeekends longWeekends(DerivedCalendars calendars, int year, String region, int typeMask) {
+        boolean precomputed = typeMask == SubdivisionIndex.PUBLIC_TYPE && SubdivisionIndex.subdivision(region) == null;
+        LongWeekends longWeekends = precomputed ? calendars.getLongWeekends(region, year) : null;
+        return longWeekends != null ? longWeekends
+                : LongWeekends.find(year, regionDays(calendars, year, region, typeMask));
+    }
+
+    private static long[] regionDays(DerivedCalendars calendars, int year, String region, int typeMask) {
+        return calendars.getSubdivisionIndex(SubdivisionIndex.country(region), year)
+                .days(SubdivisionIndex.subdivision(region), typeMask);
+    }
+
+    private static CountryLongWeekends countryLongWeekends(String country, LongWeekends longWeekends) {
+        return new CountryLongWeekends(country,
+                longWeekends.getLongWeekends().stream()
+                        .map(span -> new LongWeekend(span.start(), span.end(), span.days()))
+                        .toList(),
+                longWeekends.getBridgeDays().stream()
+                        .map(bridge -> new BridgeDay(bridge.date(), bridge.span().start(), bridge.span().end(),
+                                bridge.span().days()))
+                        .toList());
+    }
+
+    /**
+     * Loads the holidays of every available country for a year, skipping the country-years already loaded
+     * unless the {@link HolidayCache} says they are due, so the all-country queries refresh on the same time
+     * to live as the per-country ones. With a time to live of zero a loaded country-year is kept until its
+     * cache entry is evicted, rather than fetching every country on every call. The countries due are
+     * loaded concurrently by the {@link BulkLoadExecutor}, whose pool bounds the upstream calls of all such
+     * queries together; a country that cannot be loaded is skipped.
+     */
+    private void loadAllCountries(int year, TenantCalendar tenant) {
+        HolidayDateIndex dateIndex = calendars(tenant).getDateIndex();
+        List<String> due = countryRegistry.getCountryCodes().stream()
+                .filter(countryCode -> !dateIndex.isLoaded(countryCode, year)
+                        || holidayCache.needsRefresh(holidaysKey(countryCode, year)))
+                .toList();
+        bulkLoadExecutor.forEach(due, countryCode -> {
+            try {
+                getHolidays(year, countryCode, tenant);
+            } catch (RestClientException | ExternalApiUnavailableException e) {
+                log.warn("Skipping {} for {}: {}", countryCode, year, e.getMessage());
+            }
+        });
+    }
+}
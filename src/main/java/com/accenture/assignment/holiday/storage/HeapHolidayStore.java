@@ -0,0 +1,60 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the holiday lists as they are given, on the heap.
+ * <p>
+ * Putting a list equal to the one stored keeps the stored list, so reloading unchanged holidays leaves the
+ * structures derived from them alone.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public class HeapHolidayStore implements HolidayStore {
+
+    private final Map<String, List<PublicHoliday>> holidays = new ConcurrentHashMap<>();
+
+    @Override
+    public List<PublicHoliday> get(String countryCode, int year) {
+        return holidays.get(key(countryCode, year));
+    }
+
+    @Override
+    public List<PublicHoliday> put(String countryCode, int year, List<PublicHoliday> holidays) {
+        return this.holidays.compute(key(countryCode, year),
+                (key, previous) -> holidays.equals(previous) ? previous : holidays);
+    }
+
+    @Override
+    public HolidayStorageFootprint footprint() {
+        Set<Object> seen = MemoryEstimates.identitySet();
+        Set<String> names = new HashSet<>();
+        long count = 0;
+        long heapBytes = 0;
+        for (Map.Entry<String, List<PublicHoliday>> entry : holidays.entrySet()) {
+            List<PublicHoliday> list = entry.getValue();
+            count += list.size();
+            heapBytes += MemoryEstimates.MAP_ENTRY + MemoryEstimates.string(entry.getKey(), seen)
+                    + MemoryEstimates.holidays(list, seen);
+            list.forEach(holiday -> {
+                names.add(holiday.localName());
+                names.add(holiday.name());
+            });
+        }
+        names.remove(null);
+        return new HolidayStorageFootprint("heap", holidays.size(), count, names.size(), heapBytes, 0, 0);
+    }
+
+    static String key(String countryCode, int year) {
+        return Objects.requireNonNull(countryCode) + "-" + year;
+    }
+}
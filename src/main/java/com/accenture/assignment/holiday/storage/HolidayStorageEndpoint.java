@@ -0,0 +1,29 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Memory footprint of the public holidays at {@code /actuator/holidaystorage}.
+ * <p>
+ * Shows the store type, the country-years and holidays held, the distinct names, the estimated heap bytes,
+ * the direct memory reserved and the bytes of encoded holidays in it.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Endpoint(id = "holidaystorage")
+@RequiredArgsConstructor
+public class HolidayStorageEndpoint {
+
+    private final HolidayStore holidayStore;
+
+    @ReadOperation
+    public HolidayStorageFootprint footprint() {
+        return holidayStore.footprint();
+    }
+}
@@ -0,0 +1,36 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.util.List;
+
+/**
+ * Storage of the public holidays per country-year behind the
+ * {@link com.accenture.assignment.holiday.calendar.DerivedCalendars}.
+ * <p>
+ * {@link #put} returns the list the store keeps, which {@link #get} returns from then on, so callers can
+ * tell by identity whether a country-year changed. Stored lists must not be modified.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public interface HolidayStore {
+
+    /**
+     * @return the stored holidays of the country-year, or {@code null} if none have been stored
+     */
+    List<PublicHoliday> get(String countryCode, int year);
+
+    /**
+     * Stores the holidays of a country-year, replacing what was stored before.
+     *
+     * @return the list now stored for the country-year
+     */
+    List<PublicHoliday> put(String countryCode, int year, List<PublicHoliday> holidays);
+
+    /**
+     * @return the size of the stored data, with estimated heap usage
+     */
+    HolidayStorageFootprint footprint();
+}
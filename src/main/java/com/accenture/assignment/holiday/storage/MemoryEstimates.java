@@ -0,0 +1,77 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rough heap sizes of the objects the stores hold, assuming a 64-bit JVM with compressed references and
+ * compact strings.
+ *
+ * @author vinodbhatia83
+ */
+final class MemoryEstimates {
+
+    static final long MAP_ENTRY = 32;
+    static final long BOXED_INT = 16;
+    static final long REFERENCE = 4;
+    static final long HOLIDAY = 40;
+
+    private MemoryEstimates() {
+    }
+
+    /**
+     * @return the size of a string and its backing array, or nothing for {@code null} or a string already
+     * counted in {@code seen}
+     */
+    static long string(String value, Set<Object> seen) {
+        if (value == null || !seen.add(value)) {
+            return 0;
+        }
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return 24 + align(16 + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    /**
+     * @return the size of a string or a list of strings, or nothing for {@code null} or an instance already
+     * counted in {@code seen}
+     */
+    static long value(Object value, Set<Object> seen) {
+        if (value instanceof List<?> list) {
+            if (!seen.add(list)) {
+                return 0;
+            }
+            long bytes = 16 + align(16 + REFERENCE * list.size());
+            for (Object element : list) {
+                bytes += value(element, seen);
+            }
+            return bytes;
+        }
+        return value instanceof String string ? string(string, seen) : 0;
+    }
+
+    /**
+     * @return the size of a list of holidays, counting each holiday and string instance once
+     */
+    static long holidays(List<PublicHoliday> holidays, Set<Object> seen) {
+        long bytes = 16 + align(16 + REFERENCE * holidays.size());
+        for (PublicHoliday holiday : holidays) {
+            if (seen.add(holiday)) {
+                bytes += HOLIDAY + string(holiday.date(), seen) + string(holiday.localName(), seen)
+                        + string(holiday.name(), seen) + value(holiday.counties(), seen) + value(holiday.types(), seen);
+            }
+        }
+        return bytes;
+    }
+
+    static Set<Object> identitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
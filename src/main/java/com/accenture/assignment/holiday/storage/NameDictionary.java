@@ -0,0 +1,79 @@
+package com.accenture.assignment.holiday.storage;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Numbers distinct values, such as names, so that each is held once however often it is stored.
+ * <p>
+ * Ids are dense and never reused; {@code null} has id {@code -1}. Values must be immutable. Lookups are lock-free; new strings are
+ * added under the dictionary's lock.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+final class NameDictionary<T> {
+
+    static final int NULL_ID = -1;
+    static final int ABSENT_ID = -2;
+
+    private final Map<T, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Object[] names = new Object[256];
+    private int size;
+
+    /**
+     * @return the id of the value, adding it if it is new
+     */
+    int id(T name) {
+        if (name == null) {
+            return NULL_ID;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : add(name);
+    }
+
+    /**
+     * @return the id of the value, {@link #NULL_ID} for {@code null} or {@link #ABSENT_ID} if it has none
+     */
+    int find(Object name) {
+        return name == null ? NULL_ID : ids.getOrDefault(name, ABSENT_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    T name(int id) {
+        return id == NULL_ID ? null : (T) names[id];
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    /**
+     * @return the estimated heap size of the dictionary
+     */
+    long heapBytes() {
+        Set<Object> seen = MemoryEstimates.identitySet();
+        long bytes = 16 + MemoryEstimates.align(16 + MemoryEstimates.REFERENCE * names.length);
+        for (T name : ids.keySet()) {
+            bytes += MemoryEstimates.MAP_ENTRY + MemoryEstimates.BOXED_INT + MemoryEstimates.value(name, seen);
+        }
+        return bytes;
+    }
+
+    private synchronized int add(T name) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        Object[] current = names;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = name;
+        names = current;
+        ids.put(name, size);
+        return size++;
+    }
+}
@@ -0,0 +1,236 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the holidays dictionary-encoded in direct memory, outside the garbage-collected heap.
+ * <p>
+ * Every holiday is a fixed record of {@value #RECORD_BYTES} bytes: its day relative to the first of January
+ * of the year, the dictionary ids of its local and English names, of its list of subdivisions and of its
+ * list of types, and its {@code global} flag. Names such as "Christmas Day" are therefore held once in a
+ * {@link NameDictionary}, however many countries and years they occur in, and
+ * the date strings of a year are shared by all countries. The records of a country-year lie next to each
+ * other in a chunk of direct memory; chunks are filled one after the other and allocated as needed.
+ * </p>
+ * <p>
+ * The heap holds only the index of country-years and one small list per country-year, which decodes its
+ * holidays when they are read. Storing holidays equal to those already stored keeps the stored list.
+ * Replaced records are not reclaimed one by one: a chunk is freed once none of its lists is referenced.
+ * Reads are lock-free; writes are serialized.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+public class OffHeapHolidayStore implements HolidayStore {
+
+    static final int RECORD_BYTES = 19;
+    static final int DEFAULT_CHUNK_BYTES = 256 * 1024;
+
+    private static final int LOCAL_NAME_OFFSET = 2;
+    private static final int NAME_OFFSET = 6;
+    private static final int COUNTIES_OFFSET = 10;
+    private static final int TYPES_OFFSET = 14;
+    private static final int GLOBAL_OFFSET = 18;
+    private static final byte GLOBAL_UNKNOWN = 0;
+    private static final byte GLOBAL_FALSE = 1;
+    private static final byte GLOBAL_TRUE = 2;
+
+    private final int chunkBytes;
+    private final NameDictionary<String> names = new NameDictionary<>();
+    private final NameDictionary<List<String>> lists = new NameDictionary<>();
+    private final Map<String, EncodedHolidays> index = new ConcurrentHashMap<>();
+    private final Map<Integer, String[]> dates = new ConcurrentHashMap<>();
+    private final List<WeakReference<ByteBuffer>> chunks = new ArrayList<>();
+    private ByteBuffer chunk;
+    private long encodedBytes;
+
+    public OffHeapHolidayStore() {
+        this(DEFAULT_CHUNK_BYTES);
+    }
+
+    public OffHeapHolidayStore(int chunkBytes) {
+        if (chunkBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Chunks must hold at least one holiday.");
+        }
+        this.chunkBytes = chunkBytes;
+    }
+
+    @Override
+    public List<PublicHoliday> get(String countryCode, int year) {
+        return index.get(HeapHolidayStore.key(countryCode, year));
+    }
+
+    /**
+     * @throws java.time.format.DateTimeParseException if a holiday has an invalid date
+     * @throws IllegalArgumentException                if a holiday lies more than 32767 days from the year
+     */
+    @Override
+    public synchronized List<PublicHoliday> put(String countryCode, int year, List<PublicHoliday> holidays) {
+        String key = HeapHolidayStore.key(countryCode, year);
+        EncodedHolidays previous = index.get(key);
+        if (previous != null && previous.matches(holidays)) {
+            return previous;
+        }
+        long firstDay = LocalDate.of(year, 1, 1).toEpochDay();
+        int size = holidays.size();
+        ByteBuffer target = reserve(size * RECORD_BYTES);
+        int offset = target.position();
+        int position = offset;
+        for (PublicHoliday holiday : holidays) {
+            long day = LocalDate.parse(holiday.date()).toEpochDay() - firstDay;
+            if (day < Short.MIN_VALUE || day > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Holiday " + holiday.date() + " is too far from " + year);
+            }
+            target.putShort(position, (short) day);
+            target.putInt(position + LOCAL_NAME_OFFSET, names.id(holiday.localName()));
+            target.putInt(position + NAME_OFFSET, names.id(holiday.name()));
+            target.putInt(position + COUNTIES_OFFSET, listId(holiday.counties()));
+            target.putInt(position + TYPES_OFFSET, listId(holiday.types()));
+            target.put(position + GLOBAL_OFFSET, global(holiday.global()));
+            position += RECORD_BYTES;
+        }
+        target.position(position);
+        EncodedHolidays encoded = new EncodedHolidays(target, offset, size, year);
+        index.put(key, encoded);
+        encodedBytes += (long) size * RECORD_BYTES - (previous == null ? 0 : (long) previous.size() * RECORD_BYTES);
+        return encoded;
+    }
+
+    @Override
+    public synchronized HolidayStorageFootprint footprint() {
+        Set<Object> seen = MemoryEstimates.identitySet();
+        long holidays = 0;
+        long heapBytes = names.heapBytes() + lists.heapBytes();
+        for (Map.Entry<String, EncodedHolidays> entry : index.entrySet()) {
+            holidays += entry.getValue().size();
+            heapBytes += MemoryEstimates.MAP_ENTRY + MemoryEstimates.string(entry.getKey(), seen) + EncodedHolidays.HEAP_BYTES;
+        }
+        for (String[] year : dates.values()) {
+            heapBytes += MemoryEstimates.MAP_ENTRY + MemoryEstimates.BOXED_INT
+                    + MemoryEstimates.align(16 + MemoryEstimates.REFERENCE * year.length);
+            for (String date : year) {
+                heapBytes += MemoryEstimates.string(date, seen);
+            }
+        }
+        chunks.removeIf(reference -> reference.get() == null);
+        long offHeapBytes = chunks.stream().map(WeakReference::get).filter(Objects::nonNull)
+                .mapToLong(ByteBuffer::capacity).sum();
+        return new HolidayStorageFootprint("offheap", index.size(), holidays, names.size(), heapBytes,
+                offHeapBytes, encodedBytes);
+    }
+
+    private static byte global(Boolean global) {
+        return global == null ? GLOBAL_UNKNOWN : global ? GLOBAL_TRUE : GLOBAL_FALSE;
+    }
+
+    /**
+     * @return the dictionary id of a list, adding an immutable copy if the list is new
+     */
+    private int listId(List<String> list) {
+        int id = lists.find(list);
+        return id != NameDictionary.ABSENT_ID ? id : lists.id(Collections.unmodifiableList(new ArrayList<>(list)));
+    }
+
+    /**
+     * @return a chunk with room for the bytes at its position, allocating a new one if the current is full
+     */
+    private ByteBuffer reserve(int bytes) {
+        if (chunk == null || chunk.remaining() < bytes) {
+            chunk = ByteBuffer.allocateDirect(Math.max(chunkBytes, bytes));
+            chunks.add(new WeakReference<>(chunk));
+        }
+        return chunk;
+    }
+
+    /**
+     * @return the ISO date of a day of the year, from the strings shared by all countries
+     */
+    private String date(int year, int day) {
+        String[] days = dates.get(year);
+        if (days == null) {
+            days = dates.computeIfAbsent(year, y -> {
+                LocalDate first = LocalDate.of(y, 1, 1);
+                String[] all = new String[first.lengthOfYear()];
+                for (int i = 0; i < all.length; i++) {
+                    all[i] = first.plusDays(i).toString();
+                }
+                return all;
+            });
+        }
+        return day >= 0 && day < days.length ? days[day] : LocalDate.of(year, 1, 1).plusDays(day).toString();
+    }
+
+    /**
+     * The holidays of one country-year, decoded from their records when read.
+     */
+    private final class EncodedHolidays extends AbstractList<PublicHoliday> implements RandomAccess {
+
+        static final long HEAP_BYTES = 32;
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int size;
+        private final int year;
+
+        EncodedHolidays(ByteBuffer buffer, int offset, int size, int year) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.size = size;
+            this.year = year;
+        }
+
+        @Override
+        public PublicHoliday get(int index) {
+            int position = offset + Objects.checkIndex(index, size) * RECORD_BYTES;
+            byte global = buffer.get(position + GLOBAL_OFFSET);
+            return new PublicHoliday(date(year, buffer.getShort(position)),
+                    names.name(buffer.getInt(position + LOCAL_NAME_OFFSET)),
+                    names.name(buffer.getInt(position + NAME_OFFSET)),
+                    global == GLOBAL_UNKNOWN ? null : global == GLOBAL_TRUE,
+                    lists.name(buffer.getInt(position + COUNTIES_OFFSET)),
+                    lists.name(buffer.getInt(position + TYPES_OFFSET)));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return whether the records equal the holidays, compared without decoding them
+         */
+        boolean matches(List<PublicHoliday> holidays) {
+            if (holidays.size() != size) {
+                return false;
+            }
+            Iterator<PublicHoliday> iterator = holidays.iterator();
+            for (int position = offset; iterator.hasNext(); position += RECORD_BYTES) {
+                PublicHoliday holiday = iterator.next();
+                if (!Objects.equals(holiday.date(), date(year, buffer.getShort(position)))
+                        || names.find(holiday.localName()) != buffer.getInt(position + LOCAL_NAME_OFFSET)
+                        || names.find(holiday.name()) != buffer.getInt(position + NAME_OFFSET)
+                        || lists.find(holiday.counties()) != buffer.getInt(position + COUNTIES_OFFSET)
+                        || lists.find(holiday.types()) != buffer.getInt(position + TYPES_OFFSET)
+                        || global(holiday.global()) != buffer.get(position + GLOBAL_OFFSET)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
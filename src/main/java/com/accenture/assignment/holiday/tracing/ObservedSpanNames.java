@@ -0,0 +1,29 @@
+package com.accenture.assignment.holiday.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationFilter;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Names the spans of {@link io.micrometer.observation.annotation.Observed} methods after the observation
+ * and the method, such as {@code holiday.service get-non-weekend-holiday-counts}.
+ * <p>
+ * By default they are named after the class and the method, which the tracing bridge cuts off at 50
+ * characters, and which does not tell the controller span from the service span at a glance.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+public class ObservedSpanNames implements ObservationFilter {
+
+    @Override
+    public Observation.Context map(Observation.Context context) {
+        if (context instanceof ObservedAspect.ObservedAspectContext observed) {
+            observed.setContextualName(observed.getName() + " "
+                    + observed.getProceedingJoinPoint().getSignature().getName());
+        }
+        return context;
+    }
+}
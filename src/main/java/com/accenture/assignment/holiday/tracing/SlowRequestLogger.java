@@ -0,0 +1,167 @@
+package com.accenture.assignment.holiday.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Logs the span tree of requests slower than a threshold.
+ * <p>
+ * Registered as a span exporter next to any other exporter (such as OTLP), it receives every finished span.
+ * Spans are held per trace until the local root of the trace ends, which is the server span of a request;
+ * children always end before it. If the root took at least {@code holiday.tracing.slowRequestMillis}, the
+ * whole tree is logged at warn level, one span per line with its offset from the start of the request,
+ * its duration, its self time (the part not covered by its children) and its attributes sorted by key.
+ * A negative threshold turns the log off. At most {@code holiday.tracing.maxPendingTraces} unfinished traces and
+ * {@value #MAX_SPANS_PER_TRACE} spans per trace are held; the oldest trace is dropped first.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class SlowRequestLogger implements SpanExporter {
+
+    static final int MAX_SPANS_PER_TRACE = 512;
+
+    private final long thresholdNanos;
+    private final Map<String, List<SpanData>> pending;
+    private final Consumer<String> sink;
+
+    @Autowired
+    public SlowRequestLogger(@Value("${holiday.tracing.slowRequestMillis:1000}") long slowRequestMillis,
+                             @Value("${holiday.tracing.maxPendingTraces:1000}") int maxPendingTraces) {
+        this(slowRequestMillis, maxPendingTraces, log::warn);
+    }
+
+    SlowRequestLogger(long slowRequestMillis, int maxPendingTraces, Consumer<String> sink) {
+        this.thresholdNanos = slowRequestMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(slowRequestMillis);
+        this.pending = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SpanData>> eldest) {
+                return size() > maxPendingTraces;
+            }
+        };
+        this.sink = sink;
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (thresholdNanos < 0) {
+            return CompletableResultCode.ofSuccess();
+        }
+        for (SpanData span : spans) {
+            if (!isLocalRoot(span)) {
+                synchronized (pending) {
+                    List<SpanData> trace = pending.computeIfAbsent(span.getTraceId(), traceId -> new ArrayList<>());
+                    if (trace.size() < MAX_SPANS_PER_TRACE) {
+                        trace.add(span);
+                    }
+                }
+                continue;
+            }
+            List<SpanData> descendants;
+            synchronized (pending) {
+                descendants = pending.remove(span.getTraceId());
+            }
+            if (duration(span) >= thresholdNanos) {
+                sink.accept(format(span, descendants == null ? List.of() : descendants));
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        synchronized (pending) {
+            pending.clear();
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    /**
+     * Renders a span tree, children below their parent in start order.
+     */
+    static String format(SpanData root, List<SpanData> descendants) {
+        Map<String, List<SpanData>> children = new HashMap<>();
+        for (SpanData span : descendants) {
+            children.computeIfAbsent(span.getParentSpanId(), parentId -> new ArrayList<>()).add(span);
+        }
+        children.values().forEach(siblings -> siblings.sort(Comparator.comparingLong(SpanData::getStartEpochNanos)));
+        StringBuilder tree = new StringBuilder()
+                .append("Slow request took ").append(millis(duration(root))).append(" ms, trace ")
+                .append(root.getTraceId()).append(':');
+        append(tree, root, root.getStartEpochNanos(), children, 1);
+        return tree.toString();
+    }
+
+    private static void append(StringBuilder tree, SpanData span, long requestStart,
+                               Map<String, List<SpanData>> children, int depth) {
+        List<SpanData> own = children.getOrDefault(span.getSpanId(), List.of());
+        tree.append('\n').append("  ".repeat(depth))
+                .append('+').append(millis(span.getStartEpochNanos() - requestStart)).append(" ms  ")
+                .append(millis(duration(span))).append(" ms (self ").append(millis(selfTime(span, own)))
+                .append(" ms)  ").append(span.getName());
+        Map<String, Object> attributes = new TreeMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        if (!attributes.isEmpty()) {
+            tree.append("  ").append(attributes);
+        }
+        for (SpanData child : own) {
+            append(tree, child, requestStart, children, depth + 1);
+        }
+    }
+
+    /**
+     * The part of a span not covered by any child; children running in parallel, such as hedged
+     * attempts, are counted once.
+     */
+    private static long selfTime(SpanData span, List<SpanData> children) {
+        long covered = 0;
+        long coveredUntil = span.getStartEpochNanos();
+        for (SpanData child : children) {
+            long start = Math.max(child.getStartEpochNanos(), coveredUntil);
+            long end = Math.min(child.getEndEpochNanos(), span.getEndEpochNanos());
+            if (end > start) {
+                covered += end - start;
+                coveredUntil = end;
+            }
+        }
+        return Math.max(0, duration(span) - covered);
+    }
+
+    private static long duration(SpanData span) {
+        return span.getEndEpochNanos() - span.getStartEpochNanos();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,127 @@
+package com.accenture.assignment.holiday.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of the reactive variant of the Holiday Detail Service.
+ * <p>
+ * Provides the bounded scheduler the reactive controller runs service calls on, so calls to the
+ * external API never block the Netty event loop. Once all workers are busy and the queue is full,
+ * further requests are rejected instead of piling up. Also registers the CBOR and Smile codecs,
+ * built from the application's Jackson configuration like their servlet counterparts in
+ * {@code WebMvcConfig}.
+ *
+ * @author vinodbhatia83
+ */
+@Configuration
+public class ReactiveConfig {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /**
+     * Creates the scheduler for service calls.
+     *
+     * @param workerThreads the maximum number of service calls running at once
+     * @param queueCapacity the maximum number of service calls waiting for a worker
+     * @return a bounded elastic {@link Scheduler}
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler holidayServiceScheduler(@Value("${holiday.reactive.workerThreads:64}") int workerThreads,
+                                             @Value("${holiday.reactive.queueCapacity:10000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(workerThreads, queueCapacity, "holiday-service");
+    }
+
+    /**
+     * Registers the codecs for {@code application/cbor} and {@code application/x-jackson-smile}.
+     *
+     * @param builder the application's {@link Jackson2ObjectMapperBuilder}
+     * @return a {@link CodecCustomizer} adding the binary codecs
+     */
+    @Bean
+    public CodecCustomizer binaryCodecsCustomizer(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cbor = builder.factory(new CBORFactory()).build();
+        ObjectMapper smile = builder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.customCodecs().register(new CollectingCborEncoder(cbor));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cbor, MediaType.APPLICATION_CBOR));
+            configurer.defaultCodecs().jackson2SmileEncoder(new RequestedSmileEncoder(smile));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, SMILE));
+        };
+    }
+
+    /**
+     * Binary formats are only written when the client asks for them; responses without a declared
+     * content type (such as error bodies) and wildcard {@code Accept} headers stay JSON.
+     */
+    private static boolean requested(MimeType mimeType) {
+        return mimeType != null && !mimeType.isWildcardType() && !mimeType.isWildcardSubtype();
+    }
+
+    /**
+     * CBOR encoder that also accepts a {@link Flux}: {@link Jackson2CborEncoder} only encodes single values,
+     * so the elements are collected and written as one CBOR array, just like the servlet variant does.
+     */
+    static class CollectingCborEncoder extends Jackson2CborEncoder {
+
+        CollectingCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+            return requested(mimeType) && super.canEncode(elementType, mimeType);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+            return Flux.from(inputStream)
+                    .collectList()
+                    .map(list -> encodeValue(list, bufferFactory, listType, mimeType, hints))
+                    .flux();
+        }
+    }
+
+    /**
+     * Smile encoder that is only chosen when Smile is explicitly requested.
+     */
+    static class RequestedSmileEncoder extends Jackson2SmileEncoder {
+
+        RequestedSmileEncoder(ObjectMapper mapper) {
+            super(mapper, SMILE);
+        }
+
+        @Override
+        public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+            return requested(mimeType) && super.canEncode(elementType, mimeType);
+        }
+    }
+}
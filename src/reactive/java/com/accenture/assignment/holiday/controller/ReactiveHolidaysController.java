@@ -0,0 +1,141 @@
+package com.accenture.assignment.holiday.controller;
+
+import com.accenture.assignment.holiday.api.HolidayApi;
+import com.accenture.assignment.holiday.model.BusinessDay;
+import com.accenture.assignment.holiday.model.BusinessDayCount;
+import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CountriesOnHoliday;
+import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.CountryHolidayTotals;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive REST controller for handling holiday-related API requests.
+ * Implements the reactive {@link HolidayApi} generated when building with {@code -Dreactive}.
+ * <p>
+ * Service calls run on the bounded {@code holidayServiceScheduler}, keeping the Netty event loop free
+ * while the external API is slow. Endpoints that fan out to the external API run through the
+ * {@link RequestCoalescer}, exactly as in {@link HolidaysController}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@RestController
+@RequiredArgsConstructor
+public class ReactiveHolidaysController implements HolidayApi {
+
+    private final HolidayInsightService service;
+
+    private final RequestCoalescer coalescer;
+
+    private final Scheduler holidayServiceScheduler;
+
+    @Override
+    public Mono<ResponseEntity<Flux<Holiday>>> getRecentHolidays(String country, Integer count, String tenant,
+                                                             ServerWebExchange exchange) {
+        return many(() -> coalescer.execute("recent",
+                RequestCoalescer.withTenant(String.valueOf(country).trim().toUpperCase(Locale.ROOT) + "|" + count, tenant),
+                () -> service.getRecentHolidays(country, count, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<Holiday>>> getUpcomingHolidays(String country, Integer count, String tenant,
+                                                               ServerWebExchange exchange) {
+        return many(() -> coalescer.execute("upcoming",
+                RequestCoalescer.withTenant(String.valueOf(country).trim().toUpperCase(Locale.ROOT) + "|" + count, tenant),
+                () -> service.getUpcomingHolidays(country, count, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<CountryHolidayCount>>> getNonWeekendHolidayCounts(
+            Integer year, String countries, String types, String tenant, ServerWebExchange exchange) {
+        return many(() -> coalescer.execute("non-weekend-count",
+                RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                        year + "|" + RequestCoalescer.normalizeList(countries), types), tenant),
+                () -> service.getNonWeekendHolidayCounts(year, countries, types, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<CountryHolidayTotals>>> getHolidayCountRanking(
+            Integer year, Integer limit, String tenant, ServerWebExchange exchange) {
+        return many(() -> coalescer.execute("non-weekend-count-ranking",
+                RequestCoalescer.withTenant(year + "|" + limit, tenant),
+                () -> service.getHolidayCountRanking(year, limit, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<CommonHoliday>>> getCommonHolidays(
+            Integer year, String country1, String country2, String types, String tenant, ServerWebExchange exchange) {
+        return many(() -> coalescer.execute("common", RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                year + "|" + String.valueOf(country1).trim().toUpperCase(Locale.ROOT)
+                        + "|" + String.valueOf(country2).trim().toUpperCase(Locale.ROOT),
+                types), tenant),
+                () -> service.getCommonHolidays(year, country1, country2, types, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<BusinessDay>> addBusinessDays(
+            String country, LocalDate date, Integer days, String tenant, ServerWebExchange exchange) {
+        return one(() -> service.addBusinessDays(country, date, days, tenant));
+    }
+
+    @Override
+    public Mono<ResponseEntity<BusinessDayCount>> countBusinessDays(
+            String country, LocalDate from, LocalDate to, String tenant, ServerWebExchange exchange) {
+        return one(() -> service.countBusinessDays(country, from, to, tenant));
+    }
+
+    @Override
+    public Mono<ResponseEntity<BusinessDay>> getNextBusinessDay(
+            String country, LocalDate date, String tenant, ServerWebExchange exchange) {
+        return one(() -> service.getNextBusinessDay(country, date, tenant));
+    }
+
+    @Override
+    public Mono<ResponseEntity<CountriesOnHoliday>> getCountriesOnHoliday(LocalDate date, String tenant,
+                                                                      ServerWebExchange exchange) {
+        return one(() -> coalescer.execute("countries-off", RequestCoalescer.withTenant(String.valueOf(date), tenant),
+                () -> service.getCountriesOnHoliday(date, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<CountriesOnHoliday>>> getCountriesOnHolidayInRange(
+            LocalDate from, LocalDate to, String tenant, ServerWebExchange exchange) {
+        return many(() -> coalescer.execute("countries-off-range", RequestCoalescer.withTenant(from + "|" + to, tenant),
+                () -> service.getCountriesOnHolidayInRange(from, to, tenant)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<LongWeekendReport>> getLongWeekends(Integer year, String countries, String types, String tenant,
+                                                                   ServerWebExchange exchange) {
+        return one(() -> coalescer.execute("long-weekends",
+                RequestCoalescer.withTenant(RequestCoalescer.withTypes(
+                        year + "|" + String.valueOf(countries).trim().toUpperCase(Locale.ROOT), types), tenant),
+                () -> service.getLongWeekends(year, countries, types, tenant)));
+    }
+
+    private <T> Mono<ResponseEntity<T>> one(Callable<T> call) {
+        return Mono.fromCallable(call)
+                .subscribeOn(holidayServiceScheduler)
+                .map(ResponseEntity::ok);
+    }
+
+    private <T> Mono<ResponseEntity<Flux<T>>> many(Callable<List<T>> call) {
+        return one(call).map(response -> ResponseEntity.ok(Flux.fromIterable(response.getBody())));
+    }
+}
@@ -0,0 +1,86 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Requires the admin token on the client usage under {@code /actuator/quotas} and on the writes to the cache
+ * under {@code /actuator/holidaycache}, the reactive counterpart of the servlet {@code AdminTokenFilter}.
+ * <p>
+ * Requests must carry {@code Authorization: Bearer <holiday.diagnostics.token>}; the token is compared
+ * in constant time. Without a token configured client usage cannot be read nor cache keys evicted over
+ * HTTP. Requests with a missing or wrong token get 401 and are counted in
+ * {@code holiday.diagnostics.unauthorized}.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@Component
+@Slf4j
+public class ReactiveAdminTokenFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] token;
+    private final String quotasPath;
+    private final String cachePath;
+    private final Counter unauthorized;
+
+    public ReactiveAdminTokenFilter(@Value("${holiday.diagnostics.token:}") String token,
+                                    @Value("${management.endpoints.web.base-path:/actuator}") String basePath,
+                                    MeterRegistry meterRegistry) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.quotasPath = basePath + "/quotas";
+        this.cachePath = basePath + "/holidaycache";
+        this.unauthorized = meterRegistry.counter("holiday.diagnostics.unauthorized");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isProtected(request) || isAuthorized(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION))) {
+            return chain.filter(exchange);
+        }
+        unauthorized.increment();
+        log.warn("Rejected unauthorized admin request {} {} from {}",
+                request.getMethod(), request.getPath(), request.getRemoteAddress());
+        exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+
+    private boolean isProtected(ServerHttpRequest request) {
+        String path = request.getPath().pathWithinApplication().value();
+        return isUnder(path, quotasPath) || !isRead(request.getMethod()) && isUnder(path, cachePath);
+    }
+
+    private static boolean isUnder(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix + '/');
+    }
+
+    private static boolean isRead(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+    }
+
+    private boolean isAuthorized(String authorization) {
+        if (token.length == 0 || authorization == null || !authorization.startsWith(BEARER)) {
+            return false;
+        }
+        byte[] presented = authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(token, presented);
+    }
+}
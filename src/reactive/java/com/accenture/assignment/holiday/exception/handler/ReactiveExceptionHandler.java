@@ -0,0 +1,147 @@
+package com.accenture.assignment.holiday.exception.handler;
+
+import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.model.ProblemDetail;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Global exception handler of the reactive variant.
+ * <p>
+ * Mirrors {@link ApplicationExceptionHandler} for WebFlux, returning the same {@link ProblemDetail}
+ * responses. A request that finds the service scheduler saturated is shed with 503 and
+ * {@code Retry-After}, like requests rejected by admission control in the servlet variant.
+ * </p>
+ *
+ * @author vinodbhatia83
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    private final long retryAfterSeconds;
+
+    public ReactiveExceptionHandler(@Value("${holiday.admission.retryAfterSeconds:1}") long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ProblemDetail> handleConstraintViolationException(
+            ConstraintViolationException ex, ServerHttpRequest request) {
+        String details = ex.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+        return respond(HttpStatus.BAD_REQUEST, "Validation Error", details, request);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ProblemDetail> handleMethodValidation(
+            HandlerMethodValidationException ex, ServerHttpRequest request) {
+        String details = ex.getAllErrors().stream()
+                .map(error -> String.valueOf(error.getDefaultMessage()))
+                .collect(Collectors.joining("; "));
+        return respond(HttpStatus.BAD_REQUEST, "Validation Error", details, request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ProblemDetail> handleServerWebInputException(
+            ServerWebInputException ex, ServerHttpRequest request) {
+        log.warn("ServerWebInputException at {}: {}", request.getPath(), ex.getReason());
+        return respond(HttpStatus.BAD_REQUEST, "Bad Request", ex.getReason(), request);
+    }
+
+    @ExceptionHandler({InvalidCountryException.class, IllegalArgumentException.class})
+    public ResponseEntity<ProblemDetail> handleInvalidArgument(RuntimeException ex, ServerHttpRequest request) {
+        log.warn("{} at {}: {}", ex.getClass().getSimpleName(), request.getPath(), ex.getMessage());
+        if (ex instanceof InvalidCountryException invalidCountry) {
+            return ResponseEntity.badRequest().body(problemDetail(HttpStatus.BAD_REQUEST, "Invalid Country",
+                    ex.getMessage(), request, invalidCountry.getErrors()));
+        }
+        return respond(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(UnknownTenantException.class)
+    public ResponseEntity<ProblemDetail> handleUnknownTenant(UnknownTenantException ex, ServerHttpRequest request) {
+        return respond(HttpStatus.NOT_FOUND, "Unknown Tenant", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ProblemDetail> handleServiceOverloadedException(
+            ServiceOverloadedException ex, ServerHttpRequest request) {
+        log.warn("ServiceOverloadedException at {}: {}", request.getPath(), ex.getMessage());
+        return overloaded(ex.getMessage(), ex.getRetryAfterSeconds(), request);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ProblemDetail> handleRejectedExecutionException(
+            RejectedExecutionException ex, ServerHttpRequest request) {
+        log.warn("RejectedExecutionException at {}: {}", request.getPath(), ex.getMessage());
+        return overloaded("The service is busy. Please retry in " + retryAfterSeconds + " second(s).",
+                retryAfterSeconds, request);
+    }
+
+    @ExceptionHandler(ExternalApiUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleExternalApiUnavailableException(
+            ExternalApiUnavailableException ex, ServerHttpRequest request) {
+        log.error("ExternalApiUnavailableException at {}: {}", request.getPath(), ex.getMessage(), ex);
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(RestClientException.class)
+    public ResponseEntity<ProblemDetail> handleRestClientException(RestClientException ex, ServerHttpRequest request) {
+        log.error("RestClientException at {}: {}", request.getPath(), ex.getMessage(), ex);
+        return respond(HttpStatus.BAD_GATEWAY, "External API Error", "External API error: " + ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleGeneralException(Exception ex, ServerHttpRequest request) {
+        log.error("Unhandled exception at {}: {}", request.getPath(), ex.getMessage(), ex);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred. Please contact support.", request);
+    }
+
+    private ResponseEntity<ProblemDetail> overloaded(String message, long retryAfter, ServerHttpRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(problemDetail(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", message, request));
+    }
+
+    private ResponseEntity<ProblemDetail> respond(HttpStatus status, String error, String message,
+                                                  ServerHttpRequest request) {
+        return ResponseEntity.status(status).body(problemDetail(status, error, message, request));
+    }
+
+    private ProblemDetail problemDetail(HttpStatus status, String error, String message, ServerHttpRequest request) {
+        return problemDetail(status, error, message, request, List.of());
+    }
+
+    private ProblemDetail problemDetail(HttpStatus status, String error, String message, ServerHttpRequest request,
+                                        List<CountryValidationError> errors) {
+        return new ProblemDetail(
+                CoarseClock.now(),
+                status.value(),
+                error,
+                message,
+                request.getPath().value(),
+                errors
+        );
+    }
+}
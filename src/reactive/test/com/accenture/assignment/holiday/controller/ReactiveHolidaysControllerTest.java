@@ -0,0 +1,191 @@
+package com.accenture.assignment.holiday.controller;
+
+import com.accenture.assignment.holiday.config.ReactiveConfig;
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.exception.handler.ReactiveExceptionHandler;
+import com.accenture.assignment.holiday.model.BridgeDay;
+import com.accenture.assignment.holiday.model.BusinessDay;
+import com.accenture.assignment.holiday.model.CountryLongWeekends;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveHolidaysControllerTest {
+
+    private final HolidayInsightService service = mock(HolidayInsightService.class);
+    private Scheduler scheduler;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newBoundedElastic(4, 100, "test-service");
+        ReactiveHolidaysController controller = new ReactiveHolidaysController(
+                service, new RequestCoalescer(true, 0, new SimpleMeterRegistry()), scheduler);
+        ObjectMapper objectMapper = builder().build();
+        CodecCustomizer binaryCodecs = new ReactiveConfig().binaryCodecsCustomizer(builder());
+        client = WebTestClient.bindToController(controller)
+                .controllerAdvice(new ReactiveExceptionHandler(2))
+                .httpMessageCodecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    binaryCodecs.customize(codecs);
+                })
+                .build();
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void getRecentHolidays_returnsServiceResultOffTheCallerThread() {
+        when(service.getRecentHolidays("NL", 3, null)).thenAnswer(invocation -> {
+            assertTrue(Thread.currentThread().getName().startsWith("test-service"));
+            return List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day"));
+        });
+
+        client.get().uri("/api/v1/holidays/recent?country=NL")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("King's Day")
+                .jsonPath("$[0].date").isEqualTo("2025-04-27");
+    }
+
+    @Test
+    void getRecentHolidays_acceptCbor_returnsCborArray() throws Exception {
+        when(service.getRecentHolidays("NL", 3, null)).thenReturn(List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day")));
+
+        byte[] body = client.get().uri("/api/v1/holidays/recent?country=NL")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class).returnResult().getResponseBody();
+
+        JsonNode holidays = new CBORMapper().readTree(body);
+        assertEquals("2025-04-27", holidays.get(0).get("date").asText());
+    }
+
+    @Test
+    void getRecentHolidays_acceptJson_isNotEncodedAsBinary() {
+        when(service.getRecentHolidays("NL", 3, null)).thenReturn(List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day")));
+
+        client.get().uri("/api/v1/holidays/recent?country=NL")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("King's Day");
+    }
+
+    @Test
+    void getNextBusinessDay_returnsSingleObject() {
+        when(service.getNextBusinessDay("NL", LocalDate.of(2025, 4, 25), null))
+                .thenReturn(new BusinessDay("NL", LocalDate.of(2025, 4, 28)));
+
+        client.get().uri("/api/v1/holidays/business-days/next?country=NL&date=2025-04-25")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.date").isEqualTo("2025-04-28");
+    }
+
+    @Test
+    void getLongWeekends_returnsReport() {
+        when(service.getLongWeekends(2025, "NL,BE", null, null)).thenReturn(new LongWeekendReport(2025, List.of())
+                .common(new CountryLongWeekends("NL,BE", List.of(), List.of(new BridgeDay(LocalDate.of(2025, 5, 30),
+                        LocalDate.of(2025, 5, 29), LocalDate.of(2025, 6, 1), 4)))));
+
+        client.get().uri("/api/v1/holidays/long-weekends?year=2025&countries=NL,BE")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.common.bridgeDays[0].date").isEqualTo("2025-05-30");
+    }
+
+    @Test
+    void serviceIllegalArgument_returnsBadRequest() {
+        when(service.getRecentHolidays("XX", 3, null)).thenThrow(new IllegalArgumentException("Invalid country code: 'XX'."));
+
+        client.get().uri("/api/v1/holidays/recent?country=XX")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid country code: 'XX'.")
+                .jsonPath("$.path").isEqualTo("/api/v1/holidays/recent");
+    }
+
+    @Test
+    void unknownTenant_returnsNotFound() {
+        when(service.getRecentHolidays("NL", 3, "acme")).thenThrow(new UnknownTenantException("acme"));
+
+        client.get().uri("/api/v1/holidays/recent?country=NL&tenant=acme")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Unknown Tenant");
+    }
+
+    @Test
+    void invalidCountries_listedInErrors() {
+        when(service.getNonWeekendHolidayCounts(2025, "NL,ZZ", null, null)).thenThrow(new InvalidCountryException(
+                "Invalid country code: 'ZZ'.", List.of(new CountryValidationError("ZZ", "Country is not supported."))));
+
+        client.get().uri("/api/v1/holidays/non-weekend-count?year=2025&countries=NL,ZZ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Country")
+                .jsonPath("$.errors[0].country").isEqualTo("ZZ")
+                .jsonPath("$.errors[0].reason").isEqualTo("Country is not supported.");
+    }
+
+    @Test
+    void missingParameter_returnsBadRequest() {
+        client.get().uri("/api/v1/holidays/recent")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void saturatedScheduler_returnsServiceUnavailableWithRetryAfter() {
+        when(service.getRecentHolidays("NL", 3, null)).thenThrow(new RejectedExecutionException("queue full"));
+
+        client.get().uri("/api/v1/holidays/recent?country=NL")
+                .exchange()
+                .expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "2");
+    }
+}
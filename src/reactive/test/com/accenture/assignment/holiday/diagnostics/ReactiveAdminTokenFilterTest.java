@@ -0,0 +1,56 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveAdminTokenFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReactiveAdminTokenFilter filter = new ReactiveAdminTokenFilter("s3cret", "/actuator", meterRegistry);
+
+    private boolean passes(HttpMethod method, String path, String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.method(method, path);
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        AtomicBoolean passed = new AtomicBoolean();
+        filter.filter(exchange, e -> {
+            passed.set(true);
+            return Mono.empty();
+        }).block();
+        if (!passed.get()) {
+            assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+            assertEquals("Bearer", exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+        }
+        return passed.get();
+    }
+
+    @Test
+    void filter_holidayCache_protectsEvictionsOnly() {
+        assertFalse(passes(HttpMethod.DELETE, "/actuator/holidaycache/holidays:NL:2025", null));
+        assertFalse(passes(HttpMethod.DELETE, "/actuator/holidaycache/holidays:NL:2025", "Bearer wrong"));
+        assertTrue(passes(HttpMethod.DELETE, "/actuator/holidaycache/holidays:NL:2025", "Bearer s3cret"));
+        assertTrue(passes(HttpMethod.GET, "/actuator/holidaycache", null));
+        assertTrue(passes(HttpMethod.GET, "/api/v1/holidays/recent?country=NL", null));
+        assertEquals(2, meterRegistry.counter("holiday.diagnostics.unauthorized").count());
+    }
+
+    @Test
+    void filter_quotas_protectsReads() {
+        assertFalse(passes(HttpMethod.GET, "/actuator/quotas", null));
+        assertFalse(passes(HttpMethod.GET, "/actuator/quotas/team-a", null));
+        assertTrue(passes(HttpMethod.GET, "/actuator/quotas", "Bearer s3cret"));
+        assertTrue(passes(HttpMethod.GET, "/actuator/quotasx", null));
+    }
+}
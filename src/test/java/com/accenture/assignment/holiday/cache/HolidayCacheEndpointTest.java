@@ -0,0 +1,28 @@
+package com.accenture.assignment.holiday.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCacheEndpointTest {
+
+    private final HolidayCache holidayCache = new HolidayCache(SharedCache.NONE, new ObjectMapper(),
+            new SimpleMeterRegistry(), 60, 604800, 5000, 25);
+    private final HolidayCacheEndpoint endpoint = new HolidayCacheEndpoint(holidayCache);
+
+    @Test
+    void evict_removesKey() {
+        holidayCache.get("holidays:NL:2025", new TypeReference<List<String>>() {}, () -> List.of("a"));
+        assertEquals(Map.of("localEntries", 1), endpoint.cache());
+
+        endpoint.evict("holidays:NL:2025");
+
+        assertEquals(Map.of("localEntries", 0), endpoint.cache());
+    }
+}
@@ -0,0 +1,258 @@
+package com.accenture.assignment.holiday.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCacheTest {
+
+    private static final TypeReference<List<String>> TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private RespStandInServer server;
+    private final List<RedisSharedCache> sharedCaches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new RespStandInServer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sharedCaches.forEach(RedisSharedCache::close);
+        server.close();
+    }
+
+    private HolidayCache node(long ttlMillis) {
+        RedisSharedCache shared = new RedisSharedCache("127.0.0.1", server.port(), 1000, 8, "test:");
+        sharedCaches.add(shared);
+        return new HolidayCache(shared, objectMapper, meterRegistry, ttlMillis, 60_000, 2_000, 5,
+                System::currentTimeMillis);
+    }
+
+    private HolidayCache localNode(long ttlMillis) {
+        return new HolidayCache(SharedCache.NONE, objectMapper, meterRegistry, ttlMillis, 60_000, 2_000, 5, now::get);
+    }
+
+    private Supplier<List<String>> loader(String... values) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(values);
+        };
+    }
+
+    private double gets(String result) {
+        return meterRegistry.counter("holiday.cache.gets", "result", result).count();
+    }
+
+    @Test
+    void get_freshValue_servedFromLevelOne() {
+        HolidayCache cache = localNode(10_000);
+
+        List<String> first = cache.get("holidays:NL:2025", TYPE, loader("a"));
+        now.addAndGet(9_999);
+        List<String> second = cache.get("holidays:NL:2025", TYPE, loader("b"));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, gets("l1"));
+    }
+
+    @Test
+    void get_reportsHowTheValueWasFound() throws Exception {
+        HolidayCache cache = localNode(10_000);
+        List<String> results = new CopyOnWriteArrayList<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> loader = executor.submit(() -> cache.get("holidays:NL:2025", TYPE, () -> {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of("a");
+            }, results::add));
+            loading.await();
+            Thread joiner = new Thread(() -> cache.get("holidays:NL:2025", TYPE, loader("b"), results::add));
+            joiner.start();
+            while (gets("joined") == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            joiner.join();
+            assertEquals(List.of("a"), loader.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        cache.get("holidays:NL:2025", TYPE, loader("c"), results::add);
+
+        assertEquals(List.of("loaded", "joined", "l1"), results);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void get_expiredValue_isReloaded() {
+        HolidayCache cache = localNode(10_000);
+        cache.get("holidays:NL:2025", TYPE, loader("a"));
+        now.addAndGet(10_000);
+
+        assertEquals(List.of("b"), cache.get("holidays:NL:2025", TYPE, loader("b")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_zeroTtl_loadsEveryCall() {
+        HolidayCache cache = localNode(0);
+
+        cache.get("holidays:NL:2025", TYPE, loader("a"));
+        cache.get("holidays:NL:2025", TYPE, loader("a"));
+
+        assertEquals(2, loads.get());
+        assertEquals(List.of("a"), cache.getStale("holidays:NL:2025", TYPE));
+    }
+
+    @Test
+    void needsRefresh_afterTheTtlOrAnEviction() {
+        HolidayCache cache = localNode(10_000);
+        assertTrue(cache.needsRefresh("holidays:NL:2025"));
+
+        cache.get("holidays:NL:2025", TYPE, loader("a"));
+        now.addAndGet(9_999);
+        assertFalse(cache.needsRefresh("holidays:NL:2025"));
+        now.addAndGet(1);
+        assertTrue(cache.needsRefresh("holidays:NL:2025"));
+
+        HolidayCache zeroTtl = localNode(0);
+        zeroTtl.get("holidays:NL:2025", TYPE, loader("a"));
+        assertFalse(zeroTtl.needsRefresh("holidays:NL:2025"));
+        zeroTtl.evict("holidays:NL:2025");
+        assertTrue(zeroTtl.needsRefresh("holidays:NL:2025"));
+    }
+
+    @Test
+    void get_nullValue_isNotCached() {
+        HolidayCache cache = localNode(10_000);
+
+        assertNull(cache.get("holidays:NL:2025", TYPE, () -> null));
+
+        assertEquals(List.of("a"), cache.get("holidays:NL:2025", TYPE, loader("a")));
+        assertEquals(0, gets("l1"));
+    }
+
+    @Test
+    void get_loaderFails_exceptionPassedOnAndNothingCached() {
+        HolidayCache cache = localNode(10_000);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("holidays:NL:2025", TYPE, () -> {
+            throw new IllegalStateException("upstream down");
+        }));
+
+        assertNull(cache.getStale("holidays:NL:2025", TYPE));
+    }
+
+    @Test
+    void get_otherNode_readsFromSharedLevel() {
+        HolidayCache first = node(60_000);
+        HolidayCache second = node(60_000);
+
+        first.get("holidays:NL:2025", TYPE, loader("a"));
+
+        assertEquals(List.of("a"), second.get("holidays:NL:2025", TYPE, loader("b")));
+        assertEquals(1, loads.get());
+        assertEquals(1, gets("l2"));
+    }
+
+    @Test
+    void get_concurrentNodes_loadOnceAcrossCluster() throws Exception {
+        List<HolidayCache> nodes = List.of(node(60_000), node(60_000), node(60_000));
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<String>> slowLoader = () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of("a");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(12);
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            HolidayCache node = nodes.get(i % nodes.size());
+            results.add(executor.submit(() -> node.get("holidays:NL:2025", TYPE, slowLoader)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<List<String>> result : results) {
+            assertEquals(List.of("a"), result.get());
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+        assertEquals(2, gets("awaited"));
+        assertEquals(9, gets("joined"));
+    }
+
+    @Test
+    void getStale_fallsBackToOtherNodesValue() {
+        HolidayCache first = node(0);
+        HolidayCache second = node(0);
+
+        first.get("holidays:NL:2025", TYPE, loader("a"));
+
+        assertEquals(List.of("a"), second.getStale("holidays:NL:2025", TYPE));
+        assertNull(second.getStale("holidays:DE:2025", TYPE));
+    }
+
+    @Test
+    void evict_dropsValueOnEveryNode() throws Exception {
+        HolidayCache first = node(60_000);
+        HolidayCache second = node(60_000);
+        Thread.sleep(100);
+        first.get("holidays:NL:2025", TYPE, loader("a"));
+        second.get("holidays:NL:2025", TYPE, loader("a"));
+        assertEquals(1, second.size());
+
+        first.evict("holidays:NL:2025");
+
+        for (int i = 0; i < 50 && second.size() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, second.size());
+        assertEquals(List.of("b"), second.get("holidays:NL:2025", TYPE, loader("b")));
+    }
+
+    @Test
+    void sharedLevelDown_keepsWorkingLocally() throws Exception {
+        HolidayCache cache = node(60_000);
+        server.close();
+
+        assertEquals(List.of("a"), cache.get("holidays:NL:2025", TYPE, loader("a")));
+        assertEquals(List.of("a"), cache.get("holidays:NL:2025", TYPE, loader("b")));
+        assertEquals(1, loads.get());
+        assertTrue(meterRegistry.find("holiday.cache.shared.errors").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum() > 0);
+    }
+}
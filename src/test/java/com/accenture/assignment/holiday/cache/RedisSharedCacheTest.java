@@ -0,0 +1,125 @@
+package com.accenture.assignment.holiday.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisSharedCacheTest {
+
+    private RespStandInServer server;
+    private RedisSharedCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new RespStandInServer();
+        cache = new RedisSharedCache("127.0.0.1", server.port(), 1000, 2, "test:");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        cache.close();
+        server.close();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void putAndGet_roundTripUnderPrefix() {
+        cache.put("holidays:NL:2025", bytes("[1,2]"), 60_000);
+
+        assertArrayEquals(bytes("[1,2]"), cache.get("holidays:NL:2025"));
+        assertTrue(server.contains("test:holidays:NL:2025"));
+        assertNull(cache.get("holidays:DE:2025"));
+    }
+
+    @Test
+    void put_expiresAfterTtl() throws Exception {
+        cache.put("countries", bytes("{}"), 50);
+
+        Thread.sleep(120);
+
+        assertNull(cache.get("countries"));
+    }
+
+    @Test
+    void delete_removesValue() {
+        cache.put("countries", bytes("{}"), 60_000);
+
+        cache.delete("countries");
+
+        assertNull(cache.get("countries"));
+    }
+
+    @Test
+    void tryLock_heldByOneOwnerUntilUnlockedByIt() {
+        assertTrue(cache.tryLock("holidays:NL:2025", "node-a", 60_000));
+        assertFalse(cache.tryLock("holidays:NL:2025", "node-b", 60_000));
+
+        cache.unlock("holidays:NL:2025", "node-b");
+        assertFalse(cache.tryLock("holidays:NL:2025", "node-b", 60_000));
+
+        cache.unlock("holidays:NL:2025", "node-a");
+        assertTrue(cache.tryLock("holidays:NL:2025", "node-b", 60_000));
+    }
+
+    @Test
+    void tryLock_expiresAfterLease() throws Exception {
+        assertTrue(cache.tryLock("countries", "node-a", 50));
+
+        Thread.sleep(120);
+
+        assertTrue(cache.tryLock("countries", "node-b", 50));
+    }
+
+    @Test
+    void publish_reachesSubscribers() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        RedisSharedCache other = new RedisSharedCache("127.0.0.1", server.port(), 1000, 2, "test:");
+        other.subscribe(received::add);
+        try {
+            String message = null;
+            for (int i = 0; i < 50 && message == null; i++) {
+                cache.publish("node-a holidays:NL:2025");
+                message = received.poll(100, TimeUnit.MILLISECONDS);
+            }
+            assertEquals("node-a holidays:NL:2025", message);
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    void commands_reuseConnections() {
+        cache.put("countries", bytes("{}"), 60_000);
+        int before = server.commands();
+
+        for (int i = 0; i < 20; i++) {
+            cache.get("countries");
+        }
+
+        assertEquals(before + 20, server.commands());
+    }
+
+    @Test
+    void serverDown_throwsUnchecked() throws Exception {
+        int port;
+        try (ServerSocket unused = new ServerSocket(0)) {
+            port = unused.getLocalPort();
+        }
+        RedisSharedCache unreachable = new RedisSharedCache("127.0.0.1", port, 200, 2, "test:");
+
+        assertThrows(UncheckedIOException.class, () -> unreachable.get("countries"));
+        assertThrows(UncheckedIOException.class, () -> unreachable.tryLock("countries", "node-a", 1000));
+    }
+}
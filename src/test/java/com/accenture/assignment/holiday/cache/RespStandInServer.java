@@ -0,0 +1,205 @@
+package com.accenture.assignment.holiday.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for a Redis server implementing the commands {@link RedisSharedCache} uses: GET, SET with
+ * PX and NX, DEL, PUBLISH and SUBSCRIBE.
+ */
+class RespStandInServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Value> values = new ConcurrentHashMap<>();
+    private final List<OutputStream> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+    private final AtomicInteger commands = new AtomicInteger();
+
+    RespStandInServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    sockets.add(socket);
+                    executor.execute(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    int commands() {
+        return commands.get();
+    }
+
+    boolean contains(String key) {
+        return read(key) != null;
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            List<byte[]> command;
+            while ((command = readCommand(in)) != null) {
+                commands.incrementAndGet();
+                synchronized (out) {
+                    execute(command, out);
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "GET" -> {
+                Value value = read(text(command.get(1)));
+                writeBulk(out, value == null ? null : value.bytes());
+            }
+            case "SET" -> {
+                String key = text(command.get(1));
+                long expiresAt = Long.MAX_VALUE;
+                boolean onlyIfAbsent = false;
+                for (int i = 3; i < command.size(); i++) {
+                    String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+                    if (option.equals("PX")) {
+                        expiresAt = System.currentTimeMillis() + Long.parseLong(text(command.get(++i)));
+                    } else if (option.equals("NX")) {
+                        onlyIfAbsent = true;
+                    }
+                }
+                Value value = new Value(command.get(2), expiresAt);
+                boolean set;
+                synchronized (values) {
+                    set = !onlyIfAbsent || read(key) == null;
+                    if (set) {
+                        values.put(key, value);
+                    }
+                }
+                if (set) {
+                    out.write("+OK\r\n".getBytes(StandardCharsets.US_ASCII));
+                } else {
+                    writeBulk(out, null);
+                }
+            }
+            case "DEL" -> writeInteger(out, values.remove(text(command.get(1))) == null ? 0 : 1);
+            case "PUBLISH" -> {
+                List<byte[]> message = List.of("message".getBytes(StandardCharsets.UTF_8), command.get(1), command.get(2));
+                for (OutputStream subscriber : subscribers) {
+                    synchronized (subscriber) {
+                        writeArray(subscriber, message);
+                        subscriber.flush();
+                    }
+                }
+                writeInteger(out, subscribers.size());
+            }
+            case "SUBSCRIBE" -> {
+                writeArray(out, List.of("subscribe".getBytes(StandardCharsets.UTF_8), command.get(1)));
+                subscribers.add(out);
+            }
+            default -> out.write(("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Value read(String key) {
+        Value value = values.get(key);
+        if (value != null && value.expiresAt() <= System.currentTimeMillis()) {
+            values.remove(key, value);
+            return null;
+        }
+        return value;
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            return null;
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            in.read();
+            int length = Integer.parseInt(readLine(in));
+            command.add(in.readNBytes(length));
+            in.readNBytes(2);
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) {
+                throw new IOException("Connection closed.");
+            }
+            line.append((char) c);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void writeBulk(OutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(bytes);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void writeArray(OutputStream out, List<byte[]> elements) throws IOException {
+        out.write(("*" + elements.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        for (byte[] element : elements) {
+            writeBulk(out, element);
+        }
+    }
+
+    private static void writeInteger(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private record Value(byte[] bytes, long expiresAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.accenture.assignment.holiday.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessCalendarTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2025, 1, 1);
+    private static final LocalDate CHRISTMAS = LocalDate.of(2025, 12, 25);
+    private static final LocalDate BOXING_DAY = LocalDate.of(2025, 12, 26);
+
+    private final BusinessCalendar calendar = BusinessCalendar.compile("GB", 2025, 2026,
+            List.of(NEW_YEAR, CHRISTMAS, BOXING_DAY, LocalDate.of(2026, 1, 1), LocalDate.of(1999, 1, 1)));
+
+    @Test
+    void isBusinessDay_skipsWeekendsAndHolidays() {
+        assertFalse(calendar.isBusinessDay(NEW_YEAR.toEpochDay()));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2025, 1, 2).toEpochDay()));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 1, 4).toEpochDay()));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2025, 1, 5).toEpochDay()));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 12, 31).toEpochDay()));
+    }
+
+    @Test
+    void nextBusinessDay_skipsHolidaysAndWeekend() {
+        long next = calendar.nextBusinessDay(LocalDate.of(2025, 12, 24).toEpochDay());
+        assertEquals(LocalDate.of(2025, 12, 29), LocalDate.ofEpochDay(next));
+    }
+
+    @Test
+    void addBusinessDays_forwardBackwardAndZero() {
+        long christmasEve = LocalDate.of(2025, 12, 24).toEpochDay();
+        assertEquals(LocalDate.of(2025, 12, 30), LocalDate.ofEpochDay(calendar.addBusinessDays(christmasEve, 2)));
+        assertEquals(LocalDate.of(2025, 12, 22), LocalDate.ofEpochDay(calendar.addBusinessDays(christmasEve, -2)));
+        assertEquals(LocalDate.of(2025, 12, 24), LocalDate.ofEpochDay(calendar.addBusinessDays(christmasEve, 0)));
+        assertEquals(LocalDate.of(2025, 12, 29),
+                LocalDate.ofEpochDay(calendar.addBusinessDays(CHRISTMAS.toEpochDay(), 0)));
+        assertEquals(LocalDate.of(2025, 12, 24),
+                LocalDate.ofEpochDay(calendar.addBusinessDays(CHRISTMAS.toEpochDay(), -1)));
+    }
+
+    @Test
+    void addBusinessDays_outsideRange_returnsOutOfRange() {
+        assertEquals(BusinessCalendar.OUT_OF_RANGE, calendar.addBusinessDays(NEW_YEAR.toEpochDay(), -1));
+        assertEquals(BusinessCalendar.OUT_OF_RANGE, calendar.addBusinessDays(NEW_YEAR.toEpochDay(), 1000));
+        assertEquals(BusinessCalendar.OUT_OF_RANGE, calendar.addBusinessDays(LocalDate.of(2030, 1, 1).toEpochDay(), 1));
+    }
+
+    @Test
+    void countBusinessDays_matchesDayByDayCount() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2027, 1, 1);
+        long expected = from.datesUntil(to)
+                .filter(d -> d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY)
+                .filter(d -> !d.equals(NEW_YEAR) && !d.equals(CHRISTMAS) && !d.equals(BOXING_DAY)
+                        && !d.equals(LocalDate.of(2026, 1, 1)))
+                .count();
+        assertEquals(expected, calendar.countBusinessDays(from.toEpochDay(), to.toEpochDay()));
+        assertEquals(-expected, calendar.countBusinessDays(to.toEpochDay(), from.toEpochDay()));
+    }
+
+    @Test
+    void countBusinessDays_isConsistentWithAddBusinessDays() {
+        long start = LocalDate.of(2025, 3, 14).toEpochDay();
+        for (int days = 1; days < 400; days++) {
+            long end = calendar.addBusinessDays(start, days);
+            assertEquals(days, calendar.countBusinessDays(start + 1, end + 1));
+        }
+    }
+
+    @Test
+    void countBusinessDays_outsideRange_returnsOutOfRange() {
+        assertEquals(BusinessCalendar.OUT_OF_RANGE,
+                calendar.countBusinessDays(LocalDate.of(2024, 1, 1).toEpochDay(), NEW_YEAR.toEpochDay()));
+    }
+
+    @Test
+    void covers_reportsCompiledYears() {
+        assertTrue(calendar.covers(2025, 2026));
+        assertFalse(calendar.covers(2024, 2025));
+        assertFalse(calendar.covers(2026, 2027));
+    }
+
+    @Test
+    void compile_lastYearBeforeFirstYear_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> BusinessCalendar.compile("GB", 2026, 2025, List.of()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountriesHealthIndicatorTest {
+
+    private final CountryRegistry registry = new CountryRegistry();
+    private final CountryListLoader loader = new CountryListLoader(registry, new ObjectMapper(), false, 5, 20, "");
+    private final CountriesHealthIndicator indicator = new CountriesHealthIndicator(registry, loader);
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    void health_emptyRegistry_isOutOfService() {
+        Health health = indicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(CountryListLoader.Source.NONE, health.getDetails().get("source"));
+        assertEquals(0, health.getDetails().get("countries"));
+    }
+
+    @Test
+    void health_seededRegistry_isUp() {
+        loader.start(Map::of);
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(CountryListLoader.Source.BUNDLED, health.getDetails().get("source"));
+        assertEquals(registry.getCountryCodes().size(), health.getDetails().get("countries"));
+        assertFalse(health.getDetails().containsKey("lastError"));
+    }
+}
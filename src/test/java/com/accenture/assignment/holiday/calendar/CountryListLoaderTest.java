@@ -0,0 +1,132 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryListLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final CountryRegistry registry = new CountryRegistry();
+    private CountryListLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    private CountryListLoader loader(boolean loadOnStartup, String snapshotFile) {
+        return new CountryListLoader(registry, new ObjectMapper(), loadOnStartup, 5, 20, snapshotFile);
+    }
+
+    @Test
+    void start_seedsBundledListWithoutCallingUpstream() {
+        loader = loader(false, "");
+
+        loader.start(() -> fail("upstream must not be called"));
+
+        assertEquals(CountryListLoader.Source.BUNDLED, loader.getSource());
+        assertEquals("Netherlands", registry.getName("NL"));
+        assertTrue(registry.getCountryCodes().size() > 100);
+    }
+
+    @Test
+    void start_returnsBeforeUpstreamAnswers() throws Exception {
+        loader = loader(true, "");
+        CountDownLatch release = new CountDownLatch(1);
+
+        loader.start(() -> {
+            await(release);
+            return Map.of("NL", "Netherlands");
+        });
+
+        assertEquals(CountryListLoader.Source.BUNDLED, loader.getSource());
+        assertNotNull(registry.resolve("DE"));
+        release.countDown();
+        awaitSource(CountryListLoader.Source.UPSTREAM);
+        assertEquals(List.of("NL"), registry.getCountryCodes());
+    }
+
+    @Test
+    void start_retriesUntilUpstreamSucceeds_andWritesSnapshot() throws Exception {
+        Path snapshot = dir.resolve("countries.json");
+        loader = loader(true, snapshot.toString());
+        AtomicInteger calls = new AtomicInteger();
+
+        loader.start(() -> {
+            if (calls.incrementAndGet() <= 3) {
+                throw new IllegalStateException("down");
+            }
+            return Map.of("AD", "Andorra", "FR", "France");
+        });
+
+        awaitSource(CountryListLoader.Source.UPSTREAM);
+        assertEquals(3, loader.getFailedAttempts());
+        assertNull(loader.getLastError());
+        assertEquals(List.of("AD", "FR"), registry.getCountryCodes());
+        assertTrue(Files.exists(snapshot));
+
+        CountryRegistry restarted = new CountryRegistry();
+        CountryListLoader next = new CountryListLoader(restarted, new ObjectMapper(), false, 5, 20, snapshot.toString());
+        next.start(Map::of);
+        next.shutdown();
+        assertEquals(CountryListLoader.Source.SNAPSHOT, next.getSource());
+        assertEquals(List.of("AD", "FR"), restarted.getCountryCodes());
+    }
+
+    @Test
+    void start_emptyUpstreamResultCountsAsFailure() throws Exception {
+        loader = loader(true, "");
+
+        loader.start(Map::of);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loader.getFailedAttempts() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(loader.getFailedAttempts() >= 2);
+        assertNotNull(loader.getLastError());
+        assertEquals(CountryListLoader.Source.BUNDLED, loader.getSource());
+        assertNotNull(registry.resolve("NL"));
+    }
+
+    @Test
+    void start_unreadableSnapshot_fallsBackToBundledList() throws Exception {
+        Path snapshot = Files.writeString(dir.resolve("countries.json"), "not json");
+        loader = loader(false, snapshot.toString());
+
+        loader.start(Map::of);
+
+        assertEquals(CountryListLoader.Source.BUNDLED, loader.getSource());
+        assertNotNull(registry.resolve("NL"));
+    }
+
+    private void awaitSource(CountryListLoader.Source source) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loader.getSource() != source && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(source, loader.getSource());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
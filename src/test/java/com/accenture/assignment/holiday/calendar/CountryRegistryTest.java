@@ -0,0 +1,108 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryRegistryTest {
+
+    private final CountryRegistry registry = new CountryRegistry();
+
+    @BeforeEach
+    void setUp() {
+        registry.update(Map.of("NL", "Netherlands", "DE", "Germany", "AD", "Andorra"));
+    }
+
+    @Test
+    void resolve_ignoresCaseAndWhitespace() {
+        assertEquals("NL", registry.resolve("nl"));
+        assertEquals("NL", registry.resolve(" Nl "));
+        assertSame(registry.resolve("de"), registry.resolve("DE"));
+        assertEquals("Germany", registry.getName("de"));
+    }
+
+    @Test
+    void resolve_unknownOrMalformed_returnsNull() {
+        assertNull(registry.resolve("ZZ"));
+        assertNull(registry.resolve("N"));
+        assertNull(registry.resolve("NLD"));
+        assertNull(registry.resolve("N1"));
+        assertNull(registry.resolve("ÑL"));
+        assertNull(registry.resolve(null));
+        assertFalse(registry.contains("@A"));
+    }
+
+    @Test
+    void slot_matchesLetterPositions() {
+        assertEquals(0, CountryRegistry.slot("AA"));
+        assertEquals(CountryRegistry.SLOTS - 1, CountryRegistry.slot("zz"));
+        assertEquals(13 * 26 + 11, CountryRegistry.slot("NL"));
+        assertEquals(-1, CountryRegistry.slot("[A"));
+        assertEquals("NL", CountryRegistry.code(CountryRegistry.slot("nl")));
+    }
+
+    @Test
+    void validate_reportsEveryInvalidCode() {
+        List<CountryValidationError> errors = registry.validate(Arrays.asList("NL", "ZZ", "x", null, "de"));
+
+        assertEquals(List.of(
+                new CountryValidationError("ZZ", CountryRegistry.UNSUPPORTED),
+                new CountryValidationError("x", CountryRegistry.MALFORMED),
+                new CountryValidationError(null, CountryRegistry.MALFORMED)), errors);
+        assertTrue(registry.validate(List.of("nl", "AD")).isEmpty());
+    }
+
+    @Test
+    void containsRegion_acceptsSubdivisionsOfAvailableCountries() {
+        String codes = "de-by,NL-02 ,DE,ZZ-BY,DE-,DE-BAYE,DE -BY,-BY";
+        List<Boolean> contained = new ArrayList<>();
+        int start = 0;
+        for (int end = 0; end <= codes.length(); end++) {
+            if (end == codes.length() || codes.charAt(end) == ',') {
+                contained.add(registry.containsRegion(codes, start, end));
+                start = end + 1;
+            }
+        }
+        assertEquals(List.of(true, true, true, false, false, false, false, false), contained);
+    }
+
+    @Test
+    void validateRegions_reportsCodeAsGiven() {
+        List<CountryValidationError> errors = registry.validateRegions(
+                Arrays.asList("de-by", "ZZ-BY", "DE-BAYE", "x", null, "NL"));
+
+        assertEquals(List.of(
+                new CountryValidationError("ZZ-BY", CountryRegistry.UNSUPPORTED),
+                new CountryValidationError("DE-BAYE", SubdivisionIndex.MALFORMED),
+                new CountryValidationError("x", CountryRegistry.MALFORMED),
+                new CountryValidationError(null, CountryRegistry.MALFORMED)), errors);
+    }
+
+    @Test
+    void codesAndExamples_areSorted() {
+        assertEquals(List.of("AD", "DE", "NL"), registry.getCountryCodes());
+        assertEquals(List.of("AD", "DE", "NL"), registry.getExamples());
+        assertEquals(List.of("AD", "DE", "NL"), List.copyOf(registry.getCountries().keySet()));
+    }
+
+    @Test
+    void update_replacesCountriesAtOnce() {
+        List<String> before = registry.getCountryCodes();
+
+        registry.update(Map.of("fr", "France"));
+
+        assertEquals("FR", registry.resolve("FR"));
+        assertNull(registry.resolve("NL"));
+        assertEquals(List.of("AD", "DE", "NL"), before);
+        assertFalse(registry.isEmpty());
+        registry.update(Map.of());
+        assertTrue(registry.isEmpty());
+    }
+}
@@ -0,0 +1,55 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.accenture.assignment.holiday.storage.OffHeapHolidayStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DerivedCalendarsTest {
+
+    private final DerivedCalendars calendars = new DerivedCalendars();
+
+    @Test
+    void update_indexesAndCountsTheHolidays() {
+        calendars.update("NL", 2025, List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"),
+                new PublicHoliday("2025-12-27", "Zaterdag", "Saturday")));
+
+        assertEquals(2, calendars.getHolidays("NL", 2025).size());
+        assertNull(calendars.getHolidays("NL", 2024));
+        assertTrue(calendars.getDateIndex().isLoaded("NL", 2025));
+        assertEquals(List.of("NL"), calendars.getDateIndex().getCountries(LocalDate.of(2025, 12, 25)));
+        assertEquals(1, calendars.getCountAggregates().get(2025, "NL").nonWeekendCount());
+        assertEquals(1, calendars.getCountAggregates().get(2025, "NL").weekendCount());
+        assertEquals(LocalDate.of(2025, 12, 26), calendars.getLongWeekends("NL", 2025).getBridgeDays().get(0).date());
+    }
+
+    @Test
+    void update_changedHolidays_dropsBusinessCalendar() {
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"));
+        calendars.update("NL", 2025, holidays);
+        calendars.putBusinessCalendar(BusinessCalendar.compile("NL", 2025, 2025, List.of(LocalDate.of(2025, 12, 25))));
+
+        calendars.update("NL", 2025, List.copyOf(holidays));
+        assertNotNull(calendars.getBusinessCalendar("NL"));
+
+        calendars.update("NL", 2025, List.of(new PublicHoliday("2025-12-26", "Tweede Kerstdag", "St. Stephen's Day")));
+        assertNull(calendars.getBusinessCalendar("NL"));
+    }
+
+    @Test
+    void update_offHeapStore_keepsUnchangedHolidays() {
+        DerivedCalendars offHeap = new DerivedCalendars(new OffHeapHolidayStore());
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"));
+        List<PublicHoliday> stored = offHeap.update("NL", 2025, holidays);
+        offHeap.putBusinessCalendar(BusinessCalendar.compile("NL", 2025, 2025, List.of(LocalDate.of(2025, 12, 25))));
+
+        assertSame(stored, offHeap.update("NL", 2025, List.copyOf(holidays)));
+        assertSame(stored, offHeap.getHolidays("NL", 2025));
+        assertNotNull(offHeap.getBusinessCalendar("NL"));
+        assertEquals(List.of("NL"), offHeap.getDateIndex().getCountries(LocalDate.of(2025, 12, 25)));
+    }
+}
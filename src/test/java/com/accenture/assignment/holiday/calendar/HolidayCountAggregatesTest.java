@@ -0,0 +1,66 @@
+package com.accenture.assignment.holiday.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayCountAggregatesTest {
+
+    // 2025-01-01 is a Wednesday, 2025-01-04 a Saturday and 2025-01-05 a Sunday
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 1, 1);
+    private static final LocalDate THURSDAY = LocalDate.of(2025, 1, 2);
+    private static final LocalDate SATURDAY = LocalDate.of(2025, 1, 4);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 1, 5);
+
+    private final HolidayCountAggregates aggregates = new HolidayCountAggregates();
+
+    @Test
+    void update_countsWeekendAndNonWeekendHolidays() {
+        HolidayCountAggregates.Counts counts = aggregates.update("GB", 2025, List.of(WEDNESDAY, SATURDAY, SUNDAY));
+
+        assertEquals(1, counts.nonWeekendCount());
+        assertEquals(2, counts.weekendCount());
+        assertEquals(3, counts.totalCount());
+        assertEquals(counts, aggregates.get(2025, "GB"));
+        assertNull(aggregates.get(2024, "GB"));
+    }
+
+    @Test
+    void getRanking_ordersByNonWeekendThenTotalThenCountry() {
+        aggregates.update("AD", 2025, List.of(WEDNESDAY));
+        aggregates.update("GB", 2025, List.of(WEDNESDAY, THURSDAY));
+        aggregates.update("IE", 2025, List.of(WEDNESDAY, SATURDAY));
+        aggregates.update("AU", 2025, List.of(WEDNESDAY));
+
+        List<String> ranking = aggregates.getRanking(2025, null).stream()
+                .map(HolidayCountAggregates.Counts::countryCode).toList();
+        assertEquals(List.of("GB", "IE", "AD", "AU"), ranking);
+    }
+
+    @Test
+    void getRanking_limitReturnsTopEntries() {
+        aggregates.update("AD", 2025, List.of(WEDNESDAY));
+        aggregates.update("GB", 2025, List.of(WEDNESDAY, THURSDAY));
+
+        assertEquals(1, aggregates.getRanking(2025, 1).size());
+        assertEquals("GB", aggregates.getRanking(2025, 1).get(0).countryCode());
+        assertEquals(2, aggregates.getRanking(2025, 10).size());
+        assertTrue(aggregates.getRanking(2024, 10).isEmpty());
+    }
+
+    @Test
+    void update_refreshMovesCountryToNewRank() {
+        aggregates.update("AD", 2025, List.of(WEDNESDAY));
+        aggregates.update("GB", 2025, List.of(WEDNESDAY, THURSDAY));
+
+        aggregates.update("GB", 2025, List.of());
+
+        List<HolidayCountAggregates.Counts> ranking = aggregates.getRanking(2025, null);
+        assertEquals(2, ranking.size());
+        assertEquals("AD", ranking.get(0).countryCode());
+        assertEquals(0, ranking.get(1).totalCount());
+    }
+}
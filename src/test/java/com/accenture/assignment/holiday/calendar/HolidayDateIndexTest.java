@@ -0,0 +1,64 @@
+package com.accenture.assignment.holiday.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayDateIndexTest {
+
+    private static final LocalDate CHRISTMAS = LocalDate.of(2025, 12, 25);
+    private static final LocalDate BOXING_DAY = LocalDate.of(2025, 12, 26);
+
+    private final HolidayDateIndex index = new HolidayDateIndex();
+
+    @Test
+    void getCountries_returnsCountriesInAlphabeticalOrder() {
+        index.update("ZW", 2025, List.of(CHRISTMAS));
+        index.update("AD", 2025, List.of(CHRISTMAS, BOXING_DAY));
+        index.update("GB", 2025, List.of(CHRISTMAS, BOXING_DAY));
+
+        assertEquals(List.of("AD", "GB", "ZW"), index.getCountries(CHRISTMAS));
+        assertEquals(List.of("AD", "GB"), index.getCountries(BOXING_DAY));
+        assertTrue(index.getCountries(LocalDate.of(2025, 12, 27)).isEmpty());
+        assertTrue(index.getCountries(LocalDate.of(2024, 12, 25)).isEmpty());
+    }
+
+    @Test
+    void update_replacesOnlyThatCountryYear() {
+        index.update("GB", 2025, List.of(CHRISTMAS, BOXING_DAY));
+        index.update("IE", 2025, List.of(CHRISTMAS, BOXING_DAY));
+        index.update("GB", 2024, List.of(LocalDate.of(2024, 12, 25)));
+
+        index.update("GB", 2025, List.of(CHRISTMAS));
+
+        assertEquals(List.of("GB", "IE"), index.getCountries(CHRISTMAS));
+        assertEquals(List.of("IE"), index.getCountries(BOXING_DAY));
+        assertTrue(index.isHoliday("gb", LocalDate.of(2024, 12, 25)));
+    }
+
+    @Test
+    void update_ignoresDatesOfOtherYears() {
+        index.update("GB", 2025, List.of(LocalDate.of(2026, 1, 1)));
+
+        assertTrue(index.getCountries(LocalDate.of(2025, 1, 1)).isEmpty());
+        assertTrue(index.getCountries(LocalDate.of(2026, 1, 1)).isEmpty());
+    }
+
+    @Test
+    void isLoaded_tracksIndexedCountryYears() {
+        index.update("GB", 2025, List.of());
+
+        assertTrue(index.isLoaded("GB", 2025));
+        assertFalse(index.isLoaded("GB", 2024));
+        assertFalse(index.isLoaded("IE", 2025));
+    }
+
+    @Test
+    void update_invalidCountryCode_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> index.update("G1", 2025, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> index.update("GBR", 2025, List.of()));
+    }
+}
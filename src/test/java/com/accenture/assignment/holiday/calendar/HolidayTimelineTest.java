@@ -0,0 +1,54 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayTimelineTest {
+
+    private static final List<PublicHoliday> NL = List.of(
+            new PublicHoliday("2025-12-25", "Eerste Kerstdag", "Christmas Day"),
+            new PublicHoliday("2025-01-01", "Nieuwjaarsdag", "New Year's Day"),
+            new PublicHoliday("2025-04-27", "Koningsdag", "King's Day"),
+            new PublicHoliday("2025-12-26", "Tweede Kerstdag", "St. Stephen's Day"),
+            new PublicHoliday("2025-04-27", "Koningsdag (bedrijf)", "Company Day"),
+            new PublicHoliday("2026-01-01", "Nieuwjaarsdag", "New Year's Day"),
+            new PublicHoliday("25-12-2025", "Invalid", "Invalid"));
+
+    private final HolidayTimeline timeline = HolidayTimeline.build(2025, NL);
+
+    @Test
+    void build_sortsByDateAndSkipsOtherYears() {
+        assertEquals(5, timeline.size());
+        assertEquals(LocalDate.of(2025, 1, 1), timeline.date(0));
+        assertEquals(LocalDate.of(2025, 12, 26), timeline.date(4));
+        assertEquals("King's Day", timeline.holiday(1).name());
+        assertEquals("Company Day", timeline.holiday(2).name(), "holidays on one day keep the order of the list");
+        assertSame(NL.get(0), timeline.holiday(3));
+    }
+
+    @Test
+    void after_findsFirstHolidayAfterTheDay() {
+        assertEquals(0, timeline.after(LocalDate.of(2024, 12, 31)));
+        assertEquals(1, timeline.after(LocalDate.of(2025, 1, 1)));
+        assertEquals(1, timeline.after(LocalDate.of(2025, 4, 26)));
+        assertEquals(3, timeline.after(LocalDate.of(2025, 4, 27)));
+        assertEquals(5, timeline.after(LocalDate.of(2025, 12, 26)));
+        assertEquals(0, HolidayTimeline.build(2025, List.of()).after(LocalDate.of(2025, 6, 1)));
+    }
+
+    @Test
+    void build_datesBeforeTheEpoch() {
+        HolidayTimeline old = HolidayTimeline.build(1960, List.of(
+                new PublicHoliday("1960-12-25", "Kerstmis", "Christmas Day"),
+                new PublicHoliday("1960-01-01", "Nieuwjaarsdag", "New Year's Day")));
+
+        assertEquals(LocalDate.of(1960, 1, 1), old.date(0));
+        assertEquals("Christmas Day", old.holiday(1).name());
+        assertEquals(1, old.after(LocalDate.of(1960, 6, 1)));
+    }
+}
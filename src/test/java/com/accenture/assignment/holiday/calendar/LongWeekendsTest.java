@@ -0,0 +1,67 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongWeekendsTest {
+
+    // 2025-04-18 is a Friday, 2025-04-26 a Saturday, 2025-05-29 a Thursday and 2025-12-25 a Thursday
+    private static final List<PublicHoliday> NL = List.of(
+            new PublicHoliday("2025-01-01", "Nieuwjaarsdag", "New Year's Day"),
+            new PublicHoliday("2025-04-18", "Goede Vrijdag", "Good Friday"),
+            new PublicHoliday("2025-04-21", "Tweede Paasdag", "Easter Monday"),
+            new PublicHoliday("2025-04-26", "Koningsdag", "King's Day"),
+            new PublicHoliday("2025-05-29", "Hemelvaartsdag", "Ascension Day"),
+            new PublicHoliday("2025-12-25", "Eerste Kerstdag", "Christmas Day"),
+            new PublicHoliday("2025-12-26", "Tweede Kerstdag", "St. Stephen's Day"));
+
+    private final LongWeekends longWeekends = find(2025, NL);
+
+    @Test
+    void find_runsOfDaysOffWithAWorkdayHoliday() {
+        assertEquals(List.of(
+                span("2025-04-18", "2025-04-21"),
+                span("2025-12-25", "2025-12-28")), longWeekends.getLongWeekends());
+        assertEquals(4, longWeekends.getLongWeekends().get(0).days());
+        assertEquals(2025, longWeekends.getYear());
+    }
+
+    @Test
+    void find_workdaysBetweenDaysOff() {
+        assertEquals(List.of(new LongWeekends.BridgeDay(LocalDate.of(2025, 5, 30), span("2025-05-29", "2025-06-01"))),
+                longWeekends.getBridgeDays());
+    }
+
+    @Test
+    void find_runsAcrossNewYear() {
+        // 2024-01-01 is a Monday and 2024-12-31 a Tuesday
+        LongWeekends turn = find(2024, List.of(
+                new PublicHoliday("2024-01-01", "Nieuwjaarsdag", "New Year's Day"),
+                new PublicHoliday("2024-12-31", "Oudejaarsdag", "New Year's Eve")));
+
+        assertEquals(List.of(span("2023-12-30", "2024-01-01")), turn.getLongWeekends());
+        assertEquals(List.of(new LongWeekends.BridgeDay(LocalDate.of(2024, 12, 30), span("2024-12-28", "2024-12-31"))),
+                turn.getBridgeDays());
+    }
+
+    @Test
+    void find_withoutHolidays() {
+        LongWeekends none = find(2025, List.of());
+
+        assertTrue(none.getLongWeekends().isEmpty());
+        assertTrue(none.getBridgeDays().isEmpty());
+    }
+
+    private static LongWeekends find(int year, List<PublicHoliday> holidays) {
+        return LongWeekends.find(year, SubdivisionIndex.build(year, holidays).days(null, SubdivisionIndex.ANY_TYPE));
+    }
+
+    private static LongWeekends.Span span(String start, String end) {
+        return new LongWeekends.Span(LocalDate.parse(start), LocalDate.parse(end));
+    }
+}
@@ -0,0 +1,87 @@
+package com.accenture.assignment.holiday.calendar;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubdivisionIndexTest {
+
+    // 2025-01-06 is a Monday, 2025-05-29 a Thursday, 2025-08-15 a Friday and 2025-11-01 a Saturday
+    private static final List<PublicHoliday> DE = List.of(
+            new PublicHoliday("2025-01-01", "Neujahr", "New Year's Day"),
+            new PublicHoliday("2025-01-06", "Heilige Drei Könige", "Epiphany", false,
+                    List.of("DE-BW", "DE-BY", "DE-ST"), List.of("Public")),
+            new PublicHoliday("2025-05-29", "Christi Himmelfahrt", "Ascension Day", true, null, List.of("Public")),
+            new PublicHoliday("2025-08-15", "Mariä Himmelfahrt", "Assumption Day", false,
+                    List.of("de-by", "DE-SL"), List.of("Public", "Bank")),
+            new PublicHoliday("2025-11-01", "Allerheiligen", "All Saints' Day", false,
+                    List.of("DE-BY"), List.of("Public")),
+            new PublicHoliday("2025-12-24", "Heiligabend", "Christmas Eve", true, null, List.of("Bank")),
+            new PublicHoliday("2026-01-01", "Neujahr", "New Year's Day"));
+
+    private final SubdivisionIndex index = SubdivisionIndex.build(2025, DE);
+
+    @Test
+    void nonWeekendCount_countsNationwideAndRegionalDays() {
+        assertEquals(5, index.nonWeekendCount(null, SubdivisionIndex.ANY_TYPE));
+        assertEquals(3, index.nonWeekendCount("DE-BE", SubdivisionIndex.ANY_TYPE));
+        assertEquals(5, index.nonWeekendCount("DE-BY", SubdivisionIndex.ANY_TYPE));
+        assertEquals(4, index.nonWeekendCount("DE-SL", SubdivisionIndex.ANY_TYPE));
+    }
+
+    @Test
+    void nonWeekendCount_filtersByType() {
+        assertEquals(2, index.nonWeekendCount(null, SubdivisionIndex.parseTypes("Bank")));
+        assertEquals(4, index.nonWeekendCount("DE-BY", SubdivisionIndex.parseTypes("public")));
+        assertEquals(2, index.nonWeekendCount("DE-BE", SubdivisionIndex.parseTypes("Public")));
+        assertEquals(0, index.nonWeekendCount(null, SubdivisionIndex.parseTypes("School,Observance")));
+    }
+
+    @Test
+    void days_setsOneBitPerDayOfTheYear() {
+        long[] days = index.days("DE-BY", SubdivisionIndex.ANY_TYPE);
+
+        assertTrue(SubdivisionIndex.contains(days, 0));
+        assertTrue(SubdivisionIndex.contains(days, 5));
+        assertTrue(SubdivisionIndex.contains(days, 304));
+        assertFalse(SubdivisionIndex.contains(days, 1));
+        assertFalse(SubdivisionIndex.contains(index.days("DE-BE", SubdivisionIndex.ANY_TYPE), 5));
+        assertEquals(Set.of("DE-BW", "DE-BY", "DE-SL", "DE-ST"), index.getSubdivisions());
+        assertEquals(2025, index.getYear());
+    }
+
+    @Test
+    void applies_matchesSubdivisionAndType() {
+        PublicHoliday assumption = DE.get(3);
+
+        assertTrue(SubdivisionIndex.applies(assumption, "DE-BY", SubdivisionIndex.ANY_TYPE));
+        assertTrue(SubdivisionIndex.applies(assumption, null, SubdivisionIndex.parseTypes("Bank")));
+        assertFalse(SubdivisionIndex.applies(assumption, "DE-BE", SubdivisionIndex.ANY_TYPE));
+        assertFalse(SubdivisionIndex.applies(assumption, "DE-BY", SubdivisionIndex.parseTypes("School")));
+        assertTrue(SubdivisionIndex.applies(DE.get(0), "DE-BE", SubdivisionIndex.parseTypes("Public")));
+    }
+
+    @Test
+    void parseTypes_rejectsUnknownTypes() {
+        assertEquals(SubdivisionIndex.ANY_TYPE, SubdivisionIndex.parseTypes(null));
+        assertEquals(SubdivisionIndex.ANY_TYPE, SubdivisionIndex.parseTypes(" "));
+        assertEquals(0b11, SubdivisionIndex.parseTypes("Bank, PUBLIC"));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionIndex.parseTypes("Public,Holiday"));
+    }
+
+    @Test
+    void subdivision_splitsCodes() {
+        assertEquals("DE-BY", SubdivisionIndex.subdivision(" de-by "));
+        assertNull(SubdivisionIndex.subdivision("DE"));
+        assertEquals("de", SubdivisionIndex.country("de-by"));
+        assertEquals("DE", SubdivisionIndex.country("DE"));
+        assertTrue(SubdivisionIndex.isWellFormed("GB-ENG"));
+        assertFalse(SubdivisionIndex.isWellFormed("GB-ENGL"));
+        assertFalse(SubdivisionIndex.isWellFormed("GB-"));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionIndex.subdivision("DE-B Y"));
+    }
+}
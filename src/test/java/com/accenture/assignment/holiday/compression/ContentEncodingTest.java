@@ -0,0 +1,55 @@
+package com.accenture.assignment.holiday.compression;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.github.luben.zstd.Zstd;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ContentEncodingTest {
+
+    private static final byte[] BODY = "[{\"date\":\"2025-12-25\",\"name\":\"Christmas Day\"},".repeat(200)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void gzip_isAlwaysAvailable_andRoundTrips() throws IOException {
+        assertTrue(ContentEncoding.available().contains(ContentEncoding.GZIP));
+
+        byte[] compressed = ContentEncoding.GZIP.compress(BODY);
+
+        assertTrue(compressed.length < BODY.length / 10);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(BODY, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void brotli_roundTrips_whenAvailable() throws IOException {
+        assumeTrue(ContentEncoding.BROTLI.isAvailable());
+
+        byte[] compressed = ContentEncoding.BROTLI.compress(BODY);
+
+        assertArrayEquals(BODY, Decoder.decompress(compressed).getDecompressedData());
+    }
+
+    @Test
+    void zstd_roundTrips_whenAvailable() {
+        assumeTrue(ContentEncoding.ZSTD.isAvailable());
+
+        byte[] compressed = ContentEncoding.ZSTD.compress(BODY);
+
+        assertArrayEquals(BODY, Zstd.decompress(compressed, BODY.length));
+    }
+
+    @Test
+    void available_keepsPreferenceOrder() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.available().get(ContentEncoding.available().size() - 1));
+        assertEquals("br", ContentEncoding.BROTLI.getToken());
+    }
+}
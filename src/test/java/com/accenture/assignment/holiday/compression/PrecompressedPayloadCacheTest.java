@@ -0,0 +1,95 @@
+package com.accenture.assignment.holiday.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecompressedPayloadCacheTest {
+
+    private static final byte[] BODY = "{\"country\":\"NL\",\"count\":9},".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PrecompressedPayloadCache cache = new PrecompressedPayloadCache(256, 2,
+            List.of(ContentEncoding.BROTLI, ContentEncoding.GZIP), meterRegistry);
+
+    private double responses(String encoding, String result) {
+        return meterRegistry.counter("holiday.compression.responses", "encoding", encoding, "result", result).count();
+    }
+
+    @Test
+    void negotiate_picksHighestQuality_thenPreferenceOrder() {
+        assertEquals(Optional.of(ContentEncoding.BROTLI), cache.negotiate("gzip, deflate, br"));
+        assertEquals(Optional.of(ContentEncoding.GZIP), cache.negotiate("br;q=0.5, gzip"));
+        assertEquals(Optional.of(ContentEncoding.GZIP), cache.negotiate("*, br;q=0"));
+        assertEquals(Optional.of(ContentEncoding.GZIP), cache.negotiate("GZIP"));
+    }
+
+    @Test
+    void negotiate_nothingAcceptable_returnsEmpty() {
+        assertTrue(cache.negotiate(null).isEmpty());
+        assertTrue(cache.negotiate("identity").isEmpty());
+        assertTrue(cache.negotiate("zstd, deflate").isEmpty());
+        assertTrue(cache.negotiate("gzip;q=0").isEmpty());
+    }
+
+    @Test
+    void compress_identicalBody_servedFromCache() {
+        byte[] first = cache.compress("/recent?country=NL json", ContentEncoding.GZIP, BODY);
+        byte[] second = cache.compress("/recent?country=NL json", ContentEncoding.GZIP, BODY.clone());
+
+        assertSame(first, second);
+        assertEquals(1, responses("gzip", "miss"));
+        assertEquals(1, responses("gzip", "hit"));
+        assertEquals(1, meterRegistry.timer("holiday.compression.time").count());
+        assertTrue(meterRegistry.counter("holiday.compression.cpu.saved").count() >= 0);
+    }
+
+    @Test
+    void compress_changedBody_isRecompressed() {
+        byte[] first = cache.compress("/recent?country=NL json", ContentEncoding.GZIP, BODY);
+        byte[] changed = BODY.clone();
+        changed[10] = '8';
+
+        byte[] second = cache.compress("/recent?country=NL json", ContentEncoding.GZIP, changed);
+
+        assertNotSame(first, second);
+        assertEquals(2, responses("gzip", "miss"));
+    }
+
+    @Test
+    void compress_belowMinimumSize_returnsNull() {
+        assertNull(cache.compress("/recent?country=NL json", ContentEncoding.GZIP, new byte[255]));
+        assertFalse(cache.isCompressible(255));
+        assertEquals(0, responses("gzip", "miss"));
+    }
+
+    @Test
+    void compress_incompressibleBody_returnsNull() {
+        byte[] random = new byte[1024];
+        new Random(7).nextBytes(random);
+
+        assertNull(cache.compress("/random", ContentEncoding.GZIP, random));
+        assertNull(cache.compress("/random", ContentEncoding.GZIP, random));
+        assertEquals(1, responses("gzip", "hit"));
+    }
+
+    @Test
+    void compress_evictsLeastRecentlyUsed() {
+        cache.compress("/a", ContentEncoding.GZIP, BODY);
+        cache.compress("/b", ContentEncoding.GZIP, BODY);
+        cache.compress("/a", ContentEncoding.GZIP, BODY);
+        cache.compress("/c", ContentEncoding.GZIP, BODY);
+
+        cache.compress("/a", ContentEncoding.GZIP, BODY);
+        cache.compress("/b", ContentEncoding.GZIP, BODY);
+
+        assertEquals(2, responses("gzip", "hit"));
+        assertEquals(4, responses("gzip", "miss"));
+    }
+}
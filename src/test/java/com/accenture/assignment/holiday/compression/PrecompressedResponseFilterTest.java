@@ -0,0 +1,116 @@
+package com.accenture.assignment.holiday.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrecompressedResponseFilterTest {
+
+    private static final byte[] BODY = "{\"date\":\"2025-01-01\",\"name\":\"New Year's Day\"},".repeat(100)
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PrecompressedPayloadCache cache =
+            new PrecompressedPayloadCache(512, 16, List.of(ContentEncoding.GZIP), meterRegistry);
+    private final PrecompressedResponseFilter filter = new PrecompressedResponseFilter(cache, true);
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/holidays/recent");
+        request.setQueryString("country=NL");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, int status, byte[] body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+                    throws IOException {
+                resp.setStatus(status);
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(body);
+            }
+        }));
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void gzipAccepted_largeBody_isCompressed() throws Exception {
+        MockHttpServletResponse response = execute(request("gzip, deflate"), 200, BODY);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertArrayEquals(BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void repeatedResponse_servedFromPrecompressedPayload() throws Exception {
+        execute(request("gzip"), 200, BODY);
+        MockHttpServletResponse response = execute(request("gzip"), 200, BODY);
+
+        assertArrayEquals(BODY, gunzip(response.getContentAsByteArray()));
+        assertEquals(1, meterRegistry.counter("holiday.compression.responses", "encoding", "gzip", "result", "hit").count());
+    }
+
+    @Test
+    void noAcceptEncoding_bodyUnchanged() throws Exception {
+        MockHttpServletResponse response = execute(request(null), 200, BODY);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void smallBody_bodyUnchanged() throws Exception {
+        byte[] small = "[]".getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletResponse response = execute(request("gzip"), 200, small);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(small, response.getContentAsByteArray());
+    }
+
+    @Test
+    void errorResponse_bodyUnchanged() throws Exception {
+        MockHttpServletResponse response = execute(request("gzip"), 503, BODY);
+
+        assertEquals(503, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void disabled_bodyUnchanged() throws Exception {
+        PrecompressedResponseFilter disabled = new PrecompressedResponseFilter(cache, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        disabled.doFilter(request("gzip"), response, new MockFilterChain());
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(response.getHeader(HttpHeaders.VARY));
+    }
+}
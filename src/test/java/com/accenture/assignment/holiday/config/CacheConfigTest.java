@@ -0,0 +1,23 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.cache.RedisSharedCache;
+import com.accenture.assignment.holiday.cache.SharedCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheConfigTest {
+
+    private final CacheConfig config = new CacheConfig();
+
+    @Test
+    void sharedCache_selectedByType() throws Exception {
+        assertSame(SharedCache.NONE, config.sharedCache("none", "localhost", 6379, 200, 8, "holiday:"));
+        try (RedisSharedCache redis = (RedisSharedCache) config.sharedCache("redis", "localhost", 6379, 200, 8,
+                "holiday:")) {
+            assertNotNull(redis);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> config.sharedCache("memcached", "localhost", 6379, 200, 8, "holiday:"));
+    }
+}
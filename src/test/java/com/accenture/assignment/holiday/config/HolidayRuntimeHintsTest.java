@@ -0,0 +1,37 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registerHints_coversBoundTypes() throws Exception {
+        new HolidayRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        for (Class<?> type : HolidayRuntimeHints.BOUND_TYPES) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(type).test(hints), type.getName());
+        }
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(PublicHoliday.class.getMethod("date")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(AvailableCountry.class.getMethod("countryCode"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(CountryHolidayCount.class.getMethod("getCountry"))
+                .test(hints));
+    }
+
+    @Test
+    void registerHints_includesOpenApiDocumentAndCountryList() {
+        new HolidayRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource("static/api.yml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("available-countries.json").test(hints));
+    }
+}
@@ -0,0 +1,20 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.storage.HeapHolidayStore;
+import com.accenture.assignment.holiday.storage.OffHeapHolidayStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayStorageConfigTest {
+
+    private final HolidayStorageConfig config = new HolidayStorageConfig();
+
+    @Test
+    void holidayStore_selectedByType() {
+        assertInstanceOf(HeapHolidayStore.class, config.holidayStore("heap", 256));
+        assertInstanceOf(OffHeapHolidayStore.class, config.holidayStore("offheap", 256));
+        assertThrows(IllegalArgumentException.class, () -> config.holidayStore("disk", 256));
+        assertNotNull(config.publicCalendars(new HeapHolidayStore()).getStore());
+    }
+}
@@ -0,0 +1,122 @@
+package com.accenture.assignment.holiday.config;
+
+import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebMvcConfigTest {
+
+    private static final Logger log = LoggerFactory.getLogger(WebMvcConfigTest.class);
+
+    private final WebMvcConfig config = new WebMvcConfig(null, null, null);
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private Map<String, ObjectMapper> mappers() {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", builder().build());
+        mappers.put("cbor", config.cborHttpMessageConverter(builder()).getObjectMapper());
+        mappers.put("smile", config.smileHttpMessageConverter(builder()).getObjectMapper());
+        return mappers;
+    }
+
+    private static List<CommonHoliday> commonHolidays() {
+        List<CommonHoliday> holidays = new ArrayList<>();
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 20; i++) {
+            holidays.add(new CommonHoliday(date.plusDays(i * 17L), "Feiertag " + i, "Jour férié " + i));
+        }
+        return holidays;
+    }
+
+    private static List<CountryHolidayCount> counts() {
+        List<CountryHolidayCount> counts = new ArrayList<>();
+        for (char a = 'A'; a <= 'Z'; a++) {
+            for (char b = 'A'; b <= 'H'; b++) {
+                counts.add(new CountryHolidayCount("" + a + b, (a + b) % 15));
+            }
+        }
+        return counts;
+    }
+
+    @Test
+    void binaryConverters_roundTripModels() throws Exception {
+        List<Holiday> holidays = List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day"));
+
+        for (Map.Entry<String, ObjectMapper> mapper : mappers().entrySet()) {
+            byte[] bytes = mapper.getValue().writeValueAsBytes(holidays);
+            assertEquals(holidays, mapper.getValue().readValue(bytes, new TypeReference<List<Holiday>>() {}),
+                    mapper.getKey());
+            assertEquals(commonHolidays(), mapper.getValue().readValue(
+                    mapper.getValue().writeValueAsBytes(commonHolidays()), new TypeReference<List<CommonHoliday>>() {}),
+                    mapper.getKey());
+        }
+    }
+
+    @Test
+    void binaryConverters_writeDatesLikeJson() throws Exception {
+        Holiday holiday = new Holiday(LocalDate.of(2025, 4, 27), "King's Day");
+
+        for (ObjectMapper mapper : mappers().values()) {
+            assertEquals("2025-04-27", mapper.readTree(mapper.writeValueAsBytes(holiday)).get("date").asText());
+        }
+    }
+
+    @Test
+    void binaryConverters_produceSmallerPayloadsThanJson() throws Exception {
+        Map<String, ObjectMapper> mappers = mappers();
+        for (Object payload : List.of(commonHolidays(), counts())) {
+            int json = mappers.get("json").writeValueAsBytes(payload).length;
+            assertTrue(mappers.get("cbor").writeValueAsBytes(payload).length < json);
+            assertTrue(mappers.get("smile").writeValueAsBytes(payload).length < json);
+        }
+    }
+
+    /**
+     * Compares payload size and serialization cost of the three formats and logs the result. Timings depend
+     * on the machine, so only the sizes are asserted in {@link #binaryConverters_produceSmallerPayloadsThanJson}.
+     */
+    @Test
+    void compareFormats_logsSizeAndSerializationCost() throws Exception {
+        List<CountryHolidayCount> payload = counts();
+        for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] bytes = mapper.writeValueAsBytes(payload);
+            TypeReference<List<CountryHolidayCount>> type = new TypeReference<>() {};
+            for (int i = 0; i < 2_000; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(payload), type);
+            }
+            int iterations = 5_000;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.writeValueAsBytes(payload);
+            }
+            long writeNanos = (System.nanoTime() - start) / iterations;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.readValue(bytes, type);
+            }
+            long readNanos = (System.nanoTime() - start) / iterations;
+            log.info("{}: {} bytes, write {} ns, read {} ns ({} countries)",
+                    entry.getKey(), bytes.length, writeNanos, readNanos, payload.size());
+            assertEquals(payload, mapper.readValue(bytes, type));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.accenture.assignment.holiday.controller;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.calendar.SubdivisionIndex;
+import com.accenture.assignment.holiday.exception.handler.PrebuiltErrorResponses;
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.model.ProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryValidationInterceptorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CountryValidationInterceptorTest.class);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountryRegistry countryRegistry = new CountryRegistry();
+    private final CountryValidationInterceptor interceptor = new CountryValidationInterceptor(countryRegistry,
+            new PrebuiltErrorResponses(objectMapper), meterRegistry, ObservationRegistry.NOOP);
+
+    @BeforeEach
+    void setUp() {
+        countryRegistry.update(Map.of("NL", "Netherlands", "DE", "Germany", "FR", "France"));
+    }
+
+    private static MockHttpServletRequest request(String path, String parameter, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/holidays" + path);
+        request.setParameter(parameter, value);
+        return request;
+    }
+
+    @Test
+    void preHandle_validCodes_passes() throws Exception {
+        MockHttpServletRequest common = request("/common", "country1", "nl");
+        common.setParameter("country2", " DE ");
+
+        assertTrue(interceptor.preHandle(common, new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("/non-weekend-count", "countries", "NL, de,FR"),
+                new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/holidays/countries"),
+                new MockHttpServletResponse(), null));
+        assertEquals(0, meterRegistry.counter("holiday.validation.rejected").count());
+    }
+
+    @Test
+    void preHandle_invalidCode_writesProblemDetail() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request("/recent", "country", "ZZ"), response, null));
+
+        assertEquals(400, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        ProblemDetail problem = objectMapper.readValue(response.getContentAsByteArray(), ProblemDetail.class);
+        assertEquals("Invalid Country", problem.error());
+        assertEquals("/api/v1/holidays/recent", problem.path());
+        assertEquals(List.of(new CountryValidationError("ZZ", CountryRegistry.UNSUPPORTED)), problem.errors());
+        assertEquals(1, meterRegistry.counter("holiday.validation.rejected").count());
+    }
+
+    @Test
+    void preHandle_invalidListEntries_listsEveryOne() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request("/non-weekend-count", "countries", "NL,,X1,ZZ"), response, null));
+
+        ProblemDetail problem = objectMapper.readValue(response.getContentAsByteArray(), ProblemDetail.class);
+        assertEquals(List.of(
+                new CountryValidationError("", CountryRegistry.MALFORMED),
+                new CountryValidationError("X1", CountryRegistry.MALFORMED),
+                new CountryValidationError("ZZ", CountryRegistry.UNSUPPORTED)), problem.errors());
+    }
+
+    @Test
+    void preHandle_subdivisionCodes_passOnlyWhereRegionsAreAccepted() throws Exception {
+        MockHttpServletRequest common = request("/common", "country1", "DE-BY");
+        common.setParameter("country2", "fr");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(common, new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("/non-weekend-count", "countries", "DE-BY,de-be, NL"),
+                new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(request("/recent", "country", "DE-BY"), new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(request("/non-weekend-count", "countries", "DE-BY,ZZ-BY,DE-BAYE"),
+                response, null));
+
+        ProblemDetail problem = objectMapper.readValue(response.getContentAsByteArray(), ProblemDetail.class);
+        assertEquals(List.of(
+                new CountryValidationError("ZZ-BY", CountryRegistry.UNSUPPORTED),
+                new CountryValidationError("DE-BAYE", SubdivisionIndex.MALFORMED)), problem.errors());
+    }
+
+    @Test
+    void preHandle_observesValidation() throws Exception {
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        CountryValidationInterceptor observed = new CountryValidationInterceptor(countryRegistry,
+                new PrebuiltErrorResponses(objectMapper), meterRegistry, observationRegistry);
+
+        observed.preHandle(request("/recent", "country", "NL"), new MockHttpServletResponse(), null);
+        observed.preHandle(request("/recent", "country", "ZZ"), new MockHttpServletResponse(), null);
+
+        assertEquals(List.of("holiday.validate", "holiday.validate"),
+                stopped.stream().map(Observation.Context::getName).toList());
+        assertNull(stopped.get(0).getLowCardinalityKeyValue("outcome"));
+        assertEquals("rejected", stopped.get(1).getLowCardinalityKeyValue("outcome").getValue());
+    }
+
+    @Test
+    void preHandle_registryNotLoaded_leavesValidationToService() throws Exception {
+        countryRegistry.update(Map.of());
+
+        assertTrue(interceptor.preHandle(request("/recent", "country", "ZZ"), new MockHttpServletResponse(), null));
+    }
+
+    /**
+     * Compares the cost of building the rejection of an invalid request here with the previous path: a
+     * stack-capturing exception, a freshly formatted timestamp and a full Jackson serialization of the error
+     * body. Writing to the servlet response is the same for both and left out. Timings depend on the machine,
+     * so the result is only logged.
+     */
+    @Test
+    void compareRejectionCost_logsNanosPerRequest() throws Exception {
+        PrebuiltErrorResponses errorResponses = new PrebuiltErrorResponses(objectMapper);
+        List<String> codes = List.of("ZZ");
+        int iterations = 50_000;
+        long fast = 0;
+        long slow = 0;
+        long bytes = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                bytes += errorResponses.invalidCountry("/api/v1/holidays/recent", countryRegistry.validate(codes),
+                        countryRegistry.getExamples()).length;
+            }
+            fast = (System.nanoTime() - start) / iterations;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                bytes += rejectWithException("/api/v1/holidays/recent", codes).length;
+            }
+            slow = (System.nanoTime() - start) / iterations;
+        }
+        log.info("Rejecting an invalid country: {} ns prebuilt, {} ns with exception and serialization", fast, slow);
+        assertTrue(bytes > 0);
+    }
+
+    private byte[] rejectWithException(String path, List<String> codes) throws Exception {
+        try {
+            throw new IllegalArgumentException("Invalid country code: '" + codes.get(0)
+                    + "'. Please provide a valid country code. Here are some examples: "
+                    + countryRegistry.getExamples());
+        } catch (IllegalArgumentException e) {
+            return objectMapper.writeValueAsBytes(new ProblemDetail(
+                    LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), 400, "Invalid Country",
+                    e.getMessage(), path, countryRegistry.validate(codes)));
+        }
+    }
+}
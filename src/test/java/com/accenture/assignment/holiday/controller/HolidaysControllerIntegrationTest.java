@@ -2,9 +2,18 @@
 package com.accenture.assignment.holiday.controller;
 
 import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.model.BusinessDay;
 import com.accenture.assignment.holiday.model.CommonHoliday;
 import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.CountryLongWeekends;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.LongWeekend;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
 import com.accenture.assignment.holiday.service.HolidayInsightService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -12,12 +21,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,7 +59,7 @@ class HolidaysControllerIntegrationTest {
 
     @Test
     void getRecentHolidays_returnsEmptyList() throws Exception {
-        when(service.getRecentHolidays("AD")).thenReturn(Collections.emptyList());
+        when(service.getRecentHolidays("AD", 3, null)).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/v1/holidays/recent")
                         .param("country", "AD")
@@ -53,6 +68,18 @@ class HolidaysControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    void getUpcomingHolidays_count_passedToService() throws Exception {
+        when(service.getUpcomingHolidays("AD", 5, null)).thenReturn(List.of(new Holiday(LocalDate.of(2025, 12, 25), "Nadal")));
+
+        mockMvc.perform(get("/api/v1/holidays/upcoming")
+                        .param("country", "AD")
+                        .param("count", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Nadal"));
+    }
+
     @Test
     void getRecentHolidays_missingCountryParam_returnsBadRequest() throws Exception {
         mockMvc.perform(get("/api/v1/holidays/recent")
@@ -62,7 +89,7 @@ class HolidaysControllerIntegrationTest {
     @Test
     void getNonWeekendHolidayCounts_returnsCountryHolidayCountList() throws Exception {
         List<CountryHolidayCount> counts = List.of(new CountryHolidayCount(), new CountryHolidayCount());
-        when(service.getNonWeekendHolidayCounts(2024, "AD,AU")).thenReturn(counts);
+        when(service.getNonWeekendHolidayCounts(2024, "AD,AU", null, null)).thenReturn(counts);
 
         mockMvc.perform(get("/api/v1/holidays/non-weekend-count")
                         .param("year", "2024")
@@ -74,7 +101,7 @@ class HolidaysControllerIntegrationTest {
 
     @Test
     void getNonWeekendHolidayCounts_returnsEmptyList() throws Exception {
-        when(service.getNonWeekendHolidayCounts(2024, "AD,AU")).thenReturn(Collections.emptyList());
+        when(service.getNonWeekendHolidayCounts(2024, "AD,AU", null, null)).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/v1/holidays/non-weekend-count")
                         .param("year", "2024")
@@ -87,7 +114,7 @@ class HolidaysControllerIntegrationTest {
     @Test
     void getCommonHolidays_returnsCommonHolidayList() throws Exception {
         List<CommonHoliday> common = List.of(new CommonHoliday(), new CommonHoliday());
-        when(service.getCommonHolidays(2025, "AD", "AU")).thenReturn(common);
+        when(service.getCommonHolidays(2025, "AD", "AU", null, null)).thenReturn(common);
 
         mockMvc.perform(get("/api/v1/holidays/common")
                         .param("year", "2025")
@@ -100,7 +127,7 @@ class HolidaysControllerIntegrationTest {
 
     @Test
     void getCommonHolidays_returnsEmptyList() throws Exception {
-        when(service.getCommonHolidays(2025, "AD", "AU")).thenReturn(Collections.emptyList());
+        when(service.getCommonHolidays(2025, "AD", "AU", null, null)).thenReturn(Collections.emptyList());
 
         mockMvc.perform(get("/api/v1/holidays/common")
                         .param("year", "2025")
@@ -113,7 +140,7 @@ class HolidaysControllerIntegrationTest {
 
     @Test
     void getCommonHolidays_passingSameCountryParams_returnsBadRequest() throws Exception {
-        when(service.getCommonHolidays(2025,"AD","AD")).thenThrow(new InvalidCountryException("Service error"));
+        when(service.getCommonHolidays(2025,"AD","AD", null, null)).thenThrow(new InvalidCountryException("Service error"));
         mockMvc.perform(get("/api/v1/holidays/common")
                         .param("year", "2025")
                         .param("country1", "AD")
@@ -133,7 +160,7 @@ class HolidaysControllerIntegrationTest {
 
     @Test
     void getRecentHolidays_serviceThrowsException_returnsServerError() throws Exception {
-        when(service.getRecentHolidays("AD")).thenThrow(new RuntimeException("Service error"));
+        when(service.getRecentHolidays("AD", 3, null)).thenThrow(new RuntimeException("Service error"));
 
         mockMvc.perform(get("/api/v1/holidays/recent")
                         .param("country", "AD")
@@ -144,7 +171,7 @@ class HolidaysControllerIntegrationTest {
     @Test
     void getNonWeekendHolidayCounts_withDuplicateCountries_returnsCorrectList() throws Exception {
         List<CountryHolidayCount> counts = List.of(new CountryHolidayCount());
-        when(service.getNonWeekendHolidayCounts(2024, "AD,AD")).thenReturn(counts);
+        when(service.getNonWeekendHolidayCounts(2024, "AD,AD", null, null)).thenReturn(counts);
 
         mockMvc.perform(get("/api/v1/holidays/non-weekend-count")
                         .param("year", "2024")
@@ -153,4 +180,102 @@ class HolidaysControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addBusinessDays_returnsBusinessDay() throws Exception {
+        when(service.addBusinessDays("US", LocalDate.of(2025, 12, 24), 2, null))
+                .thenReturn(new BusinessDay("US", LocalDate.of(2025, 12, 29)));
+
+        mockMvc.perform(get("/api/v1/holidays/business-days/add")
+                        .param("country", "US")
+                        .param("date", "2025-12-24")
+                        .param("days", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2025-12-29"));
+    }
+
+    @Test
+    void getLongWeekends_returnsReport() throws Exception {
+        LongWeekendReport report = new LongWeekendReport(2025, List.of(new CountryLongWeekends("AD",
+                List.of(new LongWeekend(LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 21), 4)), List.of())));
+        when(service.getLongWeekends(2025, "AD", null, null)).thenReturn(report);
+
+        mockMvc.perform(get("/api/v1/holidays/long-weekends")
+                        .param("year", "2025")
+                        .param("countries", "AD")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countries[0].longWeekends[0].start").value("2025-04-18"))
+                .andExpect(jsonPath("$.countries[0].longWeekends[0].days").value(4));
+    }
+
+    @Test
+    void addBusinessDays_invalidDate_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/holidays/business-days/add")
+                        .param("country", "US")
+                        .param("date", "24-12-2025")
+                        .param("days", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getRecentHolidays_acceptCbor_returnsCbor() throws Exception {
+        when(service.getRecentHolidays("NL", 3, null)).thenReturn(List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day")));
+
+        byte[] body = mockMvc.perform(get("/api/v1/holidays/recent")
+                        .param("country", "NL")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode holidays = new CBORMapper().readTree(body);
+        assertEquals("2025-04-27", holidays.get(0).get("date").asText());
+        assertEquals("King's Day", holidays.get(0).get("name").asText());
+    }
+
+    @Test
+    void getRecentHolidays_acceptGzip_largeResponseIsCompressed() throws Exception {
+        List<Holiday> holidays = Collections.nCopies(50, new Holiday(LocalDate.of(2025, 4, 27), "King's Day"));
+        when(service.getRecentHolidays("NL", 3, null)).thenReturn(holidays);
+
+        byte[] body = mockMvc.perform(get("/api/v1/holidays/recent")
+                        .param("country", "NL")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(50, new ObjectMapper().readTree(in.readAllBytes()).size());
+        }
+    }
+
+    @Test
+    void getRecentHolidays_acceptSmile_returnsSmile() throws Exception {
+        when(service.getRecentHolidays("NL", 3, null)).thenReturn(List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day")));
+
+        byte[] body = mockMvc.perform(get("/api/v1/holidays/recent")
+                        .param("country", "NL")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode holidays = new SmileMapper().readTree(body);
+        assertEquals("2025-04-27", holidays.get(0).get("date").asText());
+    }
+
+    @Test
+    void getRecentHolidays_noAccept_defaultsToJson() throws Exception {
+        when(service.getRecentHolidays("NL", 3, null)).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/api/v1/holidays/recent")
+                        .param("country", "NL"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
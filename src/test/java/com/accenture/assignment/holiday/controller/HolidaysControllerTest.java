@@ -1,18 +1,27 @@
 
 package com.accenture.assignment.holiday.controller;
 
+import com.accenture.assignment.holiday.model.BusinessDay;
+import com.accenture.assignment.holiday.model.BusinessDayCount;
 import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CountriesOnHoliday;
 import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.CountryHolidayTotals;
 import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.model.LongWeekendReport;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
 import com.accenture.assignment.holiday.service.HolidayInsightService;
 import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -26,132 +35,223 @@ class HolidaysControllerTest {
     @Mock
     private HolidayInsightService service;
 
+    @Spy
+    private RequestCoalescer coalescer = new RequestCoalescer(true, 0, new SimpleMeterRegistry());
+
     @InjectMocks
     private HolidaysController controller;
 
     @Test
     void getRecentHolidays_returnsHolidayList() {
         List<Holiday> holidays = Arrays.asList(new Holiday(), new Holiday());
-        when(service.getRecentHolidays("IN")).thenReturn(holidays);
+        when(service.getRecentHolidays("IN", null, null)).thenReturn(holidays);
 
-        ResponseEntity<List<Holiday>> response = controller.getRecentHolidays("IN");
+        ResponseEntity<List<Holiday>> response = controller.getRecentHolidays("IN", null, null);
 
         assertEquals(holidays, response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getRecentHolidays("IN");
+        verify(service).getRecentHolidays("IN", null, null);
+    }
+
+    @Test
+    void getUpcomingHolidays_passesCount() {
+        List<Holiday> holidays = Arrays.asList(new Holiday(), new Holiday());
+        when(service.getUpcomingHolidays("IN", 2, null)).thenReturn(holidays);
+
+        ResponseEntity<List<Holiday>> response = controller.getUpcomingHolidays("IN", 2, null);
+
+        assertEquals(holidays, response.getBody());
+        verify(service).getUpcomingHolidays("IN", 2, null);
     }
 
     @Test
     void getRecentHolidays_nullCountry_returnsEmptyList() {
-        when(service.getRecentHolidays(null)).thenReturn(Collections.emptyList());
+        when(service.getRecentHolidays(null, null, null)).thenReturn(Collections.emptyList());
 
-        ResponseEntity<List<Holiday>> response = controller.getRecentHolidays(null);
+        ResponseEntity<List<Holiday>> response = controller.getRecentHolidays(null, null, null);
 
         assertEquals(Collections.emptyList(), response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getRecentHolidays(null);
+        verify(service).getRecentHolidays(null, null, null);
     }
 
     @Test
     void getRecentHolidays_serviceReturnsNull_returnsNullBody() {
-        when(service.getRecentHolidays("IN")).thenReturn(null);
+        when(service.getRecentHolidays("IN", null, null)).thenReturn(null);
 
-        ResponseEntity<List<Holiday>> response = controller.getRecentHolidays("IN");
+        ResponseEntity<List<Holiday>> response = controller.getRecentHolidays("IN", null, null);
 
         assertNull(response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getRecentHolidays("IN");
+        verify(service).getRecentHolidays("IN", null, null);
     }
 
     @Test
     void getRecentHolidays_serviceThrowsException_propagatesException() {
-        when(service.getRecentHolidays("ZZ")).thenThrow(new InvalidCountryException("Invalid country"));
+        when(service.getRecentHolidays("ZZ", null, null)).thenThrow(new InvalidCountryException("Invalid country"));
 
-        assertThrows(InvalidCountryException.class, () -> controller.getRecentHolidays("ZZ"));
-        verify(service).getRecentHolidays("ZZ");
+        assertThrows(InvalidCountryException.class, () -> controller.getRecentHolidays("ZZ", null, null));
+        verify(service).getRecentHolidays("ZZ", null, null);
     }
 
     @Test
     void getNonWeekendHolidayCounts_returnsCountryHolidayCountList() {
         List<CountryHolidayCount> counts = Arrays.asList(new CountryHolidayCount(), new CountryHolidayCount());
-        when(service.getNonWeekendHolidayCounts(2024, "IN,US")).thenReturn(counts);
+        when(service.getNonWeekendHolidayCounts(2024, "IN,US", null, null)).thenReturn(counts);
 
-        ResponseEntity<List<CountryHolidayCount>> response = controller.getNonWeekendHolidayCounts(2024, "IN,US");
+        ResponseEntity<List<CountryHolidayCount>> response = controller.getNonWeekendHolidayCounts(2024, "IN,US", null, null);
 
         assertEquals(counts, response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getNonWeekendHolidayCounts(2024, "IN,US");
+        verify(service).getNonWeekendHolidayCounts(2024, "IN,US", null, null);
     }
 
     @Test
     void getNonWeekendHolidayCounts_nullCountries_returnsEmptyList() {
-        when(service.getNonWeekendHolidayCounts(2024, null)).thenReturn(Collections.emptyList());
+        when(service.getNonWeekendHolidayCounts(2024, null, null, null)).thenReturn(Collections.emptyList());
 
-        ResponseEntity<List<CountryHolidayCount>> response = controller.getNonWeekendHolidayCounts(2024, null);
+        ResponseEntity<List<CountryHolidayCount>> response = controller.getNonWeekendHolidayCounts(2024, null, null, null);
 
         assertEquals(Collections.emptyList(), response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getNonWeekendHolidayCounts(2024, null);
+        verify(service).getNonWeekendHolidayCounts(2024, null, null, null);
     }
 
     @Test
     void getNonWeekendHolidayCounts_serviceReturnsNull_returnsNullBody() {
-        when(service.getNonWeekendHolidayCounts(2024, "IN,US")).thenReturn(null);
+        when(service.getNonWeekendHolidayCounts(2024, "IN,US", null, null)).thenReturn(null);
 
-        ResponseEntity<List<CountryHolidayCount>> response = controller.getNonWeekendHolidayCounts(2024, "IN,US");
+        ResponseEntity<List<CountryHolidayCount>> response = controller.getNonWeekendHolidayCounts(2024, "IN,US", null, null);
 
         assertNull(response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getNonWeekendHolidayCounts(2024, "IN,US");
+        verify(service).getNonWeekendHolidayCounts(2024, "IN,US", null, null);
     }
 
     @Test
     void getNonWeekendHolidayCounts_serviceThrowsException_propagatesException() {
-        when(service.getNonWeekendHolidayCounts(2024, "ZZ")).thenThrow(new InvalidCountryException("Invalid country"));
+        when(service.getNonWeekendHolidayCounts(2024, "ZZ", null, null)).thenThrow(new InvalidCountryException("Invalid country"));
 
-        assertThrows(InvalidCountryException.class, () -> controller.getNonWeekendHolidayCounts(2024, "ZZ"));
-        verify(service).getNonWeekendHolidayCounts(2024, "ZZ");
+        assertThrows(InvalidCountryException.class, () -> controller.getNonWeekendHolidayCounts(2024, "ZZ", null, null));
+        verify(service).getNonWeekendHolidayCounts(2024, "ZZ", null, null);
     }
 
     @Test
     void getCommonHolidays_returnsCommonHolidayList() {
         List<CommonHoliday> common = Arrays.asList(new CommonHoliday(), new CommonHoliday());
-        when(service.getCommonHolidays(2024, "IN", "US")).thenReturn(common);
+        when(service.getCommonHolidays(2024, "IN", "US", null, null)).thenReturn(common);
 
-        ResponseEntity<List<CommonHoliday>> response = controller.getCommonHolidays(2024, "IN", "US");
+        ResponseEntity<List<CommonHoliday>> response = controller.getCommonHolidays(2024, "IN", "US", null, null);
 
         assertEquals(common, response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getCommonHolidays(2024, "IN", "US");
+        verify(service).getCommonHolidays(2024, "IN", "US", null, null);
     }
 
     @Test
     void getCommonHolidays_nullCountries_returnsEmptyList() {
-        when(service.getCommonHolidays(2024, null, null)).thenReturn(Collections.emptyList());
+        when(service.getCommonHolidays(2024, null, null, null, null)).thenReturn(Collections.emptyList());
 
-        ResponseEntity<List<CommonHoliday>> response = controller.getCommonHolidays(2024, null, null);
+        ResponseEntity<List<CommonHoliday>> response = controller.getCommonHolidays(2024, null, null, null, null);
 
         assertEquals(Collections.emptyList(), response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getCommonHolidays(2024, null, null);
+        verify(service).getCommonHolidays(2024, null, null, null, null);
     }
 
     @Test
     void getCommonHolidays_serviceReturnsNull_returnsNullBody() {
-        when(service.getCommonHolidays(2024, "IN", "US")).thenReturn(null);
+        when(service.getCommonHolidays(2024, "IN", "US", null, null)).thenReturn(null);
 
-        ResponseEntity<List<CommonHoliday>> response = controller.getCommonHolidays(2024, "IN", "US");
+        ResponseEntity<List<CommonHoliday>> response = controller.getCommonHolidays(2024, "IN", "US", null, null);
 
         assertNull(response.getBody());
         assertEquals(200, response.getStatusCodeValue());
-        verify(service).getCommonHolidays(2024, "IN", "US");
+        verify(service).getCommonHolidays(2024, "IN", "US", null, null);
     }
 
     @Test
     void getCommonHolidays_serviceThrowsException_propagatesException() {
-        when(service.getCommonHolidays(2024, "ZZ", "YY")).thenThrow(new InvalidCountryException("Invalid country"));
+        when(service.getCommonHolidays(2024, "ZZ", "YY", null, null)).thenThrow(new InvalidCountryException("Invalid country"));
+
+        assertThrows(InvalidCountryException.class, () -> controller.getCommonHolidays(2024, "ZZ", "YY", null, null));
+        verify(service).getCommonHolidays(2024, "ZZ", "YY", null, null);
+    }
+
+    @Test
+    void addBusinessDays_returnsBusinessDay() {
+        BusinessDay businessDay = new BusinessDay("US", LocalDate.of(2025, 12, 29));
+        when(service.addBusinessDays("US", LocalDate.of(2025, 12, 24), 2, null)).thenReturn(businessDay);
+
+        ResponseEntity<BusinessDay> response = controller.addBusinessDays("US", LocalDate.of(2025, 12, 24), 2, null);
+
+        assertEquals(businessDay, response.getBody());
+        assertEquals(200, response.getStatusCodeValue());
+        verify(service).addBusinessDays("US", LocalDate.of(2025, 12, 24), 2, null);
+    }
+
+    @Test
+    void countBusinessDays_returnsBusinessDayCount() {
+        BusinessDayCount count = new BusinessDayCount("US", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), 21);
+        when(service.countBusinessDays("US", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), null)).thenReturn(count);
+
+        ResponseEntity<BusinessDayCount> response = controller.countBusinessDays("US", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1), null);
+
+        assertEquals(count, response.getBody());
+        assertEquals(200, response.getStatusCodeValue());
+    }
+
+    @Test
+    void getNextBusinessDay_serviceThrowsException_propagatesException() {
+        when(service.getNextBusinessDay("ZZ", LocalDate.of(2025, 1, 1), null)).thenThrow(new InvalidCountryException("Invalid country"));
+
+        assertThrows(InvalidCountryException.class, () -> controller.getNextBusinessDay("ZZ", LocalDate.of(2025, 1, 1), null));
+        verify(service).getNextBusinessDay("ZZ", LocalDate.of(2025, 1, 1), null);
+    }
+
+    @Test
+    void getCountriesOnHoliday_returnsCountries() {
+        CountriesOnHoliday countries = new CountriesOnHoliday(LocalDate.of(2025, 12, 25), List.of("GB", "US"));
+        when(service.getCountriesOnHoliday(LocalDate.of(2025, 12, 25), null)).thenReturn(countries);
+
+        ResponseEntity<CountriesOnHoliday> response = controller.getCountriesOnHoliday(LocalDate.of(2025, 12, 25), null);
+
+        assertEquals(countries, response.getBody());
+        assertEquals(200, response.getStatusCodeValue());
+    }
+
+    @Test
+    void getCountriesOnHolidayInRange_returnsCountriesPerDate() {
+        List<CountriesOnHoliday> countries = List.of(new CountriesOnHoliday(LocalDate.of(2025, 12, 25), List.of("GB")));
+        when(service.getCountriesOnHolidayInRange(LocalDate.of(2025, 12, 20), LocalDate.of(2025, 12, 31), null)).thenReturn(countries);
+
+        ResponseEntity<List<CountriesOnHoliday>> response =
+                controller.getCountriesOnHolidayInRange(LocalDate.of(2025, 12, 20), LocalDate.of(2025, 12, 31), null);
 
-        assertThrows(InvalidCountryException.class, () -> controller.getCommonHolidays(2024, "ZZ", "YY"));
-        verify(service).getCommonHolidays(2024, "ZZ", "YY");
+        assertEquals(countries, response.getBody());
+        verify(service).getCountriesOnHolidayInRange(LocalDate.of(2025, 12, 20), LocalDate.of(2025, 12, 31), null);
+    }
+
+    @Test
+    void getLongWeekends_returnsReport() {
+        LongWeekendReport report = new LongWeekendReport(2025, List.of());
+        when(service.getLongWeekends(2025, "NL,BE", "Public,Bank", null)).thenReturn(report);
+
+        ResponseEntity<LongWeekendReport> response = controller.getLongWeekends(2025, "NL,BE", "Public,Bank", null);
+
+        assertEquals(report, response.getBody());
+        verify(service).getLongWeekends(2025, "NL,BE", "Public,Bank", null);
+    }
+
+    @Test
+    void getHolidayCountRanking_returnsRankedTotals() {
+        List<CountryHolidayTotals> ranking = List.of(new CountryHolidayTotals("AD", 2, 1, 3));
+        when(service.getHolidayCountRanking(2024, 1, null)).thenReturn(ranking);
+
+        ResponseEntity<List<CountryHolidayTotals>> response = controller.getHolidayCountRanking(2024, 1, null);
+
+        assertEquals(ranking, response.getBody());
+        assertEquals(200, response.getStatusCodeValue());
+        verify(service).getHolidayCountRanking(2024, 1, null);
     }
 }
\ No newline at end of file
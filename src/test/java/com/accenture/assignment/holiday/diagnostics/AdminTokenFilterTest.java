@@ -0,0 +1,124 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockHttpServletResponse execute(AdminTokenFilter filter, String path, String authorization,
+                                            MockFilterChain chain) throws Exception {
+        return execute(filter, "POST", path, authorization, chain);
+    }
+
+    private MockHttpServletResponse execute(AdminTokenFilter filter, String method, String path, String authorization,
+                                            MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void doFilter_rejectsMissingOrWrongToken() throws Exception {
+        AdminTokenFilter filter = new AdminTokenFilter("s3cret", "/actuator", meterRegistry);
+
+        for (String authorization : new String[]{null, "Bearer wrong", "Basic s3cret", "Bearer s3cret2"}) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = execute(filter, "/actuator/jfr/1/summary", authorization, chain);
+
+            assertEquals(401, response.getStatus());
+            assertEquals("Bearer", response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+            assertNull(chain.getRequest());
+        }
+        assertEquals(4, meterRegistry.counter("holiday.diagnostics.unauthorized").count());
+    }
+
+    @Test
+    void doFilter_passesValidTokenAndUnprotectedPaths() throws Exception {
+        AdminTokenFilter filter = new AdminTokenFilter("s3cret", "/actuator", meterRegistry);
+
+        MockFilterChain chain = new MockFilterChain();
+        assertEquals(200, execute(filter, "/actuator/jfr", "Bearer s3cret", chain).getStatus());
+        assertNotNull(chain.getRequest());
+
+        chain = new MockFilterChain();
+        assertEquals(200, execute(filter, "/actuator/jfrx", null, chain).getStatus());
+        assertNotNull(chain.getRequest());
+
+        chain = new MockFilterChain();
+        assertEquals(200, execute(filter, "/actuator/health", null, chain).getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_companyHolidays_protectsWritesOnly() throws Exception {
+        AdminTokenFilter filter = new AdminTokenFilter("s3cret", "/actuator", meterRegistry);
+
+        for (String method : new String[]{"PUT", "POST", "DELETE"}) {
+            MockFilterChain chain = new MockFilterChain();
+            assertEquals(401, execute(filter, method, "/api/v1/company-holidays/acme", null, chain).getStatus());
+            assertNull(chain.getRequest());
+
+            chain = new MockFilterChain();
+            assertEquals(200, execute(filter, method, "/api/v1/company-holidays/acme", "Bearer s3cret", chain)
+                    .getStatus());
+            assertNotNull(chain.getRequest());
+        }
+        MockFilterChain chain = new MockFilterChain();
+        assertEquals(200, execute(filter, "GET", "/api/v1/company-holidays/acme", null, chain).getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(3, meterRegistry.counter("holiday.diagnostics.unauthorized").count());
+    }
+
+    @Test
+    void doFilter_holidayCache_protectsEvictionsOnly() throws Exception {
+        AdminTokenFilter filter = new AdminTokenFilter("s3cret", "/actuator", meterRegistry);
+
+        MockFilterChain chain = new MockFilterChain();
+        assertEquals(401, execute(filter, "DELETE", "/actuator/holidaycache/holidays:NL:2025", null, chain)
+                .getStatus());
+        assertNull(chain.getRequest());
+
+        chain = new MockFilterChain();
+        assertEquals(200, execute(filter, "DELETE", "/actuator/holidaycache/holidays:NL:2025", "Bearer s3cret", chain)
+                .getStatus());
+        assertNotNull(chain.getRequest());
+
+        chain = new MockFilterChain();
+        assertEquals(200, execute(filter, "GET", "/actuator/holidaycache", null, chain).getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_quotas_protectsReads() throws Exception {
+        AdminTokenFilter filter = new AdminTokenFilter("s3cret", "/actuator", meterRegistry);
+
+        for (String path : new String[]{"/actuator/quotas", "/actuator/quotas/team-a"}) {
+            MockFilterChain chain = new MockFilterChain();
+            assertEquals(401, execute(filter, "GET", path, null, chain).getStatus());
+            assertNull(chain.getRequest());
+
+            chain = new MockFilterChain();
+            assertEquals(200, execute(filter, "GET", path, "Bearer s3cret", chain).getStatus());
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    @Test
+    void doFilter_rejectsEverythingWithoutConfiguredToken() throws Exception {
+        AdminTokenFilter filter = new AdminTokenFilter("", "/actuator", meterRegistry);
+
+        assertEquals(401, execute(filter, "/actuator/jfr", "Bearer ", new MockFilterChain()).getStatus());
+    }
+}
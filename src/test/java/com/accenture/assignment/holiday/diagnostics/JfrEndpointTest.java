@@ -0,0 +1,43 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import com.accenture.assignment.holiday.model.JfrRecordingInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrEndpointTest {
+
+    private final JfrRecorder recorder = new JfrRecorder(300, 100, 3, 10, "10 ms", "300/s",
+            "com.accenture.assignment.holiday");
+    private final JfrEndpoint endpoint = new JfrEndpoint(recorder);
+
+    @AfterEach
+    void tearDown() {
+        recorder.shutdown();
+    }
+
+    @Test
+    void start_validatesDurationAndRejectsConcurrentRecording() {
+        assertEquals(400, endpoint.start(0).getStatus());
+
+        WebEndpointResponse<JfrRecordingInfo> started = endpoint.start(null);
+        assertEquals(200, started.getStatus());
+        assertEquals(30, started.getBody().durationSeconds());
+        assertEquals(409, endpoint.start(5).getStatus());
+        assertEquals(1, endpoint.recordings().size());
+    }
+
+    @Test
+    void recording_conflictsWhileRunningAndIsMissingWhenUnknown() {
+        long id = endpoint.start(30).getBody().id();
+
+        assertEquals(409, endpoint.recording(id).getStatus());
+        assertEquals(409, endpoint.summary(id, "summary").getStatus());
+        assertEquals(404, endpoint.summary(id, "flamegraph").getStatus());
+        assertEquals(404, endpoint.recording(id + 1000).getStatus());
+        assertEquals(204, endpoint.delete(id).getStatus());
+        assertEquals(404, endpoint.delete(id).getStatus());
+    }
+}
@@ -0,0 +1,104 @@
+package com.accenture.assignment.holiday.diagnostics;
+
+import com.accenture.assignment.holiday.model.JfrRecordingInfo;
+import com.accenture.assignment.holiday.model.JfrSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecorderTest {
+
+    private final JfrRecorder recorder = new JfrRecorder(300, 100, 2, 10, "10 ms", "1000/s",
+            "com.accenture.assignment.holiday");
+
+    @AfterEach
+    void tearDown() {
+        recorder.shutdown();
+    }
+
+    @Test
+    void summarize_ranksApplicationHotspots() {
+        JfrRecordingInfo started = recorder.start(Duration.ofSeconds(1));
+        assertEquals("RUNNING", started.state());
+        assertTrue(recorder.summarize(started.id()).isEmpty());
+
+        busyWork(started.id());
+
+        JfrSummary summary = recorder.summarize(started.id()).orElseThrow();
+        assertTrue(summary.executionSamples() > 0);
+        assertTrue(summary.sampledAllocationBytes() > 0);
+        assertFalse(summary.hotMethods().isEmpty());
+        assertTrue(summary.hotApplicationMethods().stream()
+                .anyMatch(hotspot -> hotspot.method().startsWith(JfrRecorderTest.class.getName())));
+        assertTrue(summary.applicationAllocationSites().stream()
+                .anyMatch(hotspot -> hotspot.method().startsWith(JfrRecorderTest.class.getName())));
+        assertSame(summary, recorder.summarize(started.id()).orElseThrow());
+        assertTrue(recorder.get(started.id()).orElseThrow().sizeBytes() > 0);
+    }
+
+    @Test
+    void start_rejectsSecondRecordingWhileRunning() {
+        JfrRecordingInfo started = recorder.start(Duration.ofSeconds(30));
+
+        assertThrows(IllegalStateException.class, () -> recorder.start(Duration.ofSeconds(1)));
+        assertTrue(recorder.file(started.id()).isEmpty());
+        assertTrue(recorder.delete(started.id()));
+        assertFalse(recorder.delete(started.id()));
+        assertTrue(recorder.list().isEmpty());
+    }
+
+    @Test
+    void start_capsDurationAndRetainsNewestRecordings() throws InterruptedException {
+        JfrRecorder capped = new JfrRecorder(1, 100, 2, 10, "10 ms", "300/s", "com.accenture.assignment.holiday");
+        try {
+            List<Long> ids = new ArrayList<>();
+            List<Path> files = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                JfrRecordingInfo started = capped.start(Duration.ofMinutes(5));
+                assertEquals(1, started.durationSeconds());
+                ids.add(started.id());
+                awaitFinished(capped, started.id());
+                files.add(capped.file(started.id()).orElseThrow());
+            }
+            capped.start(Duration.ofSeconds(1));
+
+            assertEquals(3, capped.list().size());
+            assertTrue(capped.get(ids.get(0)).isEmpty());
+            assertFalse(Files.exists(files.get(0)));
+            assertTrue(Files.exists(files.get(2)));
+        } finally {
+            capped.shutdown();
+        }
+    }
+
+    private void busyWork(long id) {
+        List<int[]> retained = new ArrayList<>();
+        long sum = 0;
+        while (recorder.file(id).isEmpty()) {
+            int[] values = new int[1024];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (int) Math.sqrt(i * 31.0 + sum);
+                sum += values[i];
+            }
+            retained.add(values);
+            if (retained.size() > 256) {
+                retained.clear();
+            }
+        }
+        assertTrue(sum != 0);
+    }
+
+    private static void awaitFinished(JfrRecorder recorder, long id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (recorder.file(id).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.accenture.assignment.holiday.exception.handler;
 
 import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
 import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.QuotaExceededException;
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.model.CountryValidationError;
 import com.accenture.assignment.holiday.model.ProblemDetail;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -12,7 +16,10 @@ import org.junit.jupiter.api.Test;
 import jakarta.validation.Path;
 import org.mockito.Mockito;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.client.RestClientException;
@@ -21,6 +28,8 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 import java.util.Collections;
 import java.util.Set;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ApplicationExceptionHandlerTest {
@@ -65,6 +74,23 @@ class ApplicationExceptionHandlerTest {
         assertTrue(response.getBody().message().contains("Missing required parameter: param"));
     }
 
+    @Test
+    void testHandleUnsupportedMediaType() {
+        HttpMediaTypeNotSupportedException ex = new HttpMediaTypeNotSupportedException(MediaType.TEXT_PLAIN,
+                List.of(MediaType.valueOf("text/csv")));
+        ResponseEntity<ProblemDetail> response = handler.handleUnsupportedMediaType(ex, mockRequest("/upload"));
+        assertEquals(415, response.getStatusCodeValue());
+        assertTrue(response.getBody().message().contains("text/csv"));
+    }
+
+    @Test
+    void testHandleUnknownTenant() {
+        ResponseEntity<ProblemDetail> response = handler.handleUnknownTenant(new UnknownTenantException("acme"),
+                mockRequest("/tenant"));
+        assertEquals(404, response.getStatusCodeValue());
+        assertEquals("Unknown Tenant", response.getBody().error());
+    }
+
     @Test
     void testHandleInvalidCountry() {
         InvalidCountryException ex = new InvalidCountryException("Invalid country code");
@@ -73,6 +99,16 @@ class ApplicationExceptionHandlerTest {
         assertEquals("Invalid country code", response.getBody().message());
     }
 
+    @Test
+    void testHandleInvalidCountry_listsInvalidCodes() {
+        List<CountryValidationError> errors = List.of(new CountryValidationError("ZZ", "Country is not supported."));
+        InvalidCountryException ex = new InvalidCountryException("Invalid country code: 'ZZ'.", errors);
+        ResponseEntity<ProblemDetail> response = handler.handleInvalidCountry(ex, mockRequest("/country"));
+        assertEquals(400, response.getStatusCodeValue());
+        assertEquals("Invalid Country", response.getBody().error());
+        assertEquals(errors, response.getBody().errors());
+    }
+
     @Test
     void testHandleExternalApiUnavailableException() {
         ExternalApiUnavailableException ex = new ExternalApiUnavailableException("API down");
@@ -81,6 +117,24 @@ class ApplicationExceptionHandlerTest {
         assertEquals("API down", response.getBody().message());
     }
 
+    @Test
+    void testHandleServiceOverloadedException() {
+        ServiceOverloadedException ex = new ServiceOverloadedException("Busy", 2);
+        ResponseEntity<ProblemDetail> response = handler.handleServiceOverloadedException(ex, mockRequest("/busy"));
+        assertEquals(503, response.getStatusCodeValue());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Busy", response.getBody().message());
+    }
+
+    @Test
+    void testHandleQuotaExceededException() {
+        QuotaExceededException ex = new QuotaExceededException("Quota exceeded", 6);
+        ResponseEntity<ProblemDetail> response = handler.handleQuotaExceededException(ex, mockRequest("/quota"));
+        assertEquals(429, response.getStatusCodeValue());
+        assertEquals("6", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Too Many Requests", response.getBody().error());
+    }
+
     @Test
     void testHandleRestClientException() {
         RestClientException ex = new RestClientException("Rest error");
@@ -0,0 +1,29 @@
+package com.accenture.assignment.holiday.exception.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoarseClockTest {
+
+    @Test
+    void now_isCurrentIsoTimestampWithSecondPrecision() {
+        LocalDateTime timestamp = LocalDateTime.parse(CoarseClock.now());
+
+        assertEquals(0, timestamp.getNano());
+        assertTrue(Duration.between(timestamp, LocalDateTime.now()).abs().getSeconds() <= 1);
+    }
+
+    @Test
+    void now_withinSameSecond_returnsSameString() {
+        String first = CoarseClock.now();
+        String second = CoarseClock.now();
+
+        if (first.equals(second)) {
+            assertSame(first, second);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.accenture.assignment.holiday.exception.handler;
+
+import com.accenture.assignment.holiday.model.CountryValidationError;
+import com.accenture.assignment.holiday.model.ProblemDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrebuiltErrorResponsesTest {
+
+    private static final List<String> EXAMPLES = List.of("DE", "NL");
+    private static final List<CountryValidationError> ERRORS = List.of(
+            new CountryValidationError("ZZ", "Country is not supported."),
+            new CountryValidationError("N1", "Not a two-letter country code."));
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PrebuiltErrorResponses responses = new PrebuiltErrorResponses(objectMapper);
+
+    @Test
+    void invalidCountry_isProblemDetailListingEveryCode() throws Exception {
+        byte[] body = responses.invalidCountry("/api/v1/holidays/recent", ERRORS, EXAMPLES);
+
+        ProblemDetail problem = objectMapper.readValue(body, ProblemDetail.class);
+        assertEquals(400, problem.status());
+        assertEquals("Invalid Country", problem.error());
+        assertEquals("/api/v1/holidays/recent", problem.path());
+        assertEquals(ERRORS, problem.errors());
+        assertEquals("Invalid country code: 'ZZ', 'N1'. Please provide a valid country code. "
+                + "Here are some examples: [DE, NL]", problem.message());
+        assertNotNull(LocalDateTime.parse(problem.timestamp()));
+    }
+
+    @Test
+    void invalidCountry_matchesSerializedProblemDetail() throws Exception {
+        byte[] body = responses.invalidCountry("/api/v1/holidays/recent", ERRORS, EXAMPLES);
+
+        ProblemDetail problem = objectMapper.readValue(body, ProblemDetail.class);
+        assertArrayEquals(objectMapper.writeValueAsBytes(problem), body);
+    }
+
+    @Test
+    void invalidCountry_cachedBody_isNewArrayEachTime() {
+        byte[] first = responses.invalidCountry("/api/v1/holidays/recent", ERRORS, EXAMPLES);
+        byte[] second = responses.invalidCountry("/api/v1/holidays/recent", ERRORS, EXAMPLES);
+
+        assertNotSame(first, second);
+        assertEquals(first.length, second.length);
+    }
+
+    @Test
+    void invalidCountry_changedExamples_rebuildsMessage() throws Exception {
+        responses.invalidCountry("/api/v1/holidays/recent", ERRORS, EXAMPLES);
+
+        byte[] body = responses.invalidCountry("/api/v1/holidays/recent", ERRORS, List.of("FR"));
+
+        assertTrue(objectMapper.readValue(body, ProblemDetail.class).message().endsWith("[FR]"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.accenture.assignment.holiday.grpc;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.HolidayInsightGrpc;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.RecentHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.UpcomingHolidaysRequest;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.quota.ClientQuotaTracker;
+import com.accenture.assignment.holiday.resilience.AdaptiveConcurrencyLimiter;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GrpcAdmissionInterceptorTest {
+
+    private final HolidayInsightService service = mock(HolidayInsightService.class);
+    private final CountryRegistry countryRegistry = new CountryRegistry();
+    private final ClientQuotaTracker tracker = new ClientQuotaTracker(60, 10, "", 100, new SimpleMeterRegistry());
+    private final AdaptiveConcurrencyLimiter limiter = mock(AdaptiveConcurrencyLimiter.class);
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        countryRegistry.update(Map.of("NL", "Netherlands", "DE", "Germany"));
+        when(limiter.tryAcquire(anyInt(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(service.getRecentHolidays("NL", null, null))
+                .thenReturn(List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day")));
+        GrpcAdmissionInterceptor interceptor = new GrpcAdmissionInterceptor(countryRegistry, tracker, limiter,
+                new SimpleMeterRegistry(), true, "X-Api-Key", true, 4, 1);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new HolidayInsightGrpcService(service,
+                        new RequestCoalescer(true, 0, new SimpleMeterRegistry())), interceptor))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    private HolidayInsightGrpc.HolidayInsightBlockingStub stub(String client) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER), client);
+        return HolidayInsightGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    @Test
+    void overQuota_resourceExhaustedWithRetryAfter() {
+        RecentHolidaysRequest request = RecentHolidaysRequest.newBuilder().setCountry("NL").build();
+        assertEquals(1, stub("team-a").getRecentHolidays(request).getHolidaysCount());
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub("team-a").getRecentHolidays(request));
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, ex.getStatus().getCode());
+        assertNotNull(ex.getTrailers().get(GrpcAdmissionInterceptor.RETRY_AFTER));
+        assertEquals(1, stub("team-b").getRecentHolidays(request).getHolidaysCount());
+        verify(service, times(2)).getRecentHolidays("NL", null, null);
+    }
+
+    @Test
+    void overloaded_resourceExhaustedWithoutCallingTheService() {
+        when(limiter.tryAcquire(anyInt(), anyBoolean())).thenReturn(0);
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub("team-a").getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("NL").build()));
+
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, ex.getStatus().getCode());
+        assertEquals("1", ex.getTrailers().get(GrpcAdmissionInterceptor.RETRY_AFTER));
+        verifyNoInteractions(service);
+        verify(limiter, never()).release(anyInt(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    void admittedCall_releasedWithItsOutcome() {
+        when(service.getUpcomingHolidays("NL", null, null)).thenThrow(new IllegalStateException("boom"));
+
+        stub("team-a").getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("NL").build());
+        assertThrows(StatusRuntimeException.class,
+                () -> stub("team-b").getUpcomingHolidays(UpcomingHolidaysRequest.newBuilder().setCountry("NL").build()));
+
+        verify(limiter).release(eq(1), anyLong(), eq(false));
+        verify(limiter).release(eq(1), anyLong(), eq(true));
+    }
+
+    @Test
+    void invalidCountry_invalidArgumentAndNotCharged() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub("team-a").getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("XX").build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        assertTrue(ex.getStatus().getDescription().contains("'XX'"));
+        assertTrue(tracker.getUsage().isEmpty());
+        verifyNoInteractions(service, limiter);
+    }
+
+    @Test
+    void cost_isCountriesTimesYears() {
+        assertEquals(10, GrpcAdmissionInterceptor.countries(RecentHolidaysRequest.getDefaultInstance())
+                * GrpcAdmissionInterceptor.years(RecentHolidaysRequest.getDefaultInstance()));
+        NonWeekendCountsRangeRequest counts = NonWeekendCountsRangeRequest.newBuilder()
+                .setFromYear(2020).setToYear(2024).addCountries("NL").addCountries("DE").addCountries("DE-BY").build();
+        assertEquals(3, GrpcAdmissionInterceptor.countries(counts));
+        assertEquals(5, GrpcAdmissionInterceptor.years(counts));
+        CommonHolidaysRangeRequest reversed = CommonHolidaysRangeRequest.newBuilder()
+                .setFromYear(2025).setToYear(2020).setCountry1("NL").setCountry2("DE").build();
+        assertEquals(2, GrpcAdmissionInterceptor.countries(reversed));
+        assertEquals(1, GrpcAdmissionInterceptor.years(reversed));
+    }
+}
@@ -0,0 +1,124 @@
+package com.accenture.assignment.holiday.grpc;
+
+import com.accenture.assignment.holiday.grpc.proto.HolidayInsightGrpc;
+import com.accenture.assignment.holiday.grpc.proto.HolidayList;
+import com.accenture.assignment.holiday.grpc.proto.RecentHolidaysRequest;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthGrpc;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "holiday.quota.enabled=false")
+class GrpcServerLifecycleIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServerLifecycleIntegrationTest.class);
+
+    @MockitoBean
+    private HolidayInsightService service;
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        when(service.getRecentHolidays(eq("NL"), any(), isNull())).thenReturn(List.of(
+                new Holiday(LocalDate.of(2025, 4, 27), "King's Day"),
+                new Holiday(LocalDate.of(2025, 4, 21), "Easter Monday"),
+                new Holiday(LocalDate.of(2025, 4, 20), "Easter Sunday")));
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    void grpcServer_runsAlongsideRestOnSameService() {
+        assertTrue(grpcServer.isRunning());
+
+        HolidayList grpcReply = HolidayInsightGrpc.newBlockingStub(channel)
+                .getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("NL").build());
+        Holiday[] restReply = restTemplate.getForObject("/api/v1/holidays/recent?country=NL", Holiday[].class);
+
+        assertEquals(3, grpcReply.getHolidaysCount());
+        assertEquals(restReply[0].getName(), grpcReply.getHolidays(0).getName());
+        assertEquals(restReply[0].getDate().toString(), grpcReply.getHolidays(0).getDate());
+    }
+
+    @Test
+    void grpcServer_reportsServing() {
+        HealthCheckResponse response = HealthGrpc.newBlockingStub(channel).check(HealthCheckRequest.getDefaultInstance());
+
+        assertEquals(HealthCheckResponse.ServingStatus.SERVING, response.getStatus());
+    }
+
+    /**
+     * Sends the same recent-holidays query over REST and gRPC from several threads and logs the throughput
+     * of each. The service is mocked, so only transport and serialization are compared; numbers depend on
+     * the machine and are not asserted.
+     */
+    @Test
+    void compareThroughput_logsRestAndGrpcCallsPerSecond() throws Exception {
+        HolidayInsightGrpc.HolidayInsightBlockingStub stub = HolidayInsightGrpc.newBlockingStub(channel);
+        RecentHolidaysRequest request = RecentHolidaysRequest.newBuilder().setCountry("NL").build();
+        Runnable grpcCall = () -> assertEquals(3, stub.getRecentHolidays(request).getHolidaysCount());
+        Runnable restCall = () -> assertEquals(3,
+                restTemplate.getForObject("/api/v1/holidays/recent?country=NL", Holiday[].class).length);
+
+        measure("grpc", grpcCall, 500);
+        measure("rest", restCall, 500);
+        log.info("gRPC: {} calls/s, REST: {} calls/s", measure("grpc", grpcCall, 2_000), measure("rest", restCall, 2_000));
+    }
+
+    private static long measure(String name, Runnable call, int callsPerThread) throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < callsPerThread; i++) {
+                        call.run();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long callsPerSecond = threads * callsPerThread * 1_000_000_000L / (System.nanoTime() - start);
+            log.debug("{}: {} calls/s", name, callsPerSecond);
+            return callsPerSecond;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
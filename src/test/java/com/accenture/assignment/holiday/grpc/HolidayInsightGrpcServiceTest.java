@@ -0,0 +1,218 @@
+package com.accenture.assignment.holiday.grpc;
+
+import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidayList;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.CommonHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.CountryHolidayCountList;
+import com.accenture.assignment.holiday.grpc.proto.HolidayInsightGrpc;
+import com.accenture.assignment.holiday.grpc.proto.HolidayList;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRangeRequest;
+import com.accenture.assignment.holiday.grpc.proto.NonWeekendCountsRequest;
+import com.accenture.assignment.holiday.grpc.proto.RecentHolidaysRequest;
+import com.accenture.assignment.holiday.grpc.proto.UpcomingHolidaysRequest;
+import com.accenture.assignment.holiday.model.CommonHoliday;
+import com.accenture.assignment.holiday.model.CountryHolidayCount;
+import com.accenture.assignment.holiday.model.Holiday;
+import com.accenture.assignment.holiday.resilience.RequestCoalescer;
+import com.accenture.assignment.holiday.service.HolidayInsightService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HolidayInsightGrpcServiceTest {
+
+    private final HolidayInsightService service = mock(HolidayInsightService.class);
+    private Server server;
+    private ManagedChannel channel;
+    private HolidayInsightGrpc.HolidayInsightBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new HolidayInsightGrpcService(service, new RequestCoalescer(true, 0, new SimpleMeterRegistry())))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = HolidayInsightGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getRecentHolidays_mapsHolidays() {
+        when(service.getRecentHolidays("NL", null, null)).thenReturn(List.of(new Holiday(LocalDate.of(2025, 4, 27), "King's Day")));
+
+        HolidayList reply = stub.getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("NL").build());
+
+        assertEquals(1, reply.getHolidaysCount());
+        assertEquals("2025-04-27", reply.getHolidays(0).getDate());
+        assertEquals("King's Day", reply.getHolidays(0).getName());
+    }
+
+    @Test
+    void getUpcomingHolidays_passesCount() {
+        when(service.getUpcomingHolidays("NL", 2, null)).thenReturn(List.of(
+                new Holiday(LocalDate.of(2025, 12, 25), "Christmas Day"),
+                new Holiday(LocalDate.of(2025, 12, 26), "St. Stephen's Day")));
+
+        HolidayList reply = stub.getUpcomingHolidays(UpcomingHolidaysRequest.newBuilder().setCountry("NL").setCount(2).build());
+
+        assertEquals(List.of("2025-12-25", "2025-12-26"), reply.getHolidaysList().stream().map(h -> h.getDate()).toList());
+    }
+
+    @Test
+    void getRecentHolidays_tenant_passedAndUnknownReturnsNotFound() {
+        when(service.getRecentHolidays("NL", null, "acme")).thenThrow(new UnknownTenantException("acme"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("NL").setTenant("acme").build()));
+
+        assertEquals(Status.Code.NOT_FOUND, ex.getStatus().getCode());
+        verify(service).getRecentHolidays("NL", null, "acme");
+    }
+
+    @Test
+    void getRecentHolidays_invalidCountry_returnsInvalidArgument() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getRecentHolidays(RecentHolidaysRequest.newBuilder().setCountry("NLD").build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_joinsCountries() {
+        when(service.getNonWeekendHolidayCounts(2025, "NL,DE", null, null))
+                .thenReturn(List.of(new CountryHolidayCount("DE", 9), new CountryHolidayCount("NL", 8)));
+
+        CountryHolidayCountList reply = stub.getNonWeekendHolidayCounts(NonWeekendCountsRequest.newBuilder()
+                .setYear(2025).addCountries("NL").addCountries("DE").build());
+
+        assertEquals(2025, reply.getYear());
+        assertEquals("DE", reply.getCounts(0).getCountry());
+        assertEquals(9, reply.getCounts(0).getCount());
+        assertEquals(8, reply.getCounts(1).getCount());
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_noCountries_returnsInvalidArgument() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getNonWeekendHolidayCounts(NonWeekendCountsRequest.newBuilder().setYear(2025).build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+    }
+
+    @Test
+    void getCommonHolidays_mapsHolidays() {
+        when(service.getCommonHolidays(2025, "NL", "DE", null, null)).thenReturn(List.of(
+                new CommonHoliday(LocalDate.of(2025, 12, 25), "Eerste Kerstdag", "Erster Weihnachtstag")));
+
+        CommonHolidayList reply = stub.getCommonHolidays(CommonHolidaysRequest.newBuilder()
+                .setYear(2025).setCountry1("NL").setCountry2("DE").build());
+
+        assertEquals("2025-12-25", reply.getHolidays(0).getDate());
+        assertEquals("Eerste Kerstdag", reply.getHolidays(0).getLocalName1());
+        assertEquals("Erster Weihnachtstag", reply.getHolidays(0).getLocalName2());
+    }
+
+    @Test
+    void getCommonHolidays_sameCountry_returnsInvalidArgument() {
+        when(service.getCommonHolidays(2025, "NL", "NL", null, null))
+                .thenThrow(new InvalidCountryException("country1 and country2 must be different."));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getCommonHolidays(CommonHolidaysRequest.newBuilder()
+                        .setYear(2025).setCountry1("NL").setCountry2("NL").build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        assertEquals("country1 and country2 must be different.", ex.getStatus().getDescription());
+    }
+
+    @Test
+    void getCommonHolidays_externalApiUnavailable_returnsUnavailable() {
+        when(service.getCommonHolidays(2025, "NL", "DE", null, null)).thenThrow(new ExternalApiUnavailableException("API down"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getCommonHolidays(CommonHolidaysRequest.newBuilder()
+                        .setYear(2025).setCountry1("NL").setCountry2("DE").build()));
+
+        assertEquals(Status.Code.UNAVAILABLE, ex.getStatus().getCode());
+    }
+
+    @Test
+    void streamCommonHolidays_sendsOneMessagePerYear() {
+        when(service.getCommonHolidays(anyInt(), eq("NL"), eq("DE"), isNull(), isNull())).thenReturn(List.of());
+
+        List<Integer> years = new ArrayList<>();
+        stub.streamCommonHolidays(CommonHolidaysRangeRequest.newBuilder()
+                        .setFromYear(2023).setToYear(2025).setCountry1("NL").setCountry2("DE").build())
+                .forEachRemaining(reply -> years.add(reply.getYear()));
+
+        assertEquals(List.of(2023, 2024, 2025), years);
+    }
+
+    @Test
+    void streamNonWeekendHolidayCounts_sendsOneMessagePerYear() {
+        when(service.getNonWeekendHolidayCounts(anyInt(), eq("NL"), isNull(), isNull()))
+                .thenAnswer(invocation -> List.of(new CountryHolidayCount("NL", invocation.getArgument(0, Integer.class) % 10)));
+
+        Iterator<CountryHolidayCountList> replies = stub.streamNonWeekendHolidayCounts(NonWeekendCountsRangeRequest
+                .newBuilder().setFromYear(2024).setToYear(2025).addCountries("NL").build());
+
+        assertEquals(4, replies.next().getCounts(0).getCount());
+        assertEquals(5, replies.next().getCounts(0).getCount());
+        assertFalse(replies.hasNext());
+    }
+
+    @Test
+    void streamCommonHolidays_failureMidStream_endsWithStatus() {
+        when(service.getCommonHolidays(2024, "NL", "DE", null, null)).thenReturn(List.of());
+        when(service.getCommonHolidays(2025, "NL", "DE", null, null)).thenThrow(new ExternalApiUnavailableException("API down"));
+
+        Iterator<CommonHolidayList> replies = stub.streamCommonHolidays(CommonHolidaysRangeRequest.newBuilder()
+                .setFromYear(2024).setToYear(2025).setCountry1("NL").setCountry2("DE").build());
+
+        assertEquals(2024, replies.next().getYear());
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class, replies::next);
+        assertEquals(Status.Code.UNAVAILABLE, ex.getStatus().getCode());
+    }
+
+    @Test
+    void streamCommonHolidays_invalidRange_returnsInvalidArgument() {
+        CommonHolidaysRangeRequest tooLong = CommonHolidaysRangeRequest.newBuilder()
+                .setFromYear(2000).setToYear(2030).setCountry1("NL").setCountry2("DE").build();
+        CommonHolidaysRangeRequest reversed = CommonHolidaysRangeRequest.newBuilder()
+                .setFromYear(2025).setToYear(2024).setCountry1("NL").setCountry2("DE").build();
+
+        for (CommonHolidaysRangeRequest request : List.of(tooLong, reversed)) {
+            StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                    () -> stub.streamCommonHolidays(request).hasNext());
+            assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        }
+        verifyNoInteractions(service);
+    }
+}
@@ -0,0 +1,73 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.handler.ApplicationExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CompanyHolidayControllerTest {
+
+    private final MockMvc mockMvc;
+
+    CompanyHolidayControllerTest() {
+        CountryRegistry countryRegistry = new CountryRegistry();
+        countryRegistry.update(Map.of("NL", "Netherlands", "DE", "Germany"));
+        CompanyHolidayStore store = new CompanyHolidayStore(countryRegistry, new ObjectMapper(),
+                new SimpleMeterRegistry(), 10, 100, "");
+        mockMvc = MockMvcBuilders.standaloneSetup(new CompanyHolidayController(store))
+                .setControllerAdvice(new ApplicationExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void putAndPost_uploadCsvAndJson() throws Exception {
+        mockMvc.perform(put("/api/v1/company-holidays/acme").contentType("text/csv")
+                        .content("country,date,name\nNL,2025-12-31,Shutdown\nZZ,2025-12-31,Unknown\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("line 3: unsupported country 'ZZ'"))
+                .andExpect(jsonPath("$.overlay.rows").value(1));
+
+        mockMvc.perform(post("/api/v1/company-holidays/acme").contentType("application/x-ndjson")
+                        .content("{\"country\":\"DE\",\"date\":\"2026-01-02\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overlay.countries[0]").value("DE"))
+                .andExpect(jsonPath("$.overlay.years[1]").value(2026));
+
+        mockMvc.perform(get("/api/v1/company-holidays/acme"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tenant").value("acme"))
+                .andExpect(jsonPath("$.rows").value(2));
+    }
+
+    @Test
+    void invalidUpload_returnsBadRequest() throws Exception {
+        mockMvc.perform(put("/api/v1/company-holidays/acme").contentType("text/csv").content("country,day\n"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/company-holidays/..").contentType("text/csv").content("country,date\n"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/company-holidays/acme").contentType("text/plain").content("x"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void unknownTenant_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/company-holidays/acme"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Unknown Tenant"));
+
+        mockMvc.perform(put("/api/v1/company-holidays/acme").contentType("text/csv").content("country,date\n"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/company-holidays/acme")).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/company-holidays/acme")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,149 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanyHolidayReaderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompanyHolidayReaderTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountryRegistry countryRegistry = new CountryRegistry();
+    private final CompanyHolidays.Builder builder = CompanyHolidays.builder();
+
+    CompanyHolidayReaderTest() {
+        countryRegistry.update(Map.of("NL", "Netherlands", "DE", "Germany"));
+    }
+
+    private CompanyHolidayReader read(String body, CompanyHolidayReader.Format format) {
+        CompanyHolidayReader reader = new CompanyHolidayReader(builder, countryRegistry::resolve, 1000);
+        reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+        return reader;
+    }
+
+    private List<String> closures() {
+        List<String> closures = new ArrayList<>();
+        builder.build().forEach((countryCode, date, name) -> closures.add(countryCode + " " + date + " " + name));
+        return closures;
+    }
+
+    @Test
+    void csv_readsColumnsInAnyOrderWithQuotedFields() {
+        CompanyHolidayReader reader = read("\uFEFFName,Date,Country\n"
+                + "\"Shutdown, \"\"winter\"\"\",2025-12-31,nl\n"
+                + "\n"
+                + ",2025-05-02,DE\n", CompanyHolidayReader.Format.CSV);
+
+        assertEquals(2, reader.getAccepted());
+        assertEquals(0, reader.getRejected());
+        assertEquals(List.of("DE 2025-05-02 Company holiday", "NL 2025-12-31 Shutdown, \"winter\""), closures());
+    }
+
+    @Test
+    void csv_rejectsInvalidRowsAndDescribesThem() {
+        CompanyHolidayReader reader = read("country,date,name\n"
+                + "ZZ,2025-01-02,Unknown\n"
+                + "NL,2025-02-30,Invalid\n"
+                + "NL\n"
+                + "NL,2025-01-02," + "x".repeat(CompanyHolidayReader.MAX_NAME_LENGTH + 1) + "\n"
+                + "NL,2025-01-03,Valid\n", CompanyHolidayReader.Format.CSV);
+
+        assertEquals(1, reader.getAccepted());
+        assertEquals(4, reader.getRejected());
+        assertEquals(List.of("line 2: unsupported country 'ZZ'", "line 3: invalid date '2025-02-30'",
+                "line 4: expected at least 2 fields",
+                "line 5: name longer than " + CompanyHolidayReader.MAX_NAME_LENGTH + " characters"), reader.getErrors());
+    }
+
+    @Test
+    void csv_limitsErrorsDescribed() {
+        CompanyHolidayReader reader = read("country,date\n" + "ZZ,2025-01-01\n".repeat(50), CompanyHolidayReader.Format.CSV);
+
+        assertEquals(50, reader.getRejected());
+        assertEquals(CompanyHolidayReader.MAX_ERRORS, reader.getErrors().size());
+    }
+
+    @Test
+    void csv_malformedInput_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> read("country,day\nNL,2025-01-01\n", CompanyHolidayReader.Format.CSV));
+        assertThrows(IllegalArgumentException.class, () -> read("country,date\nNL,\"2025-01-01\n", CompanyHolidayReader.Format.CSV));
+        assertEquals(0, read("", CompanyHolidayReader.Format.CSV).getAccepted());
+    }
+
+    @Test
+    void json_readsArrayAndOneObjectPerLine() {
+        read("[{\"country\":\"NL\",\"date\":\"2025-12-31\",\"name\":\"Shutdown\"},{\"country\":\"XX\",\"date\":\"2025-01-01\"}]",
+                CompanyHolidayReader.Format.JSON);
+        CompanyHolidayReader reader = read("{\"country\":\"DE\",\"date\":\"2025-05-02\"}\n{\"country\":\"DE\",\"date\":\"20250502\"}\n",
+                CompanyHolidayReader.Format.JSON);
+
+        assertEquals(1, reader.getAccepted());
+        assertEquals(List.of("row 2: invalid date '20250502'"), reader.getErrors());
+        assertEquals(List.of("DE 2025-05-02 Company holiday", "NL 2025-12-31 Shutdown"), closures());
+        assertThrows(IllegalArgumentException.class, () -> read("[{\"country\":", CompanyHolidayReader.Format.JSON));
+    }
+
+    @Test
+    void read_beyondMaxRows_throwsException() {
+        CompanyHolidayReader reader = new CompanyHolidayReader(builder, countryRegistry::resolve, 2);
+        byte[] body = "country,date\nNL,2025-01-01\nNL,2025-01-02\nNL,2025-01-03\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                reader.read(new ByteArrayInputStream(body), CompanyHolidayReader.Format.CSV, objectMapper));
+    }
+
+    @Test
+    void format_isChosenByContentType() {
+        assertEquals(CompanyHolidayReader.Format.CSV, CompanyHolidayReader.Format.of("text/csv; charset=UTF-8"));
+        assertEquals(CompanyHolidayReader.Format.JSON, CompanyHolidayReader.Format.of("application/x-ndjson"));
+        assertThrows(IllegalArgumentException.class, () -> CompanyHolidayReader.Format.of("text/plain"));
+        assertThrows(IllegalArgumentException.class, () -> CompanyHolidayReader.Format.of(null));
+    }
+
+    /**
+     * Streams one million CSV rows, spread over ten years of one country, and logs the throughput and the
+     * number of closure days left once repeated days are collapsed.
+     */
+    @Test
+    void csv_millionRows_logsThroughput() {
+        int rows = 1_000_000;
+        List<InputStream> parts = new ArrayList<>();
+        parts.add(new ByteArrayInputStream("country,date,name\n".getBytes(StandardCharsets.UTF_8)));
+        LocalDate first = LocalDate.of(2020, 1, 1);
+        StringBuilder chunk = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            chunk.append("NL,").append(first.plusDays(i % 3650)).append(",Closure ").append(i % 16).append('\n');
+            if (chunk.length() > 1 << 16) {
+                parts.add(new ByteArrayInputStream(chunk.toString().getBytes(StandardCharsets.UTF_8)));
+                chunk.setLength(0);
+            }
+        }
+        parts.add(new ByteArrayInputStream(chunk.toString().getBytes(StandardCharsets.UTF_8)));
+
+        CompanyHolidayReader reader = new CompanyHolidayReader(builder, countryRegistry::resolve, rows);
+        long start = System.nanoTime();
+        reader.read(new SequenceInputStream(Collections.enumeration(parts)), CompanyHolidayReader.Format.CSV, objectMapper);
+        CompanyHolidays overlay = builder.build();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(rows, reader.getAccepted());
+        assertEquals(3650, overlay.getRows());
+        log.info("Read {} CSV rows in {} ms ({} rows/s), {} closure days held",
+                rows, millis, rows * 1000L / Math.max(1, millis), overlay.getRows());
+    }
+}
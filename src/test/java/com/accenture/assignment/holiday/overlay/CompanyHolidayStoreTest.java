@@ -0,0 +1,126 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
+import com.accenture.assignment.holiday.model.CompanyHolidayOverlay;
+import com.accenture.assignment.holiday.model.CompanyHolidayUpload;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanyHolidayStoreTest {
+
+    private final CountryRegistry countryRegistry = new CountryRegistry();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    CompanyHolidayStoreTest() {
+        countryRegistry.update(Map.of("NL", "Netherlands", "DE", "Germany"));
+    }
+
+    private CompanyHolidayStore store(int maxTenants, long maxRows, String directory) {
+        return new CompanyHolidayStore(countryRegistry, new ObjectMapper(), meterRegistry, maxTenants, maxRows, directory);
+    }
+
+    private static CompanyHolidayUpload upload(CompanyHolidayStore store, String tenant, String csv, boolean replace) {
+        return store.ingest(tenant, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "text/csv", replace);
+    }
+
+    @Test
+    void ingest_replacesOrAddsToTheOverlay() {
+        CompanyHolidayStore store = store(10, 100, "");
+
+        CompanyHolidayUpload first = upload(store, "acme", "country,date\nNL,2025-12-31\nZZ,2025-12-31\n", true);
+        assertEquals(1, first.accepted());
+        assertEquals(1, first.rejected());
+        assertEquals(new CompanyHolidayOverlay("acme", 1, List.of("NL"), List.of(2025)), first.overlay());
+
+        CompanyHolidayUpload added = upload(store, "acme", "country,date\nDE,2026-01-02\n", false);
+        assertEquals(new CompanyHolidayOverlay("acme", 2, List.of("DE", "NL"), List.of(2025, 2026)), added.overlay());
+
+        upload(store, "acme", "country,date\nDE,2026-01-02\n", true);
+        assertEquals(Optional.of(new CompanyHolidayOverlay("acme", 1, List.of("DE"), List.of(2026))), store.get("acme"));
+        assertEquals(3, meterRegistry.counter("holiday.overlay.rows", "result", "accepted").count());
+        assertEquals(1, meterRegistry.counter("holiday.overlay.rows", "result", "rejected").count());
+    }
+
+    @Test
+    void ingest_newUploadStartsAFreshMergedCalendar() {
+        CompanyHolidayStore store = store(10, 100, "");
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"));
+        upload(store, "acme", "country,date\nNL,2025-12-31\n", true);
+        TenantCalendar before = store.getCalendar("acme");
+        assertEquals(2, before.merge("NL", 2025, holidays).size());
+
+        upload(store, "acme", "country,date\nNL,2025-12-30\n", false);
+        TenantCalendar after = store.getCalendar("acme");
+        assertNotSame(before, after);
+        assertEquals(3, after.merge("NL", 2025, holidays).size());
+    }
+
+    @Test
+    void ingest_limitsExceeded_leavesOverlayUnchanged() {
+        CompanyHolidayStore store = store(1, 2, "");
+        upload(store, "acme", "country,date\nNL,2025-12-30\nNL,2025-12-31\n", true);
+
+        assertThrows(IllegalArgumentException.class, () -> upload(store, "acme", "country,date\nNL,2025-12-29\n", false));
+        assertThrows(IllegalArgumentException.class,
+                () -> upload(store, "acme", "country,date\nNL,2025-12-27\nNL,2025-12-28\nNL,2025-12-29\n", true));
+        assertThrows(IllegalArgumentException.class, () -> upload(store, "other", "country,date\nNL,2025-12-29\n", true));
+        assertEquals(2, store.get("acme").orElseThrow().rows());
+        assertTrue(store.get("other").isEmpty());
+    }
+
+    @Test
+    void ingest_invalidTenantOrContentType_throwsException() {
+        CompanyHolidayStore store = store(10, 100, "");
+
+        assertThrows(IllegalArgumentException.class, () -> upload(store, "../acme", "country,date\n", true));
+        assertThrows(IllegalArgumentException.class, () -> upload(store, "-acme", "country,date\n", true));
+        assertThrows(IllegalArgumentException.class, () -> store.ingest("acme",
+                new ByteArrayInputStream(new byte[0]), "application/xml", true));
+    }
+
+    @Test
+    void getCalendar_unknownTenant_throwsException() {
+        CompanyHolidayStore store = store(10, 100, "");
+
+        assertThrows(UnknownTenantException.class, () -> store.getCalendar("acme"));
+        assertThrows(UnknownTenantException.class, () -> store.getCalendar(null));
+        assertFalse(store.delete("acme"));
+    }
+
+    @Test
+    void directory_persistsOverlaysAcrossRestarts() throws Exception {
+        CompanyHolidayStore store = store(10, 100, directory.toString());
+        upload(store, "acme", "country,date,name\nNL,2025-12-31,\"Shutdown, \"\"winter\"\"\"\nDE,2026-01-02,\n", true);
+        upload(store, "globex", "country,date\nNL,2025-05-02\n", true);
+        assertTrue(Files.exists(directory.resolve("acme.csv")));
+
+        CompanyHolidayStore restarted = store(10, 100, directory.toString());
+        restarted.load();
+        assertEquals(store.get("acme"), restarted.get("acme"));
+        List<PublicHoliday> merged = restarted.getCalendar("acme").merge("NL", 2025, List.of());
+        assertEquals("Shutdown, \"winter\"", merged.get(0).name());
+
+        assertTrue(restarted.delete("globex"));
+        assertFalse(Files.exists(directory.resolve("globex.csv")));
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of("acme.csv"), files.map(file -> file.getFileName().toString()).toList());
+        }
+    }
+}
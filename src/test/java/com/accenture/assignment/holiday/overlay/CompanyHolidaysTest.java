@@ -0,0 +1,81 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanyHolidaysTest {
+
+    private static final List<PublicHoliday> NL_2025 = List.of(
+            new PublicHoliday("2025-04-27", "Koningsdag", "King's Day"),
+            new PublicHoliday("2025-12-25", "Eerste Kerstdag", "Christmas Day"));
+
+    @Test
+    void build_sortsByDayAndKeepsLastRowPerDay() {
+        CompanyHolidays overlay = CompanyHolidays.builder()
+                .add("NL", LocalDate.of(2025, 12, 31), "Year end")
+                .add("NL", LocalDate.of(2025, 5, 2), "Bridge day")
+                .add("NL", LocalDate.of(2025, 12, 31), "Shutdown")
+                .add("DE", LocalDate.of(2026, 1, 2), "Shutdown")
+                .build();
+
+        assertEquals(3, overlay.getRows());
+        assertEquals(List.of("DE", "NL"), overlay.getCountries());
+        assertEquals(List.of(2025, 2026), overlay.getYears());
+        List<String> closures = new ArrayList<>();
+        overlay.forEach((countryCode, date, name) -> closures.add(countryCode + " " + date + " " + name));
+        assertEquals(List.of("DE 2026-01-02 Shutdown", "NL 2025-05-02 Bridge day", "NL 2025-12-31 Shutdown"),
+                closures);
+    }
+
+    @Test
+    void merge_addsClosuresNotOnPublicHolidays() {
+        CompanyHolidays overlay = CompanyHolidays.builder()
+                .add("NL", LocalDate.of(2025, 12, 25), "Christmas")
+                .add("NL", LocalDate.of(2025, 5, 2), "Bridge day")
+                .build();
+
+        List<PublicHoliday> merged = overlay.merge("NL", 2025, NL_2025);
+        assertEquals(List.of("2025-04-27", "2025-05-02", "2025-12-25"), merged.stream().map(PublicHoliday::date).toList());
+        assertEquals("Eerste Kerstdag", merged.get(2).localName());
+        assertEquals("Bridge day", merged.get(1).name());
+        assertTrue(overlay.contains("NL", 2025));
+        assertFalse(overlay.contains("NL", 2024));
+        assertSame(NL_2025, overlay.merge("NL", 2024, NL_2025));
+        assertSame(NL_2025, overlay.merge("DE", 2025, NL_2025));
+    }
+
+    @Test
+    void plus_unionsDaysAndNewerNameWins() {
+        CompanyHolidays older = CompanyHolidays.builder()
+                .add("NL", LocalDate.of(2025, 5, 2), "Bridge day")
+                .add("NL", LocalDate.of(2025, 12, 31), "Year end")
+                .build();
+        CompanyHolidays newer = CompanyHolidays.builder()
+                .add("NL", LocalDate.of(2025, 12, 31), "Shutdown")
+                .add("BE", LocalDate.of(2025, 7, 21), "National day")
+                .build();
+
+        CompanyHolidays combined = older.plus(newer);
+        assertEquals(3, combined.getRows());
+        List<String> closures = new ArrayList<>();
+        combined.forEach((countryCode, date, name) -> closures.add(countryCode + " " + date + " " + name));
+        assertEquals(List.of("BE 2025-07-21 National day", "NL 2025-05-02 Bridge day", "NL 2025-12-31 Shutdown"),
+                closures);
+        assertEquals(2, older.getRows());
+    }
+
+    @Test
+    void add_invalidCountryOrYear_throwsException() {
+        CompanyHolidays.Builder builder = CompanyHolidays.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.add("N1", LocalDate.of(2025, 1, 1), "x"));
+        assertThrows(IllegalArgumentException.class, () -> builder.add("NL", LocalDate.of(10000, 1, 1), "x"));
+        assertEquals(0, builder.getRows());
+    }
+}
@@ -0,0 +1,40 @@
+package com.accenture.assignment.holiday.overlay;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantCalendarTest {
+
+    private final TenantCalendar calendar = new TenantCalendar(CompanyHolidays.builder()
+            .add("NL", LocalDate.of(2025, 12, 31), "Shutdown")
+            .build());
+
+    @Test
+    void merge_isComputedOncePerPublicList() {
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"));
+
+        List<PublicHoliday> merged = calendar.merge("NL", 2025, holidays);
+        assertEquals(List.of("2025-12-25", "2025-12-31"), merged.stream().map(PublicHoliday::date).toList());
+        assertSame(merged, calendar.merge("NL", 2025, holidays));
+        assertSame(merged, calendar.getCalendars().getHolidays("NL", 2025));
+        assertEquals(List.of("NL"), calendar.getCalendars().getDateIndex().getCountries(LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    void merge_refreshedPublicList_isMergedAgain() {
+        List<PublicHoliday> merged = calendar.merge("NL", 2025,
+                List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day")));
+
+        List<PublicHoliday> refreshed = calendar.merge("NL", 2025,
+                List.of(new PublicHoliday("2025-12-26", "Tweede Kerstdag", "St. Stephen's Day")));
+        assertNotSame(merged, refreshed);
+        assertEquals(List.of("2025-12-26", "2025-12-31"), refreshed.stream().map(PublicHoliday::date).toList());
+        assertEquals(List.of(), calendar.getCalendars().getDateIndex().getCountries(LocalDate.of(2025, 12, 25)));
+        assertEquals(2, calendar.getCalendars().getCountAggregates().get(2025, "NL").totalCount());
+    }
+}
@@ -0,0 +1,120 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeHolidayProviderTest {
+
+    private static final List<PublicHoliday> HOLIDAYS = List.of(new PublicHoliday("2025-01-01", "New Year", "New Year"));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static HolidayProvider provider(String name, Map<String, String> countries, List<PublicHoliday> holidays,
+                                            RuntimeException failure) {
+        return new HolidayProvider() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Map<String, String> getAvailableCountries() {
+                if (failure != null) {
+                    throw failure;
+                }
+                return countries;
+            }
+
+            @Override
+            public List<PublicHoliday> getPublicHolidays(int year, String countryCode) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return holidays;
+            }
+        };
+    }
+
+    private double count(String provider, String result) {
+        return meterRegistry.counter("holiday.provider.requests", "provider", provider, "result", result).count();
+    }
+
+    @Test
+    void getPublicHolidays_firstProviderWithDataWins() {
+        CompositeHolidayProvider composite = new CompositeHolidayProvider(List.of(
+                provider("local", null, null, null),
+                provider("nager", null, HOLIDAYS, null)), meterRegistry);
+
+        assertSame(HOLIDAYS, composite.getPublicHolidays(2025, "NL"));
+        assertEquals(1, count("local", "miss"));
+        assertEquals(1, count("nager", "hit"));
+        assertEquals("local,nager", composite.getName());
+    }
+
+    @Test
+    void getPublicHolidays_fallsBackOnFailure() {
+        CompositeHolidayProvider composite = new CompositeHolidayProvider(List.of(
+                provider("nager", null, null, new ResourceAccessException("down")),
+                provider("local", null, List.of(), null)), meterRegistry);
+
+        assertEquals(List.of(), composite.getPublicHolidays(2025, "NL"));
+        assertEquals(1, count("nager", "error"));
+        assertEquals(1, count("local", "hit"));
+    }
+
+    @Test
+    void getPublicHolidays_throwsFirstFailureWhenNoProviderHasData() {
+        ResourceAccessException first = new ResourceAccessException("down");
+        IllegalStateException second = new IllegalStateException("broken");
+        CompositeHolidayProvider composite = new CompositeHolidayProvider(List.of(
+                provider("nager", null, null, first),
+                provider("local", null, null, null),
+                provider("other", null, null, second)), meterRegistry);
+
+        ResourceAccessException thrown = assertThrows(ResourceAccessException.class,
+                () -> composite.getPublicHolidays(2025, "NL"));
+        assertSame(first, thrown);
+        assertArrayEquals(new Throwable[]{second}, thrown.getSuppressed());
+    }
+
+    @Test
+    void getPublicHolidays_returnsNullWithoutDataOrFailure() {
+        CompositeHolidayProvider composite = new CompositeHolidayProvider(List.of(
+                provider("local", null, null, null)), meterRegistry);
+
+        assertNull(composite.getPublicHolidays(2025, "NL"));
+    }
+
+    @Test
+    void getAvailableCountries_mergesInPriorityOrder() {
+        CompositeHolidayProvider composite = new CompositeHolidayProvider(List.of(
+                provider("local", Map.of("NL", "Nederland"), null, null),
+                provider("empty", null, null, null),
+                provider("nager", Map.of("NL", "Netherlands", "DE", "Germany"), null, null)), meterRegistry);
+
+        assertEquals(Map.of("NL", "Nederland", "DE", "Germany"), composite.getAvailableCountries());
+        assertNull(new CompositeHolidayProvider(List.of(provider("empty", null, null, null)), meterRegistry)
+                .getAvailableCountries());
+    }
+
+    @Test
+    void getAvailableCountries_failsWhenAnyProviderFails() {
+        CompositeHolidayProvider composite = new CompositeHolidayProvider(List.of(
+                provider("local", Map.of("NL", "Nederland"), null, null),
+                provider("nager", null, null, new ResourceAccessException("down"))), meterRegistry);
+
+        assertThrows(ResourceAccessException.class, composite::getAvailableCountries);
+    }
+
+    @Test
+    void requiresAProvider() {
+        assertThrows(IllegalArgumentException.class, () -> new CompositeHolidayProvider(List.of(), meterRegistry));
+    }
+}
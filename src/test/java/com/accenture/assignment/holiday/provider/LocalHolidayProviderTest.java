@@ -0,0 +1,163 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalHolidayProviderTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalHolidayProviderTest.class);
+
+    @TempDir
+    Path directory;
+
+    private void write(String file, String content) throws IOException {
+        Path path = directory.resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+
+    private LocalHolidayProvider provider() {
+        return new LocalHolidayProvider(directory, new ObjectMapper());
+    }
+
+    @Test
+    void readsJsonFilesByCountryAndYear() throws IOException {
+        write("NL.json", """
+                [{"date":"2025-12-25","localName":"Eerste Kerstdag","name":"Christmas Day","global":true},
+                 {"date":"2025-01-01","localName":"Nieuwjaarsdag","name":"New Year's Day"},
+                 {"date":"2025-01-01","localName":"Nieuwjaarsdag","name":"New Year's Day"},
+                 {"date":"2027-01-01","localName":"Nieuwjaarsdag","name":"New Year's Day"}]""");
+        write("2026/de_holidays.json", """
+                [{"date":"2026-10-03","localName":"Tag der Deutschen Einheit","name":"German Unity Day"}]""");
+
+        LocalHolidayProvider provider = provider();
+
+        assertEquals(List.of(
+                new PublicHoliday("2025-01-01", "Nieuwjaarsdag", "New Year's Day"),
+                new PublicHoliday("2025-12-25", "Eerste Kerstdag", "Christmas Day", true, null, null)),
+                provider.getPublicHolidays(2025, "NL"));
+        assertEquals(List.of(), provider.getPublicHolidays(2026, "NL"), "a year inside the files' range has no holidays");
+        assertNull(provider.getPublicHolidays(2024, "NL"));
+        assertNull(provider.getPublicHolidays(2028, "NL"));
+        assertEquals(1, provider.getPublicHolidays(2026, "DE").size());
+        assertNull(provider.getPublicHolidays(2025, "FR"));
+        assertEquals(Map.of("DE", "2026-2026", "NL", "2025-2027"), provider.getCoveredYears());
+    }
+
+    @Test
+    void namesCountriesFromCountriesFileOrLocale() throws IOException {
+        write("NL.json", "[]");
+        write("DE.json", "[{\"date\":\"2025-10-03\",\"localName\":\"Einheit\",\"name\":\"Unity\"}]");
+        write("FR.json", "[{\"date\":\"2025-07-14\",\"localName\":\"Fête nationale\",\"name\":\"Bastille Day\"}]");
+        write("countries.json", "[{\"countryCode\":\"de\",\"name\":\"Deutschland\"}]");
+
+        assertEquals(Map.of("DE", "Deutschland", "FR", "France", "NL", "Netherlands"), provider().getAvailableCountries());
+    }
+
+    @Test
+    void emptyDirectory_holdsNoData() {
+        LocalHolidayProvider provider = provider();
+
+        assertNull(provider.getAvailableCountries());
+        assertNull(provider.getPublicHolidays(2025, "NL"));
+        assertEquals("local", provider.getName());
+    }
+
+    @Test
+    void skipsUnreadableAndUnnamedFiles() throws IOException {
+        write("NL.json", "[{\"date\":\"2025-01-01\",\"localName\":\"Nieuwjaarsdag\",\"name\":\"New Year's Day\"},"
+                + "{\"date\":\"not a date\",\"localName\":\"x\",\"name\":\"x\"}]");
+        write("BE.json", "{broken");
+        write("holidays.json", "[{\"date\":\"2025-01-01\",\"localName\":\"x\",\"name\":\"x\"}]");
+        write("README.txt", "not holidays");
+
+        LocalHolidayProvider provider = provider();
+
+        assertEquals(1, provider.getPublicHolidays(2025, "NL").size());
+        assertNull(provider.getPublicHolidays(2025, "BE"));
+        assertEquals(Map.of("NL", "Netherlands"), provider.getAvailableCountries());
+    }
+
+    @Test
+    void readsICalendarFiles() throws IOException {
+        write("nl-2025.ics", """
+                BEGIN:VCALENDAR\r
+                VERSION:2.0\r
+                BEGIN:VEVENT\r
+                DTSTART;VALUE=DATE:20251225\r
+                DTEND;VALUE=DATE:20251227\r
+                SUMMARY:Kerst\\, eerste en\r
+                  tweede dag\r
+                END:VEVENT\r
+                BEGIN:VEVENT\r
+                DTSTART:20250427T000000Z\r
+                SUMMARY:Koningsdag\r
+                END:VEVENT\r
+                BEGIN:VEVENT\r
+                SUMMARY:No date\r
+                END:VEVENT\r
+                END:VCALENDAR\r
+                """);
+
+        List<PublicHoliday> holidays = provider().getPublicHolidays(2025, "NL");
+
+        assertEquals(List.of(
+                new PublicHoliday("2025-04-27", "Koningsdag", "Koningsdag"),
+                new PublicHoliday("2025-12-25", "Kerst, eerste en tweede dag", "Kerst, eerste en tweede dag"),
+                new PublicHoliday("2025-12-26", "Kerst, eerste en tweede dag", "Kerst, eerste en tweede dag")), holidays);
+    }
+
+    @Test
+    void countryCode_takesLeadingLetters() {
+        assertEquals("NL", LocalHolidayProvider.countryCode("nl.json"));
+        assertEquals("DE", LocalHolidayProvider.countryCode("DE-2025.ics"));
+        assertNull(LocalHolidayProvider.countryCode("NLD.json"));
+        assertNull(LocalHolidayProvider.countryCode("2025.json"));
+    }
+
+    @Test
+    void benchmark_lookups() throws IOException {
+        int years = 50;
+        StringBuilder json = new StringBuilder("[");
+        for (int year = 2000; year < 2000 + years; year++) {
+            for (int day = 0; day < 12; day++) {
+                LocalDate date = LocalDate.of(year, day + 1, 1);
+                json.append(json.length() > 1 ? "," : "")
+                        .append("{\"date\":\"").append(date).append("\",\"localName\":\"H").append(day)
+                        .append("\",\"name\":\"H").append(day).append("\"}");
+            }
+        }
+        for (String country : List.of("NL", "DE", "FR", "BE", "AT", "CH", "IT", "ES")) {
+            write(country + ".json", json + "]");
+        }
+        long loadStart = System.nanoTime();
+        LocalHolidayProvider provider = provider();
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+
+        int lookups = 1_000_000;
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            found += provider.getPublicHolidays(2000 + i % years, i % 2 == 0 ? "NL" : "FR").size();
+        }
+        long nanos = System.nanoTime() - start;
+
+        assertEquals(12L * lookups, found);
+        log.info("Loaded {} country-years in {} ms; {} lookups in {} ms ({} ns/lookup)",
+                8 * years, loadMillis, lookups, nanos / 1_000_000, nanos / lookups);
+    }
+}
@@ -0,0 +1,56 @@
+package com.accenture.assignment.holiday.provider;
+
+import com.accenture.assignment.holiday.model.AvailableCountry;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.accenture.assignment.holiday.resilience.HedgedRequestExecutor;
+import com.accenture.assignment.holiday.resilience.UpstreamLatencyTracker;
+import com.accenture.assignment.holiday.resilience.UpstreamLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NagerHolidayProviderTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final NagerHolidayProvider provider;
+
+    NagerHolidayProviderTest() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        provider = new NagerHolidayProvider("http://nager.test", restTemplate,
+                new UpstreamLimiter(1000, 1000, 100, 0, meterRegistry),
+                new HedgedRequestExecutor(false, 50, new UpstreamLatencyTracker(true, 250, 30, 3, 20, meterRegistry), meterRegistry),
+                ObservationRegistry.create());
+    }
+
+    @Test
+    void getAvailableCountries_mapsCodesToNames() {
+        when(restTemplate.exchange(eq("http://nager.test/AvailableCountries"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(List.of(new AvailableCountry("NL", "Netherlands")), HttpStatus.OK));
+
+        assertEquals(Map.of("NL", "Netherlands"), provider.getAvailableCountries());
+    }
+
+    @Test
+    void getPublicHolidays_requestsCountryYear() {
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-01-01", "Nieuwjaarsdag", "New Year's Day"));
+        when(restTemplate.exchange(eq("http://nager.test/PublicHolidays/{year}/{country}"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class), eq(2025), eq("NL")))
+                .thenReturn(new ResponseEntity<>(holidays, HttpStatus.OK));
+
+        assertEquals(holidays, provider.getPublicHolidays(2025, "NL"));
+        assertEquals("nager", provider.getName());
+    }
+}
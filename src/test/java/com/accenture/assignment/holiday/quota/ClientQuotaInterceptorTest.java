@@ -0,0 +1,142 @@
+package com.accenture.assignment.holiday.quota;
+
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.exception.QuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientQuotaInterceptorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientQuotaInterceptorTest.class);
+
+    private final CountryRegistry countryRegistry = new CountryRegistry();
+    private final ClientQuotaTracker tracker = new ClientQuotaTracker(60_000, 10, Map.of(), 100,
+            new SimpleMeterRegistry(), System::currentTimeMillis);
+    private final ClientQuotaInterceptor interceptor =
+            new ClientQuotaInterceptor(tracker, countryRegistry, true, "X-Api-Key");
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", "/api/v1/holidays" + path);
+    }
+
+    @Test
+    void cost_isCountriesTimesYears() {
+        countryRegistry.update(Map.of("NL", "Netherlands", "DE", "Germany", "FR", "France"));
+        MockHttpServletRequest counts = request("/non-weekend-count");
+        counts.setParameter("countries", "NL,DE,FR");
+        MockHttpServletRequest longWeekends = request("/long-weekends");
+        longWeekends.setParameter("countries", "NL,DE");
+        MockHttpServletRequest range = request("/countries-off/range");
+        range.setParameter("from", "2024-12-20");
+        range.setParameter("to", "2026-01-05");
+        MockHttpServletRequest businessDays = request("/business-days/count");
+        businessDays.setParameter("from", "2025-01-01");
+        businessDays.setParameter("to", "2025-12-31");
+
+        assertEquals(3, interceptor.cost(counts));
+        assertEquals(9, interceptor.cost(range));
+        assertEquals(3, interceptor.cost(request("/non-weekend-count/ranking")));
+        assertEquals(2, interceptor.cost(request("/common")));
+        assertEquals(2, interceptor.cost(longWeekends));
+        assertEquals(3, interceptor.cost(request("/long-weekends")));
+        assertEquals(1, interceptor.cost(businessDays));
+    }
+
+    @Test
+    void cost_chargesTheYearsAnEndpointLoads() {
+        MockHttpServletRequest addDays = request("/business-days/add");
+        addDays.setParameter("days", "-450");
+
+        assertEquals(10, interceptor.cost(request("/recent")));
+        assertEquals(5, interceptor.cost(request("/upcoming")));
+        assertEquals(4, interceptor.cost(addDays));
+        assertEquals(2, interceptor.cost(request("/business-days/next")));
+    }
+
+    @Test
+    void businessDaysYears_cappedAndLenient() {
+        assertEquals(2, ClientQuotaInterceptor.businessDaysYears("10"));
+        assertEquals(20, ClientQuotaInterceptor.businessDaysYears("1000000"));
+        assertEquals(1, ClientQuotaInterceptor.businessDaysYears("ten"));
+    }
+
+    @Test
+    void years_malformedOrReversed_countsOne() {
+        assertEquals(1, ClientQuotaInterceptor.years(null, "2025-01-01"));
+        assertEquals(1, ClientQuotaInterceptor.years("20x5-01-01", "2025-01-01"));
+        assertEquals(1, ClientQuotaInterceptor.years("2026-01-01", "2025-01-01"));
+        assertEquals(100, ClientQuotaInterceptor.years("1000-01-01", "9999-01-01"));
+    }
+
+    @Test
+    void client_isApiKeyOrRemoteAddress() {
+        MockHttpServletRequest keyed = request("/recent");
+        keyed.addHeader("X-Api-Key", "team-a");
+        MockHttpServletRequest anonymous = request("/recent");
+        anonymous.setRemoteAddr("10.0.0.7");
+
+        assertEquals("team-a", interceptor.client(keyed));
+        assertEquals("10.0.0.7", interceptor.client(anonymous));
+    }
+
+    @Test
+    void preHandle_overQuota_throwsWithRetryAfter() {
+        MockHttpServletRequest request = request("/common");
+        request.addHeader("X-Api-Key", "team-a");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        }
+
+        QuotaExceededException ex = assertThrows(QuotaExceededException.class,
+                () -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+        MockHttpServletRequest other = request("/common");
+        other.addHeader("X-Api-Key", "team-b");
+        assertTrue(interceptor.preHandle(other, new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void preHandle_disabled_chargesNothing() {
+        ClientQuotaInterceptor disabled = new ClientQuotaInterceptor(tracker, countryRegistry, false, "X-Api-Key");
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(disabled.preHandle(request("/recent"), new MockHttpServletResponse(), null));
+        }
+        assertTrue(tracker.getUsage().isEmpty());
+    }
+
+    /**
+     * Measures the enforcement cost per request: resolving the client, weighing the request and charging the
+     * sliding window. Timings depend on the machine, so the result is only logged.
+     */
+    @Test
+    void enforcementCost_logsNanosPerRequest() {
+        ClientQuotaTracker unlimited = new ClientQuotaTracker(60_000, Long.MAX_VALUE / 2, Map.of(), 100,
+                new SimpleMeterRegistry(), System::currentTimeMillis);
+        ClientQuotaInterceptor measured = new ClientQuotaInterceptor(unlimited, countryRegistry, true, "X-Api-Key");
+        MockHttpServletRequest request = request("/non-weekend-count");
+        request.setParameter("countries", "NL,DE,FR");
+        request.addHeader("X-Api-Key", "team-a");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        int iterations = 100_000;
+        long nanos = 0;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                measured.preHandle(request, response, null);
+            }
+            nanos = (System.nanoTime() - start) / iterations;
+        }
+        log.info("Quota enforcement: {} ns per request", nanos);
+        assertEquals(9L * iterations, unlimited.getUsage("team-a").acceptedUnits());
+    }
+}
@@ -0,0 +1,120 @@
+package com.accenture.assignment.holiday.quota;
+
+import com.accenture.assignment.holiday.model.ClientUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientQuotaTrackerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(100_000);
+    private final ClientQuotaTracker tracker = new ClientQuotaTracker(60_000, 10, Map.of("batch", 100L), 2,
+            meterRegistry, now::get);
+
+    @Test
+    void tryConsume_withinLimit_charges() {
+        assertEquals(0, tracker.tryConsume("team-a", 6));
+        assertEquals(0, tracker.tryConsume("team-a", 4));
+
+        assertEquals(new ClientUsage(ClientQuotaTracker.mask("team-a"), 10, 10, 0, 10, 0), tracker.getUsage("team-a"));
+    }
+
+    @Test
+    void tryConsume_overLimit_rejectsUntilUsageExpires() {
+        tracker.tryConsume("team-a", 8);
+        now.addAndGet(30_000);
+
+        assertEquals(26, tracker.tryConsume("team-a", 3));
+        assertEquals(0, tracker.tryConsume("team-a", 2));
+        assertEquals(1, tracker.getUsage("team-a").rejectedRequests());
+
+        now.addAndGet(30_000);
+        assertEquals(0, tracker.tryConsume("team-a", 8));
+    }
+
+    @Test
+    void tryConsume_clientsHaveSeparateBudgets() {
+        tracker.tryConsume("team-a", 10);
+
+        assertEquals(0, tracker.tryConsume("team-b", 10));
+        assertEquals(0, tracker.tryConsume("batch", 90));
+        assertTrue(tracker.tryConsume("team-a", 1) > 0);
+    }
+
+    @Test
+    void tryConsume_beyondMaxClients_sharesOverflowBudget() {
+        tracker.tryConsume("team-a", 1);
+        tracker.tryConsume("10.0.0.1", 6);
+
+        assertTrue(tracker.tryConsume("10.0.0.2", 6) > 0);
+        assertNull(tracker.getUsage("10.0.0.1"));
+        assertEquals(6, tracker.getUsage(ClientQuotaTracker.OTHER).used());
+    }
+
+    @Test
+    void tryConsume_cyclingIds_newClientGetsOwnBudgetOnceTheyAreIdle() {
+        for (int i = 0; i < 5; i++) {
+            tracker.tryConsume("key-" + i, 2);
+        }
+        assertNotNull(tracker.getUsage("key-0"));
+        assertNull(tracker.getUsage("key-1"));
+        assertEquals(8, tracker.getUsage(ClientQuotaTracker.OTHER).used());
+        assertTrue(tracker.tryConsume("key-5", 3) > 0);
+
+        now.addAndGet(60_000);
+        assertEquals(0, tracker.tryConsume("10.0.0.9", 6));
+
+        assertEquals(6, tracker.getUsage("10.0.0.9").used());
+        assertNull(tracker.getUsage("key-0"));
+        assertEquals(0, tracker.getUsage(ClientQuotaTracker.OTHER).used());
+        assertEquals(0, tracker.tryConsume("batch", 100));
+    }
+
+    @Test
+    void getUsage_sortedByUsage() {
+        tracker.tryConsume("team-a", 3);
+        tracker.tryConsume("batch", 40);
+
+        List<ClientUsage> usage = tracker.getUsage();
+
+        assertEquals(List.of(ClientQuotaTracker.mask("batch"), ClientQuotaTracker.mask("team-a")),
+                usage.stream().map(ClientUsage::client).toList());
+        assertEquals(60, usage.get(0).remaining());
+    }
+
+    @Test
+    void metrics_taggedByMaskedConfiguredClientOrOther() {
+        tracker.tryConsume("batch", 40);
+        tracker.tryConsume("team-a", 3);
+        tracker.tryConsume("team-a", 30);
+
+        String batch = ClientQuotaTracker.mask("batch");
+        assertEquals(40, meterRegistry.counter("holiday.quota.units", "client", batch).count());
+        assertEquals(3, meterRegistry.counter("holiday.quota.units", "client", "other").count());
+        assertEquals(1, meterRegistry.counter("holiday.quota.rejected", "client", "other").count());
+        assertEquals(40, meterRegistry.get("holiday.quota.usage").tag("client", batch).gauge().value());
+    }
+
+    @Test
+    void mask_hidesTheClientId() {
+        String masked = ClientQuotaTracker.mask("team-a");
+
+        assertTrue(masked.matches("sha256:[0-9a-f]{12}"));
+        assertEquals(masked, ClientQuotaTracker.mask("team-a"));
+        assertNotEquals(masked, ClientQuotaTracker.mask("team-b"));
+        assertEquals(ClientQuotaTracker.OTHER, ClientQuotaTracker.mask(ClientQuotaTracker.OTHER));
+    }
+
+    @Test
+    void parseLimits_readsClientLimitPairs() {
+        assertEquals(Map.of("team-a", 500L, "batch", 20L), ClientQuotaTracker.parseLimits(" team-a:500, batch:20"));
+        assertTrue(ClientQuotaTracker.parseLimits("").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ClientQuotaTracker.parseLimits("team-a"));
+    }
+}
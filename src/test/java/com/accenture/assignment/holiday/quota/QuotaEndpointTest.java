@@ -0,0 +1,28 @@
+package com.accenture.assignment.holiday.quota;
+
+import com.accenture.assignment.holiday.model.ClientUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotaEndpointTest {
+
+    private final ClientQuotaTracker tracker = new ClientQuotaTracker(60_000, 10, Map.of(), 100,
+            new SimpleMeterRegistry(), System::currentTimeMillis);
+    private final QuotaEndpoint endpoint = new QuotaEndpoint(tracker);
+
+    @Test
+    void quotas_listTrackedClients() {
+        tracker.tryConsume("team-a", 4);
+
+        String masked = ClientQuotaTracker.mask("team-a");
+        assertEquals(List.of(new ClientUsage(masked, 10, 4, 6, 4, 0)), endpoint.quotas());
+        assertEquals(4, endpoint.quota(masked).used());
+        assertEquals(4, endpoint.quota("team-a").used());
+        assertNull(endpoint.quota("unknown"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.accenture.assignment.holiday.quota;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+
+    @Test
+    void sum_countsUnitsInsideWindow() {
+        counter.add(1_000, 5);
+        counter.add(1_500, 3);
+        counter.add(4_200, 2);
+
+        assertEquals(10, counter.sum(4_200));
+        assertEquals(10, counter.sum(10_999));
+        assertEquals(2, counter.sum(11_000));
+        assertEquals(0, counter.sum(14_000));
+    }
+
+    @Test
+    void add_recyclesExpiredBucket() {
+        counter.add(1_000, 5);
+
+        counter.add(11_000, 1);
+
+        assertEquals(1, counter.sum(11_000));
+    }
+
+    @Test
+    void millisUntilExpiry_pointsAtOldestBucket() {
+        assertEquals(0, counter.millisUntilExpiry(500));
+        counter.add(1_200, 5);
+        counter.add(3_000, 1);
+
+        assertEquals(8_000, counter.millisUntilExpiry(3_000));
+    }
+
+    @Test
+    void add_concurrently_losesNothing() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.add(2_000, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(80_000, counter.sum(2_000));
+    }
+}
@@ -0,0 +1,77 @@
+package com.accenture.assignment.holiday.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 20, 100, 0.5, 0.5, meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_withinLimit_admitsUntilFull() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(1, limiter.tryAcquire(1, false));
+        }
+        assertEquals(0, limiter.tryAcquire(1, false));
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void tryAcquire_heavy_limitedToShareOfLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8);
+        assertEquals(2, limiter.tryAcquire(2, true));
+        assertEquals(2, limiter.tryAcquire(2, true));
+
+        assertEquals(0, limiter.tryAcquire(2, true));
+        assertEquals(2, limiter.tryAcquire(2, false));
+    }
+
+    @Test
+    void tryAcquire_costAboveMinLimit_isCappedAndAdmittedWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        assertEquals(2, limiter.tryAcquire(100, true));
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void release_fastSuccess_increasesLimitAdditively() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        limiter.release(limiter.tryAcquire(1, false), 10, false);
+
+        assertEquals(4.25, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_slowOrFailed_decreasesLimitMultiplicatively() {
+        AdaptiveConcurrencyLimiter limiter = limiter(16);
+
+        limiter.release(limiter.tryAcquire(1, false), 500, false);
+        assertEquals(8, limiter.getLimit(), 1e-9);
+        limiter.release(limiter.tryAcquire(1, false), 10, true);
+        assertEquals(4, limiter.getLimit(), 1e-9);
+        limiter.release(limiter.tryAcquire(1, false), 10, true);
+        limiter.release(limiter.tryAcquire(1, false), 10, true);
+        assertEquals(2, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void gauges_reportLimitAndInFlight() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        limiter.tryAcquire(1, false);
+        limiter.tryAcquire(2, false);
+
+        assertEquals(4, meterRegistry.get("holiday.admission.limit").gauge().value());
+        assertEquals(3, meterRegistry.get("holiday.admission.inflight").gauge().value());
+    }
+}
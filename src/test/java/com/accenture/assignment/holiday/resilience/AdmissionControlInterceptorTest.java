@@ -0,0 +1,97 @@
+package com.accenture.assignment.holiday.resilience;
+
+import com.accenture.assignment.holiday.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(8, 4, 16, 1000, 0.5, 0.5, meterRegistry);
+    private final AdmissionControlInterceptor interceptor =
+            new AdmissionControlInterceptor(limiter, meterRegistry, true, 4, 3);
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", "/api/v1/holidays" + path);
+    }
+
+    @Test
+    void cost_dependsOnEndpoint() {
+        MockHttpServletRequest counts = request("/non-weekend-count");
+        counts.setParameter("countries", "NL,DE,FR");
+        MockHttpServletRequest longWeekends = request("/long-weekends");
+        longWeekends.setParameter("countries", "NL,DE");
+
+        assertEquals(3, interceptor.cost(counts));
+        assertEquals(2, interceptor.cost(longWeekends));
+        assertEquals(8, interceptor.cost(request("/long-weekends")));
+        assertEquals(8, interceptor.cost(request("/non-weekend-count/ranking")));
+        assertEquals(8, interceptor.cost(request("/countries-off/range")));
+        assertEquals(2, interceptor.cost(request("/common")));
+        assertEquals(1, interceptor.cost(request("/recent")));
+        assertEquals(1, interceptor.cost(request("/business-days/add")));
+    }
+
+    @Test
+    void preHandle_admitted_releasedAfterCompletion() {
+        MockHttpServletRequest request = request("/recent");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertEquals(1, limiter.getInFlight());
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.getLimit() > 8);
+    }
+
+    @Test
+    void preHandle_heavyOverShare_throwsWithRetryAfter() {
+        interceptor.preHandle(request("/countries-off"), new MockHttpServletResponse(), null);
+
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class,
+                () -> interceptor.preHandle(request("/countries-off"), new MockHttpServletResponse(), null));
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.counter("holiday.admission.rejected", "class", "heavy").count());
+        assertTrue(interceptor.preHandle(request("/recent"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void afterCompletion_serverError_shrinksLimit() {
+        MockHttpServletRequest request = request("/recent");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        response.setStatus(502);
+
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(4, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void afterCompletion_rejectedRequest_releasesNothing() {
+        limiter.tryAcquire(4, false);
+        limiter.tryAcquire(4, false);
+        MockHttpServletRequest request = request("/recent");
+        assertThrows(ServiceOverloadedException.class,
+                () -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertEquals(8, limiter.getInFlight());
+    }
+
+    @Test
+    void preHandle_disabled_admitsEverything() {
+        AdmissionControlInterceptor disabled = new AdmissionControlInterceptor(limiter, meterRegistry, false, 4, 1);
+        limiter.tryAcquire(8, false);
+
+        assertTrue(disabled.preHandle(request("/recent"), new MockHttpServletResponse(), null));
+    }
+}
@@ -0,0 +1,74 @@
+package com.accenture.assignment.holiday.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkLoadExecutorTest {
+
+    private final BulkLoadExecutor executor = new BulkLoadExecutor(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void forEach_runsItemsConcurrentlyUpToTheParallelism() {
+        CountDownLatch started = new CountDownLatch(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<Integer> done = ConcurrentHashMap.newKeySet();
+
+        executor.forEach(IntStream.range(0, 12).boxed().toList(), item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            done.add(item);
+        });
+
+        assertEquals(12, done.size());
+        assertEquals(3, maxRunning.get());
+    }
+
+    @Test
+    void forEach_rethrowsAfterEveryItemFinished() {
+        Set<String> done = ConcurrentHashMap.newKeySet();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> executor.forEach(List.of("a", "b", "c"), item -> {
+                    if (item.equals("b")) {
+                        throw new IllegalStateException("boom");
+                    }
+                    done.add(item);
+                }));
+
+        assertEquals("boom", ex.getMessage());
+        assertEquals(Set.of("a", "c"), done);
+    }
+
+    @Test
+    void forEach_parallelismOne_runsOnTheCallersThread() {
+        BulkLoadExecutor serial = new BulkLoadExecutor(1);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        serial.forEach(List.of(1, 2, 3), item -> threads.add(Thread.currentThread()));
+
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+}
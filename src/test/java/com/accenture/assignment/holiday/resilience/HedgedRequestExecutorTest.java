@@ -0,0 +1,109 @@
+package com.accenture.assignment.holiday.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpstreamLatencyTracker tracker = new UpstreamLatencyTracker(true, 100, 30, 3, 20, meterRegistry);
+    private HedgedRequestExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void execute_slowPrimary_hedgeWinsAgainstSlowStub() throws Exception {
+        warmUp(5);
+        executor = new HedgedRequestExecutor(true, 50, tracker, meterRegistry);
+        RestTemplate restTemplate = new RestTemplate();
+
+        try (SlowStubServer stub = new SlowStubServer(n -> n == 1 ? 2_000 : 0, "[\"ok\"]")) {
+            long start = System.nanoTime();
+            String body = executor.execute(() -> restTemplate.getForObject(stub.url("/holidays"), String.class));
+
+            assertEquals("[\"ok\"]", body);
+            assertTrue(System.nanoTime() - start < 1_500_000_000L, "hedged call should not wait for the slow primary");
+            assertEquals(2, stub.requests());
+        }
+        assertEquals(1, meterRegistry.counter("holiday.upstream.hedge.sent").count());
+        assertEquals(1, meterRegistry.counter("holiday.upstream.hedge.won").count());
+    }
+
+    @Test
+    void execute_fastPrimary_sendsNoHedge() {
+        warmUp(5);
+        executor = new HedgedRequestExecutor(true, 200, tracker, meterRegistry);
+
+        assertEquals("ok", executor.execute(() -> "ok"));
+        assertEquals(0, meterRegistry.counter("holiday.upstream.hedge.sent").count());
+    }
+
+    @Test
+    void execute_disabled_runsOnCallerThread() {
+        warmUp(5);
+        executor = new HedgedRequestExecutor(false, 50, tracker, meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, executor.execute(Thread::currentThread));
+    }
+
+    @Test
+    void execute_withoutLatencySamples_runsOnCallerThread() {
+        executor = new HedgedRequestExecutor(true, 50, tracker, meterRegistry);
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, executor.execute(Thread::currentThread));
+    }
+
+    @Test
+    void execute_bothAttemptsFail_throwsFailure() {
+        warmUp(5);
+        executor = new HedgedRequestExecutor(true, 20, tracker, meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        RestClientException ex = assertThrows(RestClientException.class, () -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            throw new RestClientException("API down");
+        }));
+        assertEquals("API down", ex.getMessage());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void execute_primaryFailsBeforeHedgeDelay_throwsImmediately() {
+        warmUp(5);
+        executor = new HedgedRequestExecutor(true, 1_000, tracker, meterRegistry);
+
+        assertThrows(RestClientException.class, () -> executor.execute(() -> {
+            throw new RestClientException("API down");
+        }));
+        assertEquals(0, meterRegistry.counter("holiday.upstream.hedge.sent").count());
+    }
+
+    private void warmUp(long millis) {
+        for (int i = 0; i < 20; i++) {
+            tracker.record(millis);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
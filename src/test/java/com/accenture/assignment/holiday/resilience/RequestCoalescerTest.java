@@ -0,0 +1,116 @@
+package com.accenture.assignment.holiday.resilience;
+
+import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_concurrentIdenticalCalls_shareOneComputation() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<String> leader = executor.submit(() -> coalescer.execute("recent", "US", () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> coalescer.execute("recent", "US", () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (meterRegistry.counter("holiday.coalescer.collapsed", "operation", "recent").count() < 7) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, computations.get());
+        assertEquals(8, meterRegistry.counter("holiday.coalescer.calls", "operation", "recent").count());
+    }
+
+    @Test
+    void execute_sequentialCallsWithoutWindow_computeEachTime() {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+
+        coalescer.execute("recent", "US", computations::incrementAndGet);
+        coalescer.execute("recent", "US", computations::incrementAndGet);
+
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    void execute_withinWindow_reusesCompletedResult() {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 60_000, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+
+        assertEquals(1, coalescer.execute("recent", "US", computations::incrementAndGet));
+        assertEquals(1, coalescer.execute("recent", "US", computations::incrementAndGet));
+        assertEquals(2, coalescer.execute("recent", "CA", computations::incrementAndGet));
+    }
+
+    @Test
+    void execute_failure_isNotKeptAfterCompletion() {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 60_000, meterRegistry);
+
+        assertThrows(InvalidCountryException.class, () -> coalescer.execute("recent", "ZZ", () -> {
+            throw new InvalidCountryException("Invalid country");
+        }));
+        assertEquals("ok", coalescer.execute("recent", "ZZ", () -> "ok"));
+    }
+
+    @Test
+    void execute_disabled_runsComputationDirectly() {
+        RequestCoalescer coalescer = new RequestCoalescer(false, 60_000, meterRegistry);
+        AtomicInteger computations = new AtomicInteger();
+
+        coalescer.execute("recent", "US", computations::incrementAndGet);
+        coalescer.execute("recent", "US", computations::incrementAndGet);
+
+        assertEquals(2, computations.get());
+        assertEquals(0, meterRegistry.counter("holiday.coalescer.calls", "operation", "recent").count());
+    }
+
+    @Test
+    void normalizeList_ignoresOrderWhitespaceAndDuplicates() {
+        assertEquals(RequestCoalescer.normalizeList("US,CA"), RequestCoalescer.normalizeList(" CA, US,US"));
+        assertEquals("null", RequestCoalescer.normalizeList(null));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.accenture.assignment.holiday.resilience;
+
+import com.accenture.assignment.holiday.HolidayDetailServiceApplication;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamLatencyTrackerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void percentileMillis_tooFewSamples_returnsMinusOne() {
+        UpstreamLatencyTracker tracker = new UpstreamLatencyTracker(true, 100, 30, 3, 20, meterRegistry);
+        tracker.record(10);
+
+        assertEquals(-1, tracker.percentileMillis(0.95));
+        assertEquals(30_000, tracker.responseTimeoutMillis());
+    }
+
+    @Test
+    void percentileMillis_returnsObservedQuantiles() {
+        UpstreamLatencyTracker tracker = new UpstreamLatencyTracker(true, 100, 30, 3, 20, meterRegistry);
+        for (int i = 1; i <= 100; i++) {
+            tracker.record(i);
+        }
+
+        assertEquals(50, tracker.percentileMillis(0.5));
+        assertEquals(95, tracker.percentileMillis(0.95));
+        assertEquals(99, tracker.percentileMillis(0.99));
+        assertEquals(95.0, meterRegistry.get("holiday.upstream.latency").tag("quantile", "0.95").gauge().value());
+    }
+
+    @Test
+    void responseTimeoutMillis_isClampedBetweenMinimumAndStaticTimeout() {
+        UpstreamLatencyTracker fast = new UpstreamLatencyTracker(true, 100, 30, 3, 20, meterRegistry);
+        UpstreamLatencyTracker slow = new UpstreamLatencyTracker(true, 100, 1, 3, 20, new SimpleMeterRegistry());
+        UpstreamLatencyTracker fixed = new UpstreamLatencyTracker(false, 100, 30, 3, 20, new SimpleMeterRegistry());
+        for (int i = 0; i < 20; i++) {
+            fast.record(10);
+            slow.record(900);
+            fixed.record(10);
+        }
+
+        assertEquals(100, fast.responseTimeoutMillis());
+        assertEquals(1_000, slow.responseTimeoutMillis());
+        assertEquals(30_000, fixed.responseTimeoutMillis());
+    }
+
+    @Test
+    void restTemplate_appliesAdaptiveTimeoutAgainstSlowStub() throws Exception {
+        UpstreamLatencyTracker tracker = new UpstreamLatencyTracker(true, 500, 5, 3, 20, meterRegistry);
+        for (int i = 0; i < 20; i++) {
+            tracker.record(10);
+        }
+        HolidayDetailServiceApplication application = new HolidayDetailServiceApplication();
+        ReflectionTestUtils.setField(application, "connectTimeout", 5);
+        ReflectionTestUtils.setField(application, "responseTimeout", 5);
+        RestTemplate restTemplate = application.restTemplate(tracker, ObservationRegistry.NOOP);
+
+        try (SlowStubServer stub = new SlowStubServer(n -> n == 1 ? 4_000 : 0, "[]")) {
+            long start = System.nanoTime();
+            assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(stub.url("/slow"), String.class));
+            assertTrue(System.nanoTime() - start < 3_000_000_000L, "adaptive timeout should cut the slow call short");
+
+            assertEquals("[]", restTemplate.getForObject(stub.url("/fast"), String.class));
+        }
+    }
+}
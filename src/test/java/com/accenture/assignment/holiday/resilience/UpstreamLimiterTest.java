@@ -0,0 +1,87 @@
+package com.accenture.assignment.holiday.resilience;
+
+import com.accenture.assignment.holiday.exception.UpstreamRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void call_withinBurst_runsImmediately() {
+        UpstreamLimiter limiter = new UpstreamLimiter(1, 3, 10, 0, meterRegistry);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", limiter.call(() -> "ok"));
+        }
+        assertEquals(0, meterRegistry.counter("holiday.upstream.rejected", "reason", "rate").count());
+    }
+
+    @Test
+    void call_burstExhausted_failsFastWhenWaitExceedsBudget() {
+        UpstreamLimiter limiter = new UpstreamLimiter(1, 2, 10, 100, meterRegistry);
+        limiter.call(() -> "ok");
+        limiter.call(() -> "ok");
+
+        long start = System.nanoTime();
+        assertThrows(UpstreamRejectedException.class, () -> limiter.call(() -> "ok"));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1, meterRegistry.counter("holiday.upstream.rejected", "reason", "rate").count());
+    }
+
+    @Test
+    void call_burstExhausted_waitsForRefillWithinBudget() {
+        UpstreamLimiter limiter = new UpstreamLimiter(50, 1, 10, 500, meterRegistry);
+        limiter.call(() -> "ok");
+
+        long start = System.nanoTime();
+        assertEquals("ok", limiter.call(() -> "ok"));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    void call_bulkheadFull_rejectsAfterBudget() throws Exception {
+        UpstreamLimiter limiter = new UpstreamLimiter(1000, 1000, 1, 50, meterRegistry);
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> limiter.call(() -> {
+                inCall.countDown();
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+            assertTrue(inCall.await(5, TimeUnit.SECONDS));
+
+            assertThrows(UpstreamRejectedException.class, () -> limiter.call(() -> "ok"));
+            assertEquals(0.0, meterRegistry.get("holiday.upstream.bulkhead.available").gauge().value());
+            assertEquals(1, meterRegistry.counter("holiday.upstream.rejected", "reason", "bulkhead").count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void call_releasesBulkheadPermitWhenCallFails() {
+        UpstreamLimiter limiter = new UpstreamLimiter(1000, 1000, 1, 0, meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> limiter.call(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("ok", limiter.call(() -> "ok"));
+        assertEquals(1.0, meterRegistry.get("holiday.upstream.bulkhead.available").gauge().value());
+    }
+}
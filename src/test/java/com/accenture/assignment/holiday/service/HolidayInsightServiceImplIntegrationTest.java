@@ -1,5 +1,7 @@
 package com.accenture.assignment.holiday.service;
 
+import com.accenture.assignment.holiday.calendar.CountryListLoader;
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
 import com.accenture.assignment.holiday.model.CommonHoliday;
 import com.accenture.assignment.holiday.model.CountryHolidayCount;
 import com.accenture.assignment.holiday.model.Holiday;
@@ -27,6 +29,12 @@ class HolidayInsightServiceImplIntegrationTest {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private CountryListLoader countryListLoader;
+
+    @Autowired
+    private CountryRegistry countryRegistry;
+
     private MockRestServiceServer mockServer;
 
     private static final String BASE_API_URL = "https://date.nager.at/api/v3";
@@ -37,57 +45,46 @@ class HolidayInsightServiceImplIntegrationTest {
         mockServer = MockRestServiceServer.createServer(restTemplate);
     }
 
-    private void mockAvailableCountries() {
-        String countriesJson = "[{\"countryCode\":\"AU\",\"name\":\"Australia\"},{\"countryCode\":\"AD\",\"name\":\"Andorra\"}]";
-        mockServer.expect(requestTo(BASE_API_URL + "/AvailableCountries"))
-                .andRespond(withSuccess(countriesJson, MediaType.APPLICATION_JSON));
-        service.init();
+    @Test
+    void testStart_SeedsTheCountriesFromTheLoader() {
+        assertEquals(CountryListLoader.Source.BUNDLED, countryListLoader.getSource());
+        assertTrue(countryRegistry.contains("AU"));
+        assertTrue(countryRegistry.contains("AD"));
+        mockServer.verify();
     }
 
     @Test
     void testGetRecentHolidays() {
-        String countriesJson = "[{\"countryCode\":\"AU\",\"name\":\"Australia\"},{\"countryCode\":\"AD\",\"name\":\"Andorra\"}]";
-        mockServer.expect(requestTo(BASE_API_URL + "/AvailableCountries"))
-                .andRespond(withSuccess(countriesJson, MediaType.APPLICATION_JSON));
-
-        String holidaysJson = "[{\"date\":\"2024-01-01\",\"localName\":\"New Year\",\"name\":\"New Year\"}," +
-                "{\"date\":\"2024-04-25\",\"localName\":\"ANZAC Day\",\"name\":\"ANZAC Day\"}," +
-                "{\"date\":\"2024-12-25\",\"localName\":\"Christmas Day\",\"name\":\"Christmas Day\"}]";
-
-
         LocalDate now = LocalDate.now();
         int year = now.getYear();
+        String holidaysJson = "[{\"date\":\"" + year + "-01-01\",\"localName\":\"New Year\",\"name\":\"New Year\"}]";
+        String previousJson = "[{\"date\":\"" + (year - 1) + "-01-01\",\"localName\":\"New Year\",\"name\":\"New Year\"}," +
+                "{\"date\":\"" + (year - 1) + "-04-25\",\"localName\":\"ANZAC Day\",\"name\":\"ANZAC Day\"}," +
+                "{\"date\":\"" + (year - 1) + "-12-25\",\"localName\":\"Christmas Day\",\"name\":\"Christmas Day\"}]";
         mockServer.expect(requestTo(BASE_API_URL + "/PublicHolidays/" + year + "/AU"))
                 .andRespond(withSuccess(holidaysJson, MediaType.APPLICATION_JSON));
+        mockServer.expect(requestTo(BASE_API_URL + "/PublicHolidays/" + (year - 1) + "/AU"))
+                .andRespond(withSuccess(previousJson, MediaType.APPLICATION_JSON));
 
-        service.init();
         List<Holiday> holidays = service.getRecentHolidays("AU");
         assertFalse(holidays.isEmpty());
-        assertTrue(holidays.stream().anyMatch(h -> h.getName().equals("New Year")));
+        assertEquals(List.of("New Year", "Christmas Day", "ANZAC Day"),
+                holidays.stream().map(Holiday::getName).toList());
     }
 
     @Test
     void testGetNonWeekendHolidayCounts() {
-        String countriesJson = "[{\"countryCode\":\"AU\",\"name\":\"Australia\"},{\"countryCode\":\"AD\",\"name\":\"Andorra\"}]";
-        mockServer.expect(requestTo(BASE_API_URL + "/AvailableCountries"))
-                .andRespond(withSuccess(countriesJson, MediaType.APPLICATION_JSON));
-
         String holidaysJson = "[{\"date\":\"2024-01-01\",\"localName\":\"New Year\",\"name\":\"New Year\"}," +
                 "{\"date\":\"2024-01-06\",\"localName\":\"Epiphany\",\"name\":\"Epiphany\"}]";
         mockServer.expect(requestTo(BASE_API_URL + "/PublicHolidays/2024/AU"))
                 .andRespond(withSuccess(holidaysJson, MediaType.APPLICATION_JSON));
 
-        service.init();
         List<CountryHolidayCount> counts = service.getNonWeekendHolidayCounts(2024, "AU");
         assertEquals(1, counts.get(0).getCount());
     }
 
     @Test
     void testGetCommonHolidays() {
-        String countriesJson = "[{\"countryCode\":\"AU\",\"name\":\"Australia\"},{\"countryCode\":\"AD\",\"name\":\"Andorra\"}]";
-        mockServer.expect(requestTo(BASE_API_URL + "/AvailableCountries"))
-                .andRespond(withSuccess(countriesJson, MediaType.APPLICATION_JSON));
-
         String holidaysAU = "[{\"date\":\"2024-01-01\",\"localName\":\"New Year\",\"name\":\"New Year\"}]";
         String holidaysAD = "[{\"date\":\"2024-01-01\",\"localName\":\"Any Nou\",\"name\":\"New Year\"}]";
         mockServer.expect(requestTo(BASE_API_URL + "/PublicHolidays/2024/AU"))
@@ -95,7 +92,6 @@ class HolidayInsightServiceImplIntegrationTest {
         mockServer.expect(requestTo(BASE_API_URL + "/PublicHolidays/2024/AD"))
                 .andRespond(withSuccess(holidaysAD, MediaType.APPLICATION_JSON));
 
-        service.init();
         List<CommonHoliday> result = service.getCommonHolidays(2024, "AU", "AD");
         assertEquals(1, result.size());
         assertEquals(LocalDate.of(2024, 1, 1), result.get(0).getDate());
@@ -103,18 +99,12 @@ class HolidayInsightServiceImplIntegrationTest {
 
     @Test
     void testGetCommonHolidays_SameCountry_ThrowsException() {
-        mockAvailableCountries();
         assertThrows(com.accenture.assignment.holiday.exception.InvalidCountryException.class,
                 () -> service.getCommonHolidays(2024, "AU", "AU"));
     }
     @Test
     void testGetNonWeekendHolidayCounts_InvalidCountry() {
-        String countriesJson = "[{\"countryCode\":\"AU\",\"name\":\"Australia\"}]";
-        mockServer.expect(requestTo(BASE_API_URL + "/AvailableCountries"))
-                .andRespond(withSuccess(countriesJson, MediaType.APPLICATION_JSON));
-
-        service.init();
-        List<CountryHolidayCount> counts = service.getNonWeekendHolidayCounts(2024, "ZZ");
-        assertTrue(counts.isEmpty());
+        assertThrows(com.accenture.assignment.holiday.exception.InvalidCountryException.class,
+                () -> service.getNonWeekendHolidayCounts(2024, "ZZ"));
     }
 }
\ No newline at end of file
@@ -1,8 +1,28 @@
 package com.accenture.assignment.holiday.service;
 
+import com.accenture.assignment.holiday.cache.HolidayCache;
+import com.accenture.assignment.holiday.cache.SharedCache;
+import com.accenture.assignment.holiday.calendar.CountryListLoader;
+import com.accenture.assignment.holiday.calendar.CountryRegistry;
+import com.accenture.assignment.holiday.calendar.DerivedCalendars;
+import com.accenture.assignment.holiday.calendar.SubdivisionIndex;
 import com.accenture.assignment.holiday.exception.ExternalApiUnavailableException;
 import com.accenture.assignment.holiday.exception.InvalidCountryException;
+import com.accenture.assignment.holiday.exception.UpstreamRejectedException;
+import com.accenture.assignment.holiday.exception.UnknownTenantException;
 import com.accenture.assignment.holiday.model.*;
+import com.accenture.assignment.holiday.overlay.CompanyHolidayStore;
+import com.accenture.assignment.holiday.provider.CompositeHolidayProvider;
+import com.accenture.assignment.holiday.provider.HolidayProvider;
+import com.accenture.assignment.holiday.provider.NagerHolidayProvider;
+import com.accenture.assignment.holiday.resilience.BulkLoadExecutor;
+import com.accenture.assignment.holiday.resilience.HedgedRequestExecutor;
+import com.accenture.assignment.holiday.resilience.UpstreamLatencyTracker;
+import com.accenture.assignment.holiday.resilience.UpstreamLimiter;
+import com.accenture.assignment.holiday.storage.OffHeapHolidayStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -11,9 +31,8 @@ import org.springframework.http.*;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -25,18 +44,44 @@ class HolidayInsightServiceImplTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
+    @Spy
+    private UpstreamLimiter upstreamLimiter = new UpstreamLimiter(1000, 1000, 100, 0, new SimpleMeterRegistry());
+
+    @Spy
+    private HedgedRequestExecutor hedgedRequestExecutor = new HedgedRequestExecutor(false, 50,
+            new UpstreamLatencyTracker(true, 250, 30, 3, 20, new SimpleMeterRegistry()), new SimpleMeterRegistry());
+
+    @Spy
+    private CountryRegistry countryRegistry = new CountryRegistry();
+
+    @Spy
+    private HolidayCache holidayCache = new HolidayCache(SharedCache.NONE, new ObjectMapper(), new SimpleMeterRegistry(),
+            0, 604800, 5000, 25);
+
+    @Mock
+    private CountryListLoader countryListLoader;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Spy
+    private CompanyHolidayStore companyHolidayStore = new CompanyHolidayStore(countryRegistry, new ObjectMapper(),
+            new SimpleMeterRegistry(), 10, 1000, "");
+
     private HolidayInsightServiceImpl service;
 
     @BeforeEach
     void setUp() throws Exception {
-        MockitoAnnotations.openMocks(this);
         Map<String, String> countries = new HashMap<>();
         countries.put("AU", "Australia");
         countries.put("AD", "Andorra");
-        Field field = HolidayInsightServiceImpl.class.getDeclaredField("availableCountries");
-        field.setAccessible(true);
-        field.set(service, countries);
+        countryRegistry.update(countries);
+        MockitoAnnotations.openMocks(this);
+        HolidayProvider nager = new NagerHolidayProvider(NagerHolidayProvider.DEFAULT_BASE_URL, restTemplate,
+                upstreamLimiter, hedgedRequestExecutor, observationRegistry);
+        service = new HolidayInsightServiceImpl(new CompositeHolidayProvider(List.of(nager), new SimpleMeterRegistry()),
+                countryRegistry, holidayCache, countryListLoader, observationRegistry, companyHolidayStore,
+                new DerivedCalendars(new OffHeapHolidayStore()), new BulkLoadExecutor(4));
     }
 
     @Test
@@ -63,6 +108,70 @@ class HolidayInsightServiceImplTest {
         assertTrue(result.isEmpty(), "Result should be empty for no holidays");
     }
 
+    @Test
+    void getRecentHolidays_Count_WalksBackAcrossYears() {
+        stubYearlyHolidays();
+        LocalDate today = LocalDate.now();
+
+        List<Holiday> result = service.getRecentHolidays("AU", 5, null);
+
+        assertEquals(yearlyHolidays(today.getYear() - 3, today.getYear()).stream()
+                .filter(date -> !date.isAfter(today))
+                .sorted(Comparator.reverseOrder())
+                .limit(5)
+                .toList(), result.stream().map(Holiday::getDate).toList());
+        verify(restTemplate, atMost(3)).exchange(anyString(), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class), anyInt(), anyString());
+    }
+
+    @Test
+    void getUpcomingHolidays_Count_WalksForwardAcrossYears() {
+        stubYearlyHolidays();
+        LocalDate today = LocalDate.now();
+
+        List<Holiday> result = service.getUpcomingHolidays("AU", 4, null);
+
+        assertEquals(yearlyHolidays(today.getYear(), today.getYear() + 3).stream()
+                .filter(date -> date.isAfter(today))
+                .sorted()
+                .limit(4)
+                .toList(), result.stream().map(Holiday::getDate).toList());
+        assertEquals("Holiday " + result.get(0).getDate(), result.get(0).getName());
+        assertEquals(3, service.getUpcomingHolidays("AU").size());
+    }
+
+    @Test
+    void getRecentHolidays_InvalidCount_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> service.getRecentHolidays("AU", 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getUpcomingHolidays("AU", HolidayInsightService.MAX_HOLIDAYS_COUNT + 1, null));
+        verifyNoInteractions(restTemplate);
+    }
+
+    /**
+     * Answers every year with holidays on the 1st of January, the 15th of June and the 25th of December.
+     */
+    private void stubYearlyHolidays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenAnswer(invocation -> {
+                    int year = invocation.getArgument(4);
+                    return new ResponseEntity<>(yearlyHolidays(year, year).stream()
+                            .sorted(Comparator.reverseOrder())
+                            .map(date -> new PublicHoliday(date.toString(), "Holiday " + date, "Holiday " + date))
+                            .toList(), HttpStatus.OK);
+                });
+    }
+
+    private static List<LocalDate> yearlyHolidays(int fromYear, int toYear) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            dates.add(LocalDate.of(year, 1, 1));
+            dates.add(LocalDate.of(year, 6, 15));
+            dates.add(LocalDate.of(year, 12, 25));
+        }
+        return dates;
+    }
+
     @Test
     void getNonWeekendHolidayCounts_ReturnsCounts() {
         List<PublicHoliday> holidays = List.of(
@@ -78,11 +187,52 @@ class HolidayInsightServiceImplTest {
 
     @Test
     void getNonWeekendHolidayCounts_InvalidCountry() {
+        InvalidCountryException ex = assertThrows(InvalidCountryException.class,
+                () -> service.getNonWeekendHolidayCounts(2024, "ZZ"));
+        assertEquals(List.of(new CountryValidationError("ZZ", CountryRegistry.UNSUPPORTED)), ex.getErrors());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_InvalidCountries_ReportsEach() {
+        InvalidCountryException ex = assertThrows(InvalidCountryException.class,
+                () -> service.getNonWeekendHolidayCounts(2024, "au,ZZ,A1"));
+        assertEquals(List.of(
+                new CountryValidationError("ZZ", CountryRegistry.UNSUPPORTED),
+                new CountryValidationError("A1", CountryRegistry.MALFORMED)), ex.getErrors());
+        assertTrue(ex.getMessage().contains("'ZZ', 'A1'"));
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_LowerCaseCountry_UsesCanonicalCode() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","New Year","New Year")), HttpStatus.OK));
+
+        List<CountryHolidayCount> result = service.getNonWeekendHolidayCounts(2024, " au , AU");
+        assertEquals(1, result.size());
+        assertEquals("AU", result.get(0).getCountry());
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_EqualCounts_OrderedByCountry() {
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
-                .thenThrow(new IllegalArgumentException("Invalid country code"));
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","New Year","New Year")), HttpStatus.OK));
+
+        assertEquals(List.of("AD", "AU"), service.getNonWeekendHolidayCounts(2024, "AU,AD").stream()
+                .map(CountryHolidayCount::getCountry).toList());
+        assertEquals(List.of("AD", "AU"), service.getNonWeekendHolidayCounts(2024, "AD,AU").stream()
+                .map(CountryHolidayCount::getCountry).toList());
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_UpstreamFailure_SkipsCountry() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","New Year","New Year")), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenThrow(new RestClientException("API down"));
 
-        List<CountryHolidayCount> result = service.getNonWeekendHolidayCounts(2024, "ZZ");
-        assertTrue(result.isEmpty(), "Result should be empty for invalid country");
+        List<CountryHolidayCount> result = service.getNonWeekendHolidayCounts(2024, "AU,AD");
+        assertEquals(List.of("AU"), result.stream().map(CountryHolidayCount::getCountry).toList());
     }
 
     @Test
@@ -108,34 +258,321 @@ class HolidayInsightServiceImplTest {
     }
 
     @Test
-    void fetchAvailableCountriesFallback_ThrowsException() throws Exception {
-        Field field = HolidayInsightServiceImpl.class.getDeclaredField("availableCountries");
-        field.setAccessible(true);
-        field.set(service, Collections.emptyMap());
+    void getCommonHolidays_InvalidCountries_ReportsBoth() {
+        InvalidCountryException ex = assertThrows(InvalidCountryException.class,
+                () -> service.getCommonHolidays(2024, "XX", "YY"));
+        assertEquals(2, ex.getErrors().size());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_Subdivisions_CountNationwideAndRegionalDays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(regionalHolidays(), HttpStatus.OK));
+
+        Map<String, Integer> counts = new HashMap<>();
+        service.getNonWeekendHolidayCounts(2024, "AU,au-nsw,AU-VIC,AU-TAS", null, null)
+                .forEach(count -> counts.put(count.getCountry(), count.getCount()));
+        assertEquals(Map.of("AU", 5, "AU-NSW", 3, "AU-VIC", 3, "AU-TAS", 2), counts);
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_Types_CountOnlyThoseTypes() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(regionalHolidays(), HttpStatus.OK));
+
+        assertEquals(1, service.getNonWeekendHolidayCounts(2024, "AU", "bank", null).get(0).getCount());
+        assertEquals(2, service.getNonWeekendHolidayCounts(2024, "AU-NSW", "Public", null).get(0).getCount());
+        assertEquals(3, service.getNonWeekendHolidayCounts(2024, "AU-NSW", "Public,Bank", null).get(0).getCount());
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_MalformedSubdivision_ThrowsException() {
+        InvalidCountryException ex = assertThrows(InvalidCountryException.class,
+                () -> service.getNonWeekendHolidayCounts(2024, "AU-NSWX,ZZ-NSW", null, null));
+        assertEquals(List.of(
+                new CountryValidationError("AU-NSWX", SubdivisionIndex.MALFORMED),
+                new CountryValidationError("ZZ-NSW", CountryRegistry.UNSUPPORTED)), ex.getErrors());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getNonWeekendHolidayCounts_UnknownType_ThrowsException() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> service.getNonWeekendHolidayCounts(2024, "AU", "Public,Festival", null));
+        assertTrue(ex.getMessage().contains("'Festival'"));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getCommonHolidays_Subdivisions_CompareRegionalCalendars() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(regionalHolidays(), HttpStatus.OK));
+
+        List<CommonHoliday> common = service.getCommonHolidays(2024, "AU-NSW", "AU-VIC", null, null);
+        assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 26)),
+                common.stream().map(CommonHoliday::getDate).toList());
+        assertTrue(service.getCommonHolidays(2024, "AU-NSW", "AU-VIC", "Bank", null).isEmpty());
+        assertEquals(3, service.getCommonHolidays(2024, "AU", "AU-NSW", null, null).size());
+    }
+
+    private static List<PublicHoliday> regionalHolidays() {
+        return List.of(
+                new PublicHoliday("2024-01-01", "New Year's Day", "New Year's Day"),
+                new PublicHoliday("2024-01-26", "Australia Day", "Australia Day", true, null, List.of("Public")),
+                new PublicHoliday("2024-03-04", "Labour Day", "Labour Day", false, List.of("AU-WA"), List.of("Public")),
+                new PublicHoliday("2024-03-11", "Labour Day", "Labour Day", false, List.of("AU-VIC"), List.of("Public")),
+                new PublicHoliday("2024-08-05", "Bank Holiday", "Bank Holiday", false, List.of("AU-NSW"), List.of("Bank")));
+    }
+
+    @Test
+    void addBusinessDays_SkipsWeekendsAndHolidays() {
+        List<PublicHoliday> holidays = List.of(
+                new PublicHoliday("2025-12-25","Christmas Day","Christmas Day"),
+                new PublicHoliday("2025-12-26","Boxing Day","Boxing Day"));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
+                .thenReturn(new ResponseEntity<>(holidays, HttpStatus.OK));
+
+        BusinessDay result = service.addBusinessDays("au", LocalDate.of(2025, 12, 24), 2);
+        assertEquals("AU", result.getCountry());
+        assertEquals(LocalDate.of(2025, 12, 30), result.getDate());
+    }
+
+    @Test
+    void getNextBusinessDay_ReusesCompiledCalendar() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-01-01","New Year","New Year")), HttpStatus.OK));
+
+        assertEquals(LocalDate.of(2025, 1, 2), service.getNextBusinessDay("AU", LocalDate.of(2024, 12, 31)).getDate());
+        assertEquals(LocalDate.of(2024, 6, 17), service.getNextBusinessDay("AU", LocalDate.of(2024, 6, 14)).getDate());
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU"));
+    }
+
+    @Test
+    void countBusinessDays_ReturnsCount() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-01-01","New Year","New Year")), HttpStatus.OK));
+
+        BusinessDayCount result = service.countBusinessDays("AU", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 8));
+        assertEquals(4, result.getBusinessDays());
+        assertEquals(0, service.countBusinessDays("AU", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1)).getBusinessDays());
+    }
+
+    @Test
+    void countBusinessDays_RangeTooWide_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.countBusinessDays("AU", LocalDate.of(2000, 1, 1), LocalDate.of(2030, 1, 1)));
+    }
+
+    @Test
+    void addBusinessDays_InvalidCountry_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.addBusinessDays("ZZ", LocalDate.of(2025, 1, 1), 1));
+    }
+
+    @Test
+    void getCountriesOnHoliday_ReturnsIndexedCountries() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-12-25","Christmas Day","Christmas Day")), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-12-25","Nadal","Christmas Day"),
+                        new PublicHoliday("2025-12-26","Sant Esteve","St. Stephen's Day")), HttpStatus.OK));
+
+        assertEquals(List.of("AD", "AU"), service.getCountriesOnHoliday(LocalDate.of(2025, 12, 25)).getCountries());
+        assertEquals(List.of("AD"), service.getCountriesOnHoliday(LocalDate.of(2025, 12, 26)).getCountries());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU"));
+    }
+
+    @Test
+    void getCountriesOnHolidayInRange_SkipsDatesWithoutHolidays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-12-25","Christmas Day","Christmas Day")), HttpStatus.OK));
+
+        List<CountriesOnHoliday> result = service.getCountriesOnHolidayInRange(LocalDate.of(2025, 12, 20), LocalDate.of(2026, 1, 5));
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.of(2025, 12, 25), result.get(0).getDate());
+    }
+
+    @Test
+    void getCountriesOnHolidayInRange_UpstreamFailure_SkipsCountry() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenThrow(new RestClientException("API down"));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-12-25","Nadal","Christmas Day")), HttpStatus.OK));
+
+        List<CountriesOnHoliday> result = service.getCountriesOnHolidayInRange(LocalDate.of(2025, 12, 25), LocalDate.of(2025, 12, 25));
+        assertEquals(List.of("AD"), result.get(0).getCountries());
+    }
+
+    @Test
+    void getCountriesOnHolidayInRange_InvalidRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getCountriesOnHolidayInRange(LocalDate.of(2025, 12, 25), LocalDate.of(2025, 12, 24)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getCountriesOnHolidayInRange(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)));
+    }
+
+    @Test
+    void getHolidayCountRanking_ReturnsRankedTotals() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","New Year","New Year")), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","Any Nou","New Year"),
+                        new PublicHoliday("2024-01-06","Reis","Epiphany"),
+                        new PublicHoliday("2024-03-14","Constitucio","Constitution Day")), HttpStatus.OK));
+
+        List<CountryHolidayTotals> ranking = service.getHolidayCountRanking(2024, null);
+        assertEquals(List.of("AD", "AU"), ranking.stream().map(CountryHolidayTotals::getCountry).toList());
+        assertEquals(2, ranking.get(0).getNonWeekendCount());
+        assertEquals(1, ranking.get(0).getWeekendCount());
+        assertEquals(3, ranking.get(0).getTotalCount());
+        assertEquals(1, service.getHolidayCountRanking(2024, 1).size());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD"));
+    }
+
+    @Test
+    void getHolidayCountRanking_EvictedCountry_IsReloaded() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","New Year","New Year")), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","Any Nou","New Year")), HttpStatus.OK))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","Any Nou","New Year"),
+                        new PublicHoliday("2024-01-06","Reis","Epiphany")), HttpStatus.OK));
+
+        assertEquals(List.of("AD", "AU"), service.getHolidayCountRanking(2024, null).stream()
+                .map(CountryHolidayTotals::getCountry).toList());
+        holidayCache.evict("holidays:AD:2024");
+
+        CountryHolidayTotals top = service.getHolidayCountRanking(2024, 1).get(0);
+        assertEquals("AD", top.getCountry());
+        assertEquals(2, top.getTotalCount());
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD"));
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU"));
+    }
+
+    @Test
+    void getLongWeekends_AllCountries_ReturnsLongWeekendsAndBridgeDays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(regionalHolidays(), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(andorranHolidays(), HttpStatus.OK));
+
+        LongWeekendReport report = service.getLongWeekends(2024, null);
+
+        assertEquals(2024, report.getYear());
+        assertEquals(List.of("AD", "AU"), report.getCountries().stream().map(CountryLongWeekends::getCountry).toList());
+        assertEquals(List.of(new LongWeekend(LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 1), 3)),
+                report.getCountries().get(0).getLongWeekends());
+        assertEquals(List.of(new BridgeDay(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 14), LocalDate.of(2024, 3, 17), 4)),
+                report.getCountries().get(0).getBridgeDays());
+        assertEquals(List.of(LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 26), LocalDate.of(2024, 3, 2),
+                        LocalDate.of(2024, 3, 9)),
+                report.getCountries().get(1).getLongWeekends().stream().map(LongWeekend::getStart).toList());
+        assertNull(report.getCommon());
+    }
+
+    @Test
+    void getLongWeekends_Types_CountTheGivenTypesAsDaysOff() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(regionalHolidays(), HttpStatus.OK));
+
+        LongWeekendReport report = service.getLongWeekends(2024, "AU", "public,bank", null);
+
+        assertEquals(List.of(LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 26), LocalDate.of(2024, 3, 2),
+                        LocalDate.of(2024, 3, 9), LocalDate.of(2024, 8, 3)),
+                report.getCountries().get(0).getLongWeekends().stream().map(LongWeekend::getStart).toList());
+        assertThrows(IllegalArgumentException.class, () -> service.getLongWeekends(2024, "AU", "Holiday", null));
+    }
 
-        Method method = HolidayInsightServiceImpl.class.getDeclaredMethod("fetchAvailableCountriesFallback", RestClientException.class);
-        method.setAccessible(true);
+    @Test
+    void getLongWeekends_Countries_ReturnsSharedDaysOff() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(regionalHolidays(), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(andorranHolidays(), HttpStatus.OK));
 
-        InvocationTargetException ex = assertThrows(InvocationTargetException.class, () -> {
-            method.invoke(service, new RestClientException("API down"));
-        });
-        assertTrue(ex.getCause() instanceof ExternalApiUnavailableException);
+        LongWeekendReport report = service.getLongWeekends(2024, "au-nsw,AD", null);
+
+        assertEquals(List.of("AU-NSW", "AD"), report.getCountries().stream().map(CountryLongWeekends::getCountry).toList());
+        assertEquals(List.of(LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 26)),
+                report.getCountries().get(0).getLongWeekends().stream().map(LongWeekend::getStart).toList());
+        assertEquals("AU-NSW,AD", report.getCommon().getCountry());
+        assertEquals(List.of(new LongWeekend(LocalDate.of(2023, 12, 30), LocalDate.of(2024, 1, 1), 3)),
+                report.getCommon().getLongWeekends());
+        assertTrue(report.getCommon().getBridgeDays().isEmpty());
     }
 
     @Test
-    void fetchAvailableCountriesFallback_ReturnsCache() throws Exception {
-        // Set up a non-empty cache
-        Map<String, String> cached = new HashMap<>();
-        cached.put("AU", "Australia");
-        Field field = HolidayInsightServiceImpl.class.getDeclaredField("availableCountries");
-        field.setAccessible(true);
-        field.set(service, cached);
+    void getLongWeekends_InvalidCountry_ThrowsException() {
+        InvalidCountryException ex = assertThrows(InvalidCountryException.class,
+                () -> service.getLongWeekends(2024, "AU,ZZ"));
+        assertEquals(List.of(new CountryValidationError("ZZ", CountryRegistry.UNSUPPORTED)), ex.getErrors());
+        assertThrows(InvalidCountryException.class, () -> service.getLongWeekends(2024, " "));
+        verifyNoInteractions(restTemplate);
+    }
+
+    // 2024-01-01 is a Monday, 2024-01-06 a Saturday and 2024-03-14 a Thursday
+    private static List<PublicHoliday> andorranHolidays() {
+        return List.of(
+                new PublicHoliday("2024-01-01", "Any Nou", "New Year's Day"),
+                new PublicHoliday("2024-01-06", "Reis", "Epiphany"),
+                new PublicHoliday("2024-03-14", "Dia de la Constitució", "Constitution Day"));
+    }
+
+    @Test
+    void getCommonHolidays_UpstreamRejected_ServesCachedHolidays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","New Year","New Year")), HttpStatus.OK));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AD")))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2024-01-01","Any Nou","New Year")), HttpStatus.OK));
+        service.getCommonHolidays(2024, "AU", "AD");
 
-        Method method = HolidayInsightServiceImpl.class.getDeclaredMethod("fetchAvailableCountriesFallback", RestClientException.class);
-        method.setAccessible(true);
+        doThrow(new UpstreamRejectedException("rejected")).when(upstreamLimiter).call(any());
+
+        List<CommonHoliday> result = service.getCommonHolidays(2024, "AU", "AD");
+        assertEquals(1, result.size());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), eq("AU"));
+    }
+
+    @Test
+    void getRecentHolidays_UpstreamRejectedWithoutCache_ThrowsException() {
+        doThrow(new UpstreamRejectedException("rejected")).when(upstreamLimiter).call(any());
+
+        assertThrows(ExternalApiUnavailableException.class, () -> service.getRecentHolidays("AU"));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void addBusinessDays_Tenant_SkipsCompanyHolidays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-12-25","Christmas Day","Christmas Day"),
+                        new PublicHoliday("2025-12-26","Boxing Day","Boxing Day")), HttpStatus.OK));
+        upload("acme", "country,date,name\nAU,2025-12-29,Year-end shutdown\nAU,2025-12-25,Christmas\n");
+
+        assertEquals(LocalDate.of(2025, 12, 30), service.addBusinessDays("AU", LocalDate.of(2025, 12, 24), 2).getDate());
+        assertEquals(LocalDate.of(2025, 12, 31), service.addBusinessDays("AU", LocalDate.of(2025, 12, 24), 2, "acme").getDate());
+    }
+
+    @Test
+    void getCountriesOnHoliday_Tenant_IncludesCompanyHolidays() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyInt(), anyString()))
+                .thenReturn(new ResponseEntity<>(List.of(new PublicHoliday("2025-12-25","Christmas Day","Christmas Day")), HttpStatus.OK));
+        upload("acme", "country,date\nAD,2025-12-24\n");
+
+        assertEquals(List.of(), service.getCountriesOnHoliday(LocalDate.of(2025, 12, 24)).getCountries());
+        assertEquals(List.of("AD"), service.getCountriesOnHoliday(LocalDate.of(2025, 12, 24), "acme").getCountries());
+        CountryHolidayTotals top = service.getHolidayCountRanking(2025, 1, "acme").get(0);
+        assertEquals("AD", top.getCountry());
+        assertEquals(2, top.getTotalCount());
+    }
+
+    @Test
+    void getCommonHolidays_UnknownTenant_ThrowsException() {
+        assertThrows(UnknownTenantException.class, () -> service.getCommonHolidays(2025, "AU", "AD", "nobody"));
+        verifyNoInteractions(restTemplate);
+    }
 
-        @SuppressWarnings("unchecked")
-        Map<String, String> result = (Map<String, String>) method.invoke(service, new RestClientException("API down"));
-        assertEquals(cached, result, "Should return cached countries");
+    private void upload(String tenant, String csv) {
+        companyHolidayStore.ingest(tenant, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "text/csv", true);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeapHolidayStoreTest {
+
+    private final HeapHolidayStore store = new HeapHolidayStore();
+
+    @Test
+    void put_keepsTheGivenList() {
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"),
+                new PublicHoliday("2025-12-26", "Tweede Kerstdag", "Christmas Day"));
+
+        assertSame(holidays, store.put("NL", 2025, holidays));
+        assertSame(holidays, store.get("NL", 2025));
+        assertNull(store.get("NL", 2024));
+
+        HolidayStorageFootprint footprint = store.footprint();
+        assertEquals(new HolidayStorageFootprint("heap", 1, 2, 3, footprint.heapBytes(), 0, 0), footprint);
+        assertTrue(footprint.heapBytes() > 0);
+    }
+
+    @Test
+    void put_equalList_keepsTheStoredList() {
+        List<PublicHoliday> holidays = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"));
+        store.put("NL", 2025, holidays);
+
+        List<PublicHoliday> reloaded = List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day"));
+
+        assertSame(holidays, store.put("NL", 2025, reloaded));
+        List<PublicHoliday> changed = List.of(new PublicHoliday("2025-12-26", "Tweede Kerstdag", "Christmas Day"));
+        assertSame(changed, store.put("NL", 2025, changed));
+        assertSame(changed, store.get("NL", 2025));
+    }
+}
@@ -0,0 +1,23 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayStorageEndpointTest {
+
+    private final OffHeapHolidayStore store = new OffHeapHolidayStore();
+    private final HolidayStorageEndpoint endpoint = new HolidayStorageEndpoint(store);
+
+    @Test
+    void footprint_reportsTheStore() {
+        store.put("NL", 2025, List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day")));
+
+        assertEquals("offheap", endpoint.footprint().type());
+        assertEquals(1, endpoint.footprint().holidays());
+        assertEquals(OffHeapHolidayStore.DEFAULT_CHUNK_BYTES, endpoint.footprint().offHeapBytes());
+    }
+}
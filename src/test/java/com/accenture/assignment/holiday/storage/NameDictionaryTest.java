@@ -0,0 +1,40 @@
+package com.accenture.assignment.holiday.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameDictionaryTest {
+
+    private final NameDictionary<String> dictionary = new NameDictionary<>();
+
+    @Test
+    void id_numbersDistinctNames() {
+        assertEquals(0, dictionary.id("Christmas Day"));
+        assertEquals(1, dictionary.id("New Year's Day"));
+        assertEquals(0, dictionary.id(new String("Christmas Day")));
+        assertEquals(NameDictionary.NULL_ID, dictionary.id(null));
+        assertNull(dictionary.name(NameDictionary.NULL_ID));
+        assertEquals("New Year's Day", dictionary.name(1));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    void find_doesNotAdd() {
+        assertEquals(NameDictionary.ABSENT_ID, dictionary.find("Christmas Day"));
+        assertEquals(NameDictionary.NULL_ID, dictionary.find(null));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    void id_growsAndIsThreadSafe() {
+        IntStream.range(0, 10_000).parallel().forEach(i -> dictionary.id("name " + (i % 1000)));
+
+        assertEquals(1000, dictionary.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("name " + i, dictionary.name(dictionary.find("name " + i)));
+        }
+    }
+}
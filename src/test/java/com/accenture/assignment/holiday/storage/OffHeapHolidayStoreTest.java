@@ -0,0 +1,176 @@
+package com.accenture.assignment.holiday.storage;
+
+import com.accenture.assignment.holiday.model.HolidayStorageFootprint;
+import com.accenture.assignment.holiday.model.PublicHoliday;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapHolidayStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapHolidayStoreTest.class);
+
+    private final OffHeapHolidayStore store = new OffHeapHolidayStore(64);
+
+    private static final List<PublicHoliday> NL = List.of(
+            new PublicHoliday("2025-01-01", "Nieuwjaarsdag", "New Year's Day"),
+            new PublicHoliday("2025-12-25", "Eerste Kerstdag", "Christmas Day"),
+            new PublicHoliday("2025-12-26", null, "St. Stephen's Day"));
+
+    @Test
+    void put_storesDecodableList() {
+        List<PublicHoliday> stored = store.put("NL", 2025, NL);
+
+        assertEquals(NL, stored);
+        assertSame(stored, store.get("NL", 2025));
+        assertNull(store.get("NL", 2024));
+        assertNull(store.get("DE", 2025));
+        assertEquals(NL.get(1), stored.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> stored.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> stored.add(NL.get(0)));
+    }
+
+    @Test
+    void put_sharesNamesAndDatesAcrossCountryYears() {
+        List<PublicHoliday> nl = store.put("NL", 2025, NL);
+        List<PublicHoliday> be = store.put("BE", 2025, List.of(new PublicHoliday("2025-12-25", "Kerstmis", "Christmas Day")));
+
+        assertSame(nl.get(1).name(), be.get(0).name());
+        assertSame(nl.get(1).date(), be.get(0).date());
+        assertEquals(6, store.footprint().distinctNames());
+    }
+
+    @Test
+    void put_equalHolidays_keepsStoredList() {
+        List<PublicHoliday> stored = store.put("NL", 2025, NL);
+
+        assertSame(stored, store.put("NL", 2025, new ArrayList<>(NL)));
+
+        List<PublicHoliday> changed = store.put("NL", 2025, NL.subList(0, 2));
+        assertNotSame(stored, changed);
+        assertEquals(NL.subList(0, 2), store.get("NL", 2025));
+        assertEquals(NL, stored, "a replaced list stays readable");
+    }
+
+    @Test
+    void put_spansChunksAndDatesOutsideTheYear() {
+        List<PublicHoliday> holidays = new ArrayList<>();
+        for (int day = -3; day < 20; day++) {
+            holidays.add(new PublicHoliday(LocalDate.of(2025, 1, 1).plusDays(day).toString(), "D" + day, "Day " + day));
+        }
+
+        assertEquals(holidays, store.put("NL", 2025, holidays));
+        assertEquals(List.of(), store.put("DE", 2025, List.of()));
+
+        HolidayStorageFootprint footprint = store.footprint();
+        assertEquals("offheap", footprint.type());
+        assertEquals(2, footprint.countryYears());
+        assertEquals(23, footprint.holidays());
+        assertEquals(23L * OffHeapHolidayStore.RECORD_BYTES, footprint.encodedBytes());
+        assertTrue(footprint.offHeapBytes() >= footprint.encodedBytes());
+    }
+
+    @Test
+    void put_rejectsInvalidDates() {
+        assertThrows(RuntimeException.class,
+                () -> store.put("NL", 2025, List.of(new PublicHoliday("25-12-2025", "x", "x"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> store.put("NL", 2025, List.of(new PublicHoliday("2200-01-01", "x", "x"))));
+        assertNull(store.get("NL", 2025));
+    }
+
+    @Test
+    void put_keepsSubdivisionsAndTypes() throws Exception {
+        List<PublicHoliday> holidays = new ObjectMapper().readValue("""
+                [{"date":"2025-01-06","localName":"Heilige Drei Könige","name":"Epiphany","global":false,
+                  "counties":["DE-BW","DE-BY","DE-ST"],"types":["Public"]},
+                 {"date":"2025-10-31","localName":"Reformationstag","name":"Reformation Day","global":false,
+                  "counties":["DE-BB","DE-ST"],"types":["Public"]},
+                 {"date":"2025-12-24","localName":"Heiligabend","name":"Christmas Eve","global":true,
+                  "types":["Bank","Optional"]}]""",
+                new TypeReference<List<PublicHoliday>>() {});
+        assertEquals(List.of("DE-BW", "DE-BY", "DE-ST"), holidays.get(0).counties());
+
+        List<PublicHoliday> stored = store.put("DE", 2025, holidays);
+
+        assertEquals(holidays, stored);
+        assertEquals(Boolean.FALSE, stored.get(0).global());
+        assertNull(stored.get(2).counties());
+        assertNull(store.put("NL", 2025, NL).get(0).global());
+        assertSame(stored.get(0).types(), stored.get(1).types(), "equal lists are stored once");
+        assertSame(stored, store.put("DE", 2025, new ArrayList<>(holidays)));
+        assertNotSame(stored, store.put("DE", 2025, List.of(holidays.get(0), holidays.get(1),
+                new PublicHoliday("2025-12-24", "Heiligabend", "Christmas Eve", false, null, List.of("Bank", "Optional")))));
+    }
+
+    @Test
+    void serializesAsList() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals(objectMapper.writeValueAsString(NL), objectMapper.writeValueAsString(store.put("NL", 2025, NL)));
+    }
+
+    /**
+     * Loads 120 countries with 60 years of 15 holidays, each holiday with its own strings as deserialized from
+     * upstream, and compares the stores' heap footprint and the time of full collections with the data live.
+     */
+    @Test
+    void benchmark_worldDatasetFootprintAndGc() {
+        HolidayStorageFootprint heap = benchmark(HeapHolidayStore::new);
+        HolidayStorageFootprint offHeap = benchmark(OffHeapHolidayStore::new);
+
+        assertEquals(heap.holidays(), offHeap.holidays());
+        assertTrue(offHeap.heapBytes() * 10 < heap.heapBytes(),
+                () -> "expected a far smaller heap footprint, got " + offHeap + " against " + heap);
+    }
+
+    private HolidayStorageFootprint benchmark(Supplier<HolidayStore> factory) {
+        long before = usedHeapAfterGc();
+        HolidayStore store = factory.get();
+        for (int country = 0; country < 120; country++) {
+            String code = "" + (char) ('A' + country / 26) + (char) ('A' + country % 26);
+            for (int year = 1970; year < 2030; year++) {
+                List<PublicHoliday> holidays = new ArrayList<>();
+                for (int i = 0; i < 15; i++) {
+                    String date = LocalDate.of(year, 1 + i % 12, 1 + i).toString();
+                    holidays.add(new PublicHoliday(new String(date), new String("Local holiday " + (country % 40) + "-" + i),
+                            new String("Holiday " + i)));
+                }
+                store.put(code, year, holidays);
+            }
+        }
+        long used = usedHeapAfterGc() - before;
+        long gcMillis = gcMillis();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        long fullGcMillis = gcMillis() - gcMillis;
+        HolidayStorageFootprint footprint = store.footprint();
+        log.info("{}: {} holidays, {} names, estimated heap {} KB, measured heap {} KB, off-heap {} KB, 5 full GCs in {} ms",
+                footprint.type(), footprint.holidays(), footprint.distinctNames(), footprint.heapBytes() / 1024,
+                used / 1024, footprint.offHeapBytes() / 1024, fullGcMillis);
+        return footprint;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum();
+    }
+}
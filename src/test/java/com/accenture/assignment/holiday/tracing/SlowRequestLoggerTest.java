@@ -0,0 +1,118 @@
+package com.accenture.assignment.holiday.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestLoggerTest {
+
+    private final List<String> logged = new ArrayList<>();
+    private final InMemorySpanExporter exported = InMemorySpanExporter.create();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    private Tracer tracer(long slowRequestMillis, int maxPendingTraces) {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exported))
+                .addSpanProcessor(SimpleSpanProcessor.create(
+                        new SlowRequestLogger(slowRequestMillis, maxPendingTraces, logged::add)))
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    /**
+     * Records a request of 300 ms: a fetch of 200 ms with one upstream call of 150 ms inside the
+     * handler, then 50 ms of serialization.
+     */
+    private void request(Tracer tracer, long startMillis) {
+        Span server = span(tracer, "http get /api/v1/holidays/non-weekend-count", null, startMillis);
+        Span controller = span(tracer, "holiday.controller", server, startMillis + 1);
+        Span fetch = span(tracer, "holiday.fetch", controller, startMillis + 10);
+        fetch.setAttribute("country", "NL");
+        fetch.setAttribute("cache", "miss");
+        Span call = span(tracer, "holiday.upstream.call", fetch, startMillis + 20);
+        call.setAttribute("attempt", "1");
+        call.end(startMillis + 170, TimeUnit.MILLISECONDS);
+        fetch.end(startMillis + 210, TimeUnit.MILLISECONDS);
+        controller.end(startMillis + 250, TimeUnit.MILLISECONDS);
+        server.end(startMillis + 300, TimeUnit.MILLISECONDS);
+    }
+
+    private static Span span(Tracer tracer, String name, Span parent, long startMillis) {
+        return tracer.spanBuilder(name)
+                .setParent(parent == null ? Context.root() : Context.root().with(parent))
+                .setStartTimestamp(startMillis, TimeUnit.MILLISECONDS)
+                .startSpan();
+    }
+
+    @Test
+    void export_slowRequest_logsSpanTree() {
+        request(tracer(250, 10), 1_000);
+
+        assertEquals(4, exported.getFinishedSpanItems().size());
+        assertEquals(1, logged.size());
+        String[] lines = logged.get(0).split("\n");
+        assertTrue(lines[0].startsWith("Slow request took 300.0 ms, trace "), lines[0]);
+        assertEquals("  +0.0 ms  300.0 ms (self 51.0 ms)  http get /api/v1/holidays/non-weekend-count", lines[1]);
+        assertEquals("    +1.0 ms  249.0 ms (self 49.0 ms)  holiday.controller", lines[2]);
+        assertEquals("      +10.0 ms  200.0 ms (self 50.0 ms)  holiday.fetch  {cache=miss, country=NL}", lines[3]);
+        assertEquals("        +20.0 ms  150.0 ms (self 150.0 ms)  holiday.upstream.call  {attempt=1}", lines[4]);
+    }
+
+    @Test
+    void export_fastRequest_logsNothing() {
+        request(tracer(301, 10), 1_000);
+
+        assertEquals(4, exported.getFinishedSpanItems().size());
+        assertTrue(logged.isEmpty());
+    }
+
+    @Test
+    void export_negativeThreshold_disablesLog() {
+        request(tracer(-1, 10), 1_000);
+
+        assertTrue(logged.isEmpty());
+    }
+
+    @Test
+    void export_parallelChildren_countedOnce() {
+        Tracer tracer = tracer(0, 10);
+        Span fetch = span(tracer, "holiday.fetch", null, 1_000);
+        span(tracer, "holiday.upstream.call", fetch, 1_010).end(1_110, TimeUnit.MILLISECONDS);
+        span(tracer, "holiday.upstream.call", fetch, 1_060).end(1_090, TimeUnit.MILLISECONDS);
+        fetch.end(1_120, TimeUnit.MILLISECONDS);
+
+        assertTrue(logged.get(0).contains("120.0 ms (self 20.0 ms)  holiday.fetch"), logged.get(0));
+    }
+
+    @Test
+    void export_abandonedTraces_areBounded() {
+        Tracer tracer = tracer(0, 2);
+        List<Span> roots = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Span root = span(tracer, "request-" + i, null, 1_000);
+            span(tracer, "child-" + i, root, 1_001).end(1_002, TimeUnit.MILLISECONDS);
+            roots.add(root);
+        }
+        roots.forEach(root -> root.end(1_003, TimeUnit.MILLISECONDS));
+
+        assertFalse(logged.get(0).contains("child-0"), "the oldest pending trace is dropped");
+        assertTrue(logged.get(1).contains("child-1"));
+        assertTrue(logged.get(2).contains("child-2"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.accenture.assignment.holiday.tracing;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "holiday.tracing.slowRequestMillis=0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ExtendWith(OutputCaptureExtension.class)
+class TracingIntegrationTest {
+
+    @TestConfiguration
+    static class ExporterConfig {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private InMemorySpanExporter exporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    private MockRestServiceServer mockServer;
+
+    @BeforeEach
+    void setUp() {
+        mockServer = MockRestServiceServer.createServer(restTemplate);
+        exporter.reset();
+    }
+
+    @Test
+    void nonWeekendCount_recordsPhaseSpans(CapturedOutput output) throws Exception {
+        mockServer.expect(requestTo("https://date.nager.at/api/v3/PublicHolidays/2023/NL"))
+                .andRespond(withSuccess("[{\"date\":\"2023-12-25\",\"localName\":\"Kerstmis\",\"name\":\"Christmas Day\"}]",
+                        MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/api/v1/holidays/non-weekend-count").param("year", "2023").param("countries", "NL"))
+                .andExpect(status().isOk());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        SpanData server = find(spans, "http get /api/v1/holidays/non-weekend-count");
+        SpanData validation = find(spans, "holiday.validate");
+        SpanData controller = find(spans, "holiday.controller get-non-weekend-holiday-counts");
+        SpanData service = find(spans, "holiday.service get-non-weekend-holiday-counts");
+        SpanData fetch = find(spans, "holiday.fetch");
+        SpanData call = find(spans, "holiday.upstream.call");
+        SpanData client = find(spans, "http get");
+        SpanData aggregate = find(spans, "holiday.aggregate");
+
+        assertParent(server, validation);
+        assertParent(server, controller);
+        assertParent(controller, service);
+        assertParent(service, fetch);
+        assertParent(fetch, call);
+        assertParent(call, client);
+        assertParent(service, aggregate);
+        assertEquals("NL", attribute(fetch, "country"));
+        assertEquals("2023", attribute(fetch, "year"));
+        assertEquals("miss", attribute(fetch, "cache"));
+        assertEquals("1", attribute(call, "attempt"));
+        assertTrue(output.getOut().contains("Slow request took"));
+        assertTrue(output.getOut().contains("holiday.upstream.call  {attempt=1"));
+    }
+
+    private static SpanData find(List<SpanData> spans, String name) {
+        return spans.stream().filter(span -> span.getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError(name + " not in " + spans.stream().map(SpanData::getName).toList()));
+    }
+
+    private static void assertParent(SpanData parent, SpanData child) {
+        assertEquals(parent.getSpanId(), child.getParentSpanId(), child.getName() + " should be a child of " + parent.getName());
+    }
+
+    private static String attribute(SpanData span, String key) {
+        return span.getAttributes().asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().getKey().equals(key))
+                .map(entry -> String.valueOf(entry.getValue()))
+                .findFirst().orElse(null);
+    }
+}